@@ -2,12 +2,22 @@ package ru.viktorgezz.vacation_pay_calculator;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Profiles;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import ru.viktorgezz.vacation_pay_calculator.cli.VacationPayCsvBatch;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
+@EnableScheduling
 public class VacationPayCalculatorApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(VacationPayCalculatorApplication.class, args);
+        final ConfigurableApplicationContext context = SpringApplication.run(VacationPayCalculatorApplication.class, args);
+        if (context.getEnvironment().acceptsProfiles(Profiles.of(VacationPayCsvBatch.PROFILE))) {
+            System.exit(SpringApplication.exit(context));
+        }
     }
 
 }
@@ -0,0 +1,181 @@
+package ru.viktorgezz.vacation_pay_calculator.calculation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Настройки расчета отпускных.
+ */
+@ConfigurationProperties(prefix = "calculation")
+public class CalculationProperties {
+
+    /**
+     * Количество ячеек кэша дневного заработка; округляется вверх до степени двойки.
+     */
+    private int dailyRateCacheSize = 4096;
+
+    /**
+     * Максимальное количество результатов расчета по датам в кэше; 0 отключает кэш.
+     */
+    private int resultCacheSize = 10_000;
+
+    /**
+     * Время жизни результата расчета по датам в кэше.
+     */
+    private Duration resultCacheTtl = Duration.ofMinutes(10);
+
+    /**
+     * Количество строк результата пакетного расчета, после которого ответ отправляется клиенту.
+     */
+    private int bulkFlushLines = 1000;
+
+    /**
+     * Максимальное количество строк в одном колоночном запросе пакетного расчета.
+     */
+    private int columnarMaxRows = 1_000_000;
+
+    /**
+     * Формулы расчета отпускных юридических лиц по идентификатору; без идентификатора применяется формула по умолчанию.
+     */
+    private Map<String, Tenant> tenants = new HashMap<>();
+
+    public int getDailyRateCacheSize() {
+        return dailyRateCacheSize;
+    }
+
+    public void setDailyRateCacheSize(int dailyRateCacheSize) {
+        this.dailyRateCacheSize = dailyRateCacheSize;
+    }
+
+    public int getResultCacheSize() {
+        return resultCacheSize;
+    }
+
+    public void setResultCacheSize(int resultCacheSize) {
+        this.resultCacheSize = resultCacheSize;
+    }
+
+    public Duration getResultCacheTtl() {
+        return resultCacheTtl;
+    }
+
+    public void setResultCacheTtl(Duration resultCacheTtl) {
+        this.resultCacheTtl = resultCacheTtl;
+    }
+
+    public int getBulkFlushLines() {
+        return bulkFlushLines;
+    }
+
+    public void setBulkFlushLines(int bulkFlushLines) {
+        this.bulkFlushLines = bulkFlushLines;
+    }
+
+    public int getColumnarMaxRows() {
+        return columnarMaxRows;
+    }
+
+    public void setColumnarMaxRows(int columnarMaxRows) {
+        this.columnarMaxRows = columnarMaxRows;
+    }
+
+    public Map<String, Tenant> getTenants() {
+        return tenants;
+    }
+
+    public void setTenants(Map<String, Tenant> tenants) {
+        this.tenants = tenants;
+    }
+
+    /**
+     * Формула расчета отпускных юридического лица: (Средняя ЗП × коэффициент / делитель) × Количество дней.
+     */
+    public static class Tenant {
+
+        /**
+         * Среднемесячное число календарных дней, действующее до первого периода из {@link #divisors}.
+         */
+        private BigDecimal divisor = new BigDecimal("29.3");
+
+        /**
+         * Делители, действующие с указанной даты начала отпуска, в порядке возрастания дат.
+         */
+        private List<DivisorPeriod> divisors = new ArrayList<>();
+
+        /**
+         * Районный (северный) коэффициент к средней зарплате.
+         */
+        private BigDecimal coefficient = BigDecimal.ONE;
+
+        /**
+         * Округление дневного заработка до 10 знаков и суммы отпускных до копеек.
+         */
+        private RoundingMode roundingMode = RoundingMode.HALF_UP;
+
+        public BigDecimal getDivisor() {
+            return divisor;
+        }
+
+        public void setDivisor(BigDecimal divisor) {
+            this.divisor = divisor;
+        }
+
+        public List<DivisorPeriod> getDivisors() {
+            return divisors;
+        }
+
+        public void setDivisors(List<DivisorPeriod> divisors) {
+            this.divisors = divisors;
+        }
+
+        public BigDecimal getCoefficient() {
+            return coefficient;
+        }
+
+        public void setCoefficient(BigDecimal coefficient) {
+            this.coefficient = coefficient;
+        }
+
+        public RoundingMode getRoundingMode() {
+            return roundingMode;
+        }
+
+        public void setRoundingMode(RoundingMode roundingMode) {
+            this.roundingMode = roundingMode;
+        }
+    }
+
+    /**
+     * Делитель, действующий для отпусков, начинающихся с указанной даты.
+     */
+    public static class DivisorPeriod {
+
+        private LocalDate from;
+
+        private BigDecimal divisor;
+
+        public LocalDate getFrom() {
+            return from;
+        }
+
+        public void setFrom(LocalDate from) {
+            this.from = from;
+        }
+
+        public BigDecimal getDivisor() {
+            return divisor;
+        }
+
+        public void setDivisor(BigDecimal divisor) {
+            this.divisor = divisor;
+        }
+    }
+}
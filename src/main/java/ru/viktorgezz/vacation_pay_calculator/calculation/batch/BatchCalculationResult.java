@@ -0,0 +1,43 @@
+package ru.viktorgezz.vacation_pay_calculator.calculation.batch;
+
+import ru.viktorgezz.vacation_pay_calculator.dto.BulkVacationPayRsDto;
+
+/**
+ * Результат расчета части пакета: строки результата в порядке строк запроса и метрики планирования.
+ */
+public final class BatchCalculationResult {
+
+    private final BulkVacationPayRsDto[] results;
+    private final int failedLines;
+    private final int plannedLines;
+    private final int distinctRanges;
+
+    /**
+     * @param results        результаты строк в порядке строк запроса
+     * @param failedLines    количество строк с ошибкой
+     * @param plannedLines   количество строк по датам, оплачиваемые дни которых взяты из плана
+     * @param distinctRanges количество различных периодов, для которых считались праздничные дни
+     */
+    public BatchCalculationResult(BulkVacationPayRsDto[] results, int failedLines, int plannedLines, int distinctRanges) {
+        this.results = results;
+        this.failedLines = failedLines;
+        this.plannedLines = plannedLines;
+        this.distinctRanges = distinctRanges;
+    }
+
+    public BulkVacationPayRsDto[] getResults() {
+        return results;
+    }
+
+    public int getFailedLines() {
+        return failedLines;
+    }
+
+    public int getPlannedLines() {
+        return plannedLines;
+    }
+
+    public int getDistinctRanges() {
+        return distinctRanges;
+    }
+}
@@ -0,0 +1,34 @@
+package ru.viktorgezz.vacation_pay_calculator.calculation.batch;
+
+/**
+ * Результат планирования пакета: количество оплачиваемых дней каждой строки
+ * и количество различных периодов, для которых считались праздничные дни.
+ */
+public final class PayableDaysPlan {
+
+    private final int[] payableDays;
+    private final int distinctRanges;
+
+    PayableDaysPlan(int[] payableDays, int distinctRanges) {
+        this.payableDays = payableDays;
+        this.distinctRanges = distinctRanges;
+    }
+
+    /**
+     * Возвращает количество оплачиваемых дней строки.
+     *
+     * @param row индекс строки в пакете
+     * @return количество дней периода без праздничных дней
+     */
+    public int getPayableDays(int row) {
+        return payableDays[row];
+    }
+
+    public int size() {
+        return payableDays.length;
+    }
+
+    public int getDistinctRanges() {
+        return distinctRanges;
+    }
+}
@@ -0,0 +1,92 @@
+package ru.viktorgezz.vacation_pay_calculator.calculation.batch;
+
+import org.springframework.stereotype.Component;
+import ru.viktorgezz.vacation_pay_calculator.holiday.HolidayService;
+
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Планировщик пакетного расчета по датам: группирует строки пакета по периоду отпуска
+ * и считает праздничные дни один раз на каждый различный период.
+ * В пакетах по всей компании тысячи сотрудников часто уходят в отпуск в одни и те же даты,
+ * поэтому обращения к календарю зависят от количества различных периодов, а не от количества строк.
+ * Периоды группируются таблицей с открытой адресацией по паре дней эпохи без создания объектов на строку.
+ */
+@Component
+public class PayableDaysPlanner {
+
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private final HolidayService holidayService;
+
+    public PayableDaysPlanner(HolidayService holidayService) {
+        this.holidayService = holidayService;
+    }
+
+    /**
+     * Считает оплачиваемые дни каждой строки пакета по одному календарю и одной его версии.
+     *
+     * @param calendarId    идентификатор календаря; null соответствует федеральному календарю
+     * @param asOf          момент, на который берется версия календаря; null соответствует текущей версии
+     * @param fromEpochDays даты начала отпуска строк в днях эпохи
+     * @param toEpochDays   даты окончания отпуска строк в днях эпохи, не раньше дат начала
+     * @return оплачиваемые дни строк и количество различных периодов
+     * @throws ru.viktorgezz.vacation_pay_calculator.exception.BusinessException если календарь не найден
+     */
+    public PayableDaysPlan plan(String calendarId, Instant asOf, long[] fromEpochDays, long[] toEpochDays) {
+        final int size = fromEpochDays.length;
+        final int[] rangeOfRow = new int[size];
+        final long[] rangeFrom = new long[size];
+        final long[] rangeTo = new long[size];
+        final int[] slots = new int[tableSizeFor(size)];
+        final int mask = slots.length - 1;
+
+        int countRanges = 0;
+        for (int row = 0; row < size; row++) {
+            final long from = fromEpochDays[row];
+            final long to = toEpochDays[row];
+            int slot = slotOf(from, to, mask);
+            while (true) {
+                final int range = slots[slot] - 1;
+                if (range < 0) {
+                    rangeFrom[countRanges] = from;
+                    rangeTo[countRanges] = to;
+                    slots[slot] = ++countRanges;
+                    rangeOfRow[row] = countRanges - 1;
+                    break;
+                }
+                if (rangeFrom[range] == from && rangeTo[range] == to) {
+                    rangeOfRow[row] = range;
+                    break;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        final int[] countsHolidays = holidayService.countHolidaysBetween(
+                calendarId,
+                Arrays.copyOf(rangeFrom, countRanges),
+                Arrays.copyOf(rangeTo, countRanges),
+                asOf
+        );
+        final int[] payableDays = new int[size];
+        for (int row = 0; row < size; row++) {
+            final int range = rangeOfRow[row];
+            payableDays[row] = (int) (rangeTo[range] - rangeFrom[range] + 1) - countsHolidays[range];
+        }
+        return new PayableDaysPlan(payableDays, countRanges);
+    }
+
+    private static int slotOf(long from, long to, int mask) {
+        final long hash = (from * 31 + to) * GOLDEN_RATIO;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    /**
+     * Возвращает размер таблицы — степень двойки, не меньше удвоенного количества строк.
+     */
+    private static int tableSizeFor(int size) {
+        return Integer.highestOneBit(Math.max(size, 1) * 2 - 1) << 1;
+    }
+}
@@ -0,0 +1,104 @@
+package ru.viktorgezz.vacation_pay_calculator.calculation.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+import ru.viktorgezz.vacation_pay_calculator.calculation.CalculationProperties;
+import ru.viktorgezz.vacation_pay_calculator.calculation.util.VacationPayFormula;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Кэш дневного заработка (средняя зарплата / 29.3) по средней зарплате в копейках.
+ * Зарплаты 50000, 50000.00 и 5E+4 приводятся к одному ключу, поэтому повторные расчеты
+ * для одного сотрудника не выполняют деление.
+ * Кэш ограничен фиксированным числом ячеек и работает без блокировок: ключ отображается в одну ячейку,
+ * а новая запись вытесняет прежнюю запись этой ячейки.
+ * Попадания и промахи публикуются метрикой {@value #METRIC_NAME} с тегом {@code cache={@value #CACHE_NAME}}.
+ */
+@Component
+public class DailyRateCache implements MeterBinder {
+
+    static final String METRIC_NAME = "cache.gets";
+    static final String CACHE_NAME = "daily-rate";
+
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private final AtomicReferenceArray<Entry> entries;
+    private final int mask;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public DailyRateCache(CalculationProperties calculationProperties) {
+        final int size = calculationProperties.getDailyRateCacheSize();
+        if (size <= 0 || size > 1 << 30) {
+            throw new IllegalStateException("calculation.daily-rate-cache-size must be between 1 and 2^30");
+        }
+
+        final int capacity = Integer.highestOneBit(size) == size ? size : Integer.highestOneBit(size) << 1;
+        this.entries = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Возвращает дневной заработок, рассчитывая его только при отсутствии в кэше.
+     *
+     * @param averageSalaryKopecks средняя зарплата в копейках в безопасном диапазоне {@link VacationPayFormula}
+     * @return дневной заработок в единицах 10^-10 рубля
+     */
+    public long getDailyEarnings(long averageSalaryKopecks) {
+        final int slot = slotOf(averageSalaryKopecks);
+        final Entry entry = entries.get(slot);
+        if (entry != null && entry.averageSalaryKopecks == averageSalaryKopecks) {
+            hitCount.increment();
+            return entry.dailyEarnings;
+        }
+
+        missCount.increment();
+        final long dailyEarnings = VacationPayFormula.calculateDailyEarnings(averageSalaryKopecks);
+        entries.set(slot, new Entry(averageSalaryKopecks, dailyEarnings));
+        return dailyEarnings;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(METRIC_NAME, hitCount, LongAdder::sum)
+                .tags("cache", CACHE_NAME, "result", "hit")
+                .description("Daily rate cache hits")
+                .register(registry);
+        FunctionCounter.builder(METRIC_NAME, missCount, LongAdder::sum)
+                .tags("cache", CACHE_NAME, "result", "miss")
+                .description("Daily rate cache misses")
+                .register(registry);
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public int getCapacity() {
+        return entries.length();
+    }
+
+    private int slotOf(long averageSalaryKopecks) {
+        final long hash = averageSalaryKopecks * GOLDEN_RATIO;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static final class Entry {
+
+        private final long averageSalaryKopecks;
+        private final long dailyEarnings;
+
+        private Entry(long averageSalaryKopecks, long dailyEarnings) {
+            this.averageSalaryKopecks = averageSalaryKopecks;
+            this.dailyEarnings = dailyEarnings;
+        }
+    }
+}
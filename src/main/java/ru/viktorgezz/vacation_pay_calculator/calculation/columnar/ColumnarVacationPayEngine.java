@@ -0,0 +1,75 @@
+package ru.viktorgezz.vacation_pay_calculator.calculation.columnar;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import ru.viktorgezz.vacation_pay_calculator.calculation.batch.PayableDaysPlan;
+import ru.viktorgezz.vacation_pay_calculator.calculation.batch.PayableDaysPlanner;
+import ru.viktorgezz.vacation_pay_calculator.calculation.formula.TenantFormulas;
+import ru.viktorgezz.vacation_pay_calculator.calculation.formula.VacationPayEvaluator;
+
+/**
+ * Движок расчета отпускных по колоночному пакету запросов.
+ * Формула юридического лица и версия календаря выбираются один раз на пакет, праздничные дни считаются
+ * {@link PayableDaysPlanner} один раз на каждый различный период отпуска, а суммы рассчитываются в копейках
+ * в цикле по массивам без создания объектов на каждую строку.
+ */
+@Component
+public class ColumnarVacationPayEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(ColumnarVacationPayEngine.class);
+
+    private final PayableDaysPlanner payableDaysPlanner;
+    private final TenantFormulas tenantFormulas;
+
+    public ColumnarVacationPayEngine(PayableDaysPlanner payableDaysPlanner, TenantFormulas tenantFormulas) {
+        this.payableDaysPlanner = payableDaysPlanner;
+        this.tenantFormulas = tenantFormulas;
+    }
+
+    /**
+     * Рассчитывает отпускные каждой строки пакета.
+     *
+     * @param columns колоночный пакет запросов
+     * @return суммы отпускных в копейках в порядке строк пакета
+     * @throws ru.viktorgezz.vacation_pay_calculator.exception.BusinessException если формула юридического лица
+     *                                                                           или календарь не найдены
+     */
+    public long[] calculate(VacationPayColumns columns) {
+        final VacationPayEvaluator evaluator = tenantFormulas.resolve(columns.getTenantId());
+        final long[] averageSalaryKopecks = columns.getAverageSalaryKopecks();
+        final long[] vacationPayKopecks = new long[columns.size()];
+
+        if (!columns.isDateBased()) {
+            final int[] daysVacation = columns.getDaysVacation();
+            for (int i = 0; i < vacationPayKopecks.length; i++) {
+                vacationPayKopecks[i] = evaluator.calculateVacationPayKopecks(
+                        averageSalaryKopecks[i],
+                        daysVacation[i],
+                        VacationPayEvaluator.NO_DATE
+                );
+            }
+            return vacationPayKopecks;
+        }
+
+        final long[] dateStarts = columns.getDateStartEpochDays();
+        final long[] dateEnds = columns.getDateEndEpochDays();
+        final PayableDaysPlan plan = payableDaysPlanner.plan(
+                columns.getCalendarId(),
+                columns.getAsOf(),
+                dateStarts,
+                dateEnds
+        );
+        for (int i = 0; i < vacationPayKopecks.length; i++) {
+            vacationPayKopecks[i] = evaluator.calculateVacationPayKopecks(
+                    averageSalaryKopecks[i],
+                    plan.getPayableDays(i),
+                    dateStarts[i]
+            );
+        }
+
+        log.debug("Columnar batch planned: {} rows, {} distinct vacation periods", plan.size(), plan.getDistinctRanges());
+
+        return vacationPayKopecks;
+    }
+}
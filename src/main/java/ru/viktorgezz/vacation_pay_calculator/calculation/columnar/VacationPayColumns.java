@@ -0,0 +1,87 @@
+package ru.viktorgezz.vacation_pay_calculator.calculation.columnar;
+
+import java.time.Instant;
+
+/**
+ * Колоночный пакет запросов расчета отпускных: параметры строк хранятся параллельными массивами примитивов.
+ * Пакет задается либо количеством дней отпуска, либо датами начала и окончания для всех строк сразу;
+ * неиспользуемые колонки равны null. Массивы не копируются и не должны изменяться после создания пакета.
+ */
+public final class VacationPayColumns {
+
+    private final long[] averageSalaryKopecks;
+    private final int[] daysVacation;
+    private final long[] dateStartEpochDays;
+    private final long[] dateEndEpochDays;
+    private final String calendarId;
+    private final Instant asOf;
+    private final String tenantId;
+
+    /**
+     * @param averageSalaryKopecks средние зарплаты в копейках
+     * @param daysVacation         количество дней отпуска или null, если пакет задан датами
+     * @param dateStartEpochDays   даты начала отпуска в днях эпохи или null, если пакет задан днями
+     * @param dateEndEpochDays     даты окончания отпуска в днях эпохи или null, если пакет задан днями
+     * @param calendarId           идентификатор календаря праздничных дней для всех строк
+     * @param asOf                 момент, на который берется версия календаря
+     * @param tenantId             идентификатор юридического лица для всех строк
+     */
+    public VacationPayColumns(
+            long[] averageSalaryKopecks,
+            int[] daysVacation,
+            long[] dateStartEpochDays,
+            long[] dateEndEpochDays,
+            String calendarId,
+            Instant asOf,
+            String tenantId
+    ) {
+        this.averageSalaryKopecks = averageSalaryKopecks;
+        this.daysVacation = daysVacation;
+        this.dateStartEpochDays = dateStartEpochDays;
+        this.dateEndEpochDays = dateEndEpochDays;
+        this.calendarId = calendarId;
+        this.asOf = asOf;
+        this.tenantId = tenantId;
+    }
+
+    public int size() {
+        return averageSalaryKopecks.length;
+    }
+
+    /**
+     * Проверяет, задан ли пакет датами отпуска.
+     *
+     * @return true, если строки рассчитываются по календарю
+     */
+    public boolean isDateBased() {
+        return daysVacation == null;
+    }
+
+    public long[] getAverageSalaryKopecks() {
+        return averageSalaryKopecks;
+    }
+
+    public int[] getDaysVacation() {
+        return daysVacation;
+    }
+
+    public long[] getDateStartEpochDays() {
+        return dateStartEpochDays;
+    }
+
+    public long[] getDateEndEpochDays() {
+        return dateEndEpochDays;
+    }
+
+    public String getCalendarId() {
+        return calendarId;
+    }
+
+    public Instant getAsOf() {
+        return asOf;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+}
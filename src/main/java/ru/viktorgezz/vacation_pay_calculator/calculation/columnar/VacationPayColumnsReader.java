@@ -0,0 +1,383 @@
+package ru.viktorgezz.vacation_pay_calculator.calculation.columnar;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import ru.viktorgezz.vacation_pay_calculator.calculation.CalculationProperties;
+import ru.viktorgezz.vacation_pay_calculator.exception.BusinessException;
+import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Читает колоночный запрос пакетного расчета отпускных потоковым парсером Jackson
+ * сразу в массивы примитивов, без объекта запроса на каждую строку.
+ * Суммы с точностью до копейки и даты в формате {@code yyyy-MM-dd} разбираются из символов токена
+ * без промежуточных {@link BigDecimal} и {@link String}; остальные допустимые записи разбираются стандартно.
+ */
+@Component
+public class VacationPayColumnsReader {
+
+    static final String AVERAGE_SALARIES = "averageSalaries";
+    static final String DAYS_VACATION = "daysVacation";
+    static final String DATE_STARTS = "dateStarts";
+    static final String DATE_ENDS = "dateEnds";
+
+    /**
+     * Максимальная средняя зарплата в копейках (10 млрд рублей), при которой расчет выполняется на long.
+     */
+    private static final long MAX_SALARY_KOPECKS = 1_000_000_000_000L;
+
+    /**
+     * Максимальное количество дней отпуска в строке, при котором расчет выполняется на long.
+     */
+    private static final int MAX_VACATION_DAYS = 100_000;
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int KOPECK_SCALE = 2;
+    private static final int MAX_FAST_INTEGER_DIGITS = 16;
+    private static final long NOT_PARSED = -1;
+    private static final int ISO_DATE_LENGTH = 10;
+
+    private final JsonFactory jsonFactory;
+    private final int maxRows;
+
+    public VacationPayColumnsReader(ObjectMapper objectMapper, CalculationProperties calculationProperties) {
+        if (calculationProperties.getColumnarMaxRows() <= 0) {
+            throw new IllegalStateException("calculation.columnar-max-rows must be greater than 0");
+        }
+        this.jsonFactory = objectMapper.getFactory();
+        this.maxRows = calculationProperties.getColumnarMaxRows();
+    }
+
+    /**
+     * Читает и проверяет колоночный запрос.
+     *
+     * @param input тело запроса в формате JSON
+     * @return колоночный пакет запросов
+     * @throws BusinessException если запрос не является корректным колоночным запросом
+     * @throws IOException       если произошла ошибка чтения
+     */
+    public VacationPayColumns read(InputStream input) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(input)) {
+            return read(parser);
+        } catch (JsonProcessingException e) {
+            throw invalid(e.getOriginalMessage());
+        }
+    }
+
+    private VacationPayColumns read(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw invalid("request body must be a JSON object");
+        }
+
+        long[] averageSalaryKopecks = null;
+        int[] daysVacation = null;
+        long[] dateStartEpochDays = null;
+        long[] dateEndEpochDays = null;
+        String calendarId = null;
+        Instant asOf = null;
+        String tenantId = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = parser.getCurrentName();
+            final boolean isNull = parser.nextToken() == JsonToken.VALUE_NULL;
+            switch (field) {
+                case AVERAGE_SALARIES:
+                    averageSalaryKopecks = isNull ? null : readSalaries(parser);
+                    break;
+                case DAYS_VACATION:
+                    daysVacation = isNull ? null : readDays(parser);
+                    break;
+                case DATE_STARTS:
+                    dateStartEpochDays = isNull ? null : readDates(parser, DATE_STARTS);
+                    break;
+                case DATE_ENDS:
+                    dateEndEpochDays = isNull ? null : readDates(parser, DATE_ENDS);
+                    break;
+                case "calendarId":
+                    calendarId = readText(parser, field);
+                    break;
+                case "asOf":
+                    asOf = readInstant(parser, field);
+                    break;
+                case "tenantId":
+                    tenantId = readText(parser, field);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        return validate(new VacationPayColumns(
+                averageSalaryKopecks,
+                daysVacation,
+                dateStartEpochDays,
+                dateEndEpochDays,
+                calendarId,
+                asOf,
+                tenantId
+        ), dateStartEpochDays != null || dateEndEpochDays != null);
+    }
+
+    private VacationPayColumns validate(VacationPayColumns columns, boolean hasDates) {
+        if (columns.getAverageSalaryKopecks() == null) {
+            throw invalid(AVERAGE_SALARIES + " is required");
+        }
+        if (!columns.isDateBased() && hasDates) {
+            throw new BusinessException(ErrorCode.VACATION_PARAMETERS_ALL_SPECIFIED);
+        }
+        if (!hasDates && columns.isDateBased()) {
+            throw new BusinessException(ErrorCode.VACATION_PARAMETERS_MISSING);
+        }
+        if (columns.isDateBased()
+                && (columns.getDateStartEpochDays() == null || columns.getDateEndEpochDays() == null)) {
+            throw new BusinessException(ErrorCode.VACATION_DATES_INCOMPLETE);
+        }
+
+        final int size = columns.size();
+        if (!columns.isDateBased()) {
+            checkLength(DAYS_VACATION, columns.getDaysVacation().length, size);
+            return columns;
+        }
+
+        checkLength(DATE_STARTS, columns.getDateStartEpochDays().length, size);
+        checkLength(DATE_ENDS, columns.getDateEndEpochDays().length, size);
+        final long[] dateStarts = columns.getDateStartEpochDays();
+        final long[] dateEnds = columns.getDateEndEpochDays();
+        for (int i = 0; i < size; i++) {
+            if (dateStarts[i] > dateEnds[i]) {
+                throw invalid(String.format("%s[%d] must not be after %s[%d]", DATE_STARTS, i, DATE_ENDS, i));
+            }
+            if (dateEnds[i] - dateStarts[i] >= MAX_VACATION_DAYS) {
+                throw invalid(String.format("vacation period at index %d is longer than %d days", i, MAX_VACATION_DAYS));
+            }
+        }
+        return columns;
+    }
+
+    private static void checkLength(String column, int length, int lengthExpected) {
+        if (length != lengthExpected) {
+            throw invalid(String.format("column %s has %d values, expected %d", column, length, lengthExpected));
+        }
+    }
+
+    private long[] readSalaries(JsonParser parser) throws IOException {
+        expectArray(parser, AVERAGE_SALARIES);
+        long[] values = new long[Math.min(INITIAL_CAPACITY, maxRows)];
+        int size = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            values = ensureCapacity(values, size, AVERAGE_SALARIES);
+            values[size] = readKopecks(parser, size);
+            size++;
+        }
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    private int[] readDays(JsonParser parser) throws IOException {
+        expectArray(parser, DAYS_VACATION);
+        int[] values = new int[Math.min(INITIAL_CAPACITY, maxRows)];
+        int size = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (size == values.length) {
+                checkRows(size, DAYS_VACATION);
+                values = Arrays.copyOf(values, (int) Math.min((long) size * 2, maxRows));
+            }
+            if (parser.currentToken() != JsonToken.VALUE_NUMBER_INT
+                    || parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+                throw invalid(String.format("%s[%d] must be an integer", DAYS_VACATION, size));
+            }
+            final long days = parser.getLongValue();
+            if (days <= 0 || days > MAX_VACATION_DAYS) {
+                throw invalid(String.format("%s[%d] must be between 1 and %d", DAYS_VACATION, size, MAX_VACATION_DAYS));
+            }
+            values[size++] = (int) days;
+        }
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    private long[] readDates(JsonParser parser, String column) throws IOException {
+        expectArray(parser, column);
+        long[] values = new long[Math.min(INITIAL_CAPACITY, maxRows)];
+        int size = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            values = ensureCapacity(values, size, column);
+            values[size] = readEpochDay(parser, column, size);
+            size++;
+        }
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    private long[] ensureCapacity(long[] values, int size, String column) {
+        if (size < values.length) {
+            return values;
+        }
+        checkRows(size, column);
+        return Arrays.copyOf(values, (int) Math.min((long) size * 2, maxRows));
+    }
+
+    private void checkRows(int size, String column) {
+        if (size >= maxRows) {
+            throw invalid(String.format("column %s exceeds %d rows", column, maxRows));
+        }
+    }
+
+    /**
+     * Читает среднюю зарплату в копейках.
+     * Десятичная запись без экспоненты разбирается из символов токена; остальные записи — через {@link BigDecimal}.
+     */
+    private static long readKopecks(JsonParser parser, int index) throws IOException {
+        final JsonToken token = parser.currentToken();
+        long kopecks = NOT_PARSED;
+        if (token == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+            final long rubles = parser.getLongValue();
+            kopecks = rubles > MAX_SALARY_KOPECKS ? MAX_SALARY_KOPECKS + 1 : Math.max(rubles * 100, 0);
+        } else if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+            kopecks = parseKopecks(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+        } else if (token != JsonToken.VALUE_NUMBER_INT) {
+            throw invalid(String.format("%s[%d] must be a number", AVERAGE_SALARIES, index));
+        }
+
+        if (kopecks == NOT_PARSED) {
+            kopecks = toKopecks(parser.getDecimalValue(), index);
+        }
+        if (kopecks == 0) {
+            throw invalid(String.format("%s[%d] must be greater than 0", AVERAGE_SALARIES, index));
+        }
+        if (kopecks > MAX_SALARY_KOPECKS) {
+            throw invalid(String.format("%s[%d] is out of range", AVERAGE_SALARIES, index));
+        }
+        return kopecks;
+    }
+
+    private static long toKopecks(BigDecimal amount, int index) {
+        if (amount.signum() <= 0) {
+            return 0;
+        }
+        if (amount.stripTrailingZeros().scale() > KOPECK_SCALE) {
+            throw invalid(String.format("%s[%d] must not be more precise than a kopeck", AVERAGE_SALARIES, index));
+        }
+        if (amount.compareTo(BigDecimal.valueOf(MAX_SALARY_KOPECKS, KOPECK_SCALE)) > 0) {
+            return MAX_SALARY_KOPECKS + 1;
+        }
+        return amount.setScale(KOPECK_SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Разбирает неотрицательную десятичную запись вида {@code 12345.67} в копейки.
+     * Дробные разряды после второго допускаются только нулевыми.
+     *
+     * @return сумма в копейках или {@link #NOT_PARSED}, если запись нужно разобрать стандартно
+     */
+    static long parseKopecks(char[] text, int offset, int length) {
+        final int end = offset + length;
+        long rubles = 0;
+        int position = offset;
+        while (position < end && text[position] != '.') {
+            final int digit = text[position] - '0';
+            if (digit < 0 || digit > 9 || position - offset >= MAX_FAST_INTEGER_DIGITS) {
+                return NOT_PARSED;
+            }
+            rubles = rubles * 10 + digit;
+            position++;
+        }
+        if (position == offset || position == end) {
+            return NOT_PARSED;
+        }
+
+        long kopecks = 0;
+        for (int scale = 0; scale < KOPECK_SCALE; scale++) {
+            position++;
+            int digit = 0;
+            if (position < end) {
+                digit = text[position] - '0';
+                if (digit < 0 || digit > 9) {
+                    return NOT_PARSED;
+                }
+            }
+            kopecks = kopecks * 10 + digit;
+        }
+        for (position++; position < end; position++) {
+            if (text[position] != '0') {
+                return NOT_PARSED;
+            }
+        }
+        return rubles * 100 + kopecks;
+    }
+
+    /**
+     * Читает дату в днях эпохи.
+     * Запись {@code yyyy-MM-dd} разбирается из символов токена; остальные записи ISO — через {@link LocalDate#parse}.
+     */
+    private static long readEpochDay(JsonParser parser, String column, int index) throws IOException {
+        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            throw invalid(String.format("%s[%d] must be a date string", column, index));
+        }
+
+        try {
+            final char[] text = parser.getTextCharacters();
+            final int offset = parser.getTextOffset();
+            if (parser.getTextLength() == ISO_DATE_LENGTH && text[offset + 4] == '-' && text[offset + 7] == '-') {
+                final int year = parseDigits(text, offset, 4);
+                final int month = parseDigits(text, offset + 5, 2);
+                final int day = parseDigits(text, offset + 8, 2);
+                if (year >= 0 && month >= 0 && day >= 0) {
+                    return LocalDate.of(year, month, day).toEpochDay();
+                }
+            }
+            return LocalDate.parse(parser.getText()).toEpochDay();
+        } catch (DateTimeException e) {
+            throw invalid(String.format("%s[%d] is not a valid date", column, index));
+        }
+    }
+
+    private static int parseDigits(char[] text, int offset, int length) {
+        int value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            final int digit = text[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static String readText(JsonParser parser, String field) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            throw invalid(field + " must be a string");
+        }
+        return parser.getText();
+    }
+
+    private static Instant readInstant(JsonParser parser, String field) throws IOException {
+        final String text = readText(parser, field);
+        try {
+            return text == null ? null : Instant.parse(text);
+        } catch (DateTimeException e) {
+            throw invalid(field + " is not a valid instant");
+        }
+    }
+
+    private static void expectArray(JsonParser parser, String column) {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw invalid(column + " must be an array");
+        }
+    }
+
+    private static BusinessException invalid(String reason) {
+        return new BusinessException(ErrorCode.INVALID_COLUMNAR_REQUEST, reason);
+    }
+}
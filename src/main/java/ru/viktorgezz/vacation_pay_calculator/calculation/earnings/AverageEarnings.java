@@ -0,0 +1,54 @@
+package ru.viktorgezz.vacation_pay_calculator.calculation.earnings;
+
+import java.math.BigDecimal;
+
+import static ru.viktorgezz.vacation_pay_calculator.calculation.util.VacationPayFormula.calculateVacationPayByDailyEarnings;
+
+/**
+ * Средний дневной заработок сотрудника за расчетный период.
+ */
+public class AverageEarnings {
+
+    private final String employeeId;
+    private final BigDecimal accrued;
+    private final BigDecimal calculatedDays;
+    private final BigDecimal averageDailyEarnings;
+
+    public AverageEarnings(
+            String employeeId,
+            BigDecimal accrued,
+            BigDecimal calculatedDays,
+            BigDecimal averageDailyEarnings
+    ) {
+        this.employeeId = employeeId;
+        this.accrued = accrued;
+        this.calculatedDays = calculatedDays;
+        this.averageDailyEarnings = averageDailyEarnings;
+    }
+
+    /**
+     * Рассчитывает отпускные по среднему дневному заработку.
+     *
+     * @param vacationDays количество оплачиваемых дней отпуска
+     * @return сумма отпускных, округленная до 2 знаков
+     */
+    public BigDecimal calculateVacationPay(int vacationDays) {
+        return calculateVacationPayByDailyEarnings(averageDailyEarnings, vacationDays);
+    }
+
+    public String getEmployeeId() {
+        return employeeId;
+    }
+
+    public BigDecimal getAccrued() {
+        return accrued;
+    }
+
+    public BigDecimal getCalculatedDays() {
+        return calculatedDays;
+    }
+
+    public BigDecimal getAverageDailyEarnings() {
+        return averageDailyEarnings;
+    }
+}
@@ -0,0 +1,149 @@
+package ru.viktorgezz.vacation_pay_calculator.calculation.earnings;
+
+import ru.viktorgezz.vacation_pay_calculator.exception.BusinessException;
+import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+
+/**
+ * Накопитель среднего дневного заработка одного сотрудника за расчетный период из 12 месяцев.
+ * Полный месяц засчитывается как 29.3 дня, частично отработанный — пропорционально
+ * календарным дням без исключаемых периодов (болезни и т.п.). Месяцы без начислений не учитываются.
+ * <p>
+ * Состояние занимает постоянный объем памяти: сумма начислений в копейках, маска месяцев с начислениями
+ * и по одной битовой маске исключаемых дней на месяц, поэтому пересекающиеся исключаемые периоды
+ * не учитываются дважды. Экземпляр переиспользуется для следующего сотрудника через {@link #reset(String)}.
+ */
+public class AverageEarningsAccumulator {
+
+    public static final int MONTHS_IN_PERIOD = 12;
+
+    /**
+     * Наименьшее общее кратное длин месяцев 28..31: дни всех месяцев приводятся к этому знаменателю,
+     * чтобы доли частично отработанных месяцев складывались в целых числах без округления.
+     */
+    private static final long MONTH_LENGTHS_LCM = 377_580;
+
+    private static final long DAYS_IN_MONTH_TENTHS = 293;
+    private static final int CALCULATED_DAYS_SCALE = 2;
+    private static final int DAILY_EARNINGS_SCALE = 10;
+
+    private final YearMonth periodStart;
+    private final LocalDate periodFirstDay;
+    private final LocalDate periodLastDay;
+    private final int[] excludedDaysMasks = new int[MONTHS_IN_PERIOD];
+
+    private String employeeId;
+    private int accruedMonthsMask;
+    private long accruedKopecks;
+
+    /**
+     * @param periodEnd последний месяц расчетного периода
+     */
+    public AverageEarningsAccumulator(YearMonth periodEnd) {
+        this.periodStart = periodEnd.minusMonths(MONTHS_IN_PERIOD - 1);
+        this.periodFirstDay = periodStart.atDay(1);
+        this.periodLastDay = periodEnd.atEndOfMonth();
+    }
+
+    /**
+     * Сбрасывает накопленные данные и начинает расчет для другого сотрудника.
+     *
+     * @param employeeId идентификатор сотрудника
+     */
+    public void reset(String employeeId) {
+        this.employeeId = employeeId;
+        this.accruedMonthsMask = 0;
+        this.accruedKopecks = 0;
+        Arrays.fill(excludedDaysMasks, 0);
+    }
+
+    public String getEmployeeId() {
+        return employeeId;
+    }
+
+    /**
+     * Добавляет начисление за месяц. Начисления за месяцы вне расчетного периода игнорируются.
+     * Начисления за исключаемые периоды (пособия и т.п.) не должны передаваться.
+     *
+     * @param month          месяц начисления
+     * @param accruedKopecks сумма начисления в копейках, может быть отрицательной при сторнировании
+     */
+    public void addAccrual(YearMonth month, long accruedKopecks) {
+        final int monthIndex = monthIndexOf(month);
+        if (monthIndex < 0) {
+            return;
+        }
+        this.accruedMonthsMask |= 1 << monthIndex;
+        this.accruedKopecks = Math.addExact(this.accruedKopecks, accruedKopecks);
+    }
+
+    /**
+     * Исключает период из расчета. Часть периода вне расчетного периода игнорируется.
+     *
+     * @param dateFrom дата начала исключаемого периода
+     * @param dateTo   дата окончания исключаемого периода включительно
+     */
+    public void addExcludedPeriod(LocalDate dateFrom, LocalDate dateTo) {
+        final LocalDate from = dateFrom.isBefore(periodFirstDay) ? periodFirstDay : dateFrom;
+        final LocalDate to = dateTo.isAfter(periodLastDay) ? periodLastDay : dateTo;
+        if (from.isAfter(to)) {
+            return;
+        }
+
+        final int monthIndexFrom = monthIndexOf(YearMonth.from(from));
+        final int monthIndexTo = monthIndexOf(YearMonth.from(to));
+        for (int monthIndex = monthIndexFrom; monthIndex <= monthIndexTo; monthIndex++) {
+            final int dayFrom = monthIndex == monthIndexFrom ? from.getDayOfMonth() : 1;
+            final int dayTo = monthIndex == monthIndexTo
+                    ? to.getDayOfMonth()
+                    : periodStart.plusMonths(monthIndex).lengthOfMonth();
+            excludedDaysMasks[monthIndex] |= (int) ((1L << dayTo) - (1L << (dayFrom - 1)));
+        }
+    }
+
+    /**
+     * Рассчитывает средний дневной заработок: сумма начислений / (29.3 × полные месяцы + дни частичных месяцев).
+     *
+     * @return средний дневной заработок сотрудника
+     * @throws BusinessException если в расчетном периоде нет ни одного учитываемого дня
+     */
+    public AverageEarnings calculate() {
+        long weightedDays = 0;
+        for (int monthIndex = 0; monthIndex < MONTHS_IN_PERIOD; monthIndex++) {
+            if ((accruedMonthsMask & 1 << monthIndex) == 0) {
+                continue;
+            }
+            final int lengthOfMonth = periodStart.plusMonths(monthIndex).lengthOfMonth();
+            final int daysCounted = lengthOfMonth - Integer.bitCount(excludedDaysMasks[monthIndex]);
+            weightedDays += daysCounted * (MONTH_LENGTHS_LCM / lengthOfMonth);
+        }
+        if (weightedDays == 0) {
+            throw new BusinessException(ErrorCode.AVERAGE_EARNINGS_UNDEFINED, employeeId);
+        }
+
+        final BigDecimal calculatedDays = BigDecimal.valueOf(DAYS_IN_MONTH_TENTHS * weightedDays)
+                .divide(BigDecimal.valueOf(10 * MONTH_LENGTHS_LCM), CALCULATED_DAYS_SCALE, RoundingMode.HALF_UP);
+        final BigDecimal averageDailyEarnings = BigDecimal.valueOf(accruedKopecks)
+                .multiply(BigDecimal.valueOf(MONTH_LENGTHS_LCM))
+                .divide(BigDecimal.valueOf(DAYS_IN_MONTH_TENTHS * 10 * weightedDays), DAILY_EARNINGS_SCALE,
+                        RoundingMode.HALF_UP);
+
+        return new AverageEarnings(
+                employeeId,
+                BigDecimal.valueOf(accruedKopecks, 2),
+                calculatedDays,
+                averageDailyEarnings
+        );
+    }
+
+    private int monthIndexOf(YearMonth month) {
+        final long monthIndex = ChronoUnit.MONTHS.between(periodStart, month);
+        return monthIndex >= 0 && monthIndex < MONTHS_IN_PERIOD ? (int) monthIndex : -1;
+    }
+}
@@ -0,0 +1,139 @@
+package ru.viktorgezz.vacation_pay_calculator.calculation.earnings;
+
+import org.springframework.stereotype.Component;
+import ru.viktorgezz.vacation_pay_calculator.dto.PayrollRecordDto;
+import ru.viktorgezz.vacation_pay_calculator.exception.BusinessException;
+import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
+
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Движок расчета среднего дневного заработка по потоку истории начислений.
+ * Записи обрабатываются за один проход: записи одного сотрудника должны идти подряд,
+ * результат по сотруднику передается получателю, как только начинаются записи следующего.
+ * Одновременно в памяти находится только состояние текущего сотрудника и идентификаторы
+ * {@value #RECENT_EMPLOYEES} последних завершенных сотрудников, поэтому объем памяти
+ * не зависит от количества сотрудников и записей.
+ * Сотрудник, записи которого снова встретились среди последних завершенных, отклоняется:
+ * его предыдущий результат рассчитан по неполным данным.
+ */
+@Component
+public class AverageEarningsEngine {
+
+    /**
+     * Количество последних завершенных сотрудников, повторное появление которых считается ошибкой порядка записей.
+     */
+    static final int RECENT_EMPLOYEES = 10_000;
+
+    /**
+     * Рассчитывает средний дневной заработок каждого сотрудника из потока записей.
+     * Ошибочная запись отклоняет расчет только своего сотрудника; его остальные записи пропускаются.
+     * Записи сотрудника, идущие не подряд, отклоняют его повторную группу с ошибкой
+     * {@link ErrorCode#INVALID_PAYROLL_RECORD}, если между группами не больше {@value #RECENT_EMPLOYEES} сотрудников.
+     *
+     * @param records   записи истории начислений, сгруппированные по сотрудникам
+     * @param periodEnd последний месяц расчетного периода
+     * @param listener  получатель результатов
+     */
+    public void process(Iterator<PayrollRecordDto> records, YearMonth periodEnd, AverageEarningsListener listener) {
+        final AverageEarningsAccumulator accumulator = new AverageEarningsAccumulator(periodEnd);
+        final Set<String> recentEmployeeIds = Collections.newSetFromMap(new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > RECENT_EMPLOYEES;
+            }
+        });
+        BusinessException rejection = null;
+        boolean hasEmployee = false;
+
+        while (records.hasNext()) {
+            final PayrollRecordDto record = records.next();
+            if (!hasEmployee || !Objects.equals(record.getEmployeeId(), accumulator.getEmployeeId())) {
+                if (hasEmployee) {
+                    complete(accumulator, rejection, listener);
+                    if (accumulator.getEmployeeId() != null) {
+                        recentEmployeeIds.add(accumulator.getEmployeeId());
+                    }
+                }
+                accumulator.reset(record.getEmployeeId());
+                rejection = recentEmployeeIds.contains(record.getEmployeeId())
+                        ? invalid(record.getEmployeeId(), "records of the employee must be contiguous")
+                        : null;
+                hasEmployee = true;
+            }
+            if (rejection == null) {
+                rejection = add(accumulator, record);
+            }
+        }
+        if (hasEmployee) {
+            complete(accumulator, rejection, listener);
+        }
+    }
+
+    /**
+     * Добавляет запись в накопитель.
+     *
+     * @return причина отклонения сотрудника или null, если запись принята
+     */
+    private static BusinessException add(AverageEarningsAccumulator accumulator, PayrollRecordDto record) {
+        final String employeeId = record.getEmployeeId();
+        if (employeeId == null) {
+            return invalid(null, "employeeId is required");
+        }
+
+        final boolean isAccrual = record.getMonth() != null || record.getAccrued() != null;
+        final boolean isExclusion = record.getExcludedFrom() != null || record.getExcludedTo() != null;
+        if (isAccrual == isExclusion) {
+            return invalid(employeeId, "either month and accrued or excludedFrom and excludedTo must be specified");
+        }
+
+        if (isAccrual) {
+            if (record.getMonth() == null || record.getAccrued() == null) {
+                return invalid(employeeId, "month and accrued must be specified together");
+            }
+            try {
+                accumulator.addAccrual(record.getMonth(), record.getAccrued().movePointRight(2).longValueExact());
+            } catch (ArithmeticException e) {
+                return invalid(employeeId, "accrued must be a whole number of kopecks within range");
+            }
+            return null;
+        }
+
+        if (record.getExcludedFrom() == null
+                || record.getExcludedTo() == null
+                || record.getExcludedFrom().isAfter(record.getExcludedTo())) {
+            return invalid(employeeId, "excludedFrom must not be after excludedTo");
+        }
+        accumulator.addExcludedPeriod(record.getExcludedFrom(), record.getExcludedTo());
+        return null;
+    }
+
+    private static void complete(
+            AverageEarningsAccumulator accumulator,
+            BusinessException rejection,
+            AverageEarningsListener listener
+    ) {
+        if (rejection != null) {
+            listener.onRejected(accumulator.getEmployeeId(), rejection);
+            return;
+        }
+        final AverageEarnings averageEarnings;
+        try {
+            averageEarnings = accumulator.calculate();
+        } catch (BusinessException e) {
+            listener.onRejected(accumulator.getEmployeeId(), e);
+            return;
+        }
+        listener.onCalculated(averageEarnings);
+    }
+
+    private static BusinessException invalid(String employeeId, String reason) {
+        return new BusinessException(ErrorCode.INVALID_PAYROLL_RECORD, String.valueOf(employeeId), reason);
+    }
+}
@@ -0,0 +1,24 @@
+package ru.viktorgezz.vacation_pay_calculator.calculation.earnings;
+
+import ru.viktorgezz.vacation_pay_calculator.exception.BusinessException;
+
+/**
+ * Получатель результатов {@link AverageEarningsEngine} по каждому сотруднику.
+ */
+public interface AverageEarningsListener {
+
+    /**
+     * Вызывается, когда средний заработок сотрудника рассчитан.
+     *
+     * @param averageEarnings средний заработок сотрудника
+     */
+    void onCalculated(AverageEarnings averageEarnings);
+
+    /**
+     * Вызывается, когда средний заработок сотрудника не может быть рассчитан.
+     *
+     * @param employeeId идентификатор сотрудника
+     * @param e          причина
+     */
+    void onRejected(String employeeId, BusinessException e);
+}
@@ -0,0 +1,131 @@
+package ru.viktorgezz.vacation_pay_calculator.calculation.formula;
+
+import ru.viktorgezz.vacation_pay_calculator.calculation.util.VacationPayFormula;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+/**
+ * Формула с постоянным делителем: (Средняя ЗП × коэффициент / делитель) × Количество дней.
+ * Отношение коэффициента к делителю приводится при компиляции к несократимой дроби a/b,
+ * после чего дневной заработок {@code round(kopecks × a × 10^8 / b)} в единицах 10^-10 рубля
+ * и итог считаются на long, как в {@link VacationPayFormula}. Значения, для которых long может переполниться,
+ * рассчитываются в {@link BigDecimal} с тем же результатом.
+ */
+final class CompiledVacationPayRate implements VacationPayEvaluator {
+
+    private static final long KOPECK_IN_DAILY_EARNINGS = 100_000_000L;
+    private static final int DAILY_EARNINGS_SCALE = 10;
+    private static final int KOPECK_SCALE = 2;
+    private static final int MAX_EXACT_VACATION_DAYS = 100_000;
+    private static final long MAX_EXACT_SALARY_KOPECKS = 1_000_000_000_000L;
+
+    private final BigDecimal divisor;
+    private final BigDecimal coefficient;
+    private final RoundingMode roundingMode;
+
+    private final long numerator;
+    private final long denominator;
+    private final long maxExactSalaryKopecks;
+
+    CompiledVacationPayRate(BigDecimal divisor, BigDecimal coefficient, RoundingMode roundingMode) {
+        this.divisor = divisor;
+        this.coefficient = coefficient;
+        this.roundingMode = roundingMode;
+
+        BigInteger a = coefficient.unscaledValue().multiply(BigInteger.TEN.pow(Math.max(divisor.scale(), 0)))
+                .multiply(BigInteger.valueOf(KOPECK_IN_DAILY_EARNINGS));
+        BigInteger b = divisor.unscaledValue().multiply(BigInteger.TEN.pow(Math.max(coefficient.scale(), 0)));
+        a = a.multiply(BigInteger.TEN.pow(Math.max(-coefficient.scale(), 0)));
+        b = b.multiply(BigInteger.TEN.pow(Math.max(-divisor.scale(), 0)));
+        final BigInteger gcd = a.gcd(b);
+        a = a.divide(gcd);
+        b = b.divide(gcd);
+
+        final boolean fitsLong = a.bitLength() < Long.SIZE - 1 && a.multiply(b).bitLength() < Long.SIZE - 1;
+        this.numerator = fitsLong ? a.longValue() : 0;
+        this.denominator = fitsLong ? b.longValue() : 1;
+        this.maxExactSalaryKopecks = fitsLong
+                ? Math.min(MAX_EXACT_SALARY_KOPECKS, Long.MAX_VALUE / 2 / (numerator / denominator + 1))
+                : -1;
+    }
+
+    @Override
+    public BigDecimal calculateVacationPay(BigDecimal averageSalary, int vacationDays, LocalDate dateStart) {
+        final long salaryKopecks = VacationPayFormula.toKopecks(averageSalary);
+        if (isExactRange(salaryKopecks, vacationDays)) {
+            return BigDecimal.valueOf(calculateExact(salaryKopecks, vacationDays), KOPECK_SCALE);
+        }
+        return calculateWithBigDecimal(averageSalary, vacationDays);
+    }
+
+    @Override
+    public long calculateVacationPayKopecks(long averageSalaryKopecks, int vacationDays, long dateStartEpochDay) {
+        if (isExactRange(averageSalaryKopecks, vacationDays)) {
+            return calculateExact(averageSalaryKopecks, vacationDays);
+        }
+        return calculateWithBigDecimal(BigDecimal.valueOf(averageSalaryKopecks, KOPECK_SCALE), vacationDays)
+                .unscaledValue()
+                .longValueExact();
+    }
+
+    private boolean isExactRange(long salaryKopecks, int vacationDays) {
+        return salaryKopecks >= 0
+                && salaryKopecks <= maxExactSalaryKopecks
+                && vacationDays >= 0
+                && vacationDays <= MAX_EXACT_VACATION_DAYS;
+    }
+
+    private long calculateExact(long salaryKopecks, int vacationDays) {
+        final long dailyEarnings = salaryKopecks / denominator * numerator
+                + divide(salaryKopecks % denominator * numerator, denominator, roundingMode);
+        return dailyEarnings / KOPECK_IN_DAILY_EARNINGS * vacationDays
+                + divide(dailyEarnings % KOPECK_IN_DAILY_EARNINGS * vacationDays, KOPECK_IN_DAILY_EARNINGS,
+                roundingMode);
+    }
+
+    private BigDecimal calculateWithBigDecimal(BigDecimal averageSalary, int vacationDays) {
+        return averageSalary.multiply(coefficient)
+                .divide(divisor, DAILY_EARNINGS_SCALE, roundingMode)
+                .multiply(BigDecimal.valueOf(vacationDays))
+                .setScale(KOPECK_SCALE, roundingMode);
+    }
+
+    /**
+     * Делит неотрицательное число с округлением по заданному правилу.
+     *
+     * @param dividend     неотрицательное делимое
+     * @param divisor      положительный делитель
+     * @param roundingMode правило округления
+     * @return частное, округленное до целого
+     * @throws ArithmeticException если округление {@link RoundingMode#UNNECESSARY} требуется, но не допускается
+     */
+    static long divide(long dividend, long divisor, RoundingMode roundingMode) {
+        final long quotient = dividend / divisor;
+        final long remainder = dividend - quotient * divisor;
+        if (remainder == 0) {
+            return quotient;
+        }
+
+        switch (roundingMode) {
+            case UP:
+            case CEILING:
+                return quotient + 1;
+            case DOWN:
+            case FLOOR:
+                return quotient;
+            case HALF_UP:
+                return 2 * remainder >= divisor ? quotient + 1 : quotient;
+            case HALF_DOWN:
+                return 2 * remainder > divisor ? quotient + 1 : quotient;
+            case HALF_EVEN:
+                return 2 * remainder > divisor || 2 * remainder == divisor && (quotient & 1) == 1
+                        ? quotient + 1
+                        : quotient;
+            default:
+                throw new ArithmeticException("Rounding necessary");
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package ru.viktorgezz.vacation_pay_calculator.calculation.formula;
+
+import ru.viktorgezz.vacation_pay_calculator.calculation.cache.DailyRateCache;
+import ru.viktorgezz.vacation_pay_calculator.calculation.util.VacationPayFormula;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Формула по умолчанию: (Средняя ЗП / 29.3) × Количество дней с округлением HALF_UP
+ * и дневным заработком из {@link DailyRateCache}.
+ */
+final class DefaultVacationPayEvaluator implements VacationPayEvaluator {
+
+    private final DailyRateCache dailyRateCache;
+
+    DefaultVacationPayEvaluator(DailyRateCache dailyRateCache) {
+        this.dailyRateCache = dailyRateCache;
+    }
+
+    @Override
+    public BigDecimal calculateVacationPay(BigDecimal averageSalary, int vacationDays, LocalDate dateStart) {
+        return VacationPayFormula.calculateVacationPay(averageSalary, vacationDays, dailyRateCache);
+    }
+
+    @Override
+    public long calculateVacationPayKopecks(long averageSalaryKopecks, int vacationDays, long dateStartEpochDay) {
+        return VacationPayFormula.calculateVacationPayKopecks(averageSalaryKopecks, vacationDays, dailyRateCache);
+    }
+}
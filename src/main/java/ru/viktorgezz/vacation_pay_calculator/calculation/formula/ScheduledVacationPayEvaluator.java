@@ -0,0 +1,46 @@
+package ru.viktorgezz.vacation_pay_calculator.calculation.formula;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Формула с делителями, менявшимися со временем: по дате начала отпуска выбирается
+ * скомпилированная формула периода двоичным поиском по датам начала периодов.
+ */
+final class ScheduledVacationPayEvaluator implements VacationPayEvaluator {
+
+    private final long[] fromEpochDays;
+    private final VacationPayEvaluator[] rates;
+
+    /**
+     * @param fromEpochDays даты начала периодов в днях эпохи, по возрастанию; первый период действует с минус бесконечности
+     * @param rates         формулы периодов в том же порядке
+     */
+    ScheduledVacationPayEvaluator(long[] fromEpochDays, VacationPayEvaluator[] rates) {
+        this.fromEpochDays = fromEpochDays;
+        this.rates = rates;
+    }
+
+    @Override
+    public BigDecimal calculateVacationPay(BigDecimal averageSalary, int vacationDays, LocalDate dateStart) {
+        return rateOf(dateStart).calculateVacationPay(averageSalary, vacationDays, dateStart);
+    }
+
+    @Override
+    public long calculateVacationPayKopecks(long averageSalaryKopecks, int vacationDays, long dateStartEpochDay) {
+        return rateOf(dateStartEpochDay).calculateVacationPayKopecks(averageSalaryKopecks, vacationDays, dateStartEpochDay);
+    }
+
+    private VacationPayEvaluator rateOf(LocalDate dateStart) {
+        return rateOf(dateStart == null ? NO_DATE : dateStart.toEpochDay());
+    }
+
+    private VacationPayEvaluator rateOf(long dateStartEpochDay) {
+        if (dateStartEpochDay == NO_DATE) {
+            return rates[rates.length - 1];
+        }
+        final int position = Arrays.binarySearch(fromEpochDays, dateStartEpochDay);
+        return rates[position >= 0 ? position : -position - 2];
+    }
+}
@@ -0,0 +1,62 @@
+package ru.viktorgezz.vacation_pay_calculator.calculation.formula;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import ru.viktorgezz.vacation_pay_calculator.calculation.CalculationProperties;
+import ru.viktorgezz.vacation_pay_calculator.calculation.cache.DailyRateCache;
+import ru.viktorgezz.vacation_pay_calculator.exception.BusinessException;
+import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Реестр формул расчета отпускных юридических лиц.
+ * Формулы из {@code calculation.tenants} компилируются один раз при старте в неизменяемые
+ * {@link VacationPayEvaluator}, поэтому расчет не разбирает описание формулы на каждый запрос.
+ */
+@Component
+public class TenantFormulas {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantFormulas.class);
+
+    private final VacationPayEvaluator defaultEvaluator;
+    private final Map<String, VacationPayEvaluator> evaluatorsByTenantId;
+
+    public TenantFormulas(CalculationProperties calculationProperties, DailyRateCache dailyRateCache) {
+        this.defaultEvaluator = new DefaultVacationPayEvaluator(dailyRateCache);
+
+        final Map<String, VacationPayEvaluator> evaluators = new HashMap<>();
+        calculationProperties.getTenants().forEach((id, definition) ->
+                evaluators.put(normalize(id), VacationPayFormulaCompiler.compile(id, definition)));
+        this.evaluatorsByTenantId = Map.copyOf(evaluators);
+
+        log.info("Tenant vacation pay formulas compiled: {}", evaluatorsByTenantId.keySet());
+    }
+
+    /**
+     * Находит формулу юридического лица.
+     * Пустой идентификатор соответствует формуле по умолчанию.
+     *
+     * @param tenantId идентификатор юридического лица
+     * @return скомпилированная формула
+     * @throws BusinessException если формула юридического лица не настроена
+     */
+    public VacationPayEvaluator resolve(String tenantId) {
+        if (tenantId == null || tenantId.isBlank()) {
+            return defaultEvaluator;
+        }
+
+        final VacationPayEvaluator evaluator = evaluatorsByTenantId.get(normalize(tenantId));
+        if (evaluator == null) {
+            throw new BusinessException(ErrorCode.UNKNOWN_TENANT, tenantId);
+        }
+        return evaluator;
+    }
+
+    private static String normalize(String tenantId) {
+        return tenantId.trim().toLowerCase(Locale.ROOT);
+    }
+}
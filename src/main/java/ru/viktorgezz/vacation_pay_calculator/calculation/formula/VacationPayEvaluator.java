@@ -0,0 +1,38 @@
+package ru.viktorgezz.vacation_pay_calculator.calculation.formula;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Скомпилированная формула расчета отпускных юридического лица.
+ * Реализации неизменяемы и потокобезопасны; все параметры формулы вычисляются при компиляции.
+ */
+public interface VacationPayEvaluator {
+
+    /**
+     * Значение даты начала отпуска в днях эпохи, соответствующее отсутствующей дате.
+     */
+    long NO_DATE = Long.MIN_VALUE;
+
+    /**
+     * Рассчитывает сумму отпускных.
+     *
+     * @param averageSalary Средняя зарплата за 12 месяцев
+     * @param vacationDays  Количество оплачиваемых дней отпуска
+     * @param dateStart     Дата начала отпуска, по которой выбирается делитель; null соответствует текущему делителю
+     * @return Сумма отпускных, округленная до 2 знаков
+     */
+    BigDecimal calculateVacationPay(BigDecimal averageSalary, int vacationDays, LocalDate dateStart);
+
+    /**
+     * Рассчитывает сумму отпускных в копейках без промежуточных {@link BigDecimal} в безопасном диапазоне.
+     * Результат совпадает с {@link #calculateVacationPay(BigDecimal, int, LocalDate)}.
+     *
+     * @param averageSalaryKopecks Средняя зарплата за 12 месяцев в копейках, неотрицательная
+     * @param vacationDays         Количество оплачиваемых дней отпуска
+     * @param dateStartEpochDay    Дата начала отпуска в днях эпохи или {@link #NO_DATE}
+     * @return Сумма отпускных в копейках
+     * @throws ArithmeticException если сумма отпускных не помещается в long
+     */
+    long calculateVacationPayKopecks(long averageSalaryKopecks, int vacationDays, long dateStartEpochDay);
+}
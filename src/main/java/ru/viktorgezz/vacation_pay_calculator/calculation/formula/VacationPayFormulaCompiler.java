@@ -0,0 +1,69 @@
+package ru.viktorgezz.vacation_pay_calculator.calculation.formula;
+
+import ru.viktorgezz.vacation_pay_calculator.calculation.CalculationProperties;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * Компилятор декларативного описания формулы юридического лица в неизменяемый {@link VacationPayEvaluator}.
+ * Описание проверяется один раз при компиляции; ошибка описания не дает приложению запуститься.
+ */
+final class VacationPayFormulaCompiler {
+
+    private VacationPayFormulaCompiler() {
+    }
+
+    /**
+     * Компилирует описание формулы.
+     *
+     * @param tenantId   идентификатор юридического лица для сообщений об ошибках
+     * @param definition описание формулы
+     * @return скомпилированная формула
+     * @throws IllegalStateException если описание формулы некорректно
+     */
+    static VacationPayEvaluator compile(String tenantId, CalculationProperties.Tenant definition) {
+        final BigDecimal coefficient = definition.getCoefficient();
+        final RoundingMode roundingMode = definition.getRoundingMode();
+        if (coefficient == null || coefficient.signum() <= 0) {
+            throw new IllegalStateException("calculation.tenants." + tenantId + ".coefficient must be greater than 0");
+        }
+        if (roundingMode == null || roundingMode == RoundingMode.UNNECESSARY) {
+            throw new IllegalStateException("calculation.tenants." + tenantId + ".rounding-mode must round");
+        }
+
+        final VacationPayEvaluator base = compileRate(tenantId, definition.getDivisor(), coefficient, roundingMode);
+        final List<CalculationProperties.DivisorPeriod> periods = definition.getDivisors();
+        if (periods.isEmpty()) {
+            return base;
+        }
+
+        final long[] fromEpochDays = new long[periods.size() + 1];
+        final VacationPayEvaluator[] rates = new VacationPayEvaluator[periods.size() + 1];
+        fromEpochDays[0] = Long.MIN_VALUE;
+        rates[0] = base;
+        for (int i = 0; i < periods.size(); i++) {
+            final CalculationProperties.DivisorPeriod period = periods.get(i);
+            if (period.getFrom() == null || period.getFrom().toEpochDay() <= fromEpochDays[i]) {
+                throw new IllegalStateException("calculation.tenants." + tenantId
+                        + ".divisors must have increasing from dates");
+            }
+            fromEpochDays[i + 1] = period.getFrom().toEpochDay();
+            rates[i + 1] = compileRate(tenantId, period.getDivisor(), coefficient, roundingMode);
+        }
+        return new ScheduledVacationPayEvaluator(fromEpochDays, rates);
+    }
+
+    private static VacationPayEvaluator compileRate(
+            String tenantId,
+            BigDecimal divisor,
+            BigDecimal coefficient,
+            RoundingMode roundingMode
+    ) {
+        if (divisor == null || divisor.signum() <= 0) {
+            throw new IllegalStateException("calculation.tenants." + tenantId + " divisors must be greater than 0");
+        }
+        return new CompiledVacationPayRate(divisor, coefficient, roundingMode);
+    }
+}
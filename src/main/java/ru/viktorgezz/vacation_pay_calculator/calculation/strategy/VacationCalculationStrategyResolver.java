@@ -1,25 +1,99 @@
 package ru.viktorgezz.vacation_pay_calculator.calculation.strategy;
 
 import org.springframework.stereotype.Component;
+import ru.viktorgezz.vacation_pay_calculator.calculation.strategy.intrf.MonthlyBreakdownStrategy;
 import ru.viktorgezz.vacation_pay_calculator.calculation.strategy.intrf.VacationCalculationStrategy;
 import ru.viktorgezz.vacation_pay_calculator.dto.VacationPayRqDto;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Резолвер стратегий расчета отпускных выплат.
- * Выбирает подходящую стратегию на основе данных запроса.
+ * Таблица стратегий по форме запроса {@link VacationRequestShape} строится при старте,
+ * поэтому выбор стратегии выполняется одним обращением к массиву.
+ * Стратегии, реализующие {@link MonthlyBreakdownStrategy}, дополнительно регистрируются
+ * в таблице разбивки по месяцам.
  */
 @Component
 public class VacationCalculationStrategyResolver {
 
-    private final List<VacationCalculationStrategy> strategies;
+    private final VacationCalculationStrategy[] strategiesByShape =
+            new VacationCalculationStrategy[VacationRequestShape.values().length];
+    private final MonthlyBreakdownStrategy[] breakdownStrategiesByShape =
+            new MonthlyBreakdownStrategy[VacationRequestShape.values().length];
 
+    /**
+     * Строит таблицу стратегий по формам запроса.
+     *
+     * @param strategies зарегистрированные стратегии
+     * @throws IllegalStateException если форма обслуживается несколькими стратегиями,
+     *                               допустимая форма не обслуживается ни одной или стратегия объявляет недопустимую форму
+     */
     public VacationCalculationStrategyResolver(
             List<VacationCalculationStrategy> strategies
     ) {
-        this.strategies = strategies;
+        for (VacationCalculationStrategy strategy : strategies) {
+            final VacationRequestShape shape = strategy.getSupportedShape();
+            if (!shape.isValid()) {
+                throw new IllegalStateException(
+                        "Vacation payment strategy " + strategy.getClass().getSimpleName()
+                                + " declares invalid request shape " + shape + "."
+                );
+            }
+
+            if (strategiesByShape[shape.ordinal()] != null) {
+                throw new IllegalStateException(
+                        "More than one suitable vacation payment strategy was found for " + shape + "."
+                );
+            }
+            strategiesByShape[shape.ordinal()] = strategy;
+            if (strategy instanceof MonthlyBreakdownStrategy) {
+                breakdownStrategiesByShape[shape.ordinal()] = (MonthlyBreakdownStrategy) strategy;
+            }
+        }
+
+        for (VacationRequestShape shape : VacationRequestShape.values()) {
+            if (shape.isValid() && strategiesByShape[shape.ordinal()] == null) {
+                throw new IllegalStateException(
+                        "A suitable vacation payment strategy has not been found for " + shape + "."
+                );
+            }
+        }
+    }
+
+    /**
+     * Выбирает стратегию расчета для допустимой формы запроса.
+     *
+     * @param shape форма запроса
+     * @return подходящая стратегия расчета
+     * @throws IllegalStateException если форма запроса недопустима
+     */
+    public VacationCalculationStrategy resolve(VacationRequestShape shape) {
+        final VacationCalculationStrategy strategy = strategiesByShape[shape.ordinal()];
+        if (strategy == null) {
+            throw new IllegalStateException(
+                    "A suitable vacation payment strategy has not been found."
+            );
+        }
+        return strategy;
+    }
+
+    /**
+     * Выбирает стратегию разбивки по месяцам для формы запроса.
+     * Допустимость разбивки для формы проверяет валидатор запроса.
+     *
+     * @param shape форма запроса
+     * @return стратегия разбивки по месяцам
+     * @throws IllegalStateException если форма запроса не поддерживает разбивку
+     */
+    public MonthlyBreakdownStrategy resolveBreakdown(VacationRequestShape shape) {
+        final MonthlyBreakdownStrategy strategy = breakdownStrategiesByShape[shape.ordinal()];
+        if (strategy == null) {
+            throw new IllegalStateException(
+                    "A monthly breakdown strategy has not been found for " + shape + "."
+            );
+        }
+        return strategy;
     }
 
     /**
@@ -27,29 +101,10 @@ public class VacationCalculationStrategyResolver {
      *
      * @param dto данные запроса
      * @return подходящая стратегия расчета
-     * @throws IllegalStateException если не найдена подходящая стратегия или найдено несколько
+     * @throws IllegalStateException если форма запроса недопустима
      */
     public VacationCalculationStrategy resolve(VacationPayRqDto dto) {
-        return strategies
-                .stream()
-                .filter(strategy -> strategy.isSupports(dto))
-                .collect(Collectors.collectingAndThen(
-                        Collectors.toList(),
-                        list -> {
-                            if (list.isEmpty()) {
-                                throw new IllegalStateException(
-                                        "A suitable vacation payment strategy has not been found."
-                                );
-                            }
-
-                            if (list.size() > 1) {
-                                throw new IllegalStateException(
-                                        "More than one suitable vacation payment strategy was found."
-                                );
-                            }
-
-                            return list.get(0);
-                        }));
+        return resolve(VacationRequestShape.of(dto));
     }
 
 }
@@ -0,0 +1,75 @@
+package ru.viktorgezz.vacation_pay_calculator.calculation.strategy;
+
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationPayRqDto;
+import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
+
+/**
+ * Форма запроса на расчет отпускных: какие из параметров отпуска указаны.
+ * Форма определяется один раз по трехбитному коду (количество дней, дата начала, дата окончания)
+ * поиском в таблице. Недопустимые формы несут код ошибки валидации,
+ * допустимые обслуживаются ровно одной стратегией расчета.
+ */
+public enum VacationRequestShape {
+
+    PARAMETERS_MISSING(ErrorCode.VACATION_PARAMETERS_MISSING),
+
+    DAYS_ONLY(null),
+
+    DATES_INCOMPLETE(ErrorCode.VACATION_DATES_INCOMPLETE),
+
+    DATES_ONLY(null),
+
+    ALL_SPECIFIED(ErrorCode.VACATION_PARAMETERS_ALL_SPECIFIED);
+
+    private static final int DAYS_VACATION_BIT = 1;
+    private static final int DATE_START_BIT = 1 << 1;
+    private static final int DATE_END_BIT = 1 << 2;
+
+    private static final VacationRequestShape[] SHAPES_BY_CODE = {
+            PARAMETERS_MISSING,
+            DAYS_ONLY,
+            DATES_INCOMPLETE,
+            DATES_INCOMPLETE,
+            DATES_INCOMPLETE,
+            DATES_INCOMPLETE,
+            DATES_ONLY,
+            ALL_SPECIFIED
+    };
+
+    private final ErrorCode errorCode;
+
+    VacationRequestShape(ErrorCode errorCode) {
+        this.errorCode = errorCode;
+    }
+
+    /**
+     * Определяет форму запроса.
+     *
+     * @param dto данные запроса
+     * @return форма запроса
+     */
+    public static VacationRequestShape of(VacationPayRqDto dto) {
+        final int code = (dto.getDaysVacation() != null ? DAYS_VACATION_BIT : 0)
+                | (dto.getDateStart() != null ? DATE_START_BIT : 0)
+                | (dto.getDateEnd() != null ? DATE_END_BIT : 0);
+        return SHAPES_BY_CODE[code];
+    }
+
+    /**
+     * Проверяет, что запрос такой формы может быть рассчитан.
+     *
+     * @return true, если форма допустима
+     */
+    public boolean isValid() {
+        return errorCode == null;
+    }
+
+    /**
+     * Возвращает код ошибки валидации для недопустимой формы.
+     *
+     * @return код ошибки или null для допустимой формы
+     */
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+}
@@ -3,50 +3,58 @@ package ru.viktorgezz.vacation_pay_calculator.calculation.strategy.impl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
+import ru.viktorgezz.vacation_pay_calculator.calculation.formula.TenantFormulas;
+import ru.viktorgezz.vacation_pay_calculator.calculation.formula.VacationPayEvaluator;
+import ru.viktorgezz.vacation_pay_calculator.calculation.strategy.VacationRequestShape;
+import ru.viktorgezz.vacation_pay_calculator.calculation.strategy.intrf.MonthlyBreakdownStrategy;
 import ru.viktorgezz.vacation_pay_calculator.calculation.strategy.intrf.VacationCalculationStrategy;
+import ru.viktorgezz.vacation_pay_calculator.dto.MonthlyVacationPayRsDto;
 import ru.viktorgezz.vacation_pay_calculator.dto.VacationPayRqDto;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationPayRsDto;
 import ru.viktorgezz.vacation_pay_calculator.holiday.HolidayService;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
-
-import static ru.viktorgezz.vacation_pay_calculator.calculation.util.VacationPayFormula.calculateVacationPay;
 
 /**
  * Стратегия расчета отпускных на основе календарных дат с учетом праздничных дней.
- * Реализует интерфейс {@link VacationCalculationStrategy}.
+ * Поддерживает разбивку отпускных по календарным месяцам, которых касается отпуск.
+ * Реализует интерфейсы {@link VacationCalculationStrategy} и {@link MonthlyBreakdownStrategy}.
  */
 @Component
-public class CalendarBasedCalculationStrategy implements VacationCalculationStrategy {
+public class CalendarBasedCalculationStrategy implements VacationCalculationStrategy, MonthlyBreakdownStrategy {
 
     private static final Logger log = LoggerFactory.getLogger(CalendarBasedCalculationStrategy.class);
 
     private final HolidayService holidayService;
+    private final TenantFormulas tenantFormulas;
 
-    public CalendarBasedCalculationStrategy(HolidayService holidayService) {
+    public CalendarBasedCalculationStrategy(HolidayService holidayService, TenantFormulas tenantFormulas) {
         this.holidayService = holidayService;
+        this.tenantFormulas = tenantFormulas;
     }
 
     @Override
-    public boolean isSupports(VacationPayRqDto dto) {
-        return isDatesProvidedOnly(dto);
+    public VacationRequestShape getSupportedShape() {
+        return VacationRequestShape.DATES_ONLY;
     }
 
     @Override
     public BigDecimal calculate(VacationPayRqDto dto) {
-        List<LocalDate> datesVacation =
-                dto.getDateStart()
-                        .datesUntil(dto.getDateEnd().plusDays(1))
-                        .collect(Collectors.toList());
-
-        final int countDays = datesVacation.size();
-        final int countHolidays = holidayService.countHolidaysIn(datesVacation);
-        final BigDecimal vacationPay = calculateVacationPay(
-                dto.getAverageSalary(),
-                countDays - countHolidays
+        final int countDays = Math.toIntExact(
+                ChronoUnit.DAYS.between(dto.getDateStart(), dto.getDateEnd()) + 1
+        );
+        final int countHolidays = holidayService.countHolidaysBetween(
+                dto.getCalendarId(),
+                dto.getDateStart(),
+                dto.getDateEnd(),
+                dto.getAsOf()
         );
+        final BigDecimal vacationPay = calculate(dto, countDays - countHolidays);
 
         log.debug("Average salary: {}, total days: {}, holidays: {}, payable days: {}. Calculated vacation pay: {}",
                 dto.getAverageSalary(), countDays, countHolidays, countDays - countHolidays, vacationPay);
@@ -55,14 +63,79 @@ public class CalendarBasedCalculationStrategy implements VacationCalculationStra
     }
 
     /**
-     * Проверяет, что в запросе указаны только даты начала и окончания отпуска.
+     * Рассчитывает отпускные по заранее подсчитанному количеству оплачиваемых дней периода,
+     * например по плану пакета {@link ru.viktorgezz.vacation_pay_calculator.calculation.batch.PayableDaysPlanner}.
+     *
+     * @param dto         данные запроса
+     * @param payableDays количество оплачиваемых дней периода запроса
+     * @return сумма отпускных
+     * @throws ru.viktorgezz.vacation_pay_calculator.exception.BusinessException если формула юридического лица
+     *                                                                           не настроена
+     */
+    public BigDecimal calculate(VacationPayRqDto dto, int payableDays) {
+        return tenantFormulas.resolve(dto.getTenantId()).calculateVacationPay(
+                dto.getAverageSalary(),
+                payableDays,
+                dto.getDateStart()
+        );
+    }
+
+    /**
+     * Рассчитывает отпускные с разбивкой по календарным месяцам.
+     * Период делится на части по границам месяцев, праздники каждой части считаются по индексу календаря
+     * без перебора дней, поэтому стоимость разбивки зависит только от количества месяцев.
+     * Сумма месяца равна разности отпускных за оплачиваемые дни нарастающим итогом на конец и начало месяца,
+     * поэтому суммы по месяцам в точности складываются в итог, рассчитанный за весь период.
      *
      * @param dto данные запроса
-     * @return true, если указаны только даты
+     * @return сумма отпускных и ее разбивка по месяцам в хронологическом порядке
      */
-    private boolean isDatesProvidedOnly(VacationPayRqDto dto) {
-        return dto.getDaysVacation() == null
-                && dto.getDateStart() != null
-                && dto.getDateEnd() != null;
+    @Override
+    public VacationPayRsDto calculateWithBreakdown(VacationPayRqDto dto) {
+        final VacationPayEvaluator evaluator = tenantFormulas.resolve(dto.getTenantId());
+        final YearMonth monthFirst = YearMonth.from(dto.getDateStart());
+        final int countMonths = Math.toIntExact(
+                ChronoUnit.MONTHS.between(monthFirst, YearMonth.from(dto.getDateEnd())) + 1
+        );
+
+        final LocalDate[] dateStarts = new LocalDate[countMonths];
+        final LocalDate[] dateEnds = new LocalDate[countMonths];
+        for (int i = 0; i < countMonths; i++) {
+            final YearMonth month = monthFirst.plusMonths(i);
+            dateStarts[i] = i == 0 ? dto.getDateStart() : month.atDay(1);
+            dateEnds[i] = i == countMonths - 1 ? dto.getDateEnd() : month.atEndOfMonth();
+        }
+        final int[] countsHolidays = holidayService.countHolidaysBetween(
+                dto.getCalendarId(),
+                dateStarts,
+                dateEnds,
+                dto.getAsOf()
+        );
+
+        final List<MonthlyVacationPayRsDto> months = new ArrayList<>(countMonths);
+        int payableDaysAccrued = 0;
+        BigDecimal vacationPayAccrued = BigDecimal.ZERO.setScale(2);
+        for (int i = 0; i < countMonths; i++) {
+            final int payableDays = Math.toIntExact(ChronoUnit.DAYS.between(dateStarts[i], dateEnds[i]) + 1)
+                    - countsHolidays[i];
+            payableDaysAccrued += payableDays;
+            final BigDecimal vacationPayTotal = evaluator.calculateVacationPay(
+                    dto.getAverageSalary(),
+                    payableDaysAccrued,
+                    dto.getDateStart()
+            );
+
+            months.add(new MonthlyVacationPayRsDto(
+                    monthFirst.plusMonths(i),
+                    payableDays,
+                    vacationPayTotal.subtract(vacationPayAccrued)
+            ));
+            vacationPayAccrued = vacationPayTotal;
+        }
+
+        log.debug("Average salary: {}, months: {}, payable days: {}. Calculated vacation pay: {}",
+                dto.getAverageSalary(), countMonths, payableDaysAccrued, vacationPayAccrued);
+
+        return new VacationPayRsDto(vacationPayAccrued, months);
     }
 }
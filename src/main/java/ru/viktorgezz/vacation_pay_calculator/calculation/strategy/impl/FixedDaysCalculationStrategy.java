@@ -3,13 +3,13 @@ package ru.viktorgezz.vacation_pay_calculator.calculation.strategy.impl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
+import ru.viktorgezz.vacation_pay_calculator.calculation.formula.TenantFormulas;
+import ru.viktorgezz.vacation_pay_calculator.calculation.strategy.VacationRequestShape;
 import ru.viktorgezz.vacation_pay_calculator.calculation.strategy.intrf.VacationCalculationStrategy;
 import ru.viktorgezz.vacation_pay_calculator.dto.VacationPayRqDto;
 
 import java.math.BigDecimal;
 
-import static ru.viktorgezz.vacation_pay_calculator.calculation.util.VacationPayFormula.calculateVacationPay;
-
 /**
  * Стратегия расчета отпускных на основе фиксированного количества дней.
  * Реализует интерфейс {@link VacationCalculationStrategy}.
@@ -19,30 +19,28 @@ public class FixedDaysCalculationStrategy implements VacationCalculationStrategy
 
     private static final Logger log = LoggerFactory.getLogger(FixedDaysCalculationStrategy.class);
 
+    private final TenantFormulas tenantFormulas;
+
+    public FixedDaysCalculationStrategy(TenantFormulas tenantFormulas) {
+        this.tenantFormulas = tenantFormulas;
+    }
+
     @Override
-    public boolean isSupports(VacationPayRqDto dto) {
-        return isVacationDaysProvidedOnly(dto);
+    public VacationRequestShape getSupportedShape() {
+        return VacationRequestShape.DAYS_ONLY;
     }
 
     @Override
     public BigDecimal calculate(VacationPayRqDto dto) {
-        final BigDecimal vacationPay = calculateVacationPay(dto.getAverageSalary(), dto.getDaysVacation());
+        final BigDecimal vacationPay = tenantFormulas.resolve(dto.getTenantId()).calculateVacationPay(
+                dto.getAverageSalary(),
+                dto.getDaysVacation(),
+                null
+        );
 
         log.debug("Average salary: {}, vacation days: {}. Calculated vacation pay: {}",
                 dto.getAverageSalary(), dto.getDaysVacation(), vacationPay);
 
         return vacationPay;
     }
-
-    /**
-     * Проверяет, что в запросе указано только количество дней отпуска.
-     *
-     * @param dto данные запроса
-     * @return true, если указано только количество дней
-     */
-    private boolean isVacationDaysProvidedOnly(VacationPayRqDto dto) {
-        return dto.getDaysVacation() != null
-                && dto.getDateStart() == null
-                && dto.getDateEnd() == null;
-    }
 }
@@ -0,0 +1,19 @@
+package ru.viktorgezz.vacation_pay_calculator.calculation.strategy.intrf;
+
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationPayRqDto;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationPayRsDto;
+
+/**
+ * Интерфейс стратегии, поддерживающей разбивку отпускных по календарным месяцам.
+ * Реализуется классом {@link ru.viktorgezz.vacation_pay_calculator.calculation.strategy.impl.CalendarBasedCalculationStrategy}.
+ */
+public interface MonthlyBreakdownStrategy {
+
+    /**
+     * Рассчитывает сумму отпускных выплат с разбивкой по календарным месяцам.
+     *
+     * @param dto данные запроса
+     * @return сумма отпускных выплат и ее разбивка по месяцам
+     */
+    VacationPayRsDto calculateWithBreakdown(VacationPayRqDto dto);
+}
@@ -1,5 +1,6 @@
 package ru.viktorgezz.vacation_pay_calculator.calculation.strategy.intrf;
 
+import ru.viktorgezz.vacation_pay_calculator.calculation.strategy.VacationRequestShape;
 import ru.viktorgezz.vacation_pay_calculator.dto.VacationPayRqDto;
 
 import java.math.BigDecimal;
@@ -11,13 +12,22 @@ import java.math.BigDecimal;
  */
 public interface VacationCalculationStrategy {
 
+    /**
+     * Возвращает форму запроса, которую рассчитывает стратегия.
+     *
+     * @return допустимая форма запроса
+     */
+    VacationRequestShape getSupportedShape();
+
     /**
      * Проверяет, поддерживает ли стратегия расчет для указанного запроса.
      *
      * @param dto данные запроса
      * @return true, если стратегия поддерживает расчет
      */
-    boolean isSupports(VacationPayRqDto dto);
+    default boolean isSupports(VacationPayRqDto dto) {
+        return VacationRequestShape.of(dto) == getSupportedShape();
+    }
 
     /**
      * Рассчитывает сумму отпускных выплат.
@@ -2,18 +2,40 @@ package ru.viktorgezz.vacation_pay_calculator.calculation.util;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import ru.viktorgezz.vacation_pay_calculator.calculation.cache.DailyRateCache;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 
 /**
  * Утилитный класс для расчета отпускных выплат по формуле.
+ * Расчет выполняется в целых копейках на {@code long} без промежуточных {@link BigDecimal}
+ * с тем же округлением HALF_UP, что и расчет в {@link BigDecimal}: дневной заработок округляется до 10 знаков,
+ * итог — до копеек. Значения вне безопасного диапазона рассчитываются в {@link BigDecimal}.
  */
 public class VacationPayFormula {
 
     private static final Logger log = LoggerFactory.getLogger(VacationPayFormula.class);
     private static final BigDecimal AVERAGE_DAYS_IN_MONTH = new BigDecimal("29.3");
 
+    /**
+     * Максимальная средняя зарплата в копейках (10 млрд рублей), при которой расчет на long не переполняется.
+     */
+    static final long MAX_EXACT_SALARY_KOPECKS = 1_000_000_000_000L;
+
+    /**
+     * Максимальное количество дней, при котором расчет на long не переполняется.
+     */
+    static final int MAX_EXACT_VACATION_DAYS = 100_000;
+
+    private static final long DAILY_EARNINGS_SCALE = 1_000_000_000L;
+    private static final long DAYS_IN_MONTH_TENTHS = 293;
+    private static final long KOPECK_IN_DAILY_EARNINGS = 100_000_000L;
+    private static final int KOPECK_SCALE = 2;
+    private static final int DAILY_EARNINGS_DIGITS = 10;
+    private static final long NOT_KOPECKS = -1;
+    private static final int MAX_KOPECKS_INTEGER_DIGITS = 15;
+
     private VacationPayFormula() {
     }
 
@@ -29,11 +51,167 @@ public class VacationPayFormula {
             final BigDecimal averageSalary,
             final int vacationDays
     ) {
-        BigDecimal dailyEarnings = averageSalary.divide(AVERAGE_DAYS_IN_MONTH, 10, RoundingMode.HALF_UP);
-        BigDecimal totalPay = dailyEarnings.multiply(BigDecimal.valueOf(vacationDays));
-        final BigDecimal vacationPay = totalPay.setScale(2, RoundingMode.HALF_UP);
-        log.debug("Formula: ({} / {}) * {}. Result: {}",
-                averageSalary, AVERAGE_DAYS_IN_MONTH, vacationDays, vacationPay);
+        return calculateVacationPay(averageSalary, vacationDays, null);
+    }
+
+    /**
+     * Рассчитывает сумму отпускных, беря дневной заработок из кэша.
+     * Для повторяющейся средней зарплаты деление на 29.3 не выполняется.
+     *
+     * @param averageSalary  Средняя зарплата за 12 месяцев
+     * @param vacationDays   Количество оплачиваемых дней отпуска
+     * @param dailyRateCache Кэш дневного заработка или null, если дневной заработок рассчитывается каждый раз
+     * @return Сумма отпускных, округленная до 2 знаков
+     */
+    public static BigDecimal calculateVacationPay(
+            final BigDecimal averageSalary,
+            final int vacationDays,
+            final DailyRateCache dailyRateCache
+    ) {
+        final long salaryKopecks = toKopecks(averageSalary);
+        final BigDecimal vacationPay;
+        if (isExactRange(salaryKopecks, vacationDays)) {
+            final long dailyEarnings = dailyRateCache == null
+                    ? calculateDailyEarnings(salaryKopecks)
+                    : dailyRateCache.getDailyEarnings(salaryKopecks);
+            vacationPay = BigDecimal.valueOf(multiply(dailyEarnings, vacationDays), KOPECK_SCALE);
+        } else {
+            vacationPay = calculateWithBigDecimal(averageSalary, vacationDays);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Formula: ({} / {}) * {}. Result: {}",
+                    averageSalary, AVERAGE_DAYS_IN_MONTH, vacationDays, vacationPay);
+        }
         return vacationPay;
     }
+
+    /**
+     * Рассчитывает сумму отпускных по готовому среднему дневному заработку,
+     * например рассчитанному по истории начислений
+     * {@link ru.viktorgezz.vacation_pay_calculator.calculation.earnings.AverageEarningsAccumulator}.
+     * Дневной заработок округляется до 10 знаков, итог — до копеек, как и при расчете от средней зарплаты.
+     *
+     * @param averageDailyEarnings Средний дневной заработок
+     * @param vacationDays         Количество оплачиваемых дней отпуска
+     * @return Сумма отпускных, округленная до 2 знаков
+     */
+    public static BigDecimal calculateVacationPayByDailyEarnings(
+            final BigDecimal averageDailyEarnings,
+            final int vacationDays
+    ) {
+        final BigDecimal dailyEarnings = averageDailyEarnings.setScale(DAILY_EARNINGS_DIGITS, RoundingMode.HALF_UP);
+        if (dailyEarnings.signum() >= 0
+                && dailyEarnings.unscaledValue().bitLength() < Long.SIZE
+                && vacationDays >= 0
+                && vacationDays <= MAX_EXACT_VACATION_DAYS) {
+            return BigDecimal.valueOf(multiply(dailyEarnings.unscaledValue().longValue(), vacationDays), KOPECK_SCALE);
+        }
+        return dailyEarnings.multiply(BigDecimal.valueOf(vacationDays)).setScale(KOPECK_SCALE, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Рассчитывает сумму отпускных в копейках без аллокаций.
+     * Результат совпадает с {@link #calculateVacationPay(BigDecimal, int)}.
+     *
+     * @param averageSalaryKopecks Средняя зарплата за 12 месяцев в копейках
+     * @param vacationDays         Количество оплачиваемых дней отпуска
+     * @return Сумма отпускных в копейках
+     * @throws ArithmeticException если сумма отпускных не помещается в long
+     */
+    public static long calculateVacationPayKopecks(final long averageSalaryKopecks, final int vacationDays) {
+        if (isExactRange(averageSalaryKopecks, vacationDays)) {
+            return multiply(calculateDailyEarnings(averageSalaryKopecks), vacationDays);
+        }
+        return calculateWithBigDecimal(BigDecimal.valueOf(averageSalaryKopecks, KOPECK_SCALE), vacationDays)
+                .unscaledValue()
+                .longValueExact();
+    }
+
+    /**
+     * Рассчитывает сумму отпускных в копейках, беря дневной заработок из кэша.
+     * Результат совпадает с {@link #calculateVacationPayKopecks(long, int)}.
+     *
+     * @param averageSalaryKopecks Средняя зарплата за 12 месяцев в копейках
+     * @param vacationDays         Количество оплачиваемых дней отпуска
+     * @param dailyRateCache       Кэш дневного заработка
+     * @return Сумма отпускных в копейках
+     * @throws ArithmeticException если сумма отпускных не помещается в long
+     */
+    public static long calculateVacationPayKopecks(
+            final long averageSalaryKopecks,
+            final int vacationDays,
+            final DailyRateCache dailyRateCache
+    ) {
+        if (isExactRange(averageSalaryKopecks, vacationDays)) {
+            return multiply(dailyRateCache.getDailyEarnings(averageSalaryKopecks), vacationDays);
+        }
+        return calculateVacationPayKopecks(averageSalaryKopecks, vacationDays);
+    }
+
+    /**
+     * Рассчитывает дневной заработок в единицах 10^-10 рубля: {@code round(kopecks * 10^9 / 293)}.
+     * Делимое разложено так, чтобы не переполнять long.
+     *
+     * @param averageSalaryKopecks средняя зарплата в копейках, не больше {@link #MAX_EXACT_SALARY_KOPECKS}
+     * @return дневной заработок, округленный до 10 знаков
+     */
+    public static long calculateDailyEarnings(final long averageSalaryKopecks) {
+        return averageSalaryKopecks / DAYS_IN_MONTH_TENTHS * DAILY_EARNINGS_SCALE
+                + divideHalfUp(averageSalaryKopecks % DAYS_IN_MONTH_TENTHS * DAILY_EARNINGS_SCALE, DAYS_IN_MONTH_TENTHS);
+    }
+
+    /**
+     * Рассчитывает отпускные в копейках по дневному заработку: {@code round(daily * days / 10^8)}.
+     * Делимое разложено так, чтобы не переполнять long.
+     *
+     * @param dailyEarnings дневной заработок в единицах 10^-10 рубля
+     * @param vacationDays  количество дней в безопасном диапазоне
+     * @return сумма отпускных в копейках
+     */
+    private static long multiply(final long dailyEarnings, final int vacationDays) {
+        return dailyEarnings / KOPECK_IN_DAILY_EARNINGS * vacationDays
+                + divideHalfUp(dailyEarnings % KOPECK_IN_DAILY_EARNINGS * vacationDays, KOPECK_IN_DAILY_EARNINGS);
+    }
+
+    private static BigDecimal calculateWithBigDecimal(final BigDecimal averageSalary, final int vacationDays) {
+        BigDecimal dailyEarnings = averageSalary.divide(AVERAGE_DAYS_IN_MONTH, DAILY_EARNINGS_DIGITS, RoundingMode.HALF_UP);
+        BigDecimal totalPay = dailyEarnings.multiply(BigDecimal.valueOf(vacationDays));
+        return totalPay.setScale(KOPECK_SCALE, RoundingMode.HALF_UP);
+    }
+
+    private static boolean isExactRange(final long salaryKopecks, final int vacationDays) {
+        return salaryKopecks >= 0
+                && salaryKopecks <= MAX_EXACT_SALARY_KOPECKS
+                && vacationDays >= 0
+                && vacationDays <= MAX_EXACT_VACATION_DAYS;
+    }
+
+    /**
+     * Переводит сумму в копейки, если она неотрицательна, задана не точнее копейки
+     * и ее целая часть содержит не более {@value #MAX_KOPECKS_INTEGER_DIGITS} цифр.
+     * Сумма с отрицательным масштабом приводится к масштабу копеек, поэтому 50000, 50000.00 и 5E+4
+     * переводятся в одно и то же значение 5000000.
+     *
+     * @param amount сумма
+     * @return сумма в копейках или отрицательное значение, если сумму нельзя перевести точно
+     */
+    public static long toKopecks(final BigDecimal amount) {
+        if (amount.signum() < 0
+                || amount.scale() > KOPECK_SCALE
+                || amount.precision() - amount.scale() > MAX_KOPECKS_INTEGER_DIGITS) {
+            return NOT_KOPECKS;
+        }
+        if (amount.scale() < 0) {
+            return amount.setScale(KOPECK_SCALE).unscaledValue().longValue();
+        }
+
+        final long unscaled = amount.unscaledValue().longValue();
+        return amount.scale() == KOPECK_SCALE ? unscaled : unscaled * (amount.scale() == 0 ? 100 : 10);
+    }
+
+    private static long divideHalfUp(final long dividend, final long divisor) {
+        final long quotient = dividend / divisor;
+        return 2 * (dividend - quotient * divisor) >= divisor ? quotient + 1 : quotient;
+    }
 }
@@ -0,0 +1,90 @@
+package ru.viktorgezz.vacation_pay_calculator.cli;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Instant;
+
+/**
+ * Настройки пакетного расчета отпускных из командной строки по файлу CSV.
+ */
+@ConfigurationProperties(prefix = "cli")
+public class CliProperties {
+
+    /**
+     * Путь к входному файлу CSV.
+     */
+    private String input;
+
+    /**
+     * Путь к файлу результата CSV; существующий файл перезаписывается.
+     */
+    private String output;
+
+    /**
+     * Количество строк, рассчитываемых за один проход по колонкам.
+     */
+    private int chunkRows = 65_536;
+
+    /**
+     * Идентификатор календаря праздничных дней для всех строк; без него применяется федеральный календарь.
+     */
+    private String calendarId;
+
+    /**
+     * Момент, на который берется версия календаря; без него применяется текущая версия.
+     */
+    private Instant asOf;
+
+    /**
+     * Идентификатор юридического лица для всех строк; без него применяется формула по умолчанию.
+     */
+    private String tenantId;
+
+    public String getInput() {
+        return input;
+    }
+
+    public void setInput(String input) {
+        this.input = input;
+    }
+
+    public String getOutput() {
+        return output;
+    }
+
+    public void setOutput(String output) {
+        this.output = output;
+    }
+
+    public int getChunkRows() {
+        return chunkRows;
+    }
+
+    public void setChunkRows(int chunkRows) {
+        this.chunkRows = chunkRows;
+    }
+
+    public String getCalendarId() {
+        return calendarId;
+    }
+
+    public void setCalendarId(String calendarId) {
+        this.calendarId = calendarId;
+    }
+
+    public Instant getAsOf() {
+        return asOf;
+    }
+
+    public void setAsOf(Instant asOf) {
+        this.asOf = asOf;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+}
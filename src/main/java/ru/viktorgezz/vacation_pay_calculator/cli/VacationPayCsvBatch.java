@@ -0,0 +1,183 @@
+package ru.viktorgezz.vacation_pay_calculator.cli;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import ru.viktorgezz.vacation_pay_calculator.calculation.columnar.ColumnarVacationPayEngine;
+import ru.viktorgezz.vacation_pay_calculator.calculation.columnar.VacationPayColumns;
+import ru.viktorgezz.vacation_pay_calculator.exception.BusinessException;
+import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Пакетный расчет отпускных по файлу CSV без веб-сервера, включаемый профилем {@value #PROFILE}.
+ * Файл читается частями по {@code cli.chunk-rows} строк через {@link VacationPayCsvReader}; строки части
+ * по дням и по датам рассчитываются {@link ColumnarVacationPayEngine} так же, как колоночный запрос,
+ * а результаты пишутся в файл {@link VacationPayCsvWriter} в порядке строк входного файла.
+ * Календарь, его версия и юридическое лицо задаются для всего файла настройками {@code cli.*}.
+ * Ошибка строки записывается в результат и не прерывает расчет; ошибка чтения, записи или настройки
+ * прерывает расчет, и приложение завершается с ненулевым кодом.
+ */
+@Component
+@Profile(VacationPayCsvBatch.PROFILE)
+public class VacationPayCsvBatch implements CommandLineRunner {
+
+    public static final String PROFILE = "cli";
+
+    private static final Logger log = LoggerFactory.getLogger(VacationPayCsvBatch.class);
+
+    private static final double BYTES_PER_MEGABYTE = 1024 * 1024;
+
+    private final ColumnarVacationPayEngine columnarEngine;
+    private final CliProperties cliProperties;
+
+    public VacationPayCsvBatch(ColumnarVacationPayEngine columnarEngine, CliProperties cliProperties) {
+        if (cliProperties.getChunkRows() <= 0) {
+            throw new IllegalStateException("cli.chunk-rows must be greater than 0");
+        }
+        this.columnarEngine = columnarEngine;
+        this.cliProperties = cliProperties;
+    }
+
+    @Override
+    public void run(String... args) throws IOException {
+        if (cliProperties.getInput() == null || cliProperties.getOutput() == null) {
+            throw new IllegalStateException("cli.input and cli.output must be set");
+        }
+        process(Path.of(cliProperties.getInput()), Path.of(cliProperties.getOutput()));
+    }
+
+    /**
+     * Рассчитывает отпускные каждой строки входного файла и пишет файл результата.
+     *
+     * @param input  входной файл CSV
+     * @param output файл результата CSV
+     * @throws IOException если произошла ошибка чтения или записи
+     */
+    void process(Path input, Path output) throws IOException {
+        final long startedAt = System.nanoTime();
+        final VacationPayCsvChunk chunk = new VacationPayCsvChunk(cliProperties.getChunkRows());
+        final long[] vacationPayKopecks = new long[cliProperties.getChunkRows()];
+        long countRows = 0;
+        long countFailed = 0;
+        final long bytesRead;
+        final long bytesWritten;
+        try (VacationPayCsvReader reader = new VacationPayCsvReader(input, VacationPayCsvReader.DEFAULT_REGION_SIZE);
+             VacationPayCsvWriter writer = new VacationPayCsvWriter(output)) {
+            while (reader.read(chunk) > 0) {
+                calculate(chunk, vacationPayKopecks);
+                for (int row = 0; row < chunk.size(); row++) {
+                    if (chunk.getError(row) != null) {
+                        writer.writeError(chunk.getLineNumber(row), chunk.getError(row));
+                        countFailed++;
+                    } else {
+                        writer.writeResult(chunk.getLineNumber(row), vacationPayKopecks[row]);
+                    }
+                }
+                countRows += chunk.size();
+            }
+            bytesRead = reader.getBytesRead();
+            bytesWritten = writer.getBytesWritten();
+        }
+
+        final long elapsedMillis = Math.max((System.nanoTime() - startedAt) / 1_000_000, 1);
+        log.info("CSV batch finished: rows {}, failed {}, read {} MB, written {} MB, {} ms, {} rows/s, {} MB/s",
+                countRows,
+                countFailed,
+                String.format("%.1f", bytesRead / BYTES_PER_MEGABYTE),
+                String.format("%.1f", bytesWritten / BYTES_PER_MEGABYTE),
+                elapsedMillis,
+                countRows * 1000 / elapsedMillis,
+                String.format("%.1f", bytesRead / BYTES_PER_MEGABYTE * 1000 / elapsedMillis));
+    }
+
+    /**
+     * Рассчитывает строки части без ошибок разбора: строки по дням и строки по датам собираются
+     * в отдельные колоночные пакеты, а суммы возвращаются на места строк в части.
+     * Если календарь недоступен для года какой-либо строки, строки по датам рассчитываются по одной,
+     * и ошибка записывается только в строки с недоступным годом.
+     */
+    private void calculate(VacationPayCsvChunk chunk, long[] vacationPayKopecks) {
+        final int size = chunk.size();
+        final int[] daysRows = new int[size];
+        final int[] datesRows = new int[size];
+        int countDays = 0;
+        int countDates = 0;
+        for (int row = 0; row < size; row++) {
+            if (chunk.isDateBased(row)) {
+                datesRows[countDates++] = row;
+            } else if (chunk.getError(row) == null) {
+                daysRows[countDays++] = row;
+            }
+        }
+
+        if (countDays > 0) {
+            final long[] salaries = new long[countDays];
+            final int[] days = new int[countDays];
+            for (int i = 0; i < countDays; i++) {
+                salaries[i] = chunk.getAverageSalaryKopecks(daysRows[i]);
+                days[i] = chunk.getDaysVacation(daysRows[i]);
+            }
+            scatter(columnarEngine.calculate(columnsOf(salaries, days, null, null)), daysRows, vacationPayKopecks);
+        }
+        if (countDates > 0) {
+            final long[] salaries = new long[countDates];
+            final long[] dateStarts = new long[countDates];
+            final long[] dateEnds = new long[countDates];
+            for (int i = 0; i < countDates; i++) {
+                salaries[i] = chunk.getAverageSalaryKopecks(datesRows[i]);
+                dateStarts[i] = chunk.getDateStartEpochDay(datesRows[i]);
+                dateEnds[i] = chunk.getDateEndEpochDay(datesRows[i]);
+            }
+            try {
+                scatter(columnarEngine.calculate(columnsOf(salaries, null, dateStarts, dateEnds)), datesRows,
+                        vacationPayKopecks);
+            } catch (BusinessException e) {
+                if (e.getErrorCode() != ErrorCode.HOLIDAY_CALENDAR_UNAVAILABLE) {
+                    throw e;
+                }
+                calculateDatesRowByRow(chunk, datesRows, countDates, vacationPayKopecks);
+            }
+        }
+    }
+
+    private void calculateDatesRowByRow(VacationPayCsvChunk chunk, int[] datesRows, int countDates,
+                                        long[] vacationPayKopecks) {
+        for (int i = 0; i < countDates; i++) {
+            final int row = datesRows[i];
+            final long[] salaries = {chunk.getAverageSalaryKopecks(row)};
+            final long[] dateStarts = {chunk.getDateStartEpochDay(row)};
+            final long[] dateEnds = {chunk.getDateEndEpochDay(row)};
+            try {
+                vacationPayKopecks[row] = columnarEngine.calculate(columnsOf(salaries, null, dateStarts, dateEnds))[0];
+            } catch (BusinessException e) {
+                if (e.getErrorCode() != ErrorCode.HOLIDAY_CALENDAR_UNAVAILABLE) {
+                    throw e;
+                }
+                chunk.setError(row, e.getErrorCode());
+            }
+        }
+    }
+
+    private VacationPayColumns columnsOf(long[] salaries, int[] days, long[] dateStarts, long[] dateEnds) {
+        return new VacationPayColumns(
+                salaries,
+                days,
+                dateStarts,
+                dateEnds,
+                cliProperties.getCalendarId(),
+                cliProperties.getAsOf(),
+                cliProperties.getTenantId()
+        );
+    }
+
+    private static void scatter(long[] results, int[] rows, long[] vacationPayKopecks) {
+        for (int i = 0; i < results.length; i++) {
+            vacationPayKopecks[rows[i]] = results[i];
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package ru.viktorgezz.vacation_pay_calculator.cli;
+
+import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
+
+/**
+ * Часть входного файла CSV, разобранная в параллельные массивы примитивов.
+ * Строка задается либо количеством дней отпуска, либо датами начала и окончания; строка с ошибкой разбора
+ * хранит только код ошибки. Массивы создаются один раз и переиспользуются для всех частей файла.
+ */
+final class VacationPayCsvChunk {
+
+    private final long[] lineNumbers;
+    private final long[] averageSalaryKopecks;
+    private final int[] daysVacation;
+    private final long[] dateStartEpochDays;
+    private final long[] dateEndEpochDays;
+    private final ErrorCode[] errors;
+    private int size;
+
+    VacationPayCsvChunk(int capacity) {
+        this.lineNumbers = new long[capacity];
+        this.averageSalaryKopecks = new long[capacity];
+        this.daysVacation = new int[capacity];
+        this.dateStartEpochDays = new long[capacity];
+        this.dateEndEpochDays = new long[capacity];
+        this.errors = new ErrorCode[capacity];
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    boolean isFull() {
+        return size == lineNumbers.length;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void addDays(long lineNumber, long salaryKopecks, int days) {
+        add(lineNumber, salaryKopecks, days, 0, 0, null);
+    }
+
+    void addDates(long lineNumber, long salaryKopecks, long dateStartEpochDay, long dateEndEpochDay) {
+        add(lineNumber, salaryKopecks, 0, dateStartEpochDay, dateEndEpochDay, null);
+    }
+
+    void addError(long lineNumber, ErrorCode error) {
+        add(lineNumber, 0, 0, 0, 0, error);
+    }
+
+    /**
+     * Помечает строку ошибкой расчета.
+     *
+     * @param row   индекс строки в части
+     * @param error ошибка расчета строки
+     */
+    void setError(int row, ErrorCode error) {
+        errors[row] = error;
+    }
+
+    /**
+     * Проверяет, задана ли строка датами отпуска.
+     *
+     * @param row индекс строки в части
+     * @return true, если строка разобрана без ошибки и задана датами
+     */
+    boolean isDateBased(int row) {
+        return errors[row] == null && daysVacation[row] == 0;
+    }
+
+    long getLineNumber(int row) {
+        return lineNumbers[row];
+    }
+
+    long getAverageSalaryKopecks(int row) {
+        return averageSalaryKopecks[row];
+    }
+
+    int getDaysVacation(int row) {
+        return daysVacation[row];
+    }
+
+    long getDateStartEpochDay(int row) {
+        return dateStartEpochDays[row];
+    }
+
+    long getDateEndEpochDay(int row) {
+        return dateEndEpochDays[row];
+    }
+
+    ErrorCode getError(int row) {
+        return errors[row];
+    }
+
+    private void add(long lineNumber, long salaryKopecks, int days, long dateStart, long dateEnd, ErrorCode error) {
+        lineNumbers[size] = lineNumber;
+        averageSalaryKopecks[size] = salaryKopecks;
+        daysVacation[size] = days;
+        dateStartEpochDays[size] = dateStart;
+        dateEndEpochDays[size] = dateEnd;
+        errors[size] = error;
+        size++;
+    }
+}
@@ -0,0 +1,244 @@
+package ru.viktorgezz.vacation_pay_calculator.cli;
+
+import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Month;
+import java.time.chrono.IsoChronology;
+
+/**
+ * Читатель входного файла CSV пакетного расчета.
+ * Файл отображается в память областями по {@link #DEFAULT_REGION_SIZE} байт, граница области сдвигается
+ * к концу последней целой строки. Поля разбираются прямо из байтов области без создания строк,
+ * поэтому чтение не создает объектов на строку файла.
+ * <p>
+ * Строка содержит среднюю зарплату и количество дней отпуска ({@code 50000,14})
+ * либо среднюю зарплату и даты начала и окончания отпуска ({@code 50000,2026-06-01,2026-06-14}).
+ * Пустые строки пропускаются, первая строка пропускается как заголовок, если начинается не с цифры.
+ */
+final class VacationPayCsvReader implements Closeable {
+
+    static final int DEFAULT_REGION_SIZE = 1 << 28;
+
+    private static final long MAX_SALARY_KOPECKS = 1_000_000_000_000L;
+    private static final int MAX_VACATION_DAYS = 100_000;
+    private static final int MAX_INTEGER_DIGITS = 13;
+    private static final int ISO_DATE_LENGTH = 10;
+    private static final long DAYS_0000_TO_1970 = 719_528;
+    private static final long INVALID = -1;
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final int regionSize;
+
+    private MappedByteBuffer region;
+    private long regionOffset;
+    private int limit;
+    private int position;
+    private long lineNumber;
+
+    VacationPayCsvReader(Path input, int regionSize) throws IOException {
+        this.channel = FileChannel.open(input, StandardOpenOption.READ);
+        this.fileSize = channel.size();
+        this.regionSize = regionSize;
+    }
+
+    /**
+     * Заполняет часть строками файла, начиная со следующей непрочитанной строки.
+     *
+     * @param chunk часть, которая очищается и заполняется до своей емкости или до конца файла
+     * @return количество строк в части; 0, если файл прочитан полностью
+     * @throws IOException если произошла ошибка чтения или строка длиннее области отображения
+     */
+    int read(VacationPayCsvChunk chunk) throws IOException {
+        chunk.clear();
+        while (!chunk.isFull() && (position < limit || mapNextRegion())) {
+            final int lineEnd = indexOf((byte) '\n', position, limit);
+            final int end = lineEnd > position && region.get(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd;
+            lineNumber++;
+            if (!isBlank(position, end) && !(lineNumber == 1 && isHeader(position, end))) {
+                parseRow(chunk, position, end);
+            }
+            position = lineEnd < limit ? lineEnd + 1 : limit;
+        }
+        return chunk.size();
+    }
+
+    /**
+     * Возвращает количество прочитанных байтов файла.
+     */
+    long getBytesRead() {
+        return regionOffset + position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Отображает в память следующую область файла, заканчивающуюся на границе строки.
+     *
+     * @return false, если файл прочитан полностью
+     */
+    private boolean mapNextRegion() throws IOException {
+        final long offset = regionOffset + limit;
+        if (offset >= fileSize) {
+            return false;
+        }
+
+        final int length = (int) Math.min(regionSize, fileSize - offset);
+        region = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+        regionOffset = offset;
+        position = 0;
+        if (offset + length == fileSize) {
+            limit = length;
+            return true;
+        }
+
+        int lastLineEnd = length - 1;
+        while (lastLineEnd >= 0 && region.get(lastLineEnd) != '\n') {
+            lastLineEnd--;
+        }
+        if (lastLineEnd < 0) {
+            throw new IOException("Line " + (lineNumber + 1) + " is longer than " + regionSize + " bytes");
+        }
+        limit = lastLineEnd + 1;
+        return true;
+    }
+
+    private void parseRow(VacationPayCsvChunk chunk, int start, int end) {
+        final int salaryEnd = indexOf((byte) ',', start, end);
+        final long salaryKopecks = parseKopecks(start, salaryEnd);
+        if (salaryEnd == end || salaryKopecks <= 0 || salaryKopecks > MAX_SALARY_KOPECKS) {
+            chunk.addError(lineNumber, ErrorCode.INVALID_CSV_ROW);
+            return;
+        }
+
+        final int dateStartEnd = indexOf((byte) ',', salaryEnd + 1, end);
+        if (dateStartEnd == end) {
+            final long days = parseInteger(salaryEnd + 1, end);
+            if (days <= 0 || days > MAX_VACATION_DAYS) {
+                chunk.addError(lineNumber, ErrorCode.INVALID_CSV_ROW);
+            } else {
+                chunk.addDays(lineNumber, salaryKopecks, (int) days);
+            }
+            return;
+        }
+
+        final long dateStart = parseEpochDay(salaryEnd + 1, dateStartEnd);
+        final long dateEnd = parseEpochDay(dateStartEnd + 1, end);
+        if (dateStart == INVALID || dateEnd == INVALID || dateEnd - dateStart >= MAX_VACATION_DAYS) {
+            chunk.addError(lineNumber, ErrorCode.INVALID_CSV_ROW);
+        } else if (dateStart > dateEnd) {
+            chunk.addError(lineNumber, ErrorCode.INVALID_VACATION_PERIOD);
+        } else {
+            chunk.addDates(lineNumber, salaryKopecks, dateStart, dateEnd);
+        }
+    }
+
+    /**
+     * Разбирает неотрицательную десятичную запись вида {@code 12345.67} в копейки.
+     * Дробные разряды после второго допускаются только нулевыми.
+     *
+     * @return сумма в копейках или {@link #INVALID}, если запись некорректна
+     */
+    private long parseKopecks(int start, int end) {
+        final int separator = indexOf((byte) '.', start, end);
+        final long rubles = parseInteger(start, separator);
+        if (rubles == INVALID || separator == end) {
+            return rubles == INVALID ? INVALID : rubles * 100;
+        }
+
+        long kopecks = 0;
+        for (int i = separator + 1; i < separator + 3; i++) {
+            final int digit = i < end ? digitAt(i) : 0;
+            if (digit < 0) {
+                return INVALID;
+            }
+            kopecks = kopecks * 10 + digit;
+        }
+        for (int i = separator + 3; i < end; i++) {
+            if (region.get(i) != '0') {
+                return INVALID;
+            }
+        }
+        return separator + 1 == end ? INVALID : rubles * 100 + kopecks;
+    }
+
+    private long parseInteger(int start, int end) {
+        if (start == end || end - start > MAX_INTEGER_DIGITS) {
+            return INVALID;
+        }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            final int digit = digitAt(i);
+            if (digit < 0) {
+                return INVALID;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Разбирает дату {@code yyyy-MM-dd} в дни эпохи по тому же правилу, что и {@link java.time.LocalDate#toEpochDay}.
+     *
+     * @return день эпохи или {@link #INVALID}, если запись или дата некорректны
+     */
+    private long parseEpochDay(int start, int end) {
+        if (end - start != ISO_DATE_LENGTH || region.get(start + 4) != '-' || region.get(start + 7) != '-') {
+            return INVALID;
+        }
+        final long year = parseInteger(start, start + 4);
+        final long month = parseInteger(start + 5, start + 7);
+        final long day = parseInteger(start + 8, end);
+        if (year == INVALID || month < 1 || month > 12 || day < 1) {
+            return INVALID;
+        }
+        final boolean leapYear = IsoChronology.INSTANCE.isLeapYear(year);
+        if (day > Month.of((int) month).length(leapYear)) {
+            return INVALID;
+        }
+
+        long total = 365 * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12 + day - 1;
+        if (month > 2) {
+            total -= leapYear ? 1 : 2;
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    private int digitAt(int index) {
+        final int digit = region.get(index) - '0';
+        return digit >= 0 && digit <= 9 ? digit : -1;
+    }
+
+    private int indexOf(byte symbol, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (region.get(i) == symbol) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    private boolean isBlank(int start, int end) {
+        for (int i = start; i < end; i++) {
+            final byte symbol = region.get(i);
+            if (symbol != ' ' && symbol != '\t') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isHeader(int start, int end) {
+        return start < end && digitAt(start) < 0;
+    }
+}
@@ -0,0 +1,114 @@
+package ru.viktorgezz.vacation_pay_calculator.cli;
+
+import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Писатель файла результата CSV пакетного расчета.
+ * Строки результата формируются прямо в буфере вне кучи и записываются в канал файла при заполнении буфера,
+ * поэтому запись не создает объектов на строку результата.
+ * <p>
+ * Строка содержит номер строки входного файла, сумму отпускных и код ошибки; при ошибке сумма пустая.
+ */
+final class VacationPayCsvWriter implements Closeable {
+
+    static final String HEADER = "line,totalVacationPay,error\n";
+
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final int MAX_LINE_BYTES = 128;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final byte[] digits = new byte[20];
+    private final Map<ErrorCode, byte[]> errorCodes = new EnumMap<>(ErrorCode.class);
+    private long bytesWritten;
+
+    VacationPayCsvWriter(Path output) throws IOException {
+        this.channel = FileChannel.open(
+                output,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE
+        );
+        buffer.put(HEADER.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Записывает строку с рассчитанной суммой.
+     *
+     * @param lineNumber         номер строки входного файла
+     * @param vacationPayKopecks сумма отпускных в копейках
+     */
+    void writeResult(long lineNumber, long vacationPayKopecks) throws IOException {
+        ensureCapacity();
+        putLong(lineNumber);
+        buffer.put((byte) ',');
+        putLong(vacationPayKopecks / 100);
+        final long kopecks = vacationPayKopecks % 100;
+        buffer.put((byte) '.');
+        buffer.put((byte) ('0' + kopecks / 10));
+        buffer.put((byte) ('0' + kopecks % 10));
+        buffer.put((byte) ',');
+        buffer.put((byte) '\n');
+    }
+
+    /**
+     * Записывает строку с кодом ошибки.
+     *
+     * @param lineNumber номер строки входного файла
+     * @param error      ошибка разбора или расчета строки
+     */
+    void writeError(long lineNumber, ErrorCode error) throws IOException {
+        ensureCapacity();
+        putLong(lineNumber);
+        buffer.put((byte) ',');
+        buffer.put((byte) ',');
+        buffer.put(errorCodes.computeIfAbsent(error, code -> code.getCode().getBytes(StandardCharsets.US_ASCII)));
+        buffer.put((byte) '\n');
+    }
+
+    long getBytesWritten() {
+        return bytesWritten + buffer.position();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void ensureCapacity() throws IOException {
+        if (buffer.remaining() < MAX_LINE_BYTES) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            bytesWritten += channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void putLong(long value) {
+        int position = digits.length;
+        do {
+            digits[--position] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+        buffer.put(digits, position, digits.length - position);
+    }
+}
@@ -0,0 +1,51 @@
+package ru.viktorgezz.vacation_pay_calculator.controller;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import ru.viktorgezz.vacation_pay_calculator.service.intrf.AverageEarningsService;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.YearMonth;
+
+/**
+ * REST контроллер для расчета среднего дневного заработка по истории начислений.
+ */
+@RestController
+public class AverageEarningsController {
+
+    static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private final AverageEarningsService averageEarningsService;
+
+    public AverageEarningsController(
+            AverageEarningsService averageEarningsService
+    ) {
+        this.averageEarningsService = averageEarningsService;
+    }
+
+    /**
+     * Рассчитывает средний дневной заработок сотрудников по потоку истории начислений в формате NDJSON.
+     * Тело запроса читается, а ответ пишется по мере обработки.
+     * Записи одного сотрудника должны идти подряд: результат по сотруднику отправляется,
+     * как только начинаются записи следующего.
+     *
+     * @param periodEnd последний месяц расчетного периода (формат: YYYY-MM)
+     * @param request   запрос с записями истории начислений
+     * @param response  ответ со строкой результата на каждого сотрудника
+     * @throws IOException если произошла ошибка чтения или записи
+     */
+    @PostMapping(value = "/average-earnings", consumes = APPLICATION_NDJSON)
+    public void calculateAverageEarnings(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth periodEnd,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        response.setContentType(APPLICATION_NDJSON);
+        averageEarningsService.calculate(request.getInputStream(), response.getOutputStream(), periodEnd);
+    }
+}
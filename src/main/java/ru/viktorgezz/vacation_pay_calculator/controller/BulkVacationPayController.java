@@ -0,0 +1,65 @@
+package ru.viktorgezz.vacation_pay_calculator.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationPayColumnarRsDto;
+import ru.viktorgezz.vacation_pay_calculator.service.intrf.VacationPayBulkService;
+import ru.viktorgezz.vacation_pay_calculator.service.intrf.VacationPayColumnarService;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+import static ru.viktorgezz.vacation_pay_calculator.controller.AverageEarningsController.APPLICATION_NDJSON;
+
+/**
+ * REST контроллер для пакетного расчета отпускных.
+ */
+@RestController
+public class BulkVacationPayController {
+
+    private final VacationPayBulkService vacationPayBulkService;
+    private final VacationPayColumnarService vacationPayColumnarService;
+
+    public BulkVacationPayController(
+            VacationPayBulkService vacationPayBulkService,
+            VacationPayColumnarService vacationPayColumnarService
+    ) {
+        this.vacationPayBulkService = vacationPayBulkService;
+        this.vacationPayColumnarService = vacationPayColumnarService;
+    }
+
+    /**
+     * Рассчитывает отпускные по потоку запросов в формате NDJSON.
+     * Тело запроса читается, а ответ пишется по мере обработки.
+     *
+     * @param request  запрос со строками {@link ru.viktorgezz.vacation_pay_calculator.dto.VacationPayRqDto}
+     * @param response ответ со строкой результата или ошибки на каждую строку запроса
+     * @throws IOException если произошла ошибка чтения или записи
+     */
+    @PostMapping(value = "/calculacte/bulk", consumes = APPLICATION_NDJSON)
+    public void calculateVacationPayBulk(
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        response.setContentType(APPLICATION_NDJSON);
+        vacationPayBulkService.calculate(request.getInputStream(), response.getOutputStream());
+    }
+
+    /**
+     * Рассчитывает отпускные по колоночному запросу, в котором средние зарплаты, дни или даты отпуска
+     * переданы параллельными массивами.
+     *
+     * @param request запрос с параллельными массивами параметров строк
+     * @return суммы отпускных в порядке строк запроса
+     * @throws IOException если произошла ошибка чтения
+     */
+    @PostMapping(value = "/calculacte/columnar", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public VacationPayColumnarRsDto calculateVacationPayColumnar(
+            HttpServletRequest request
+    ) throws IOException {
+        return vacationPayColumnarService.calculate(request.getInputStream());
+    }
+}
@@ -0,0 +1,32 @@
+package ru.viktorgezz.vacation_pay_calculator.controller;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import ru.viktorgezz.vacation_pay_calculator.dto.HolidayCalendarVersionRsDto;
+import ru.viktorgezz.vacation_pay_calculator.holiday.HolidayService;
+
+/**
+ * REST контроллер для диагностики календаря праздничных дней.
+ */
+@RestController
+public class HolidayCalendarController {
+
+    private final HolidayService holidayService;
+
+    public HolidayCalendarController(
+            HolidayService holidayService
+    ) {
+        this.holidayService = holidayService;
+    }
+
+    /**
+     * Возвращает версию опубликованного календаря праздничных дней.
+     *
+     * @return версия календаря
+     */
+    @GetMapping("/holidays/version")
+    public HolidayCalendarVersionRsDto getCalendarVersion() {
+        return new HolidayCalendarVersionRsDto(holidayService.getCalendarVersion());
+    }
+}
@@ -6,9 +6,18 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationInverseRqDto;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationInverseRsDto;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationOptimizationRqDto;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationOptimizationRsDto;
 import ru.viktorgezz.vacation_pay_calculator.dto.VacationPayRqDto;
 import ru.viktorgezz.vacation_pay_calculator.dto.VacationPayRsDto;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationSegmentsRqDto;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationSegmentsRsDto;
+import ru.viktorgezz.vacation_pay_calculator.service.intrf.VacationInverseService;
+import ru.viktorgezz.vacation_pay_calculator.service.intrf.VacationOptimizationService;
 import ru.viktorgezz.vacation_pay_calculator.service.intrf.VacationPayService;
+import ru.viktorgezz.vacation_pay_calculator.service.intrf.VacationSegmentsService;
 
 /**
  * REST контроллер для расчета отпускных выплат.
@@ -17,11 +26,20 @@ import ru.viktorgezz.vacation_pay_calculator.service.intrf.VacationPayService;
 public class VacationPayController {
 
     private final VacationPayService vacationPayService;
+    private final VacationInverseService vacationInverseService;
+    private final VacationOptimizationService vacationOptimizationService;
+    private final VacationSegmentsService vacationSegmentsService;
 
     public VacationPayController(
-            VacationPayService vacationPayService
+            VacationPayService vacationPayService,
+            VacationInverseService vacationInverseService,
+            VacationOptimizationService vacationOptimizationService,
+            VacationSegmentsService vacationSegmentsService
     ) {
         this.vacationPayService = vacationPayService;
+        this.vacationInverseService = vacationInverseService;
+        this.vacationOptimizationService = vacationOptimizationService;
+        this.vacationSegmentsService = vacationSegmentsService;
     }
 
     /**
@@ -36,4 +54,44 @@ public class VacationPayController {
     ) {
         return vacationPayService.calculate(vacationPayRqDto);
     }
+
+    /**
+     * Рассчитывает отпускные за отпуск, разделенный на части, одним запросом.
+     *
+     * @param vacationSegmentsRqDto данные запроса с частями отпуска
+     * @return отпускные по частям и итоговая сумма
+     */
+    @GetMapping("/segments")
+    public VacationSegmentsRsDto calculateVacationPayBySegments(
+            @RequestBody @Valid VacationSegmentsRqDto vacationSegmentsRqDto
+    ) {
+        return vacationSegmentsService.calculate(vacationSegmentsRqDto);
+    }
+
+    /**
+     * Находит дату окончания отпуска по количеству оплачиваемых дней
+     * или самый длинный отпуск в пределах бюджета.
+     *
+     * @param vacationInverseRqDto данные запроса обратного расчета
+     * @return период отпуска и сумма отпускных
+     */
+    @GetMapping("/inverse")
+    public VacationInverseRsDto calculateInverse(
+            @RequestBody @Valid VacationInverseRqDto vacationInverseRqDto
+    ) {
+        return vacationInverseService.calculate(vacationInverseRqDto);
+    }
+
+    /**
+     * Подбирает лучшие даты начала отпуска фиксированной длины в окне поиска.
+     *
+     * @param vacationOptimizationRqDto данные запроса подбора
+     * @return лучшие варианты отпуска с суммами отпускных
+     */
+    @GetMapping("/optimize")
+    public VacationOptimizationRsDto optimizeVacationStart(
+            @RequestBody @Valid VacationOptimizationRqDto vacationOptimizationRqDto
+    ) {
+        return vacationOptimizationService.optimize(vacationOptimizationRqDto);
+    }
 }
@@ -0,0 +1,82 @@
+package ru.viktorgezz.vacation_pay_calculator.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationPayJobRsDto;
+import ru.viktorgezz.vacation_pay_calculator.service.intrf.VacationPayJobService;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static ru.viktorgezz.vacation_pay_calculator.controller.AverageEarningsController.APPLICATION_NDJSON;
+
+/**
+ * REST контроллер фоновых заданий пакетного расчета отпускных.
+ */
+@RestController
+public class VacationPayJobController {
+
+    private final VacationPayJobService vacationPayJobService;
+
+    public VacationPayJobController(
+            VacationPayJobService vacationPayJobService
+    ) {
+        this.vacationPayJobService = vacationPayJobService;
+    }
+
+    /**
+     * Принимает пакет запросов в формате NDJSON и ставит его расчет в очередь.
+     *
+     * @param request запрос со строками {@link ru.viktorgezz.vacation_pay_calculator.dto.VacationPayRqDto}
+     * @return состояние принятого задания и ссылка на него
+     * @throws IOException если произошла ошибка чтения запроса или записи файла задания
+     */
+    @PostMapping(value = "/jobs", consumes = APPLICATION_NDJSON)
+    public ResponseEntity<VacationPayJobRsDto> submitJob(
+            HttpServletRequest request
+    ) throws IOException {
+        final VacationPayJobRsDto job = vacationPayJobService.submit(request.getInputStream());
+        return ResponseEntity.accepted()
+                .location(URI.create("/jobs/" + job.getJobId()))
+                .body(job);
+    }
+
+    /**
+     * Возвращает состояние, прогресс и скорость расчета задания.
+     *
+     * @param jobId идентификатор задания
+     * @return состояние задания
+     */
+    @GetMapping("/jobs/{jobId}")
+    public VacationPayJobRsDto getJob(
+            @PathVariable String jobId
+    ) {
+        return vacationPayJobService.getJob(jobId);
+    }
+
+    /**
+     * Передает файл результата завершенного задания: строку результата или ошибки на каждую строку запроса.
+     *
+     * @param jobId    идентификатор задания
+     * @param response ответ со строками {@link ru.viktorgezz.vacation_pay_calculator.dto.BulkVacationPayRsDto}
+     * @throws IOException если произошла ошибка чтения файла или записи ответа
+     */
+    @GetMapping("/jobs/{jobId}/result")
+    public void downloadJobResult(
+            @PathVariable String jobId,
+            HttpServletResponse response
+    ) throws IOException {
+        final Path resultFile = vacationPayJobService.getResultFile(jobId);
+        response.setContentType(APPLICATION_NDJSON);
+        response.setContentLengthLong(Files.size(resultFile));
+        Files.copy(resultFile, response.getOutputStream());
+    }
+}
@@ -0,0 +1,72 @@
+package ru.viktorgezz.vacation_pay_calculator.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO строки ответа с средним дневным заработком сотрудника или ошибкой его расчета.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AverageEarningsRsDto {
+
+    private final String employeeId;
+    private final BigDecimal accrued;
+    private final BigDecimal calculatedDays;
+    private final BigDecimal averageDailyEarnings;
+    private final String code;
+    private final String message;
+
+    private AverageEarningsRsDto(
+            String employeeId,
+            BigDecimal accrued,
+            BigDecimal calculatedDays,
+            BigDecimal averageDailyEarnings,
+            String code,
+            String message
+    ) {
+        this.employeeId = employeeId;
+        this.accrued = accrued;
+        this.calculatedDays = calculatedDays;
+        this.averageDailyEarnings = averageDailyEarnings;
+        this.code = code;
+        this.message = message;
+    }
+
+    public static AverageEarningsRsDto calculated(
+            String employeeId,
+            BigDecimal accrued,
+            BigDecimal calculatedDays,
+            BigDecimal averageDailyEarnings
+    ) {
+        return new AverageEarningsRsDto(employeeId, accrued, calculatedDays, averageDailyEarnings, null, null);
+    }
+
+    public static AverageEarningsRsDto rejected(String employeeId, String code, String message) {
+        return new AverageEarningsRsDto(employeeId, null, null, null, code, message);
+    }
+
+    public String getEmployeeId() {
+        return employeeId;
+    }
+
+    public BigDecimal getAccrued() {
+        return accrued;
+    }
+
+    public BigDecimal getCalculatedDays() {
+        return calculatedDays;
+    }
+
+    public BigDecimal getAverageDailyEarnings() {
+        return averageDailyEarnings;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
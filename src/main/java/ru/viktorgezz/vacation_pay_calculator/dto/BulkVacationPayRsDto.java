@@ -0,0 +1,73 @@
+package ru.viktorgezz.vacation_pay_calculator.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import ru.viktorgezz.vacation_pay_calculator.handler.ValidationError;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO строки ответа пакетного расчета: результат расчета или ошибка для строки запроса с номером {@code line}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkVacationPayRsDto {
+
+    private final long line;
+    private final BigDecimal totalVacationPay;
+    private final List<MonthlyVacationPayRsDto> months;
+    private final String code;
+    private final String message;
+    private final List<ValidationError> validationErrors;
+
+    private BulkVacationPayRsDto(
+            long line,
+            BigDecimal totalVacationPay,
+            List<MonthlyVacationPayRsDto> months,
+            String code,
+            String message,
+            List<ValidationError> validationErrors
+    ) {
+        this.line = line;
+        this.totalVacationPay = totalVacationPay;
+        this.months = months;
+        this.code = code;
+        this.message = message;
+        this.validationErrors = validationErrors;
+    }
+
+    public static BulkVacationPayRsDto calculated(long line, VacationPayRsDto response) {
+        return new BulkVacationPayRsDto(line, response.getTotalVacationPay(), response.getMonths(), null, null, null);
+    }
+
+    public static BulkVacationPayRsDto failed(long line, String code, String message) {
+        return new BulkVacationPayRsDto(line, null, null, code, message, null);
+    }
+
+    public static BulkVacationPayRsDto invalid(long line, List<ValidationError> validationErrors) {
+        return new BulkVacationPayRsDto(line, null, null, null, null, validationErrors);
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    public BigDecimal getTotalVacationPay() {
+        return totalVacationPay;
+    }
+
+    public List<MonthlyVacationPayRsDto> getMonths() {
+        return months;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public List<ValidationError> getValidationErrors() {
+        return validationErrors;
+    }
+}
@@ -0,0 +1,17 @@
+package ru.viktorgezz.vacation_pay_calculator.dto;
+
+/**
+ * DTO ответа с версией опубликованного календаря праздничных дней.
+ */
+public class HolidayCalendarVersionRsDto {
+
+    private final long version;
+
+    public HolidayCalendarVersionRsDto(long version) {
+        this.version = version;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
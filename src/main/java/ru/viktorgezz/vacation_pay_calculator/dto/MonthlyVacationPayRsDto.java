@@ -0,0 +1,32 @@
+package ru.viktorgezz.vacation_pay_calculator.dto;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+/**
+ * DTO части отпускных, приходящейся на один календарный месяц.
+ */
+public class MonthlyVacationPayRsDto {
+
+    private final YearMonth month;
+    private final int payableDays;
+    private final BigDecimal vacationPay;
+
+    public MonthlyVacationPayRsDto(YearMonth month, int payableDays, BigDecimal vacationPay) {
+        this.month = month;
+        this.payableDays = payableDays;
+        this.vacationPay = vacationPay;
+    }
+
+    public YearMonth getMonth() {
+        return month;
+    }
+
+    public int getPayableDays() {
+        return payableDays;
+    }
+
+    public BigDecimal getVacationPay() {
+        return vacationPay;
+    }
+}
@@ -0,0 +1,17 @@
+package ru.viktorgezz.vacation_pay_calculator.dto;
+
+/**
+ * Критерий выбора даты начала отпуска фиксированной длины.
+ */
+public enum OptimizationObjective {
+
+    /**
+     * Наибольшее количество праздничных дней в отпуске.
+     */
+    MAX_HOLIDAYS,
+
+    /**
+     * Наибольшая сумма отпускных на календарный день отпуска, то есть наименьшее количество праздников.
+     */
+    MAX_PAY_PER_DAY
+}
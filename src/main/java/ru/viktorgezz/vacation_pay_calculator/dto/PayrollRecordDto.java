@@ -0,0 +1,77 @@
+package ru.viktorgezz.vacation_pay_calculator.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * DTO записи истории начислений сотрудника: начисление за месяц ({@code month} и {@code accrued})
+ * либо исключаемый из расчета период ({@code excludedFrom} и {@code excludedTo}).
+ */
+public class PayrollRecordDto {
+
+    private String employeeId;
+
+    private YearMonth month;
+
+    private BigDecimal accrued;
+
+    private LocalDate excludedFrom;
+
+    private LocalDate excludedTo;
+
+    public PayrollRecordDto() {
+    }
+
+    public PayrollRecordDto(String employeeId, YearMonth month, BigDecimal accrued) {
+        this.employeeId = employeeId;
+        this.month = month;
+        this.accrued = accrued;
+    }
+
+    public PayrollRecordDto(String employeeId, LocalDate excludedFrom, LocalDate excludedTo) {
+        this.employeeId = employeeId;
+        this.excludedFrom = excludedFrom;
+        this.excludedTo = excludedTo;
+    }
+
+    public String getEmployeeId() {
+        return employeeId;
+    }
+
+    public void setEmployeeId(String employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    public YearMonth getMonth() {
+        return month;
+    }
+
+    public void setMonth(YearMonth month) {
+        this.month = month;
+    }
+
+    public BigDecimal getAccrued() {
+        return accrued;
+    }
+
+    public void setAccrued(BigDecimal accrued) {
+        this.accrued = accrued;
+    }
+
+    public LocalDate getExcludedFrom() {
+        return excludedFrom;
+    }
+
+    public void setExcludedFrom(LocalDate excludedFrom) {
+        this.excludedFrom = excludedFrom;
+    }
+
+    public LocalDate getExcludedTo() {
+        return excludedTo;
+    }
+
+    public void setExcludedTo(LocalDate excludedTo) {
+        this.excludedTo = excludedTo;
+    }
+}
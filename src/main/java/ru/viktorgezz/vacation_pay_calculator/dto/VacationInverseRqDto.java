@@ -0,0 +1,91 @@
+package ru.viktorgezz.vacation_pay_calculator.dto;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * DTO запроса обратного расчета отпуска: дата окончания по количеству оплачиваемых дней
+ * или самый длинный отпуск в пределах бюджета.
+ */
+public class VacationInverseRqDto {
+
+    @NotNull(message = "Average salary is required")
+    @Positive(message = "Average salary must be greater than 0")
+    private BigDecimal averageSalary;
+
+    @NotNull(message = "Vacation start date is required")
+    private LocalDate dateStart;
+
+    @Positive(message = "Payable days must be greater than 0")
+    @Max(value = 3660, message = "Payable days must not exceed 3660")
+    private Integer payableDays;
+
+    @Positive(message = "Budget must be greater than 0")
+    private BigDecimal budget;
+
+    private String calendarId;
+
+    private Instant asOf;
+
+    public VacationInverseRqDto() {
+    }
+
+    public VacationInverseRqDto(BigDecimal averageSalary, LocalDate dateStart, Integer payableDays, BigDecimal budget) {
+        this.averageSalary = averageSalary;
+        this.dateStart = dateStart;
+        this.payableDays = payableDays;
+        this.budget = budget;
+    }
+
+    public BigDecimal getAverageSalary() {
+        return averageSalary;
+    }
+
+    public void setAverageSalary(BigDecimal averageSalary) {
+        this.averageSalary = averageSalary;
+    }
+
+    public LocalDate getDateStart() {
+        return dateStart;
+    }
+
+    public void setDateStart(LocalDate dateStart) {
+        this.dateStart = dateStart;
+    }
+
+    public Integer getPayableDays() {
+        return payableDays;
+    }
+
+    public void setPayableDays(Integer payableDays) {
+        this.payableDays = payableDays;
+    }
+
+    public BigDecimal getBudget() {
+        return budget;
+    }
+
+    public void setBudget(BigDecimal budget) {
+        this.budget = budget;
+    }
+
+    public String getCalendarId() {
+        return calendarId;
+    }
+
+    public void setCalendarId(String calendarId) {
+        this.calendarId = calendarId;
+    }
+
+    public Instant getAsOf() {
+        return asOf;
+    }
+
+    public void setAsOf(Instant asOf) {
+        this.asOf = asOf;
+    }
+}
@@ -0,0 +1,38 @@
+package ru.viktorgezz.vacation_pay_calculator.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO ответа обратного расчета отпуска.
+ */
+public class VacationInverseRsDto {
+
+    private final LocalDate dateStart;
+    private final LocalDate dateEnd;
+    private final int payableDays;
+    private final BigDecimal totalVacationPay;
+
+    public VacationInverseRsDto(LocalDate dateStart, LocalDate dateEnd, int payableDays, BigDecimal totalVacationPay) {
+        this.dateStart = dateStart;
+        this.dateEnd = dateEnd;
+        this.payableDays = payableDays;
+        this.totalVacationPay = totalVacationPay;
+    }
+
+    public LocalDate getDateStart() {
+        return dateStart;
+    }
+
+    public LocalDate getDateEnd() {
+        return dateEnd;
+    }
+
+    public int getPayableDays() {
+        return payableDays;
+    }
+
+    public BigDecimal getTotalVacationPay() {
+        return totalVacationPay;
+    }
+}
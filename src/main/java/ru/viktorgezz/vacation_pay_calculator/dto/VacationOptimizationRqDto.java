@@ -0,0 +1,125 @@
+package ru.viktorgezz.vacation_pay_calculator.dto;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * DTO запроса подбора даты начала отпуска фиксированной длины в окне поиска.
+ */
+public class VacationOptimizationRqDto {
+
+    private static final int DEFAULT_TOP_K = 5;
+
+    @NotNull(message = "Average salary is required")
+    @Positive(message = "Average salary must be greater than 0")
+    private BigDecimal averageSalary;
+
+    @NotNull(message = "Vacation days are required")
+    @Positive(message = "Vacation days must be greater than 0")
+    @Max(value = 3660, message = "Vacation days must not exceed 3660")
+    private Integer daysVacation;
+
+    @NotNull(message = "Search window start is required")
+    private LocalDate windowStart;
+
+    @NotNull(message = "Search window end is required")
+    private LocalDate windowEnd;
+
+    @NotNull(message = "Optimization objective is required")
+    private OptimizationObjective objective;
+
+    @Positive(message = "Number of options must be greater than 0")
+    private int topK = DEFAULT_TOP_K;
+
+    private String calendarId;
+
+    private Instant asOf;
+
+    public VacationOptimizationRqDto() {
+    }
+
+    public VacationOptimizationRqDto(
+            BigDecimal averageSalary,
+            Integer daysVacation,
+            LocalDate windowStart,
+            LocalDate windowEnd,
+            OptimizationObjective objective
+    ) {
+        this.averageSalary = averageSalary;
+        this.daysVacation = daysVacation;
+        this.windowStart = windowStart;
+        this.windowEnd = windowEnd;
+        this.objective = objective;
+    }
+
+    public BigDecimal getAverageSalary() {
+        return averageSalary;
+    }
+
+    public void setAverageSalary(BigDecimal averageSalary) {
+        this.averageSalary = averageSalary;
+    }
+
+    public Integer getDaysVacation() {
+        return daysVacation;
+    }
+
+    public void setDaysVacation(Integer daysVacation) {
+        this.daysVacation = daysVacation;
+    }
+
+    public LocalDate getWindowStart() {
+        return windowStart;
+    }
+
+    public void setWindowStart(LocalDate windowStart) {
+        this.windowStart = windowStart;
+    }
+
+    public LocalDate getWindowEnd() {
+        return windowEnd;
+    }
+
+    public void setWindowEnd(LocalDate windowEnd) {
+        this.windowEnd = windowEnd;
+    }
+
+    public OptimizationObjective getObjective() {
+        return objective;
+    }
+
+    public void setObjective(OptimizationObjective objective) {
+        this.objective = objective;
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    /**
+     * @param topK количество лучших вариантов; null соответствует значению по умолчанию
+     */
+    public void setTopK(Integer topK) {
+        this.topK = topK == null ? DEFAULT_TOP_K : topK;
+    }
+
+    public String getCalendarId() {
+        return calendarId;
+    }
+
+    public void setCalendarId(String calendarId) {
+        this.calendarId = calendarId;
+    }
+
+    public Instant getAsOf() {
+        return asOf;
+    }
+
+    public void setAsOf(Instant asOf) {
+        this.asOf = asOf;
+    }
+}
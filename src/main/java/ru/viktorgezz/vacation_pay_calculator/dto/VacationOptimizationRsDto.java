@@ -0,0 +1,19 @@
+package ru.viktorgezz.vacation_pay_calculator.dto;
+
+import java.util.List;
+
+/**
+ * DTO ответа с лучшими вариантами даты начала отпуска.
+ */
+public class VacationOptimizationRsDto {
+
+    private final List<VacationOptionRsDto> options;
+
+    public VacationOptimizationRsDto(List<VacationOptionRsDto> options) {
+        this.options = options;
+    }
+
+    public List<VacationOptionRsDto> getOptions() {
+        return options;
+    }
+}
@@ -0,0 +1,57 @@
+package ru.viktorgezz.vacation_pay_calculator.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO варианта отпуска, найденного при подборе даты начала.
+ */
+public class VacationOptionRsDto {
+
+    private final LocalDate dateStart;
+    private final LocalDate dateEnd;
+    private final int holidays;
+    private final int payableDays;
+    private final BigDecimal totalVacationPay;
+    private final BigDecimal payPerCalendarDay;
+
+    public VacationOptionRsDto(
+            LocalDate dateStart,
+            LocalDate dateEnd,
+            int holidays,
+            int payableDays,
+            BigDecimal totalVacationPay,
+            BigDecimal payPerCalendarDay
+    ) {
+        this.dateStart = dateStart;
+        this.dateEnd = dateEnd;
+        this.holidays = holidays;
+        this.payableDays = payableDays;
+        this.totalVacationPay = totalVacationPay;
+        this.payPerCalendarDay = payPerCalendarDay;
+    }
+
+    public LocalDate getDateStart() {
+        return dateStart;
+    }
+
+    public LocalDate getDateEnd() {
+        return dateEnd;
+    }
+
+    public int getHolidays() {
+        return holidays;
+    }
+
+    public int getPayableDays() {
+        return payableDays;
+    }
+
+    public BigDecimal getTotalVacationPay() {
+        return totalVacationPay;
+    }
+
+    public BigDecimal getPayPerCalendarDay() {
+        return payPerCalendarDay;
+    }
+}
@@ -0,0 +1,78 @@
+package ru.viktorgezz.vacation_pay_calculator.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * DTO ответа колоночного пакетного расчета: суммы отпускных в порядке строк запроса.
+ * Суммы хранятся в копейках и записываются в JSON как числа с двумя знаками после точки
+ * без создания {@link java.math.BigDecimal} на каждую строку.
+ */
+public class VacationPayColumnarRsDto {
+
+    @JsonSerialize(using = KopecksSerializer.class)
+    private final long[] totalVacationPay;
+
+    public VacationPayColumnarRsDto(long[] totalVacationPayKopecks) {
+        this.totalVacationPay = totalVacationPayKopecks;
+    }
+
+    /**
+     * Возвращает суммы отпускных в копейках.
+     *
+     * @return суммы отпускных в копейках в порядке строк запроса
+     */
+    public long[] getTotalVacationPay() {
+        return totalVacationPay;
+    }
+
+    /**
+     * Записывает массив сумм в копейках как массив чисел вида {@code 47781.57}.
+     */
+    static final class KopecksSerializer extends StdSerializer<long[]> {
+
+        private static final int MAX_AMOUNT_LENGTH = 22;
+
+        KopecksSerializer() {
+            super(long[].class);
+        }
+
+        @Override
+        public void serialize(long[] kopecks, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            final char[] buffer = new char[MAX_AMOUNT_LENGTH];
+            generator.writeStartArray(kopecks, kopecks.length);
+            for (long amount : kopecks) {
+                final int offset = format(amount, buffer);
+                generator.writeRawValue(buffer, offset, buffer.length - offset);
+            }
+            generator.writeEndArray();
+        }
+
+        /**
+         * Записывает сумму в конец буфера.
+         *
+         * @return позиция первого символа суммы в буфере
+         */
+        private static int format(long kopecks, char[] buffer) {
+            long remaining = Math.abs(kopecks);
+            int position = buffer.length;
+            for (int digits = 0; digits < 2; digits++) {
+                buffer[--position] = (char) ('0' + remaining % 10);
+                remaining /= 10;
+            }
+            buffer[--position] = '.';
+            do {
+                buffer[--position] = (char) ('0' + remaining % 10);
+                remaining /= 10;
+            } while (remaining > 0);
+            if (kopecks < 0) {
+                buffer[--position] = '-';
+            }
+            return position;
+        }
+    }
+}
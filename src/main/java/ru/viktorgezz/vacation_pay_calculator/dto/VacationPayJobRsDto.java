@@ -0,0 +1,100 @@
+package ru.viktorgezz.vacation_pay_calculator.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import ru.viktorgezz.vacation_pay_calculator.job.VacationPayJob;
+import ru.viktorgezz.vacation_pay_calculator.job.VacationPayJobStatus;
+
+import java.time.Instant;
+
+/**
+ * DTO ответа с состоянием и прогрессом фонового задания пакетного расчета.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class VacationPayJobRsDto {
+
+    private final String jobId;
+    private final VacationPayJobStatus status;
+    private final Instant submittedAt;
+    private final Instant startedAt;
+    private final Instant finishedAt;
+    private final long totalLines;
+    private final long processedLines;
+    private final long failedLines;
+    private final long plannedLines;
+    private final long distinctRanges;
+    private final long linesPerSecond;
+    private final String error;
+
+    private VacationPayJobRsDto(VacationPayJob job) {
+        this.jobId = job.getId();
+        this.status = job.getStatus();
+        this.submittedAt = job.getSubmittedAt();
+        this.startedAt = job.getStartedAt();
+        this.finishedAt = job.getFinishedAt();
+        this.totalLines = job.getTotalLines();
+        this.processedLines = job.getProcessedLines();
+        this.failedLines = job.getFailedLines();
+        this.plannedLines = job.getPlannedLines();
+        this.distinctRanges = job.getDistinctRanges();
+        this.linesPerSecond = job.getLinesPerSecond();
+        this.error = job.getErrorMessage();
+    }
+
+    /**
+     * Создает снимок состояния задания.
+     *
+     * @param job задание
+     * @return состояние и счетчики задания на текущий момент
+     */
+    public static VacationPayJobRsDto of(VacationPayJob job) {
+        return new VacationPayJobRsDto(job);
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public VacationPayJobStatus getStatus() {
+        return status;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public long getTotalLines() {
+        return totalLines;
+    }
+
+    public long getProcessedLines() {
+        return processedLines;
+    }
+
+    public long getFailedLines() {
+        return failedLines;
+    }
+
+    public long getPlannedLines() {
+        return plannedLines;
+    }
+
+    public long getDistinctRanges() {
+        return distinctRanges;
+    }
+
+    public long getLinesPerSecond() {
+        return linesPerSecond;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
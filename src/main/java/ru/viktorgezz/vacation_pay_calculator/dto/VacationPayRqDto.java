@@ -5,6 +5,7 @@ import org.springframework.format.annotation.DateTimeFormat;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Positive;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 
 /**
@@ -25,6 +26,13 @@ public class VacationPayRqDto {
     @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
     private LocalDate dateEnd;
 
+    private String calendarId;
+
+    private Instant asOf;
+
+    private String tenantId;
+
+    private boolean breakdown;
 
     public VacationPayRqDto() {
     }
@@ -79,4 +87,36 @@ public class VacationPayRqDto {
     public void setDateEnd(LocalDate dateEnd) {
         this.dateEnd = dateEnd;
     }
+
+    public String getCalendarId() {
+        return calendarId;
+    }
+
+    public void setCalendarId(String calendarId) {
+        this.calendarId = calendarId;
+    }
+
+    public Instant getAsOf() {
+        return asOf;
+    }
+
+    public void setAsOf(Instant asOf) {
+        this.asOf = asOf;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public boolean isBreakdown() {
+        return breakdown;
+    }
+
+    public void setBreakdown(boolean breakdown) {
+        this.breakdown = breakdown;
+    }
 }
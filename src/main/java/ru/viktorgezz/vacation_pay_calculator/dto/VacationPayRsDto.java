@@ -1,6 +1,9 @@
 package ru.viktorgezz.vacation_pay_calculator.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.math.BigDecimal;
+import java.util.List;
 
 /**
  * DTO ответа с результатом расчета отпускных выплат.
@@ -9,11 +12,28 @@ public class VacationPayRsDto {
 
     private final BigDecimal totalVacationPay;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final List<MonthlyVacationPayRsDto> months;
+
     public VacationPayRsDto(BigDecimal totalVacationPay) {
+        this(totalVacationPay, null);
+    }
+
+    public VacationPayRsDto(BigDecimal totalVacationPay, List<MonthlyVacationPayRsDto> months) {
         this.totalVacationPay = totalVacationPay;
+        this.months = months;
     }
 
     public BigDecimal getTotalVacationPay() {
         return totalVacationPay;
     }
+
+    /**
+     * Возвращает разбивку отпускных по календарным месяцам.
+     *
+     * @return разбивка по месяцам или null, если разбивка не запрашивалась
+     */
+    public List<MonthlyVacationPayRsDto> getMonths() {
+        return months;
+    }
 }
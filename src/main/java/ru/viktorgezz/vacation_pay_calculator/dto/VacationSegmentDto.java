@@ -0,0 +1,44 @@
+package ru.viktorgezz.vacation_pay_calculator.dto;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import javax.validation.constraints.NotNull;
+import java.time.LocalDate;
+
+/**
+ * DTO части разделенного отпуска.
+ */
+public class VacationSegmentDto {
+
+    @NotNull(message = "Segment start date is required")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dateStart;
+
+    @NotNull(message = "Segment end date is required")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dateEnd;
+
+    public VacationSegmentDto() {
+    }
+
+    public VacationSegmentDto(LocalDate dateStart, LocalDate dateEnd) {
+        this.dateStart = dateStart;
+        this.dateEnd = dateEnd;
+    }
+
+    public LocalDate getDateStart() {
+        return dateStart;
+    }
+
+    public void setDateStart(LocalDate dateStart) {
+        this.dateStart = dateStart;
+    }
+
+    public LocalDate getDateEnd() {
+        return dateEnd;
+    }
+
+    public void setDateEnd(LocalDate dateEnd) {
+        this.dateEnd = dateEnd;
+    }
+}
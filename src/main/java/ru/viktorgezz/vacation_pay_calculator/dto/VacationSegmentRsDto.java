@@ -0,0 +1,38 @@
+package ru.viktorgezz.vacation_pay_calculator.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO результата расчета отпускных за одну часть отпуска.
+ */
+public class VacationSegmentRsDto {
+
+    private final LocalDate dateStart;
+    private final LocalDate dateEnd;
+    private final int payableDays;
+    private final BigDecimal vacationPay;
+
+    public VacationSegmentRsDto(LocalDate dateStart, LocalDate dateEnd, int payableDays, BigDecimal vacationPay) {
+        this.dateStart = dateStart;
+        this.dateEnd = dateEnd;
+        this.payableDays = payableDays;
+        this.vacationPay = vacationPay;
+    }
+
+    public LocalDate getDateStart() {
+        return dateStart;
+    }
+
+    public LocalDate getDateEnd() {
+        return dateEnd;
+    }
+
+    public int getPayableDays() {
+        return payableDays;
+    }
+
+    public BigDecimal getVacationPay() {
+        return vacationPay;
+    }
+}
@@ -0,0 +1,68 @@
+package ru.viktorgezz.vacation_pay_calculator.dto;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.Size;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * DTO запроса расчета отпускных за отпуск, разделенный на части.
+ */
+public class VacationSegmentsRqDto {
+
+    @NotNull(message = "Average salary is required")
+    @Positive(message = "Average salary must be greater than 0")
+    private BigDecimal averageSalary;
+
+    @NotEmpty(message = "Vacation segments are required")
+    @Size(max = 366, message = "Vacation segments must not exceed 366")
+    private List<@Valid @NotNull VacationSegmentDto> segments;
+
+    private String calendarId;
+
+    private Instant asOf;
+
+    public VacationSegmentsRqDto() {
+    }
+
+    public VacationSegmentsRqDto(BigDecimal averageSalary, List<VacationSegmentDto> segments) {
+        this.averageSalary = averageSalary;
+        this.segments = segments;
+    }
+
+    public BigDecimal getAverageSalary() {
+        return averageSalary;
+    }
+
+    public void setAverageSalary(BigDecimal averageSalary) {
+        this.averageSalary = averageSalary;
+    }
+
+    public List<VacationSegmentDto> getSegments() {
+        return segments;
+    }
+
+    public void setSegments(List<VacationSegmentDto> segments) {
+        this.segments = segments;
+    }
+
+    public String getCalendarId() {
+        return calendarId;
+    }
+
+    public void setCalendarId(String calendarId) {
+        this.calendarId = calendarId;
+    }
+
+    public Instant getAsOf() {
+        return asOf;
+    }
+
+    public void setAsOf(Instant asOf) {
+        this.asOf = asOf;
+    }
+}
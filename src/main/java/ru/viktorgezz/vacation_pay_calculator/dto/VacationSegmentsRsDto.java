@@ -0,0 +1,32 @@
+package ru.viktorgezz.vacation_pay_calculator.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO ответа с отпускными по частям отпуска и итоговой суммой.
+ */
+public class VacationSegmentsRsDto {
+
+    private final List<VacationSegmentRsDto> segments;
+    private final int payableDays;
+    private final BigDecimal totalVacationPay;
+
+    public VacationSegmentsRsDto(List<VacationSegmentRsDto> segments, int payableDays, BigDecimal totalVacationPay) {
+        this.segments = segments;
+        this.payableDays = payableDays;
+        this.totalVacationPay = totalVacationPay;
+    }
+
+    public List<VacationSegmentRsDto> getSegments() {
+        return segments;
+    }
+
+    public int getPayableDays() {
+        return payableDays;
+    }
+
+    public BigDecimal getTotalVacationPay() {
+        return totalVacationPay;
+    }
+}
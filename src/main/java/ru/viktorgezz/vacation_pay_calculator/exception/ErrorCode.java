@@ -19,7 +19,58 @@ public enum ErrorCode {
             "Both start date and end date must be specified for vacation period", HttpStatus.BAD_REQUEST),
 
     VACATION_PARAMETERS_MISSING("VACATION_PARAMETERS_MISSING",
-            "Either vacation days or vacation period dates must be specified", HttpStatus.BAD_REQUEST);
+            "Either vacation days or vacation period dates must be specified", HttpStatus.BAD_REQUEST),
+
+    UNKNOWN_HOLIDAY_CALENDAR("UNKNOWN_HOLIDAY_CALENDAR",
+            "Unknown holiday calendar: %s", HttpStatus.BAD_REQUEST),
+
+    HOLIDAY_CALENDAR_UNAVAILABLE("HOLIDAY_CALENDAR_UNAVAILABLE",
+            "Holiday calendar is not available for year %s, supported years are %s..%s", HttpStatus.BAD_REQUEST),
+
+    HOLIDAY_CALENDAR_VERSION_UNAVAILABLE("HOLIDAY_CALENDAR_VERSION_UNAVAILABLE",
+            "Holiday calendar version as of %s is not available, the earliest retained version was published at %s",
+            HttpStatus.BAD_REQUEST),
+
+    INVERSE_TARGET_MISSING("INVERSE_TARGET_MISSING",
+            "Either payable days or budget must be specified", HttpStatus.BAD_REQUEST),
+
+    INVERSE_TARGET_ALL_SPECIFIED("INVERSE_TARGET_ALL_SPECIFIED",
+            "Payable days and budget must not be specified all together", HttpStatus.BAD_REQUEST),
+
+    INSUFFICIENT_BUDGET("INSUFFICIENT_BUDGET",
+            "Budget is not enough for a single payable vacation day", HttpStatus.BAD_REQUEST),
+
+    INVALID_SEARCH_WINDOW("INVALID_SEARCH_WINDOW",
+            "Search window start must not be after its end and the window must not exceed %s days",
+            HttpStatus.BAD_REQUEST),
+
+    OVERLAPPING_VACATION_SEGMENTS("OVERLAPPING_VACATION_SEGMENTS",
+            "Vacation segments %s and %s overlap", HttpStatus.BAD_REQUEST),
+
+    BREAKDOWN_REQUIRES_DATES("BREAKDOWN_REQUIRES_DATES",
+            "Monthly breakdown requires vacation start and end dates", HttpStatus.BAD_REQUEST),
+
+    INVALID_PAYROLL_RECORD("INVALID_PAYROLL_RECORD",
+            "Invalid payroll record for employee %s: %s", HttpStatus.BAD_REQUEST),
+
+    AVERAGE_EARNINGS_UNDEFINED("AVERAGE_EARNINGS_UNDEFINED",
+            "Employee %s has no days counted in the averaging period", HttpStatus.BAD_REQUEST),
+
+    UNKNOWN_TENANT("UNKNOWN_TENANT", "Vacation pay formula for tenant %s is not configured", HttpStatus.BAD_REQUEST),
+
+    MALFORMED_REQUEST_LINE("MALFORMED_REQUEST_LINE", "Request line is not valid JSON: %s", HttpStatus.BAD_REQUEST),
+
+    INVALID_COLUMNAR_REQUEST("INVALID_COLUMNAR_REQUEST", "Invalid columnar request: %s", HttpStatus.BAD_REQUEST),
+
+    JOB_NOT_FOUND("JOB_NOT_FOUND", "Job %s not found", HttpStatus.NOT_FOUND),
+
+    JOB_NOT_COMPLETED("JOB_NOT_COMPLETED", "Job %s is %s", HttpStatus.CONFLICT),
+
+    JOB_INPUT_TOO_LARGE("JOB_INPUT_TOO_LARGE", "Job input exceeds %s bytes", HttpStatus.PAYLOAD_TOO_LARGE),
+
+    JOB_QUEUE_FULL("JOB_QUEUE_FULL", "Job queue is full: %s jobs are waiting", HttpStatus.TOO_MANY_REQUESTS),
+
+    INVALID_CSV_ROW("INVALID_CSV_ROW", "Invalid CSV row: %s", HttpStatus.BAD_REQUEST);
 
     private final String code;
     private final String defaultMessage;
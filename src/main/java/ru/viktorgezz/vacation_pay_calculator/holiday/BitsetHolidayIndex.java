@@ -0,0 +1,129 @@
+package ru.viktorgezz.vacation_pay_calculator.holiday;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Индекс праздничных дней в куче: битовая карта праздников и массив накопленных сумм по 64-дневным словам,
+ * поэтому количество праздников в любом диапазоне считается за константное время без аллокаций.
+ */
+final class BitsetHolidayIndex implements HolidayIndex {
+
+    static final BitsetHolidayIndex EMPTY = new BitsetHolidayIndex(0, 0, new long[1], new int[1]);
+
+    private final long firstEpochDay;
+    private final int length;
+    private final long[] words;
+    private final int[] ranks;
+
+    private BitsetHolidayIndex(long firstEpochDay, int length, long[] words, int[] ranks) {
+        this.firstEpochDay = firstEpochDay;
+        this.length = length;
+        this.words = words;
+        this.ranks = ranks;
+    }
+
+    /**
+     * Строит индекс для диапазона {@code [firstEpochDay, firstEpochDay + length)}.
+     * Праздники вне диапазона игнорируются.
+     *
+     * @param firstEpochDay первый день диапазона
+     * @param length        длина диапазона в днях
+     * @param holidays      праздничные дни
+     * @return индекс праздничных дней
+     */
+    static BitsetHolidayIndex of(long firstEpochDay, int length, Collection<LocalDate> holidays) {
+        return build(firstEpochDay, length, new long[(length >>> 6) + 1], holidays);
+    }
+
+    /**
+     * Строит индекс для диапазона {@code [firstEpochDay, firstEpochDay + length)} по готовой битовой карте.
+     * Биты за пределами диапазона должны быть сброшены.
+     *
+     * @param firstEpochDay первый день диапазона
+     * @param length        длина диапазона в днях
+     * @param words         битовая карта праздников по 64-дневным словам
+     * @return индекс праздничных дней
+     */
+    static BitsetHolidayIndex fromWords(long firstEpochDay, int length, long[] words) {
+        return build(firstEpochDay, length, Arrays.copyOf(words, (length >>> 6) + 1), List.of());
+    }
+
+    @Override
+    public HolidayIndex plus(Collection<LocalDate> holidays) {
+        final BitsetHolidayIndex merged = build(firstEpochDay, length, words.clone(), holidays);
+        return merged.equals(this) ? this : merged;
+    }
+
+    private static BitsetHolidayIndex build(long firstEpochDay, int length, long[] words, Collection<LocalDate> holidays) {
+        for (LocalDate holiday : holidays) {
+            final long offset = holiday.toEpochDay() - firstEpochDay;
+            if (offset >= 0 && offset < length) {
+                words[(int) (offset >>> 6)] |= 1L << offset;
+            }
+        }
+
+        final int[] ranks = new int[words.length];
+        for (int i = 1; i < words.length; i++) {
+            ranks[i] = ranks[i - 1] + Long.bitCount(words[i - 1]);
+        }
+
+        return new BitsetHolidayIndex(firstEpochDay, length, words, ranks);
+    }
+
+    @Override
+    public boolean isHoliday(long epochDay) {
+        final long offset = epochDay - firstEpochDay;
+        return offset >= 0
+                && offset < length
+                && (words[(int) (offset >>> 6)] & (1L << offset)) != 0;
+    }
+
+    @Override
+    public int countBetween(long fromEpochDay, long toEpochDay) {
+        final long from = Math.max(fromEpochDay, firstEpochDay);
+        final long to = Math.min(toEpochDay, firstEpochDay + length - 1);
+        if (from > to) {
+            return 0;
+        }
+
+        return rank((int) (to - firstEpochDay + 1)) - rank((int) (from - firstEpochDay));
+    }
+
+    @Override
+    public int count() {
+        return rank(length);
+    }
+
+    /**
+     * Подсчитывает количество праздников со смещением строго меньше указанного.
+     *
+     * @param offset смещение от начала индекса
+     * @return количество праздников до смещения
+     */
+    private int rank(int offset) {
+        final int word = offset >>> 6;
+        return ranks[word] + Long.bitCount(words[word] & ((1L << offset) - 1));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BitsetHolidayIndex)) {
+            return false;
+        }
+        final BitsetHolidayIndex that = (BitsetHolidayIndex) o;
+        return firstEpochDay == that.firstEpochDay
+                && length == that.length
+                && Arrays.equals(words, that.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Long.hashCode(firstEpochDay) + length) + Arrays.hashCode(words);
+    }
+}
@@ -0,0 +1,207 @@
+package ru.viktorgezz.vacation_pay_calculator.holiday;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Кэш календаря праздничных дней перед внешним источником {@link HolidayCalendarSource}.
+ * Календарь загружается в фоне заранее, за {@code holidays.source.refresh-ahead} до истечения
+ * {@code holidays.source.ttl}, и публикуется готовым снимком, поэтому запросы расчета никогда не ждут источник.
+ * При недоступности источника продолжает обслуживаться последний загруженный снимок,
+ * а обновление повторяется с интервалом {@code holidays.source.retry-interval}.
+ * Если источник недоступен уже при старте, до первой успешной загрузки календарь строится по правилам,
+ * а {@link HolidayCalendarHealthIndicator} сообщает, что экземпляр не готов принимать трафик.
+ * Внешние источники не хранят время публикации и прежние версии календаря, поэтому версия помечается
+ * временем загрузки, в которой было получено ее содержимое.
+ */
+@Component
+@ConditionalOnProperty(prefix = "holidays", name = "backend", havingValue = "source")
+public class CachingHolidayCalendar implements HolidayCalendarProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(CachingHolidayCalendar.class);
+
+    private final HolidayCalendarSource holidayCalendarSource;
+    private final HolidayRuleGenerator holidayRuleGenerator;
+    private final Duration ttl;
+    private final Duration refreshInterval;
+    private final Duration retryInterval;
+    private final ScheduledExecutorService refreshExecutor;
+
+    private volatile HolidayCalendarHistory history;
+    private volatile Instant refreshedAt;
+
+    public CachingHolidayCalendar(
+            HolidayCalendarSource holidayCalendarSource,
+            HolidayProperties holidayProperties,
+            HolidayRuleGenerator holidayRuleGenerator
+    ) {
+        final HolidayProperties.Source source = holidayProperties.getSource();
+        if (source.getRefreshAhead().compareTo(source.getTtl()) >= 0) {
+            throw new IllegalStateException("holidays.source.refresh-ahead must be shorter than holidays.source.ttl");
+        }
+
+        this.holidayCalendarSource = holidayCalendarSource;
+        this.holidayRuleGenerator = holidayRuleGenerator;
+        this.ttl = source.getTtl();
+        this.refreshInterval = source.getTtl().minus(source.getRefreshAhead());
+        this.retryInterval = source.getRetryInterval();
+        this.history = HolidayCalendarHistory.empty(holidayProperties.getHistorySize());
+        this.refreshExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "holiday-calendar-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Загружает календарь при старте и планирует фоновые обновления.
+     */
+    @PostConstruct
+    public void start() {
+        refresh();
+    }
+
+    @PreDestroy
+    public void stop() {
+        refreshExecutor.shutdownNow();
+    }
+
+    @Override
+    public HolidayCalendarSnapshot getSnapshot() {
+        return history.latest();
+    }
+
+    @Override
+    public HolidayCalendarSnapshot getSnapshot(Instant asOf) {
+        return history.asOf(asOf);
+    }
+
+    /**
+     * Возвращает момент последней успешной загрузки календаря из источника.
+     *
+     * @return момент загрузки или null, если календарь еще не загружался
+     */
+    public Instant getRefreshedAt() {
+        return refreshedAt;
+    }
+
+    /**
+     * Загружает календарь из источника и публикует новый снимок, если календарь изменился.
+     * Следующее обновление планируется заранее до истечения времени жизни,
+     * а после ошибки — через интервал повторной попытки.
+     */
+    void refresh() {
+        Duration nextRefresh;
+        try {
+            final Map<Integer, List<LocalDate>> holidaysByYear = holidayCalendarSource.load();
+            this.refreshedAt = Instant.now();
+            publishIfChanged(holidaysByYear);
+            nextRefresh = refreshInterval;
+        } catch (IOException | RuntimeException e) {
+            if (history.latest() == null) {
+                publish(new HolidayCalendarSnapshot(1, 0, Instant.now(), Set.of(), year -> HolidayIndex.empty(),
+                        holidayRuleGenerator::generate));
+            }
+            if (refreshedAt == null) {
+                log.error("Holiday calendar has never been loaded from {}, serving rule-based fallback version {}",
+                        holidayCalendarSource, history.latest().getVersion(), e);
+            } else {
+                log.warn("Holiday calendar refresh from {} failed, serving version {} loaded at {}{}",
+                        holidayCalendarSource, history.latest().getVersion(), refreshedAt,
+                        isExpired() ? " (expired)" : "", e);
+            }
+            nextRefresh = retryInterval;
+        }
+
+        if (!refreshExecutor.isShutdown()) {
+            refreshExecutor.schedule(this::refresh, nextRefresh.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Строит индексы всех лет заранее и публикует снимок, если содержимое календаря изменилось.
+     * Индексы лет, совпадающие с предыдущей версией, разделяются с ней.
+     *
+     * @param holidaysByYear праздничные дни по годам
+     */
+    private void publishIfChanged(Map<Integer, List<LocalDate>> holidaysByYear) {
+        final HolidayCalendarSnapshot current = history.latest();
+        final long checksum = checksumOf(holidaysByYear);
+        if (current != null && current.getChecksum() == checksum) {
+            return;
+        }
+
+        final Map<Integer, HolidayIndex> indexesByYear = new HashMap<>();
+        holidaysByYear.forEach((year, holidays) -> {
+            final HolidayIndex index = HolidayIndex.of(
+                    LocalDate.of(year, 1, 1).toEpochDay(),
+                    Year.of(year).length(),
+                    holidays
+            );
+            final HolidayIndex shared = current != null && current.getYears().contains(year)
+                    ? current.getHolidayIndex(year)
+                    : null;
+            indexesByYear.put(year, index.equals(shared) ? shared : index);
+        });
+
+        publish(new HolidayCalendarSnapshot(
+                current == null ? 1 : current.getVersion() + 1,
+                checksum,
+                history.nextPublishedAt(refreshedAt),
+                indexesByYear.keySet(),
+                indexesByYear::get,
+                holidayRuleGenerator::generate
+        ));
+    }
+
+    private void publish(HolidayCalendarSnapshot snapshot) {
+        this.history = history.append(snapshot);
+        log.info("Holiday calendar version {} published from {} for years: {}",
+                snapshot.getVersion(), holidayCalendarSource, snapshot.getYears());
+    }
+
+    private boolean isExpired() {
+        return refreshedAt == null || refreshedAt.plus(ttl).isBefore(Instant.now());
+    }
+
+    /**
+     * Вычисляет контрольную сумму праздничных дней по годам, не зависящую от порядка строк источника.
+     * Снимок, построенный по правилам до первой загрузки, имеет нулевую контрольную сумму.
+     *
+     * @param holidaysByYear праздничные дни по годам
+     * @return контрольная сумма
+     */
+    private static long checksumOf(Map<Integer, List<LocalDate>> holidaysByYear) {
+        long checksum = 1;
+        for (Map.Entry<Integer, List<LocalDate>> entry : new TreeMap<>(holidaysByYear).entrySet()) {
+            checksum = 31 * checksum + entry.getKey();
+            final long[] epochDays = entry.getValue()
+                    .stream()
+                    .mapToLong(LocalDate::toEpochDay)
+                    .sorted()
+                    .toArray();
+            for (long epochDay : epochDays) {
+                checksum = 31 * checksum + epochDay;
+            }
+        }
+        return checksum;
+    }
+}
@@ -0,0 +1,217 @@
+package ru.viktorgezz.vacation_pay_calculator.holiday;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+
+/**
+ * Скомпилированный календарь праздничных дней в двоичном формате фиксированной разметки.
+ * Файл собирается на этапе сборки {@link HolidayCalendarCompiler} и читается при старте одним чтением,
+ * без разбора JSON.
+ *
+ * <p>Разметка: заголовок (сигнатура, версия формата, контрольная сумма исходных файлов, первый год,
+ * количество лет), затем по одной записи на каждый год подряд начиная с первого.
+ * Запись года содержит битовую карту дней года, накопленные суммы по 64-дневным словам,
+ * признак наличия календаря и общее количество праздников. При открытии файла накопленные суммы и количество
+ * праздников каждого года сверяются с битовой картой, поэтому поврежденный файл отклоняется, а не дает неверный расчет.
+ */
+public final class HolidayCalendarBinary {
+
+    static final int MAGIC = 0x48434C31;
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_SIZE = 24;
+    static final int WORDS_PER_YEAR = 6;
+    static final int YEAR_SIZE = WORDS_PER_YEAR * Long.BYTES + WORDS_PER_YEAR * Integer.BYTES + 2 * Integer.BYTES;
+    static final int OFFSET_RANKS = WORDS_PER_YEAR * Long.BYTES;
+    static final int OFFSET_PRESENT = OFFSET_RANKS + WORDS_PER_YEAR * Integer.BYTES;
+    static final int OFFSET_COUNT = OFFSET_PRESENT + Integer.BYTES;
+
+    private static final int OFFSET_CHECKSUM = 8;
+    private static final int OFFSET_FIRST_YEAR = 16;
+    private static final int OFFSET_YEAR_COUNT = 20;
+
+    private final ByteBuffer buffer;
+    private final long checksum;
+    private final int firstYear;
+    private final int yearCount;
+
+    private HolidayCalendarBinary(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.checksum = buffer.getLong(OFFSET_CHECKSUM);
+        this.firstYear = buffer.getInt(OFFSET_FIRST_YEAR);
+        this.yearCount = buffer.getInt(OFFSET_YEAR_COUNT);
+    }
+
+    /**
+     * Оборачивает содержимое скомпилированного календаря, проверяя заголовок и записи всех лет.
+     *
+     * @param buffer содержимое файла календаря
+     * @return скомпилированный календарь
+     * @throws IllegalArgumentException если формат файла не поддерживается или запись года повреждена
+     */
+    public static HolidayCalendarBinary wrap(ByteBuffer buffer) {
+        if (buffer.capacity() < HEADER_SIZE
+                || buffer.getInt(0) != MAGIC
+                || buffer.getInt(Integer.BYTES) != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported compiled holiday calendar format");
+        }
+
+        final HolidayCalendarBinary binary = new HolidayCalendarBinary(buffer);
+        if (buffer.capacity() < HEADER_SIZE + (long) binary.yearCount * YEAR_SIZE) {
+            throw new IllegalArgumentException("Compiled holiday calendar is truncated");
+        }
+        for (int offset = 0; offset < binary.yearCount; offset++) {
+            binary.readWords(binary.firstYear + offset, HEADER_SIZE + offset * YEAR_SIZE);
+        }
+        return binary;
+    }
+
+    /**
+     * Кодирует праздничные дни по годам в двоичный формат.
+     *
+     * @param checksum        контрольная сумма исходных файлов календаря
+     * @param holidaysByYear  праздничные дни по годам
+     * @return содержимое файла календаря
+     * @throws IllegalArgumentException если праздничный день относится к другому году
+     */
+    public static byte[] encode(long checksum, Map<Integer, ? extends Collection<LocalDate>> holidaysByYear) {
+        final int firstYear = holidaysByYear.isEmpty() ? 0 : Collections.min(holidaysByYear.keySet());
+        final int yearCount = holidaysByYear.isEmpty() ? 0 : Collections.max(holidaysByYear.keySet()) - firstYear + 1;
+
+        final ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + yearCount * YEAR_SIZE);
+        buffer.putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putLong(checksum)
+                .putInt(firstYear)
+                .putInt(yearCount);
+
+        holidaysByYear.forEach((year, holidays) -> {
+            final long[] words = new long[WORDS_PER_YEAR];
+            final long jan1 = LocalDate.of(year, 1, 1).toEpochDay();
+            for (LocalDate holiday : holidays) {
+                if (holiday.getYear() != year) {
+                    throw new IllegalArgumentException(
+                            "Holiday calendar for " + year + " contains date of another year: " + holiday);
+                }
+                final long offset = holiday.toEpochDay() - jan1;
+                words[(int) (offset >>> 6)] |= 1L << offset;
+            }
+
+            final int position = HEADER_SIZE + (year - firstYear) * YEAR_SIZE;
+            int rank = 0;
+            for (int i = 0; i < WORDS_PER_YEAR; i++) {
+                buffer.putLong(position + i * Long.BYTES, words[i]);
+                buffer.putInt(position + OFFSET_RANKS + i * Integer.BYTES, rank);
+                rank += Long.bitCount(words[i]);
+            }
+            buffer.putInt(position + OFFSET_PRESENT, 1);
+            buffer.putInt(position + OFFSET_COUNT, rank);
+        });
+
+        return buffer.array();
+    }
+
+    /**
+     * Вычисляет контрольную сумму содержимого файлов календаря.
+     *
+     * @param sourcesByYear содержимое файлов по годам в порядке возрастания
+     * @return контрольная сумма
+     */
+    public static long checksumOf(Map<Integer, byte[]> sourcesByYear) {
+        final CRC32 crc = new CRC32();
+        sourcesByYear.forEach((year, source) -> {
+            crc.update(String.valueOf(year).getBytes(StandardCharsets.US_ASCII));
+            crc.update(source);
+        });
+        return crc.getValue();
+    }
+
+    /**
+     * Строит индекс праздничных дней года из записи календаря.
+     *
+     * @param year год, присутствующий в календаре
+     * @return индекс праздничных дней года
+     */
+    public HolidayIndex readYear(int year) {
+        final long[] words = readWords(year, positionOf(year));
+        return BitsetHolidayIndex.fromWords(LocalDate.of(year, 1, 1).toEpochDay(), Year.of(year).length(), words);
+    }
+
+    /**
+     * Возвращает индекс праздничных дней года, читающий запись календаря напрямую из буфера без копирования.
+     *
+     * @param year год, присутствующий в календаре
+     * @return индекс праздничных дней года
+     */
+    public HolidayIndex viewYear(int year) {
+        return new MappedHolidayIndex(
+                buffer,
+                positionOf(year),
+                LocalDate.of(year, 1, 1).toEpochDay(),
+                Year.of(year).length()
+        );
+    }
+
+    /**
+     * Возвращает годы, для которых в календаре есть запись.
+     *
+     * @return множество лет
+     */
+    public Set<Integer> getYears() {
+        final Set<Integer> years = new TreeSet<>();
+        for (int offset = 0; offset < yearCount; offset++) {
+            if (buffer.getInt(HEADER_SIZE + offset * YEAR_SIZE + OFFSET_PRESENT) != 0) {
+                years.add(firstYear + offset);
+            }
+        }
+        return years;
+    }
+
+    public long getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Читает битовую карту года, сверяя с ней сохраненные накопленные суммы и количество праздников.
+     * Биты за пределами длины года должны быть нулевыми.
+     */
+    private long[] readWords(int year, int position) {
+        final long[] words = new long[WORDS_PER_YEAR];
+        final int yearLength = Year.of(year).length();
+        int rank = 0;
+        for (int i = 0; i < WORDS_PER_YEAR; i++) {
+            words[i] = buffer.getLong(position + i * Long.BYTES);
+            final int firstDay = i * Long.SIZE;
+            final long daysMask = yearLength - firstDay >= Long.SIZE ? -1L
+                    : yearLength <= firstDay ? 0L
+                    : (1L << (yearLength - firstDay)) - 1;
+            if ((words[i] & ~daysMask) != 0 || buffer.getInt(position + OFFSET_RANKS + i * Integer.BYTES) != rank) {
+                throw corrupt(year);
+            }
+            rank += Long.bitCount(words[i]);
+        }
+        if (buffer.getInt(position + OFFSET_COUNT) != rank) {
+            throw corrupt(year);
+        }
+        return words;
+    }
+
+    private static IllegalArgumentException corrupt(int year) {
+        return new IllegalArgumentException("Compiled holiday calendar record is corrupt for year " + year);
+    }
+
+    private int positionOf(int year) {
+        final int offset = year - firstYear;
+        if (offset < 0 || offset >= yearCount) {
+            throw new IllegalArgumentException("Year is missing in compiled holiday calendar: " + year);
+        }
+        return HEADER_SIZE + offset * YEAR_SIZE;
+    }
+}
@@ -0,0 +1,79 @@
+package ru.viktorgezz.vacation_pay_calculator.holiday;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+
+/**
+ * Компилятор календаря праздничных дней, запускаемый на этапе сборки.
+ * Собирает файлы {@code holidays_<год>.json} каталога в двоичный файл {@link HolidayCalendarBinary},
+ * который приложение читает при старте без разбора JSON.
+ * Даты проверяются так же, как при загрузке JSON: некорректная дата или дата другого года прерывает сборку.
+ */
+public final class HolidayCalendarCompiler {
+
+    private static final Logger log = LoggerFactory.getLogger(HolidayCalendarCompiler.class);
+
+    private HolidayCalendarCompiler() {
+    }
+
+    /**
+     * Компилирует календарь каталога.
+     *
+     * @param args каталог с файлами календаря
+     * @throws IOException если произошла ошибка при чтении или записи файлов
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: HolidayCalendarCompiler <holidays directory>");
+        }
+        compile(Paths.get(args[0]));
+    }
+
+    /**
+     * Компилирует файлы календаря каталога в файл {@link JsonHolidayCalendar#COMPILED_FILE_NAME} того же каталога.
+     *
+     * @param directory каталог с файлами календаря
+     * @return путь к скомпилированному календарю
+     * @throws IOException              если произошла ошибка при чтении или записи файлов
+     * @throws IllegalArgumentException если дата некорректна или относится к другому году
+     */
+    public static Path compile(Path directory) throws IOException {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final Map<Integer, byte[]> sourcesByYear = new TreeMap<>();
+        final Map<Integer, List<LocalDate>> holidaysByYear = new TreeMap<>();
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, JsonHolidayCalendar.FILE_NAME_WILDCARD)) {
+            for (Path file : files) {
+                final Matcher matcher = JsonHolidayCalendar.FILE_NAME_PATTERN.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    final int year = Integer.parseInt(matcher.group(1));
+                    final byte[] source = Files.readAllBytes(file);
+                    final List<String> dateStrings = objectMapper.readValue(source, new TypeReference<>() {
+                    });
+
+                    sourcesByYear.put(year, source);
+                    holidaysByYear.put(year, JsonHolidayCalendar.parseDates(year, dateStrings));
+                }
+            }
+        }
+
+        final Path output = directory.resolve(JsonHolidayCalendar.COMPILED_FILE_NAME);
+        Files.write(output, HolidayCalendarBinary.encode(HolidayCalendarBinary.checksumOf(sourcesByYear), holidaysByYear));
+
+        log.info("Holiday calendar compiled to {} for years: {}", output, holidaysByYear.keySet());
+        return output;
+    }
+}
@@ -0,0 +1,39 @@
+package ru.viktorgezz.vacation_pay_calculator.holiday;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Состояние календаря праздничных дней из внешнего источника для {@code /actuator/health}
+ * и группы готовности {@code readiness}.
+ * Пока календарь ни разу не загружен из источника, расчеты используют календарь по правилам без переносов
+ * из источника, поэтому индикатор сообщает {@code DOWN} и экземпляр не принимает трафик.
+ */
+@Component
+@ConditionalOnProperty(prefix = "holidays", name = "backend", havingValue = "source")
+public class HolidayCalendarHealthIndicator implements HealthIndicator {
+
+    private final CachingHolidayCalendar cachingHolidayCalendar;
+
+    public HolidayCalendarHealthIndicator(CachingHolidayCalendar cachingHolidayCalendar) {
+        this.cachingHolidayCalendar = cachingHolidayCalendar;
+    }
+
+    @Override
+    public Health health() {
+        final Instant refreshedAt = cachingHolidayCalendar.getRefreshedAt();
+        if (refreshedAt == null) {
+            return Health.down()
+                    .withDetail("reason", "Holiday calendar has not been loaded from the source yet")
+                    .build();
+        }
+        return Health.up()
+                .withDetail("version", cachingHolidayCalendar.getSnapshot().getVersion())
+                .withDetail("refreshedAt", refreshedAt.toString())
+                .build();
+    }
+}
@@ -0,0 +1,113 @@
+package ru.viktorgezz.vacation_pay_calculator.holiday;
+
+import ru.viktorgezz.vacation_pay_calculator.exception.BusinessException;
+import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
+
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Неизменяемая история опубликованных версий календаря праздничных дней.
+ * Добавление версии возвращает новую историю, прежние экземпляры остаются действительными.
+ * Версии разделяют индексы неизмененных лет, поэтому хранение истории почти не требует дополнительной памяти,
+ * а поиск версии на момент времени выполняется двоичным поиском по времени публикации из источника.
+ * История хранит не более заданного количества последних версий; более ранние версии вытесняются,
+ * поэтому момент раньше самой ранней сохраненной версии отклоняется.
+ */
+public final class HolidayCalendarHistory {
+
+    private final HolidayCalendarSnapshot[] snapshots;
+    private final int maxSize;
+
+    private HolidayCalendarHistory(HolidayCalendarSnapshot[] snapshots, int maxSize) {
+        this.snapshots = snapshots;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Возвращает пустую историю.
+     *
+     * @param maxSize максимальное количество хранимых версий
+     * @return пустая история
+     */
+    public static HolidayCalendarHistory empty(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalStateException("holidays.history-size must be greater than 0");
+        }
+        return new HolidayCalendarHistory(new HolidayCalendarSnapshot[0], maxSize);
+    }
+
+    /**
+     * Возвращает историю, дополненную новой версией календаря.
+     * Если история заполнена, самая ранняя версия вытесняется.
+     *
+     * @param snapshot опубликованный снимок календаря
+     * @return новая история
+     * @throws IllegalArgumentException если снимок опубликован раньше последней версии
+     */
+    public HolidayCalendarHistory append(HolidayCalendarSnapshot snapshot) {
+        final HolidayCalendarSnapshot latest = latest();
+        if (latest != null && latest.getPublishedAt().isAfter(snapshot.getPublishedAt())) {
+            throw new IllegalArgumentException("Holiday calendar version " + snapshot.getVersion()
+                    + " is published before version " + latest.getVersion());
+        }
+        final int from = snapshots.length < maxSize ? 0 : snapshots.length - maxSize + 1;
+        final HolidayCalendarSnapshot[] appended = Arrays.copyOfRange(snapshots, from, snapshots.length + 1);
+        appended[appended.length - 1] = snapshot;
+        return new HolidayCalendarHistory(appended, maxSize);
+    }
+
+    /**
+     * Возвращает последнюю опубликованную версию календаря.
+     *
+     * @return снимок календаря или null, если история пуста
+     */
+    public HolidayCalendarSnapshot latest() {
+        return snapshots.length == 0 ? null : snapshots[snapshots.length - 1];
+    }
+
+    /**
+     * Возвращает время публикации следующей версии: время из источника, но не раньше последней версии,
+     * если часы источника отстают.
+     *
+     * @param publishedAt время публикации из источника
+     * @return время публикации, не нарушающее порядок истории
+     */
+    public Instant nextPublishedAt(Instant publishedAt) {
+        final HolidayCalendarSnapshot latest = latest();
+        return latest == null || !latest.getPublishedAt().isAfter(publishedAt) ? publishedAt : latest.getPublishedAt();
+    }
+
+    /**
+     * Возвращает версию календаря, действовавшую в указанный момент.
+     *
+     * @param instant момент времени; null соответствует текущей версии
+     * @return снимок календаря или null, если история пуста
+     * @throws BusinessException если момент раньше публикации самой ранней сохраненной версии
+     */
+    public HolidayCalendarSnapshot asOf(Instant instant) {
+        if (instant == null || snapshots.length == 0) {
+            return latest();
+        }
+        if (snapshots[0].getPublishedAt().isAfter(instant)) {
+            throw new BusinessException(ErrorCode.HOLIDAY_CALENDAR_VERSION_UNAVAILABLE,
+                    instant.toString(), snapshots[0].getPublishedAt().toString());
+        }
+
+        int low = 0;
+        int high = snapshots.length - 1;
+        while (low < high) {
+            final int middle = (low + high + 1) >>> 1;
+            if (snapshots[middle].getPublishedAt().isAfter(instant)) {
+                high = middle - 1;
+            } else {
+                low = middle;
+            }
+        }
+        return snapshots[low];
+    }
+
+    public int size() {
+        return snapshots.length;
+    }
+}
@@ -0,0 +1,24 @@
+package ru.viktorgezz.vacation_pay_calculator.holiday;
+
+import java.time.Instant;
+
+/**
+ * Источник опубликованных снимков календаря праздничных дней.
+ */
+public interface HolidayCalendarProvider {
+
+    /**
+     * Возвращает текущий снимок календаря.
+     *
+     * @return снимок календаря
+     */
+    HolidayCalendarSnapshot getSnapshot();
+
+    /**
+     * Возвращает снимок календаря, действовавший в указанный момент.
+     *
+     * @param asOf момент времени; null соответствует текущему снимку
+     * @return снимок календаря
+     */
+    HolidayCalendarSnapshot getSnapshot(Instant asOf);
+}
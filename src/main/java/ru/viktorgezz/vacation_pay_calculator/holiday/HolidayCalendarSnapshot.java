@@ -0,0 +1,116 @@
+package ru.viktorgezz.vacation_pay_calculator.holiday;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+
+/**
+ * Неизменяемый снимок календаря праздничных дней.
+ * Снимок помечается временем публикации календаря, взятым из источника, а не временем загрузки,
+ * поэтому экземпляры сервиса, запущенные в разное время, одинаково выбирают версию на момент {@code asOf}.
+ * Набор лет и их исходные данные фиксируются при создании снимка,
+ * индекс каждого года запрашивается у загрузчика лениво при первом обращении; загрузчик может строить индекс
+ * по требованию или возвращать индекс, построенный заранее при проверке исходных данных.
+ * Для лет без исходных данных используется резервный источник, например генератор по правилам.
+ */
+public final class HolidayCalendarSnapshot {
+
+    private final long version;
+    private final long checksum;
+    private final Instant publishedAt;
+    private final Set<Integer> years;
+    private final int firstYear;
+    private final boolean[] yearsPresent;
+    private final AtomicReferenceArray<HolidayIndex> indexesByYear;
+    private final IntFunction<HolidayIndex> yearLoader;
+    private final IntFunction<HolidayIndex> fallback;
+
+    public HolidayCalendarSnapshot(
+            long version,
+            long checksum,
+            Instant publishedAt,
+            Set<Integer> years,
+            IntFunction<HolidayIndex> yearLoader
+    ) {
+        this(version, checksum, publishedAt, years, yearLoader, year -> HolidayIndex.empty());
+    }
+
+    public HolidayCalendarSnapshot(
+            long version,
+            long checksum,
+            Instant publishedAt,
+            Set<Integer> years,
+            IntFunction<HolidayIndex> yearLoader,
+            IntFunction<HolidayIndex> fallback
+    ) {
+        this.version = version;
+        this.checksum = checksum;
+        this.publishedAt = publishedAt;
+        this.years = Collections.unmodifiableSet(new TreeSet<>(years));
+        this.firstYear = years.isEmpty() ? 0 : Collections.min(years);
+        this.yearsPresent = new boolean[years.isEmpty() ? 0 : Collections.max(years) - firstYear + 1];
+        this.indexesByYear = new AtomicReferenceArray<>(yearsPresent.length);
+        this.yearLoader = yearLoader;
+        this.fallback = fallback;
+
+        for (int year : years) {
+            yearsPresent[year - firstYear] = true;
+        }
+    }
+
+    /**
+     * Возвращает индекс праздничных дней указанного года, строя его при первом обращении.
+     * Для лет, отсутствующих в снимке, индекс берется из резервного источника.
+     *
+     * @param year год
+     * @return индекс праздничных дней года
+     */
+    public HolidayIndex getHolidayIndex(int year) {
+        final int offset = year - firstYear;
+        if (offset < 0 || offset >= yearsPresent.length || !yearsPresent[offset]) {
+            return fallback.apply(year);
+        }
+
+        final HolidayIndex holidayIndex = indexesByYear.get(offset);
+        if (holidayIndex != null) {
+            return holidayIndex;
+        }
+
+        indexesByYear.compareAndSet(offset, null, yearLoader.apply(year));
+        return indexesByYear.get(offset);
+    }
+
+    /**
+     * Возвращает годы, индексы которых уже построены.
+     *
+     * @return множество загруженных лет
+     */
+    public Set<Integer> getLoadedYears() {
+        final Set<Integer> loadedYears = new TreeSet<>();
+        for (int offset = 0; offset < yearsPresent.length; offset++) {
+            if (indexesByYear.get(offset) != null) {
+                loadedYears.add(firstYear + offset);
+            }
+        }
+        return loadedYears;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public long getChecksum() {
+        return checksum;
+    }
+
+    public Instant getPublishedAt() {
+        return publishedAt;
+    }
+
+    public Set<Integer> getYears() {
+        return years;
+    }
+}
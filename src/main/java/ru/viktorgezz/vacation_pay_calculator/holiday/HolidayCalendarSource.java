@@ -0,0 +1,39 @@
+package ru.viktorgezz.vacation_pay_calculator.holiday;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Внешний источник календаря праздничных дней.
+ * Источник вызывается только фоновым обновлением {@link CachingHolidayCalendar},
+ * поэтому может выполнять блокирующий ввод-вывод: запросы расчета к нему не обращаются.
+ */
+public interface HolidayCalendarSource {
+
+    /**
+     * Загружает праздничные дни из хранилища.
+     *
+     * @return праздничные дни по годам
+     * @throws IOException если хранилище недоступно или вернуло некорректные данные
+     */
+    Map<Integer, List<LocalDate>> load() throws IOException;
+
+    /**
+     * Группирует праздничные дни по годам.
+     *
+     * @param holidays праздничные дни
+     * @return праздничные дни по годам в порядке возрастания
+     */
+    static Map<Integer, List<LocalDate>> groupByYear(Collection<LocalDate> holidays) {
+        final Map<Integer, List<LocalDate>> holidaysByYear = new TreeMap<>();
+        for (LocalDate holiday : holidays) {
+            holidaysByYear.computeIfAbsent(holiday.getYear(), year -> new ArrayList<>()).add(holiday);
+        }
+        return holidaysByYear;
+    }
+}
@@ -0,0 +1,90 @@
+package ru.viktorgezz.vacation_pay_calculator.holiday;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Компактный индекс праздничных дней по эпохальным дням ({@link LocalDate#toEpochDay()}).
+ * Количество праздников в любом диапазоне считается за константное время без аллокаций.
+ * Индекс может храниться в куче ({@link BitsetHolidayIndex}) или читаться напрямую из отображенного в память
+ * файла календаря ({@link MappedHolidayIndex}).
+ */
+public interface HolidayIndex {
+
+    /**
+     * Возвращает пустой индекс без праздничных дней.
+     *
+     * @return пустой индекс
+     */
+    static HolidayIndex empty() {
+        return BitsetHolidayIndex.EMPTY;
+    }
+
+    /**
+     * Строит индекс, покрывающий диапазон от самого раннего до самого позднего праздника.
+     *
+     * @param holidays праздничные дни
+     * @return индекс праздничных дней
+     */
+    static HolidayIndex of(Collection<LocalDate> holidays) {
+        if (holidays == null || holidays.isEmpty()) {
+            return empty();
+        }
+
+        long minEpochDay = Long.MAX_VALUE;
+        long maxEpochDay = Long.MIN_VALUE;
+        for (LocalDate holiday : holidays) {
+            minEpochDay = Math.min(minEpochDay, holiday.toEpochDay());
+            maxEpochDay = Math.max(maxEpochDay, holiday.toEpochDay());
+        }
+
+        return of(minEpochDay, Math.toIntExact(maxEpochDay - minEpochDay + 1), holidays);
+    }
+
+    /**
+     * Строит индекс для диапазона {@code [firstEpochDay, firstEpochDay + length)}.
+     * Праздники вне диапазона игнорируются.
+     *
+     * @param firstEpochDay первый день диапазона
+     * @param length        длина диапазона в днях
+     * @param holidays      праздничные дни
+     * @return индекс праздничных дней
+     */
+    static HolidayIndex of(long firstEpochDay, int length, Collection<LocalDate> holidays) {
+        return BitsetHolidayIndex.of(firstEpochDay, length, holidays);
+    }
+
+    /**
+     * Строит индекс того же диапазона, дополненный указанными праздниками.
+     * Если дополнительных праздников в диапазоне нет, возвращается текущий индекс.
+     *
+     * @param holidays дополнительные праздничные дни
+     * @return индекс с объединенными праздниками
+     */
+    HolidayIndex plus(Collection<LocalDate> holidays);
+
+    /**
+     * Проверяет, является ли день праздничным.
+     *
+     * @param epochDay эпохальный день
+     * @return true, если день праздничный
+     */
+    boolean isHoliday(long epochDay);
+
+    /**
+     * Подсчитывает количество праздничных дней в диапазоне включительно.
+     * Части диапазона за пределами индекса праздников не содержат.
+     *
+     * @param fromEpochDay первый день диапазона
+     * @param toEpochDay   последний день диапазона
+     * @return количество праздничных дней
+     */
+    int countBetween(long fromEpochDay, long toEpochDay);
+
+    /**
+     * Возвращает общее количество праздничных дней в индексе.
+     *
+     * @return количество праздничных дней
+     */
+    int count();
+}
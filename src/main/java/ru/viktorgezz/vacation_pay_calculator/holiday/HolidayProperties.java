@@ -0,0 +1,296 @@
+package ru.viktorgezz.vacation_pay_calculator.holiday;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Настройки календаря праздничных дней.
+ */
+@ConfigurationProperties(prefix = "holidays")
+public class HolidayProperties {
+
+    /**
+     * Источник календаря: {@code json} для файлов {@link #location}, {@code mapped}
+     * для отображаемого в память файла {@link #mappedFile} или {@code source}
+     * для кэшируемого внешнего источника {@link #source}.
+     */
+    private String backend = "json";
+
+    /**
+     * Путь к скомпилированному файлу календаря, общему для всех экземпляров сервиса на хосте.
+     */
+    private String mappedFile;
+
+    /**
+     * Расположение файлов календаря вида {@code holidays_<год>.json}.
+     */
+    private String location = "classpath:holidays/";
+
+    /**
+     * Интервал проверки файлов календаря на изменения.
+     */
+    private Duration reloadInterval = Duration.ofMinutes(1);
+
+    /**
+     * Правила генерации праздников для лет без файла календаря: {@code MM-dd} или {@code MM-dd..MM-dd}.
+     */
+    private List<String> rules = new ArrayList<>();
+
+    /**
+     * Первый год окна, в котором календарь генерируется по правилам и кэшируется.
+     */
+    private int generatedFirstYear = 1900;
+
+    /**
+     * Последний год окна, в котором календарь генерируется по правилам и кэшируется.
+     */
+    private int generatedLastYear = 2199;
+
+    /**
+     * Максимальное количество хранимых версий календаря для запросов на прошлый момент {@code asOf}.
+     */
+    private int historySize = 100;
+
+    /**
+     * Региональные праздники сверх федеральных по идентификатору календаря, в формате правил {@link #rules}.
+     */
+    private Map<String, List<String>> regions = new LinkedHashMap<>();
+
+    /**
+     * Настройки внешнего источника календаря.
+     */
+    private final Source source = new Source();
+
+    public String getBackend() {
+        return backend;
+    }
+
+    public void setBackend(String backend) {
+        this.backend = backend;
+    }
+
+    public String getMappedFile() {
+        return mappedFile;
+    }
+
+    public void setMappedFile(String mappedFile) {
+        this.mappedFile = mappedFile;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public Duration getReloadInterval() {
+        return reloadInterval;
+    }
+
+    public void setReloadInterval(Duration reloadInterval) {
+        this.reloadInterval = reloadInterval;
+    }
+
+    public List<String> getRules() {
+        return rules;
+    }
+
+    public void setRules(List<String> rules) {
+        this.rules = rules;
+    }
+
+    public int getGeneratedFirstYear() {
+        return generatedFirstYear;
+    }
+
+    public void setGeneratedFirstYear(int generatedFirstYear) {
+        this.generatedFirstYear = generatedFirstYear;
+    }
+
+    public int getGeneratedLastYear() {
+        return generatedLastYear;
+    }
+
+    public void setGeneratedLastYear(int generatedLastYear) {
+        this.generatedLastYear = generatedLastYear;
+    }
+
+    public int getHistorySize() {
+        return historySize;
+    }
+
+    public void setHistorySize(int historySize) {
+        this.historySize = historySize;
+    }
+
+    public Map<String, List<String>> getRegions() {
+        return regions;
+    }
+
+    public void setRegions(Map<String, List<String>> regions) {
+        this.regions = regions;
+    }
+
+    public Source getSource() {
+        return source;
+    }
+
+    /**
+     * Настройки внешнего источника календаря и кэша перед ним.
+     */
+    public static class Source {
+
+        /**
+         * Тип источника: {@code json}, {@code jdbc} или {@code http}.
+         */
+        private String type;
+
+        /**
+         * Время жизни загруженного календаря.
+         */
+        private Duration ttl = Duration.ofMinutes(10);
+
+        /**
+         * За сколько до истечения времени жизни календарь обновляется в фоне.
+         */
+        private Duration refreshAhead = Duration.ofMinutes(2);
+
+        /**
+         * Интервал повторной попытки после неудачного обновления.
+         */
+        private Duration retryInterval = Duration.ofSeconds(30);
+
+        /**
+         * Таймаут обращения к источнику.
+         */
+        private Duration timeout = Duration.ofSeconds(5);
+
+        private final Jdbc jdbc = new Jdbc();
+
+        private final Http http = new Http();
+
+        public String getType() {
+            return type;
+        }
+
+        public void setType(String type) {
+            this.type = type;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public Duration getRefreshAhead() {
+            return refreshAhead;
+        }
+
+        public void setRefreshAhead(Duration refreshAhead) {
+            this.refreshAhead = refreshAhead;
+        }
+
+        public Duration getRetryInterval() {
+            return retryInterval;
+        }
+
+        public void setRetryInterval(Duration retryInterval) {
+            this.retryInterval = retryInterval;
+        }
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+
+        public Jdbc getJdbc() {
+            return jdbc;
+        }
+
+        public Http getHttp() {
+            return http;
+        }
+    }
+
+    /**
+     * Настройки источника календаря в базе данных.
+     */
+    public static class Jdbc {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        /**
+         * Запрос, возвращающий праздничные дни в первом столбце.
+         */
+        private String query = "SELECT holiday_date FROM holidays";
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+
+        public String getQuery() {
+            return query;
+        }
+
+        public void setQuery(String query) {
+            this.query = query;
+        }
+    }
+
+    /**
+     * Настройки источника календаря по HTTP.
+     */
+    public static class Http {
+
+        /**
+         * Адрес, возвращающий JSON-массив праздничных дней вида {@code ["2026-01-01", ...]}.
+         */
+        private URI uri;
+
+        public URI getUri() {
+            return uri;
+        }
+
+        public void setUri(URI uri) {
+            this.uri = uri;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package ru.viktorgezz.vacation_pay_calculator.holiday;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import ru.viktorgezz.vacation_pay_calculator.exception.BusinessException;
+import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Генератор календаря праздничных дней по декларативным правилам {@link HolidayRules}.
+ * Используется для лет, для которых нет явного файла календаря.
+ * Годы генерируются только в окне {@code holidays.generated-first-year}..{@code holidays.generated-last-year};
+ * для года вне окна выбрасывается {@link ErrorCode#HOLIDAY_CALENDAR_UNAVAILABLE}.
+ * Сгенерированные годы кэшируются без блокировок в ячейках по одной на год окна.
+ */
+@Component
+public class HolidayRuleGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(HolidayRuleGenerator.class);
+
+    private final HolidayRules holidayRules;
+    private final int firstYear;
+    private final int lastYear;
+    private final AtomicReferenceArray<HolidayIndex> indexesByYear;
+
+    public HolidayRuleGenerator(HolidayProperties holidayProperties) {
+        this.firstYear = holidayProperties.getGeneratedFirstYear();
+        this.lastYear = holidayProperties.getGeneratedLastYear();
+        if (firstYear > lastYear) {
+            throw new IllegalStateException(
+                    "holidays.generated-first-year must not be after holidays.generated-last-year");
+        }
+        this.holidayRules = HolidayRules.parse(holidayProperties.getRules());
+        this.indexesByYear = new AtomicReferenceArray<>(lastYear - firstYear + 1);
+    }
+
+    /**
+     * Возвращает индекс праздничных дней года, построенный по правилам.
+     *
+     * @param year год
+     * @return индекс праздничных дней года
+     * @throws BusinessException если год вне окна генерации
+     */
+    public HolidayIndex generate(int year) {
+        if (!isInWindow(year)) {
+            throw new BusinessException(ErrorCode.HOLIDAY_CALENDAR_UNAVAILABLE,
+                    String.valueOf(year), String.valueOf(firstYear), String.valueOf(lastYear));
+        }
+
+        final int offset = year - firstYear;
+        final HolidayIndex holidayIndex = indexesByYear.get(offset);
+        if (holidayIndex != null) {
+            return holidayIndex;
+        }
+
+        indexesByYear.compareAndSet(offset, null, buildYear(year));
+        return indexesByYear.get(offset);
+    }
+
+    /**
+     * Проверяет, входит ли год в окно генерации.
+     *
+     * @param year год
+     * @return true, если календарь года можно сгенерировать
+     */
+    public boolean isInWindow(int year) {
+        return year >= firstYear && year <= lastYear;
+    }
+
+    public int getFirstYear() {
+        return firstYear;
+    }
+
+    public int getLastYear() {
+        return lastYear;
+    }
+
+    private HolidayIndex buildYear(int year) {
+        log.debug("Holiday calendar for {} generated from {} rules", year, holidayRules.size());
+        return HolidayIndex.of(
+                LocalDate.of(year, 1, 1).toEpochDay(),
+                Year.of(year).length(),
+                holidayRules.datesIn(year)
+        );
+    }
+}
@@ -0,0 +1,77 @@
+package ru.viktorgezz.vacation_pay_calculator.holiday;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Набор ежегодно повторяющихся праздничных дней, заданных декларативными правилами.
+ * Правило задается датой вида {@code MM-dd} или диапазоном {@code MM-dd..MM-dd}.
+ */
+public final class HolidayRules {
+
+    private static final String RANGE_SEPARATOR = "..";
+    private static final int LEAP_YEAR = 2000;
+
+    private final List<MonthDay> holidays;
+
+    private HolidayRules(List<MonthDay> holidays) {
+        this.holidays = Collections.unmodifiableList(holidays);
+    }
+
+    /**
+     * Разбирает правила вида {@code MM-dd} и {@code MM-dd..MM-dd}.
+     *
+     * @param rules правила
+     * @return набор правил
+     * @throws IllegalArgumentException если диапазон правила перевернут
+     */
+    public static HolidayRules parse(List<String> rules) {
+        final List<MonthDay> holidays = new ArrayList<>();
+        for (String rule : rules) {
+            final int separator = rule.indexOf(RANGE_SEPARATOR);
+            final MonthDay first = parseMonthDay(separator < 0 ? rule : rule.substring(0, separator));
+            final MonthDay last = separator < 0 ? first : parseMonthDay(rule.substring(separator + RANGE_SEPARATOR.length()));
+            if (first.isAfter(last)) {
+                throw new IllegalArgumentException("Holiday rule range must not be reversed: " + rule);
+            }
+
+            final LocalDate dateLast = last.atYear(LEAP_YEAR);
+            for (LocalDate date = first.atYear(LEAP_YEAR); !date.isAfter(dateLast); date = date.plusDays(1)) {
+                holidays.add(MonthDay.from(date));
+            }
+        }
+        return new HolidayRules(holidays);
+    }
+
+    /**
+     * Возвращает праздничные дни указанного года.
+     * Даты, не существующие в году (29 февраля), пропускаются.
+     *
+     * @param year год
+     * @return праздничные дни года
+     */
+    public List<LocalDate> datesIn(int year) {
+        final List<LocalDate> dates = new ArrayList<>(holidays.size());
+        for (MonthDay holiday : holidays) {
+            if (holiday.isValidYear(year)) {
+                dates.add(holiday.atYear(year));
+            }
+        }
+        return dates;
+    }
+
+    public int size() {
+        return holidays.size();
+    }
+
+    public boolean isEmpty() {
+        return holidays.isEmpty();
+    }
+
+    private static MonthDay parseMonthDay(String value) {
+        return MonthDay.parse("--" + value.trim());
+    }
+}
@@ -1,5 +1,6 @@
 package ru.viktorgezz.vacation_pay_calculator.holiday;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Collection;
 
@@ -16,5 +17,107 @@ public interface HolidayService {
      * @return количество праздничных дней
      */
     int countHolidaysIn(Collection<LocalDate> dates);
-    
+
+    /**
+     * Подсчитывает количество праздничных дней в периоде включительно.
+     *
+     * @param dateStart дата начала периода
+     * @param dateEnd   дата окончания периода
+     * @return количество праздничных дней
+     */
+    int countHolidaysBetween(LocalDate dateStart, LocalDate dateEnd);
+
+    /**
+     * Подсчитывает количество праздничных дней в периоде включительно по указанному календарю.
+     *
+     * @param calendarId идентификатор календаря; null соответствует федеральному календарю
+     * @param dateStart  дата начала периода
+     * @param dateEnd    дата окончания периода
+     * @return количество праздничных дней
+     * @throws ru.viktorgezz.vacation_pay_calculator.exception.BusinessException если календарь не найден
+     */
+    int countHolidaysBetween(String calendarId, LocalDate dateStart, LocalDate dateEnd);
+
+    /**
+     * Подсчитывает количество праздничных дней в периоде включительно по указанному календарю
+     * в той версии, которая действовала в указанный момент.
+     *
+     * @param calendarId идентификатор календаря; null соответствует федеральному календарю
+     * @param dateStart  дата начала периода
+     * @param dateEnd    дата окончания периода
+     * @param asOf       момент, на который берется версия календаря; null соответствует текущей версии
+     * @return количество праздничных дней
+     * @throws ru.viktorgezz.vacation_pay_calculator.exception.BusinessException если календарь не найден
+     */
+    int countHolidaysBetween(String calendarId, LocalDate dateStart, LocalDate dateEnd, Instant asOf);
+
+    /**
+     * Подсчитывает количество праздничных дней в каждом из периодов включительно
+     * по одной версии календаря для всех периодов.
+     *
+     * @param calendarId идентификатор календаря; null соответствует федеральному календарю
+     * @param dateStarts даты начала периодов
+     * @param dateEnds   даты окончания периодов, в том же порядке
+     * @param asOf       момент, на который берется версия календаря; null соответствует текущей версии
+     * @return количество праздничных дней по периодам
+     * @throws ru.viktorgezz.vacation_pay_calculator.exception.BusinessException если календарь не найден
+     */
+    int[] countHolidaysBetween(String calendarId, LocalDate[] dateStarts, LocalDate[] dateEnds, Instant asOf);
+
+    /**
+     * Подсчитывает количество праздничных дней в каждом из периодов, заданных днями эпохи,
+     * по одной версии календаря для всех периодов. Индекс года переиспользуется для подряд идущих периодов
+     * одного года, поэтому подсчет не создает объектов на каждый период.
+     *
+     * @param calendarId    идентификатор календаря; null соответствует федеральному календарю
+     * @param fromEpochDays даты начала периодов в днях эпохи
+     * @param toEpochDays   даты окончания периодов в днях эпохи, в том же порядке
+     * @param asOf          момент, на который берется версия календаря; null соответствует текущей версии
+     * @return количество праздничных дней по периодам
+     * @throws ru.viktorgezz.vacation_pay_calculator.exception.BusinessException если календарь не найден
+     */
+    int[] countHolidaysBetween(String calendarId, long[] fromEpochDays, long[] toEpochDays, Instant asOf);
+
+    /**
+     * Возвращает признаки праздничных дней для каждого дня периода включительно по указанному календарю.
+     *
+     * @param calendarId идентификатор календаря; null соответствует федеральному календарю
+     * @param dateStart  дата начала периода
+     * @param dateEnd    дата окончания периода
+     * @param asOf       момент, на который берется версия календаря; null соответствует текущей версии
+     * @return массив, в котором элемент i соответствует дню {@code dateStart + i}
+     * @throws ru.viktorgezz.vacation_pay_calculator.exception.BusinessException если календарь не найден
+     */
+    boolean[] getHolidayFlags(String calendarId, LocalDate dateStart, LocalDate dateEnd, Instant asOf);
+
+    /**
+     * Находит самую раннюю дату окончания периода, начинающегося с указанной даты,
+     * в котором набирается указанное количество непраздничных (оплачиваемых) дней.
+     * Дата ищется двоичным поиском по количеству праздников, поэтому время поиска логарифмически зависит
+     * от длины периода, в том числе для периодов, захватывающих несколько лет.
+     *
+     * @param calendarId  идентификатор календаря; null соответствует федеральному календарю
+     * @param dateStart   дата начала периода
+     * @param payableDays количество оплачиваемых дней, не меньше 1
+     * @param asOf        момент, на который берется версия календаря; null соответствует текущей версии
+     * @return дата окончания периода; всегда непраздничный день
+     * @throws ru.viktorgezz.vacation_pay_calculator.exception.BusinessException если календарь не найден
+     */
+    LocalDate findDateEnd(String calendarId, LocalDate dateStart, int payableDays, Instant asOf);
+
+    /**
+     * Возвращает версию опубликованного снимка календаря праздничных дней.
+     *
+     * @return версия календаря
+     */
+    long getCalendarVersion();
+
+    /**
+     * Возвращает версию снимка календаря праздничных дней, действовавшую в указанный момент.
+     *
+     * @param asOf момент, на который берется версия календаря; null соответствует текущей версии
+     * @return версия календаря
+     */
+    long getCalendarVersion(Instant asOf);
+
 }
@@ -2,9 +2,10 @@ package ru.viktorgezz.vacation_pay_calculator.holiday;
 
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.Year;
 import java.util.Collection;
-import java.util.Set;
 
 /**
  * Реализация сервиса работы с праздничными днями.
@@ -13,10 +14,15 @@ import java.util.Set;
 @Component
 public class HolidayServiceImpl implements HolidayService {
 
-    private final JsonHolidayCalendar holidayCalendarProvider;
+    private final HolidayCalendarProvider holidayCalendarProvider;
+    private final RegionalHolidayCalendars regionalHolidayCalendars;
 
-    public HolidayServiceImpl(JsonHolidayCalendar holidayCalendarProvider) {
+    public HolidayServiceImpl(
+            HolidayCalendarProvider holidayCalendarProvider,
+            RegionalHolidayCalendars regionalHolidayCalendars
+    ) {
         this.holidayCalendarProvider = holidayCalendarProvider;
+        this.regionalHolidayCalendars = regionalHolidayCalendars;
     }
 
     @Override
@@ -25,10 +31,198 @@ public class HolidayServiceImpl implements HolidayService {
             return 0;
         }
 
-        final Set<LocalDate> holidays = holidayCalendarProvider.getHolidays();
-        return Math.toIntExact(dates.stream()
-                .filter(holidays::contains)
-                .count());
+        final HolidayCalendarSnapshot snapshot = holidayCalendarProvider.getSnapshot();
+        int countHolidays = 0;
+        for (LocalDate date : dates) {
+            if (snapshot.getHolidayIndex(date.getYear()).isHoliday(date.toEpochDay())) {
+                countHolidays++;
+            }
+        }
+        return countHolidays;
+    }
+
+    @Override
+    public int countHolidaysBetween(final LocalDate dateStart, final LocalDate dateEnd) {
+        return countHolidaysBetween(null, dateStart, dateEnd, null);
+    }
+
+    @Override
+    public int countHolidaysBetween(final String calendarId, final LocalDate dateStart, final LocalDate dateEnd) {
+        return countHolidaysBetween(calendarId, dateStart, dateEnd, null);
+    }
+
+    @Override
+    public int countHolidaysBetween(
+            final String calendarId,
+            final LocalDate dateStart,
+            final LocalDate dateEnd,
+            final Instant asOf
+    ) {
+        return countHolidays(
+                regionalHolidayCalendars.resolve(calendarId),
+                holidayCalendarProvider.getSnapshot(asOf),
+                dateStart,
+                dateEnd
+        );
+    }
+
+    @Override
+    public int[] countHolidaysBetween(
+            final String calendarId,
+            final LocalDate[] dateStarts,
+            final LocalDate[] dateEnds,
+            final Instant asOf
+    ) {
+        final RegionalHolidayCalendar calendar = regionalHolidayCalendars.resolve(calendarId);
+        final HolidayCalendarSnapshot snapshot = holidayCalendarProvider.getSnapshot(asOf);
+
+        final int[] countsHolidays = new int[dateStarts.length];
+        for (int i = 0; i < dateStarts.length; i++) {
+            countsHolidays[i] = countHolidays(calendar, snapshot, dateStarts[i], dateEnds[i]);
+        }
+        return countsHolidays;
+    }
+
+    @Override
+    public int[] countHolidaysBetween(
+            final String calendarId,
+            final long[] fromEpochDays,
+            final long[] toEpochDays,
+            final Instant asOf
+    ) {
+        final RegionalHolidayCalendar calendar = regionalHolidayCalendars.resolve(calendarId);
+        final HolidayCalendarSnapshot snapshot = holidayCalendarProvider.getSnapshot(asOf);
+
+        final int[] countsHolidays = new int[fromEpochDays.length];
+        HolidayIndex yearIndex = null;
+        long yearFirstEpochDay = 1;
+        long yearLastEpochDay = 0;
+        for (int i = 0; i < fromEpochDays.length; i++) {
+            int countHolidays = 0;
+            long epochDay = fromEpochDays[i];
+            while (epochDay <= toEpochDays[i]) {
+                if (epochDay < yearFirstEpochDay || epochDay > yearLastEpochDay) {
+                    final int year = LocalDate.ofEpochDay(epochDay).getYear();
+                    yearFirstEpochDay = LocalDate.of(year, 1, 1).toEpochDay();
+                    yearLastEpochDay = yearFirstEpochDay + Year.of(year).length() - 1;
+                    yearIndex = calendar.apply(year, snapshot.getHolidayIndex(year));
+                }
+                countHolidays += yearIndex.countBetween(epochDay, Math.min(toEpochDays[i], yearLastEpochDay));
+                epochDay = yearLastEpochDay + 1;
+            }
+            countsHolidays[i] = countHolidays;
+        }
+        return countsHolidays;
+    }
+
+    @Override
+    public boolean[] getHolidayFlags(
+            final String calendarId,
+            final LocalDate dateStart,
+            final LocalDate dateEnd,
+            final Instant asOf
+    ) {
+        final RegionalHolidayCalendar calendar = regionalHolidayCalendars.resolve(calendarId);
+        final HolidayCalendarSnapshot snapshot = holidayCalendarProvider.getSnapshot(asOf);
+        final long fromEpochDay = dateStart.toEpochDay();
+        final boolean[] holidayFlags = new boolean[Math.toIntExact(dateEnd.toEpochDay() - fromEpochDay + 1)];
+
+        for (int year = dateStart.getYear(); year <= dateEnd.getYear(); year++) {
+            final HolidayIndex holidayIndex = calendar.apply(year, snapshot.getHolidayIndex(year));
+            final long yearFrom = Math.max(fromEpochDay, LocalDate.of(year, 1, 1).toEpochDay());
+            final long yearTo = Math.min(dateEnd.toEpochDay(), LocalDate.of(year, 12, 31).toEpochDay());
+            for (long epochDay = yearFrom; epochDay <= yearTo; epochDay++) {
+                holidayFlags[(int) (epochDay - fromEpochDay)] = holidayIndex.isHoliday(epochDay);
+            }
+        }
+        return holidayFlags;
+    }
+
+    @Override
+    public LocalDate findDateEnd(
+            final String calendarId,
+            final LocalDate dateStart,
+            final int payableDays,
+            final Instant asOf
+    ) {
+        if (payableDays < 1) {
+            throw new IllegalArgumentException("Payable days must be positive: " + payableDays);
+        }
+
+        final RegionalHolidayCalendar calendar = regionalHolidayCalendars.resolve(calendarId);
+        final HolidayCalendarSnapshot snapshot = holidayCalendarProvider.getSnapshot(asOf);
+
+        LocalDate low = dateStart.plusDays(payableDays - 1L);
+        int deficit = payableDays - countPayableDays(calendar, snapshot, dateStart, low);
+        if (deficit == 0) {
+            return low;
+        }
+
+        long step = deficit;
+        LocalDate high = low.plusDays(step);
+        while ((deficit = payableDays - countPayableDays(calendar, snapshot, dateStart, high)) > 0) {
+            low = high;
+            step = Math.max(step * 2, deficit);
+            high = low.plusDays(step);
+        }
+
+        long lowEpochDay = low.toEpochDay();
+        long highEpochDay = high.toEpochDay();
+        while (highEpochDay - lowEpochDay > 1) {
+            final long middleEpochDay = (lowEpochDay + highEpochDay) >>> 1;
+            if (countPayableDays(calendar, snapshot, dateStart, LocalDate.ofEpochDay(middleEpochDay)) < payableDays) {
+                lowEpochDay = middleEpochDay;
+            } else {
+                highEpochDay = middleEpochDay;
+            }
+        }
+        return LocalDate.ofEpochDay(highEpochDay);
+    }
+
+    @Override
+    public long getCalendarVersion() {
+        return holidayCalendarProvider.getSnapshot().getVersion();
+    }
+
+    @Override
+    public long getCalendarVersion(final Instant asOf) {
+        return holidayCalendarProvider.getSnapshot(asOf).getVersion();
+    }
+
+    /**
+     * Подсчитывает количество праздничных дней в периоде включительно по всем годам периода.
+     *
+     * @param calendar  региональный календарь
+     * @param snapshot  снимок федерального календаря
+     * @param dateStart дата начала периода
+     * @param dateEnd   дата окончания периода
+     * @return количество праздничных дней
+     */
+    private int countHolidays(
+            RegionalHolidayCalendar calendar,
+            HolidayCalendarSnapshot snapshot,
+            LocalDate dateStart,
+            LocalDate dateEnd
+    ) {
+        final long fromEpochDay = dateStart.toEpochDay();
+        final long toEpochDay = dateEnd.toEpochDay();
+
+        int countHolidays = 0;
+        for (int year = dateStart.getYear(); year <= dateEnd.getYear(); year++) {
+            countHolidays += calendar.apply(year, snapshot.getHolidayIndex(year))
+                    .countBetween(fromEpochDay, toEpochDay);
+        }
+        return countHolidays;
+    }
+
+    private int countPayableDays(
+            RegionalHolidayCalendar calendar,
+            HolidayCalendarSnapshot snapshot,
+            LocalDate dateStart,
+            LocalDate dateEnd
+    ) {
+        final int countDays = Math.toIntExact(dateEnd.toEpochDay() - dateStart.toEpochDay() + 1);
+        return countDays - countHolidays(calendar, snapshot, dateStart, dateEnd);
     }
 
     /**
@@ -0,0 +1,77 @@
+package ru.viktorgezz.vacation_pay_calculator.holiday;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Источник календаря по HTTP.
+ * Адрес {@code holidays.source.http.uri} должен возвращать JSON-массив праздничных дней всех лет.
+ */
+@Component
+@ConditionalOnProperty(prefix = "holidays.source", name = "type", havingValue = "http")
+public class HttpHolidayCalendarSource implements HolidayCalendarSource {
+
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final URI uri;
+    private final Duration timeout;
+
+    public HttpHolidayCalendarSource(ObjectMapper objectMapper, HolidayProperties holidayProperties) {
+        if (holidayProperties.getSource().getHttp().getUri() == null) {
+            throw new IllegalStateException("holidays.source.http.uri must be set for the HTTP holiday calendar source");
+        }
+
+        this.objectMapper = objectMapper;
+        this.uri = holidayProperties.getSource().getHttp().getUri();
+        this.timeout = holidayProperties.getSource().getTimeout();
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .build();
+    }
+
+    @Override
+    public Map<Integer, List<LocalDate>> load() throws IOException {
+        final HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(timeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+
+        final HttpResponse<byte[]> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Holiday calendar request to " + uri + " interrupted");
+        }
+        if (response.statusCode() != 200) {
+            throw new IOException("Holiday calendar request to " + uri + " failed with status " + response.statusCode());
+        }
+
+        final List<String> dateStrings = objectMapper.readValue(response.body(), new TypeReference<>() {
+        });
+        return HolidayCalendarSource.groupByYear(dateStrings
+                .stream()
+                .map(LocalDate::parse)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public String toString() {
+        return "HTTP " + uri;
+    }
+}
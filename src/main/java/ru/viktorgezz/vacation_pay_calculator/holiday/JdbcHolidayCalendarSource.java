@@ -0,0 +1,58 @@
+package ru.viktorgezz.vacation_pay_calculator.holiday;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Источник календаря в базе данных.
+ * Запрос {@code holidays.source.jdbc.query} должен возвращать праздничные дни в первом столбце.
+ * Соединение открывается только на время обновления, пул соединений не требуется.
+ */
+@Component
+@ConditionalOnProperty(prefix = "holidays.source", name = "type", havingValue = "jdbc")
+public class JdbcHolidayCalendarSource implements HolidayCalendarSource {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String url;
+    private final String query;
+
+    public JdbcHolidayCalendarSource(HolidayProperties holidayProperties) {
+        final HolidayProperties.Jdbc jdbc = holidayProperties.getSource().getJdbc();
+        if (jdbc.getUrl() == null) {
+            throw new IllegalStateException("holidays.source.jdbc.url must be set for the JDBC holiday calendar source");
+        }
+
+        this.jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                jdbc.getUrl(),
+                jdbc.getUsername(),
+                jdbc.getPassword()
+        ));
+        this.jdbcTemplate.setQueryTimeout(Math.toIntExact(holidayProperties.getSource().getTimeout().toSeconds()));
+        this.url = jdbc.getUrl();
+        this.query = jdbc.getQuery();
+    }
+
+    @Override
+    public Map<Integer, List<LocalDate>> load() throws IOException {
+        try {
+            return HolidayCalendarSource.groupByYear(
+                    jdbcTemplate.query(query, (rs, rowNum) -> rs.getObject(1, LocalDate.class))
+            );
+        } catch (DataAccessException e) {
+            throw new IOException("Failed to load holiday calendar from " + url, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "database " + url;
+    }
+}
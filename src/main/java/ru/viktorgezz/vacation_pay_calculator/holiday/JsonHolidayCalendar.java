@@ -2,57 +2,440 @@ package ru.viktorgezz.vacation_pay_calculator.holiday;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.springframework.beans.factory.annotation.Value;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternUtils;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
 import java.time.LocalDate;
-import java.util.Collections;
+import java.time.OffsetDateTime;
+import java.time.Year;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
 
 /**
- * Компонент для загрузки календаря праздничных дней из JSON файла.
+ * Компонент для загрузки календаря праздничных дней из JSON файлов.
+ * Если рядом с файлами лежит календарь, скомпилированный при сборке ({@link HolidayCalendarBinary}),
+ * первый снимок читается из него одним чтением без Jackson: записи всех лет проверяются при открытии файла,
+ * а индекс года строится лениво при первом обращении. {@link ObjectMapper} нужен только для разбора JSON.
+ * Без скомпилированного календаря файлы вида {@code holidays_<год>.json} разбираются и проверяются целиком
+ * до публикации неизменяемого {@link HolidayCalendarSnapshot}, поэтому некорректный файл не попадает в расчет;
+ * индекс разобранного года строится сразу, так как он занимает меньше памяти, чем список дат.
+ * Для лет без файла календарь строится {@link HolidayRuleGenerator} по правилам.
+ * Изменения файлов отслеживаются по контрольной сумме: разбираются только изменившиеся годы, новый снимок
+ * собирается вне пути запроса и публикуется заменой одной volatile-ссылки на {@link HolidayCalendarHistory};
+ * если файл изменившегося года не разбирается, остается прежний снимок. После разбора исходные байты файлов
+ * не хранятся, для сравнения со следующей версией сохраняются только контрольные суммы лет.
+ * <p>
+ * Версия календаря помечается временем публикации из источника. Прежние версии хранятся в каталогах
+ * {@code versions/<время публикации>/} рядом с файлами, имя каталога задает время в виде {@code 20260115T120000Z};
+ * при старте история заполняется всеми сохраненными версиями. Текущие файлы, не совпадающие с последней
+ * сохраненной версией, помечаются временем их последнего изменения. В истории остаются последние
+ * {@code holidays.history-size} версий; индексы неизмененных лет разделяются между версиями.
  */
 @Component
-public class JsonHolidayCalendar {
+@ConditionalOnProperty(prefix = "holidays", name = "backend", havingValue = "json", matchIfMissing = true)
+public class JsonHolidayCalendar implements HolidayCalendarProvider {
 
-    private final ObjectMapper objectMapper;
-    private final Resource holidaysResource;
+    private static final Logger log = LoggerFactory.getLogger(JsonHolidayCalendar.class);
+    static final String FILE_NAME_WILDCARD = "holidays_*.json";
+    static final Pattern FILE_NAME_PATTERN = Pattern.compile("holidays_(\\d{4})\\.json");
+    static final String COMPILED_FILE_NAME = "holidays.bin";
+    static final String VERSIONS_DIRECTORY = "versions/";
+    static final String VERSIONS_WILDCARD = VERSIONS_DIRECTORY + "*/";
+    static final DateTimeFormatter VERSION_FORMATTER = DateTimeFormatter.ofPattern("uuuuMMdd'T'HHmmssX");
 
-    private Set<LocalDate> holidays = Collections.emptySet();
+    private final ObjectProvider<ObjectMapper> objectMapperProvider;
+    private final ResourcePatternResolver resourcePatternResolver;
+    private final HolidayProperties holidayProperties;
+    private final HolidayRuleGenerator holidayRuleGenerator;
+
+    private volatile HolidayCalendarHistory history;
+    private volatile Map<Integer, Long> publishedChecksums;
 
     public JsonHolidayCalendar(
-            ObjectMapper objectMapper,
-            @Value("classpath:holidays/holidays_2026.json") Resource holidaysResource
+            ObjectProvider<ObjectMapper> objectMapperProvider,
+            ResourceLoader resourceLoader,
+            HolidayProperties holidayProperties,
+            HolidayRuleGenerator holidayRuleGenerator
     ) {
-        this.objectMapper = objectMapper;
-        this.holidaysResource = holidaysResource;
+        this.objectMapperProvider = objectMapperProvider;
+        this.resourcePatternResolver = ResourcePatternUtils.getResourcePatternResolver(resourceLoader);
+        this.holidayProperties = holidayProperties;
+        this.holidayRuleGenerator = holidayRuleGenerator;
+        this.history = HolidayCalendarHistory.empty(holidayProperties.getHistorySize());
     }
 
     /**
-     * Загружает список праздничных дней из JSON файла.
+     * Заполняет историю сохраненными версиями календаря и публикует текущую версию:
+     * из скомпилированного календаря, если он есть, иначе из разобранных файлов календаря.
+     * Текущая версия не публикуется повторно, если совпадает с последней сохраненной.
      *
-     * @throws IOException если произошла ошибка при чтении файла
+     * @throws IOException если произошла ошибка при чтении файлов
      */
     @PostConstruct
     public void loadHolidays() throws IOException {
-        try (InputStream is = holidaysResource.getInputStream()) {
-            List<String> dateStrings = objectMapper.readValue(is, new TypeReference<>() {
+        loadRetainedVersions();
+
+        final HolidayCalendarSnapshot latest = history.latest();
+        final long nextVersion = latest == null ? 1 : latest.getVersion() + 1;
+        final Resource[] resources = findSources(holidayProperties.getLocation());
+        final Resource compiled = resourcePatternResolver.getResource(
+                holidayProperties.getLocation() + COMPILED_FILE_NAME);
+        if (compiled.exists()) {
+            final HolidayCalendarBinary binary = readCompiled(compiled);
+            if (latest == null || latest.getChecksum() != binary.getChecksum()) {
+                publish(new HolidayCalendarSnapshot(
+                        nextVersion,
+                        binary.getChecksum(),
+                        history.nextPublishedAt(lastModifiedOf(resources, compiled)),
+                        binary.getYears(),
+                        binary::readYear,
+                        holidayRuleGenerator::generate
+                ), null);
+            }
+        } else {
+            final Map<Integer, byte[]> sourcesByYear = readSources(resources);
+            final long checksum = HolidayCalendarBinary.checksumOf(sourcesByYear);
+            if (latest == null || latest.getChecksum() != checksum) {
+                publish(
+                        createSnapshot(nextVersion, checksum, history.nextPublishedAt(lastModifiedOf(resources, null)),
+                                loadYears(sourcesByYear, latest, publishedChecksums)),
+                        checksumsOf(sourcesByYear)
+                );
+            }
+        }
+    }
+
+    /**
+     * Проверяет контрольную сумму файлов календаря и при ее изменении публикует новый снимок.
+     * Все изменившиеся годы разбираются до публикации; если какой-либо файл некорректен,
+     * ошибка записывается в журнал и запросы продолжают использовать текущий снимок.
+     *
+     * @throws IOException если произошла ошибка при чтении файлов
+     */
+    @Scheduled(
+            initialDelayString = "${holidays.reload-interval:PT1M}",
+            fixedDelayString = "${holidays.reload-interval:PT1M}"
+    )
+    public void reloadIfChanged() throws IOException {
+        final HolidayCalendarSnapshot current = history.latest();
+        final Resource[] resources = findSources(holidayProperties.getLocation());
+        final Map<Integer, byte[]> sourcesByYear = readSources(resources);
+        final long checksum = HolidayCalendarBinary.checksumOf(sourcesByYear);
+        if (checksum == current.getChecksum()) {
+            return;
+        }
+
+        final Map<Integer, HolidayIndex> indexesByYear;
+        try {
+            indexesByYear = loadYears(sourcesByYear, current, publishedChecksums);
+        } catch (RuntimeException e) {
+            log.warn("Holiday calendar files with checksum {} are invalid, keeping version {}",
+                    checksum, current.getVersion(), e);
+            return;
+        }
+        publish(
+                createSnapshot(current.getVersion() + 1, checksum,
+                        history.nextPublishedAt(lastModifiedOf(resources, null)), indexesByYear),
+                checksumsOf(sourcesByYear)
+        );
+    }
+
+    @Override
+    public HolidayCalendarSnapshot getSnapshot() {
+        return history.latest();
+    }
+
+    @Override
+    public HolidayCalendarSnapshot getSnapshot(Instant asOf) {
+        return history.asOf(asOf);
+    }
+
+    /**
+     * Добавляет снимок в историю версий, делая его текущим.
+     *
+     * @param snapshot        снимок календаря
+     * @param checksumsByYear контрольные суммы файлов, из которых собран снимок; null, если снимок прочитан
+     *                        из скомпилированного календаря
+     */
+    private void publish(HolidayCalendarSnapshot snapshot, Map<Integer, Long> checksumsByYear) {
+        this.publishedChecksums = checksumsByYear;
+        this.history = history.append(snapshot);
+        log.info("Holiday calendar version {} published at {} for years: {}",
+                snapshot.getVersion(), snapshot.getPublishedAt(), snapshot.getYears());
+    }
+
+    /**
+     * Добавляет в историю последние {@code holidays.history-size} сохраненных версий календаря
+     * в порядке времени публикации. Каждая версия разбирается и проверяется так же, как текущие файлы.
+     *
+     * @throws IOException              если произошла ошибка при чтении файлов
+     * @throws IllegalArgumentException если имя каталога версии или файл календаря некорректны
+     */
+    private void loadRetainedVersions() throws IOException {
+        final Map<Instant, String> locationsByPublishedAt = new TreeMap<>();
+        if (!resourcePatternResolver.getResource(holidayProperties.getLocation() + VERSIONS_DIRECTORY).exists()) {
+            return;
+        }
+        for (Resource resource : findSources(holidayProperties.getLocation() + VERSIONS_WILDCARD)) {
+            final String url = resource.getURL().toString();
+            final String directory = url.substring(0, url.lastIndexOf('/') + 1);
+            final String name = directory.substring(directory.lastIndexOf('/', directory.length() - 2) + 1,
+                    directory.length() - 1);
+            locationsByPublishedAt.put(parseVersionName(name), directory);
+        }
+
+        int skipped = locationsByPublishedAt.size() - holidayProperties.getHistorySize();
+        for (Map.Entry<Instant, String> entry : locationsByPublishedAt.entrySet()) {
+            if (skipped-- > 0) {
+                continue;
+            }
+            final Map<Integer, byte[]> sourcesByYear = readSources(findSources(entry.getValue()));
+            final HolidayCalendarSnapshot previous = history.latest();
+            publish(
+                    createSnapshot(
+                            previous == null ? 1 : previous.getVersion() + 1,
+                            HolidayCalendarBinary.checksumOf(sourcesByYear),
+                            entry.getKey(),
+                            loadYears(sourcesByYear, previous, publishedChecksums)
+                    ),
+                    checksumsOf(sourcesByYear)
+            );
+        }
+    }
+
+    /**
+     * Находит файлы календаря по указанному расположению.
+     *
+     * @param location расположение файлов, оканчивающееся на {@code /}
+     * @return найденные файлы
+     * @throws IOException если произошла ошибка при поиске файлов
+     */
+    private Resource[] findSources(String location) throws IOException {
+        return resourcePatternResolver.getResources(location + FILE_NAME_WILDCARD);
+    }
+
+    /**
+     * Читает содержимое файлов календаря.
+     *
+     * @param resources файлы календаря
+     * @return содержимое файлов по годам
+     * @throws IOException если произошла ошибка при чтении файлов
+     */
+    private static Map<Integer, byte[]> readSources(Resource[] resources) throws IOException {
+        final Map<Integer, byte[]> sourcesByYear = new TreeMap<>();
+        for (Resource resource : resources) {
+            final Matcher matcher = FILE_NAME_PATTERN.matcher(String.valueOf(resource.getFilename()));
+            if (matcher.matches()) {
+                try (InputStream is = resource.getInputStream()) {
+                    sourcesByYear.put(Integer.parseInt(matcher.group(1)), is.readAllBytes());
+                }
+            }
+        }
+        return sourcesByYear;
+    }
+
+    /**
+     * Возвращает время последнего изменения файлов календаря как время публикации их версии.
+     *
+     * @param resources файлы календаря
+     * @param compiled  скомпилированный календарь, если файлов нет, или null
+     * @return время последнего изменения; начало эпохи, если файлов нет
+     * @throws IOException если время изменения файла недоступно
+     */
+    private static Instant lastModifiedOf(Resource[] resources, Resource compiled) throws IOException {
+        long lastModified = resources.length == 0 && compiled != null ? compiled.lastModified() : 0;
+        for (Resource resource : resources) {
+            if (FILE_NAME_PATTERN.matcher(String.valueOf(resource.getFilename())).matches()) {
+                lastModified = Math.max(lastModified, resource.lastModified());
+            }
+        }
+        return Instant.ofEpochMilli(lastModified);
+    }
+
+    /**
+     * Разбирает время публикации из имени каталога сохраненной версии.
+     *
+     * @param name имя каталога, например {@code 20260115T120000Z}
+     * @return время публикации версии
+     * @throws IllegalArgumentException если имя каталога не является временем публикации
+     */
+    static Instant parseVersionName(String name) {
+        try {
+            return OffsetDateTime.parse(name, VERSION_FORMATTER).toInstant();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Holiday calendar version directory is not a timestamp: " + name, e);
+        }
+    }
+
+    /**
+     * Читает скомпилированный календарь одним чтением.
+     *
+     * @param resource файл скомпилированного календаря
+     * @return скомпилированный календарь
+     * @throws IOException если произошла ошибка при чтении файла
+     */
+    private static HolidayCalendarBinary readCompiled(Resource resource) throws IOException {
+        try (InputStream is = resource.getInputStream()) {
+            return HolidayCalendarBinary.wrap(ByteBuffer.wrap(is.readAllBytes()));
+        }
+    }
+
+    /**
+     * Создает снимок из уже построенных индексов лет и сразу помещает их в снимок.
+     *
+     * @param version       версия календаря
+     * @param checksum      контрольная сумма файлов календаря
+     * @param publishedAt   время публикации версии
+     * @param indexesByYear индексы праздничных дней по годам
+     * @return снимок календаря
+     */
+    private HolidayCalendarSnapshot createSnapshot(
+            long version,
+            long checksum,
+            Instant publishedAt,
+            Map<Integer, HolidayIndex> indexesByYear
+    ) {
+        final HolidayCalendarSnapshot snapshot = new HolidayCalendarSnapshot(
+                version,
+                checksum,
+                publishedAt,
+                indexesByYear.keySet(),
+                indexesByYear::get,
+                holidayRuleGenerator::generate
+        );
+        indexesByYear.keySet().forEach(snapshot::getHolidayIndex);
+        return snapshot;
+    }
+
+    /**
+     * Строит индексы всех лет по содержимому файлов, разбирая только годы, изменившиеся с предыдущей версии.
+     *
+     * @param sourcesByYear     содержимое файлов по годам
+     * @param previous          предыдущая версия календаря или null
+     * @param previousChecksums контрольные суммы файлов предыдущей версии или null, если они неизвестны
+     * @return индексы праздничных дней по годам
+     * @throws RuntimeException если файл какого-либо года некорректен
+     */
+    private Map<Integer, HolidayIndex> loadYears(
+            Map<Integer, byte[]> sourcesByYear,
+            HolidayCalendarSnapshot previous,
+            Map<Integer, Long> previousChecksums
+    ) {
+        final Map<Integer, HolidayIndex> indexesByYear = new TreeMap<>();
+        sourcesByYear.forEach((year, source) ->
+                indexesByYear.put(year, loadYear(year, source, previous, previousChecksums)));
+        return indexesByYear;
+    }
+
+    /**
+     * Строит индекс года, разделяя его с предыдущей версией, если календарь года не изменился.
+     * Если контрольная сумма файла года совпадает с предыдущей версией, файл не разбирается.
+     *
+     * @param year              год
+     * @param source            содержимое файла календаря
+     * @param previous          предыдущая версия календаря или null
+     * @param previousChecksums контрольные суммы файлов предыдущей версии или null, если они неизвестны
+     * @return индекс праздничных дней года
+     */
+    private HolidayIndex loadYear(
+            int year,
+            byte[] source,
+            HolidayCalendarSnapshot previous,
+            Map<Integer, Long> previousChecksums
+    ) {
+        if (previous == null || !previous.getYears().contains(year)) {
+            return parseYear(year, source);
+        }
+        if (previousChecksums != null && Long.valueOf(checksumOf(source)).equals(previousChecksums.get(year))) {
+            return previous.getHolidayIndex(year);
+        }
+
+        final HolidayIndex parsed = parseYear(year, source);
+        final HolidayIndex shared = previous.getHolidayIndex(year);
+        return parsed.equals(shared) ? shared : parsed;
+    }
+
+    /**
+     * Разбирает список праздничных дней года из JSON и строит по нему {@link HolidayIndex}.
+     *
+     * @param year   год
+     * @param source содержимое файла календаря
+     * @return индекс праздничных дней года
+     * @throws UncheckedIOException     если файл не является массивом строк JSON
+     * @throws IllegalArgumentException если дата некорректна или относится к другому году
+     */
+    private HolidayIndex parseYear(int year, byte[] source) {
+        final List<String> dateStrings;
+        try {
+            dateStrings = objectMapperProvider.getObject().readValue(source, new TypeReference<>() {
             });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to parse holiday calendar for " + year, e);
+        }
+
+        final List<LocalDate> dates = parseDates(year, dateStrings);
+        log.debug("Holiday calendar for {} parsed", year);
+        return HolidayIndex.of(LocalDate.of(year, 1, 1).toEpochDay(), Year.of(year).length(), dates);
+    }
 
-            this.holidays = dateStrings
-                    .stream()
-                    .map(LocalDate::parse)
-                    .collect(Collectors.toUnmodifiableSet());
+    /**
+     * Разбирает даты файла календаря года. Используется и при загрузке, и при компиляции календаря,
+     * поэтому файл, отклоняемый при загрузке, не проходит и сборку.
+     *
+     * @param year        год файла календаря
+     * @param dateStrings даты в формате {@code yyyy-MM-dd}
+     * @return праздничные дни года
+     * @throws IllegalArgumentException если дата некорректна или относится к другому году
+     */
+    static List<LocalDate> parseDates(int year, List<String> dateStrings) {
+        final List<LocalDate> dates = new ArrayList<>(dateStrings.size());
+        for (String dateString : dateStrings) {
+            final LocalDate date;
+            try {
+                date = LocalDate.parse(dateString);
+            } catch (DateTimeParseException | NullPointerException e) {
+                throw new IllegalArgumentException(
+                        "Holiday calendar for " + year + " contains invalid date: " + dateString, e);
+            }
+            if (date.getYear() != year) {
+                throw new IllegalArgumentException(
+                        "Holiday calendar for " + year + " contains date of another year: " + dateString);
+            }
+            dates.add(date);
         }
+        return dates;
+    }
+
+    private static Map<Integer, Long> checksumsOf(Map<Integer, byte[]> sourcesByYear) {
+        final Map<Integer, Long> checksumsByYear = new TreeMap<>();
+        sourcesByYear.forEach((year, source) -> checksumsByYear.put(year, checksumOf(source)));
+        return checksumsByYear;
     }
 
-    public Set<LocalDate> getHolidays() {
-        return holidays;
+    private static long checksumOf(byte[] source) {
+        final CRC32 crc = new CRC32();
+        crc.update(source);
+        return crc.getValue();
     }
 }
@@ -0,0 +1,68 @@
+package ru.viktorgezz.vacation_pay_calculator.holiday;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternUtils;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.stream.Collectors;
+
+/**
+ * Источник календаря из JSON файлов вида {@code holidays_<год>.json}.
+ * Расположение {@code holidays.location} может указывать как на classpath ({@code classpath:holidays/}),
+ * так и на каталог файловой системы ({@code file:/etc/holidays/}).
+ */
+@Component
+@ConditionalOnProperty(prefix = "holidays.source", name = "type", havingValue = "json")
+public class JsonHolidayCalendarSource implements HolidayCalendarSource {
+
+    private final ObjectMapper objectMapper;
+    private final ResourcePatternResolver resourcePatternResolver;
+    private final String location;
+
+    public JsonHolidayCalendarSource(
+            ObjectMapper objectMapper,
+            ResourceLoader resourceLoader,
+            HolidayProperties holidayProperties
+    ) {
+        this.objectMapper = objectMapper;
+        this.resourcePatternResolver = ResourcePatternUtils.getResourcePatternResolver(resourceLoader);
+        this.location = holidayProperties.getLocation();
+    }
+
+    @Override
+    public Map<Integer, List<LocalDate>> load() throws IOException {
+        final Map<Integer, List<LocalDate>> holidaysByYear = new TreeMap<>();
+        for (Resource resource : resourcePatternResolver.getResources(
+                location + JsonHolidayCalendar.FILE_NAME_WILDCARD)) {
+            final Matcher matcher = JsonHolidayCalendar.FILE_NAME_PATTERN.matcher(String.valueOf(resource.getFilename()));
+            if (matcher.matches()) {
+                try (InputStream is = resource.getInputStream()) {
+                    final List<String> dateStrings = objectMapper.readValue(is, new TypeReference<>() {
+                    });
+                    holidaysByYear.put(Integer.parseInt(matcher.group(1)), dateStrings
+                            .stream()
+                            .map(LocalDate::parse)
+                            .collect(Collectors.toList()));
+                }
+            }
+        }
+        return holidaysByYear;
+    }
+
+    @Override
+    public String toString() {
+        return "JSON files at " + location;
+    }
+}
@@ -0,0 +1,129 @@
+package ru.viktorgezz.vacation_pay_calculator.holiday;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+/**
+ * Календарь праздничных дней, читаемый из скомпилированного файла {@link HolidayCalendarBinary},
+ * отображенного в память только для чтения.
+ * Поиск праздников выполняется напрямую по отображенному буферу без копирования в кучу,
+ * поэтому все экземпляры сервиса на хосте разделяют одни и те же страницы page cache.
+ * Файл следует заменять атомарно (переименованием): при смене времени изменения файл отображается заново
+ * и публикуется новый снимок, помеченный временем изменения файла.
+ */
+@Component
+@ConditionalOnProperty(prefix = "holidays", name = "backend", havingValue = "mapped")
+public class MappedHolidayCalendar implements HolidayCalendarProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(MappedHolidayCalendar.class);
+
+    private final Path mappedFile;
+    private final HolidayRuleGenerator holidayRuleGenerator;
+
+    private volatile HolidayCalendarHistory history;
+    private volatile FileTime mappedModifiedTime;
+
+    public MappedHolidayCalendar(HolidayProperties holidayProperties, HolidayRuleGenerator holidayRuleGenerator) {
+        if (holidayProperties.getMappedFile() == null) {
+            throw new IllegalStateException("holidays.mapped-file must be set for the mapped holiday calendar");
+        }
+        this.mappedFile = Paths.get(holidayProperties.getMappedFile());
+        this.holidayRuleGenerator = holidayRuleGenerator;
+        this.history = HolidayCalendarHistory.empty(holidayProperties.getHistorySize());
+    }
+
+    /**
+     * Отображает файл календаря в память и публикует первый снимок.
+     *
+     * @throws IOException если произошла ошибка при чтении файла
+     */
+    @PostConstruct
+    public void mapHolidays() throws IOException {
+        this.mappedModifiedTime = Files.getLastModifiedTime(mappedFile);
+        publish(createSnapshot(1, mappedModifiedTime, map()));
+    }
+
+    /**
+     * Отображает файл календаря заново, если он был заменен, и публикует новый снимок при изменении содержимого.
+     *
+     * @throws IOException если произошла ошибка при чтении файла
+     */
+    @Scheduled(
+            initialDelayString = "${holidays.reload-interval:PT1M}",
+            fixedDelayString = "${holidays.reload-interval:PT1M}"
+    )
+    public void remapIfChanged() throws IOException {
+        final FileTime modifiedTime = Files.getLastModifiedTime(mappedFile);
+        if (modifiedTime.equals(mappedModifiedTime)) {
+            return;
+        }
+
+        final HolidayCalendarSnapshot current = history.latest();
+        final HolidayCalendarBinary binary = map();
+        this.mappedModifiedTime = modifiedTime;
+        if (binary.getChecksum() == current.getChecksum()) {
+            return;
+        }
+
+        publish(createSnapshot(current.getVersion() + 1, modifiedTime, binary));
+    }
+
+    @Override
+    public HolidayCalendarSnapshot getSnapshot() {
+        return history.latest();
+    }
+
+    @Override
+    public HolidayCalendarSnapshot getSnapshot(Instant asOf) {
+        return history.asOf(asOf);
+    }
+
+    /**
+     * Добавляет снимок в историю версий, делая его текущим.
+     * Отображения прежних версий остаются доступными для запросов на прошлые даты.
+     *
+     * @param snapshot снимок календаря
+     */
+    private void publish(HolidayCalendarSnapshot snapshot) {
+        this.history = history.append(snapshot);
+        log.info("Holiday calendar version {} mapped from {} for years: {}",
+                snapshot.getVersion(), mappedFile, snapshot.getYears());
+    }
+
+    /**
+     * Отображает файл календаря в память только для чтения.
+     * Отображение остается действительным после закрытия канала.
+     *
+     * @return скомпилированный календарь поверх отображенного буфера
+     * @throws IOException если произошла ошибка при чтении файла
+     */
+    private HolidayCalendarBinary map() throws IOException {
+        try (FileChannel channel = FileChannel.open(mappedFile, StandardOpenOption.READ)) {
+            return HolidayCalendarBinary.wrap(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    private HolidayCalendarSnapshot createSnapshot(long version, FileTime modifiedTime, HolidayCalendarBinary binary) {
+        return new HolidayCalendarSnapshot(
+                version,
+                binary.getChecksum(),
+                history.nextPublishedAt(modifiedTime.toInstant()),
+                binary.getYears(),
+                binary::viewYear,
+                holidayRuleGenerator::generate
+        );
+    }
+}
@@ -0,0 +1,88 @@
+package ru.viktorgezz.vacation_pay_calculator.holiday;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.Collection;
+
+import static ru.viktorgezz.vacation_pay_calculator.holiday.HolidayCalendarBinary.OFFSET_COUNT;
+import static ru.viktorgezz.vacation_pay_calculator.holiday.HolidayCalendarBinary.OFFSET_RANKS;
+import static ru.viktorgezz.vacation_pay_calculator.holiday.HolidayCalendarBinary.WORDS_PER_YEAR;
+
+/**
+ * Индекс праздничных дней года, читающий запись {@link HolidayCalendarBinary} напрямую из буфера.
+ * Для отображенного в память файла битовая карта и накопленные суммы не копируются в кучу,
+ * а страницы файла разделяются всеми процессами, отобразившими тот же файл.
+ */
+final class MappedHolidayIndex implements HolidayIndex {
+
+    private final ByteBuffer buffer;
+    private final int position;
+    private final long firstEpochDay;
+    private final int length;
+
+    MappedHolidayIndex(ByteBuffer buffer, int position, long firstEpochDay, int length) {
+        this.buffer = buffer;
+        this.position = position;
+        this.firstEpochDay = firstEpochDay;
+        this.length = length;
+    }
+
+    /**
+     * Копирует индекс в кучу и дополняет его указанными праздниками.
+     * Если дополнительных праздников в диапазоне нет, возвращается текущий индекс.
+     *
+     * @param holidays дополнительные праздничные дни
+     * @return индекс с объединенными праздниками
+     */
+    @Override
+    public HolidayIndex plus(Collection<LocalDate> holidays) {
+        final long[] words = new long[WORDS_PER_YEAR];
+        for (int i = 0; i < WORDS_PER_YEAR; i++) {
+            words[i] = word(i);
+        }
+
+        final HolidayIndex copy = BitsetHolidayIndex.fromWords(firstEpochDay, length, words);
+        final HolidayIndex merged = copy.plus(holidays);
+        return merged == copy ? this : merged;
+    }
+
+    @Override
+    public boolean isHoliday(long epochDay) {
+        final long offset = epochDay - firstEpochDay;
+        return offset >= 0
+                && offset < length
+                && (word((int) (offset >>> 6)) & (1L << offset)) != 0;
+    }
+
+    @Override
+    public int countBetween(long fromEpochDay, long toEpochDay) {
+        final long from = Math.max(fromEpochDay, firstEpochDay);
+        final long to = Math.min(toEpochDay, firstEpochDay + length - 1);
+        if (from > to) {
+            return 0;
+        }
+
+        return rank((int) (to - firstEpochDay + 1)) - rank((int) (from - firstEpochDay));
+    }
+
+    @Override
+    public int count() {
+        return buffer.getInt(position + OFFSET_COUNT);
+    }
+
+    private long word(int word) {
+        return buffer.getLong(position + word * Long.BYTES);
+    }
+
+    /**
+     * Подсчитывает количество праздников со смещением строго меньше указанного.
+     *
+     * @param offset смещение от начала года
+     * @return количество праздников до смещения
+     */
+    private int rank(int offset) {
+        final int word = offset >>> 6;
+        return buffer.getInt(position + OFFSET_RANKS + word * Integer.BYTES)
+                + Long.bitCount(word(word) & ((1L << offset) - 1));
+    }
+}
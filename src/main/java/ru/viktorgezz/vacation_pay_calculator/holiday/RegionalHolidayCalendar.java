@@ -0,0 +1,118 @@
+package ru.viktorgezz.vacation_pay_calculator.holiday;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.UnaryOperator;
+
+/**
+ * Региональный календарь праздничных дней: федеральный календарь плюс небольшая дельта региональных праздников.
+ * Индекс года строится объединением федерального индекса с дельтой и кэшируется по экземпляру федерального индекса:
+ * для каждого года окна хранятся последние {@value #OVERLAYS_PER_YEAR} пары федерального и регионального индексов,
+ * поэтому чередование нескольких версий календаря не приводит к повторному построению.
+ * Годы вне окна {@code holidays.generated-first-year}..{@code holidays.generated-last-year} не кэшируются.
+ * Годы без региональных праздников используют федеральный индекс без копирования.
+ */
+public final class RegionalHolidayCalendar {
+
+    /**
+     * Федеральный календарь без региональной дельты.
+     */
+    public static final RegionalHolidayCalendar FEDERAL =
+            new RegionalHolidayCalendar(RegionalHolidayCalendars.FEDERAL_CALENDAR_ID, HolidayRules.parse(List.of()),
+                    UnaryOperator.identity(), 0, -1);
+
+    static final int OVERLAYS_PER_YEAR = 4;
+
+    private final String id;
+    private final HolidayRules delta;
+    private final UnaryOperator<HolidayIndex> interner;
+    private final int firstCachedYear;
+    private final AtomicReferenceArray<Overlay[]> overlaysByYear;
+
+    RegionalHolidayCalendar(
+            String id,
+            HolidayRules delta,
+            UnaryOperator<HolidayIndex> interner,
+            int firstCachedYear,
+            int lastCachedYear
+    ) {
+        this.id = id;
+        this.delta = delta;
+        this.interner = interner;
+        this.firstCachedYear = firstCachedYear;
+        this.overlaysByYear = new AtomicReferenceArray<>(delta.isEmpty() ? 0 : lastCachedYear - firstCachedYear + 1);
+    }
+
+    /**
+     * Накладывает региональные праздники на федеральный индекс года.
+     *
+     * @param year    год
+     * @param federal федеральный индекс праздничных дней года
+     * @return региональный индекс праздничных дней года
+     */
+    public HolidayIndex apply(int year, HolidayIndex federal) {
+        if (delta.isEmpty()) {
+            return federal;
+        }
+
+        final int offset = year - firstCachedYear;
+        if (offset < 0 || offset >= overlaysByYear.length()) {
+            return merge(year, federal);
+        }
+
+        final Overlay[] overlays = overlaysByYear.get(offset);
+        if (overlays != null) {
+            for (Overlay overlay : overlays) {
+                if (overlay.federal == federal) {
+                    return overlay.regional;
+                }
+            }
+        }
+
+        final HolidayIndex regional = merge(year, federal);
+        overlaysByYear.set(offset, prepend(new Overlay(federal, regional), overlays));
+        return regional;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    private HolidayIndex merge(int year, HolidayIndex federal) {
+        final List<LocalDate> dates = delta.datesIn(year);
+        if (federal == HolidayIndex.empty()) {
+            return interner.apply(HolidayIndex.of(LocalDate.of(year, 1, 1).toEpochDay(), Year.of(year).length(), dates));
+        }
+        return interner.apply(federal.plus(dates));
+    }
+
+    /**
+     * Добавляет пару индексов в начало списка года, вытесняя самую старую пару сверх {@value #OVERLAYS_PER_YEAR}.
+     */
+    private static Overlay[] prepend(Overlay overlay, Overlay[] overlays) {
+        if (overlays == null) {
+            return new Overlay[]{overlay};
+        }
+
+        final Overlay[] updated = new Overlay[Math.min(overlays.length + 1, OVERLAYS_PER_YEAR)];
+        updated[0] = overlay;
+        System.arraycopy(overlays, 0, updated, 1, updated.length - 1);
+        return updated;
+    }
+
+    /**
+     * Региональный индекс года вместе с федеральным индексом, из которого он построен.
+     */
+    private static final class Overlay {
+
+        private final HolidayIndex federal;
+        private final HolidayIndex regional;
+
+        private Overlay(HolidayIndex federal, HolidayIndex regional) {
+            this.federal = federal;
+            this.regional = regional;
+        }
+    }
+}
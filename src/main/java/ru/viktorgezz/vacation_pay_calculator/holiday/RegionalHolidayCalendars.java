@@ -0,0 +1,100 @@
+package ru.viktorgezz.vacation_pay_calculator.holiday;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import ru.viktorgezz.vacation_pay_calculator.exception.BusinessException;
+import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Реестр региональных календарей праздничных дней.
+ * Региональные индексы интернируются: календари с одинаковым набором праздников в году
+ * ссылаются на один и тот же {@link HolidayIndex}. Таблица интернирования хранит индексы по слабым ссылкам,
+ * поэтому индекс, на который больше не ссылается ни один календарь, удаляется из нее сборщиком мусора.
+ */
+@Component
+public class RegionalHolidayCalendars {
+
+    /**
+     * Идентификатор федерального календаря.
+     */
+    public static final String FEDERAL_CALENDAR_ID = "RU";
+
+    private static final Logger log = LoggerFactory.getLogger(RegionalHolidayCalendars.class);
+
+    private final Map<String, RegionalHolidayCalendar> calendarsById;
+    private final Map<HolidayIndex, WeakReference<HolidayIndex>> internedIndexes =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    public RegionalHolidayCalendars(HolidayProperties holidayProperties) {
+        final Map<String, RegionalHolidayCalendar> calendars = new HashMap<>();
+        holidayProperties.getRegions().forEach((id, rules) -> {
+            final String calendarId = normalize(id);
+            calendars.put(calendarId, new RegionalHolidayCalendar(
+                    calendarId,
+                    HolidayRules.parse(rules),
+                    this::intern,
+                    holidayProperties.getGeneratedFirstYear(),
+                    holidayProperties.getGeneratedLastYear()
+            ));
+        });
+        this.calendarsById = Map.copyOf(calendars);
+
+        log.info("Regional holiday calendars configured: {}", calendarsById.keySet());
+    }
+
+    /**
+     * Находит календарь по идентификатору.
+     * Пустой идентификатор и {@link #FEDERAL_CALENDAR_ID} соответствуют федеральному календарю.
+     *
+     * @param calendarId идентификатор календаря
+     * @return региональный календарь
+     * @throws BusinessException если календарь с указанным идентификатором не настроен
+     */
+    public RegionalHolidayCalendar resolve(String calendarId) {
+        if (calendarId == null || calendarId.isBlank()) {
+            return RegionalHolidayCalendar.FEDERAL;
+        }
+
+        final String id = normalize(calendarId);
+        if (FEDERAL_CALENDAR_ID.equals(id)) {
+            return RegionalHolidayCalendar.FEDERAL;
+        }
+
+        final RegionalHolidayCalendar calendar = calendarsById.get(id);
+        if (calendar == null) {
+            throw new BusinessException(ErrorCode.UNKNOWN_HOLIDAY_CALENDAR, calendarId);
+        }
+        return calendar;
+    }
+
+    /**
+     * Возвращает канонический экземпляр индекса с таким же содержимым.
+     * Вызывается только при построении регионального индекса, поэтому общая блокировка таблицы не нагружает расчет.
+     *
+     * @param holidayIndex индекс праздничных дней
+     * @return канонический экземпляр индекса
+     */
+    private HolidayIndex intern(HolidayIndex holidayIndex) {
+        synchronized (internedIndexes) {
+            final WeakReference<HolidayIndex> reference = internedIndexes.get(holidayIndex);
+            final HolidayIndex interned = reference != null ? reference.get() : null;
+            if (interned != null) {
+                return interned;
+            }
+            internedIndexes.put(holidayIndex, new WeakReference<>(holidayIndex));
+            return holidayIndex;
+        }
+    }
+
+    private static String normalize(String calendarId) {
+        return calendarId.trim().toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,117 @@
+package ru.viktorgezz.vacation_pay_calculator.job;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Настройки фоновых заданий пакетного расчета отпускных.
+ */
+@ConfigurationProperties(prefix = "jobs")
+public class JobProperties {
+
+    /**
+     * Каталог файлов заданий: принятых запросов и результатов.
+     */
+    private String directory = Path.of(System.getProperty("java.io.tmpdir"), "vacation-pay-jobs").toString();
+
+    /**
+     * Количество потоков расчета частей заданий; 0 соответствует количеству процессоров.
+     */
+    private int parallelism = 0;
+
+    /**
+     * Количество строк запроса в одной части задания.
+     */
+    private int chunkLines = 1000;
+
+    /**
+     * Максимальное количество одновременно выполняемых заданий; остальные задания ждут в очереди.
+     */
+    private int maxRunningJobs = 2;
+
+    /**
+     * Максимальное количество заданий, ожидающих выполнения; при заполнении очереди новые задания отклоняются.
+     */
+    private int maxQueuedJobs = 100;
+
+    /**
+     * Максимальный размер тела запроса задания в байтах.
+     */
+    private long maxInputBytes = 1024L * 1024 * 1024;
+
+    /**
+     * Время хранения завершенного задания и его файлов.
+     */
+    private Duration retention = Duration.ofHours(24);
+
+    /**
+     * Интервал удаления заданий, время хранения которых истекло.
+     */
+    private Duration cleanupInterval = Duration.ofMinutes(10);
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public int getChunkLines() {
+        return chunkLines;
+    }
+
+    public void setChunkLines(int chunkLines) {
+        this.chunkLines = chunkLines;
+    }
+
+    public int getMaxRunningJobs() {
+        return maxRunningJobs;
+    }
+
+    public void setMaxRunningJobs(int maxRunningJobs) {
+        this.maxRunningJobs = maxRunningJobs;
+    }
+
+    public int getMaxQueuedJobs() {
+        return maxQueuedJobs;
+    }
+
+    public void setMaxQueuedJobs(int maxQueuedJobs) {
+        this.maxQueuedJobs = maxQueuedJobs;
+    }
+
+    public long getMaxInputBytes() {
+        return maxInputBytes;
+    }
+
+    public void setMaxInputBytes(long maxInputBytes) {
+        this.maxInputBytes = maxInputBytes;
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public void setRetention(Duration retention) {
+        this.retention = retention;
+    }
+
+    public Duration getCleanupInterval() {
+        return cleanupInterval;
+    }
+
+    public void setCleanupInterval(Duration cleanupInterval) {
+        this.cleanupInterval = cleanupInterval;
+    }
+}
@@ -0,0 +1,148 @@
+package ru.viktorgezz.vacation_pay_calculator.job;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Фоновое задание пакетного расчета отпускных: файлы запроса и результата, состояние и счетчики прогресса.
+ * Состояние и счетчики изменяет только исполнитель задания, а читают их запросы опроса,
+ * поэтому поля публикуются через volatile и атомарные счетчики без блокировок.
+ */
+public final class VacationPayJob {
+
+    private static final String INPUT_FILE = "input.ndjson";
+    private static final String RESULT_FILE = "result.ndjson";
+
+    private final String id;
+    private final Path directory;
+    private final long totalLines;
+    private final Instant submittedAt;
+    private final AtomicLong processedLines = new AtomicLong();
+    private final AtomicLong failedLines = new AtomicLong();
+    private final AtomicLong plannedLines = new AtomicLong();
+    private final AtomicLong distinctRanges = new AtomicLong();
+
+    private volatile VacationPayJobStatus status = VacationPayJobStatus.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String errorMessage;
+
+    /**
+     * @param id          идентификатор задания
+     * @param directory   каталог файлов задания
+     * @param totalLines  количество непустых строк запроса
+     * @param submittedAt момент приема задания
+     */
+    public VacationPayJob(String id, Path directory, long totalLines, Instant submittedAt) {
+        this.id = id;
+        this.directory = directory;
+        this.totalLines = totalLines;
+        this.submittedAt = submittedAt;
+    }
+
+    /**
+     * Возвращает путь к файлу запроса в каталоге задания.
+     *
+     * @param directory каталог задания
+     * @return путь к файлу запроса
+     */
+    public static Path inputFileOf(Path directory) {
+        return directory.resolve(INPUT_FILE);
+    }
+
+    void start() {
+        startedAt = Instant.now();
+        status = VacationPayJobStatus.RUNNING;
+    }
+
+    void addProgress(long lines, long failed, long planned, long ranges) {
+        failedLines.addAndGet(failed);
+        plannedLines.addAndGet(planned);
+        distinctRanges.addAndGet(ranges);
+        processedLines.addAndGet(lines);
+    }
+
+    void complete() {
+        finishedAt = Instant.now();
+        status = VacationPayJobStatus.COMPLETED;
+    }
+
+    void fail(String message) {
+        errorMessage = message;
+        finishedAt = Instant.now();
+        status = VacationPayJobStatus.FAILED;
+    }
+
+    /**
+     * Возвращает скорость расчета в строках в секунду от начала выполнения до завершения или до текущего момента.
+     *
+     * @return количество рассчитанных строк в секунду; 0, если задание еще не начато
+     */
+    public long getLinesPerSecond() {
+        final Instant started = startedAt;
+        if (started == null) {
+            return 0;
+        }
+        final Instant finished = finishedAt;
+        final long elapsedMillis = Duration.between(started, finished == null ? Instant.now() : finished).toMillis();
+        return processedLines.get() * 1000 / Math.max(elapsedMillis, 1);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public Path getInputFile() {
+        return inputFileOf(directory);
+    }
+
+    public Path getResultFile() {
+        return directory.resolve(RESULT_FILE);
+    }
+
+    public long getTotalLines() {
+        return totalLines;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public long getProcessedLines() {
+        return processedLines.get();
+    }
+
+    public long getFailedLines() {
+        return failedLines.get();
+    }
+
+    public long getPlannedLines() {
+        return plannedLines.get();
+    }
+
+    public long getDistinctRanges() {
+        return distinctRanges.get();
+    }
+
+    public VacationPayJobStatus getStatus() {
+        return status;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+}
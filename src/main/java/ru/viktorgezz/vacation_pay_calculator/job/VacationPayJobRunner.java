@@ -0,0 +1,226 @@
+package ru.viktorgezz.vacation_pay_calculator.job;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import ru.viktorgezz.vacation_pay_calculator.calculation.batch.BatchCalculationResult;
+import ru.viktorgezz.vacation_pay_calculator.dto.BulkVacationPayRsDto;
+import ru.viktorgezz.vacation_pay_calculator.service.intrf.VacationPayBulkService;
+
+import javax.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Исполнитель фоновых заданий пакетного расчета.
+ * Задание читается из файла частями по {@code jobs.chunk-lines} строк; части рассчитываются параллельно
+ * в ограниченном {@link ForkJoinPool} на {@code jobs.parallelism} потоков, общем для всех заданий,
+ * а результаты частей дописываются в файл результата в порядке строк запроса по мере готовности.
+ * Одновременно в работе не больше двух частей на поток пула, поэтому объем памяти не зависит от размера задания.
+ * Заданиями управляют {@code jobs.max-running-jobs} потоков; остальные задания ждут в очереди
+ * не более чем из {@code jobs.max-queued-jobs} заданий, при ее заполнении новое задание отклоняется.
+ */
+@Component
+public class VacationPayJobRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(VacationPayJobRunner.class);
+
+    private static final int CHUNKS_IN_FLIGHT_PER_THREAD = 2;
+    private static final int RESULT_LINE_BYTES = 64;
+
+    private final VacationPayBulkService vacationPayBulkService;
+    private final ObjectWriter resultWriter;
+    private final ForkJoinPool calculationPool;
+    private final ThreadPoolExecutor jobExecutor;
+    private final int chunkLines;
+    private final int maxChunksInFlight;
+
+    public VacationPayJobRunner(
+            VacationPayBulkService vacationPayBulkService,
+            ObjectMapper objectMapper,
+            JobProperties jobProperties
+    ) {
+        if (jobProperties.getChunkLines() <= 0) {
+            throw new IllegalStateException("jobs.chunk-lines must be greater than 0");
+        }
+        if (jobProperties.getMaxRunningJobs() <= 0) {
+            throw new IllegalStateException("jobs.max-running-jobs must be greater than 0");
+        }
+        if (jobProperties.getMaxQueuedJobs() <= 0) {
+            throw new IllegalStateException("jobs.max-queued-jobs must be greater than 0");
+        }
+        if (jobProperties.getParallelism() < 0) {
+            throw new IllegalStateException("jobs.parallelism must not be negative");
+        }
+
+        final int parallelism = jobProperties.getParallelism() == 0
+                ? Runtime.getRuntime().availableProcessors()
+                : jobProperties.getParallelism();
+        this.vacationPayBulkService = vacationPayBulkService;
+        this.resultWriter = objectMapper
+                .writerFor(BulkVacationPayRsDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n");
+        this.calculationPool = new ForkJoinPool(parallelism, pool -> {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("vacation-pay-job-worker-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+        final AtomicInteger jobThreadNumber = new AtomicInteger();
+        this.jobExecutor = new ThreadPoolExecutor(
+                jobProperties.getMaxRunningJobs(),
+                jobProperties.getMaxRunningJobs(),
+                0,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(jobProperties.getMaxQueuedJobs()),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "vacation-pay-job-" + jobThreadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+        this.chunkLines = jobProperties.getChunkLines();
+        this.maxChunksInFlight = parallelism * CHUNKS_IN_FLIGHT_PER_THREAD;
+    }
+
+    @PreDestroy
+    public void stop() {
+        jobExecutor.shutdownNow();
+        calculationPool.shutdownNow();
+    }
+
+    /**
+     * Проверяет, заполнена ли очередь заданий, чтобы отклонить задание до сохранения его запроса.
+     *
+     * @return true, если новое задание сейчас не будет принято
+     */
+    public boolean isQueueFull() {
+        return jobExecutor.getQueue().remainingCapacity() == 0;
+    }
+
+    /**
+     * Ставит задание в очередь выполнения.
+     *
+     * @param job принятое задание
+     * @throws RejectedExecutionException если очередь заданий заполнена
+     */
+    public void submit(VacationPayJob job) {
+        jobExecutor.execute(() -> run(job));
+    }
+
+    /**
+     * Выполняет задание в текущем потоке, распределяя расчет частей по пулу.
+     * Ошибка расчета строки записывается в результат и не прерывает задание;
+     * ошибка чтения или записи файлов переводит задание в состояние {@link VacationPayJobStatus#FAILED}.
+     *
+     * @param job принятое задание
+     */
+    void run(VacationPayJob job) {
+        job.start();
+        final Deque<ForkJoinTask<CalculatedChunk>> chunksInFlight = new ArrayDeque<>(maxChunksInFlight);
+        try (BufferedReader reader = Files.newBufferedReader(job.getInputFile(), StandardCharsets.UTF_8);
+             OutputStream result = Files.newOutputStream(job.getResultFile())) {
+            String[] lines = new String[chunkLines];
+            long[] lineNumbers = new long[chunkLines];
+            int size = 0;
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                lines[size] = line;
+                lineNumbers[size] = lineNumber;
+                if (++size == chunkLines) {
+                    if (chunksInFlight.size() == maxChunksInFlight) {
+                        write(job, chunksInFlight.poll().join(), result);
+                    }
+                    chunksInFlight.add(submitChunk(lines, lineNumbers, size));
+                    lines = new String[chunkLines];
+                    lineNumbers = new long[chunkLines];
+                    size = 0;
+                }
+            }
+            if (size > 0) {
+                chunksInFlight.add(submitChunk(lines, lineNumbers, size));
+            }
+            while (!chunksInFlight.isEmpty()) {
+                write(job, chunksInFlight.poll().join(), result);
+            }
+
+            job.complete();
+            log.info("Job {} completed: lines {}, failed {}, planned by dates {}, distinct periods {}, {} lines/s",
+                    job.getId(), job.getProcessedLines(), job.getFailedLines(),
+                    job.getPlannedLines(), job.getDistinctRanges(), job.getLinesPerSecond());
+        } catch (IOException | RuntimeException e) {
+            chunksInFlight.forEach(chunk -> chunk.cancel(false));
+            job.fail(e.getMessage());
+            log.error("Job {} failed after {} lines", job.getId(), job.getProcessedLines(), e);
+        }
+    }
+
+    private ForkJoinTask<CalculatedChunk> submitChunk(String[] lines, long[] lineNumbers, int size) {
+        return calculationPool.submit(() -> calculateChunk(lines, lineNumbers, size));
+    }
+
+    private CalculatedChunk calculateChunk(String[] lines, long[] lineNumbers, int size) {
+        final ByteArrayOutputStream content = new ByteArrayOutputStream(size * RESULT_LINE_BYTES);
+        final BatchCalculationResult batch = vacationPayBulkService.calculateLines(lineNumbers, lines, size);
+        try (SequenceWriter results = resultWriter.writeValues(content)) {
+            for (BulkVacationPayRsDto result : batch.getResults()) {
+                results.write(result);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        content.write('\n');
+        return new CalculatedChunk(content.toByteArray(), size, batch);
+    }
+
+    private static void write(VacationPayJob job, CalculatedChunk chunk, OutputStream result) throws IOException {
+        result.write(chunk.content);
+        job.addProgress(
+                chunk.lines,
+                chunk.batch.getFailedLines(),
+                chunk.batch.getPlannedLines(),
+                chunk.batch.getDistinctRanges()
+        );
+    }
+
+    /**
+     * Рассчитанная часть задания: строки результата в формате NDJSON, количество строк и метрики расчета.
+     */
+    private static final class CalculatedChunk {
+
+        private final byte[] content;
+        private final int lines;
+        private final BatchCalculationResult batch;
+
+        private CalculatedChunk(byte[] content, int lines, BatchCalculationResult batch) {
+            this.content = content;
+            this.lines = lines;
+            this.batch = batch;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package ru.viktorgezz.vacation_pay_calculator.job;
+
+/**
+ * Состояние фонового задания пакетного расчета.
+ */
+public enum VacationPayJobStatus {
+
+    /**
+     * Задание принято и ждет свободного исполнителя.
+     */
+    QUEUED,
+
+    /**
+     * Задание выполняется.
+     */
+    RUNNING,
+
+    /**
+     * Все строки рассчитаны, файл результата готов к загрузке.
+     */
+    COMPLETED,
+
+    /**
+     * Задание прервано ошибкой чтения или записи файлов.
+     */
+    FAILED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
@@ -0,0 +1,101 @@
+package ru.viktorgezz.vacation_pay_calculator.service.impl;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import ru.viktorgezz.vacation_pay_calculator.calculation.earnings.AverageEarnings;
+import ru.viktorgezz.vacation_pay_calculator.calculation.earnings.AverageEarningsEngine;
+import ru.viktorgezz.vacation_pay_calculator.calculation.earnings.AverageEarningsListener;
+import ru.viktorgezz.vacation_pay_calculator.dto.AverageEarningsRsDto;
+import ru.viktorgezz.vacation_pay_calculator.dto.PayrollRecordDto;
+import ru.viktorgezz.vacation_pay_calculator.exception.BusinessException;
+import ru.viktorgezz.vacation_pay_calculator.service.intrf.AverageEarningsService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.YearMonth;
+
+/**
+ * Реализация сервиса расчета среднего дневного заработка по потоку истории начислений.
+ * Записи разбираются Jackson по одной, результаты сериализуются сразу в выходной поток.
+ * Реализует интерфейс {@link AverageEarningsService}.
+ */
+@Service
+public class AverageEarningsServiceImpl implements AverageEarningsService {
+
+    private static final Logger log = LoggerFactory.getLogger(AverageEarningsServiceImpl.class);
+
+    private final AverageEarningsEngine averageEarningsEngine;
+    private final ObjectMapper objectMapper;
+
+    public AverageEarningsServiceImpl(AverageEarningsEngine averageEarningsEngine, ObjectMapper objectMapper) {
+        this.averageEarningsEngine = averageEarningsEngine;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void calculate(InputStream input, OutputStream output, YearMonth periodEnd) throws IOException {
+        try (MappingIterator<PayrollRecordDto> records = objectMapper
+                .readerFor(PayrollRecordDto.class)
+                .readValues(input);
+             SequenceWriter results = objectMapper
+                     .writerFor(AverageEarningsRsDto.class)
+                     .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                     .withRootValueSeparator("\n")
+                     .writeValues(output)) {
+            final ResultWriter resultWriter = new ResultWriter(results);
+            averageEarningsEngine.process(records, periodEnd, resultWriter);
+            results.flush();
+
+            log.debug("Average earnings for period ending {}: calculated {}, rejected {}",
+                    periodEnd, resultWriter.countCalculated, resultWriter.countRejected);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Пишет результаты движка строками NDJSON.
+     */
+    private static class ResultWriter implements AverageEarningsListener {
+
+        private final SequenceWriter results;
+        private long countCalculated;
+        private long countRejected;
+
+        private ResultWriter(SequenceWriter results) {
+            this.results = results;
+        }
+
+        @Override
+        public void onCalculated(AverageEarnings averageEarnings) {
+            countCalculated++;
+            write(AverageEarningsRsDto.calculated(
+                    averageEarnings.getEmployeeId(),
+                    averageEarnings.getAccrued(),
+                    averageEarnings.getCalculatedDays(),
+                    averageEarnings.getAverageDailyEarnings()
+            ));
+        }
+
+        @Override
+        public void onRejected(String employeeId, BusinessException e) {
+            countRejected++;
+            write(AverageEarningsRsDto.rejected(employeeId, e.getErrorCode().getCode(), e.getMessage()));
+        }
+
+        private void write(AverageEarningsRsDto result) {
+            try {
+                results.write(result);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
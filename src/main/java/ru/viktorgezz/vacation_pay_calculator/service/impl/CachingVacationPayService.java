@@ -0,0 +1,259 @@
+package ru.viktorgezz.vacation_pay_calculator.service.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import ru.viktorgezz.vacation_pay_calculator.calculation.CalculationProperties;
+import ru.viktorgezz.vacation_pay_calculator.calculation.formula.TenantFormulas;
+import ru.viktorgezz.vacation_pay_calculator.calculation.formula.VacationPayEvaluator;
+import ru.viktorgezz.vacation_pay_calculator.calculation.strategy.VacationRequestShape;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationPayRqDto;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationPayRsDto;
+import ru.viktorgezz.vacation_pay_calculator.holiday.HolidayService;
+import ru.viktorgezz.vacation_pay_calculator.holiday.RegionalHolidayCalendar;
+import ru.viktorgezz.vacation_pay_calculator.holiday.RegionalHolidayCalendars;
+import ru.viktorgezz.vacation_pay_calculator.service.intrf.VacationPayService;
+
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static ru.viktorgezz.vacation_pay_calculator.calculation.util.VacationPayFormula.toKopecks;
+
+/**
+ * Кэш результатов расчета отпускных по датам перед {@link VacationPayServiceImpl}.
+ * Результат расчета по датам зависит только от средней зарплаты, периода и содержимого календаря,
+ * поэтому ключом служат зарплата в копейках, даты периода в днях эпохи, региональный календарь,
+ * формула юридического лица и версия календаря праздничных дней; в кэше хранится только сумма отпускных,
+ * а ответ создается заново при каждом попадании.
+ * Кэш работает без общей блокировки на {@link ConcurrentHashMap} и ограничен по времени жизни записи
+ * и приблизительно по размеру: при превышении размера из {@value #EVICTION_SAMPLE_SIZE} просмотренных записей
+ * вытесняется давно не использованная, а просроченные записи удаляются. Записи просматриваются курсором,
+ * который продолжает обход таблицы с места предыдущего вытеснения, поэтому выборки по кругу покрывают
+ * всю таблицу, а не только ее первые корзины. Вытеснение выполняет один поток, остальные его не ждут.
+ * При публикации новой версии календаря кэш заменяется новой пустой таблицей.
+ */
+@Primary
+@Service
+public class CachingVacationPayService implements VacationPayService {
+
+    static final int EVICTION_SAMPLE_SIZE = 8;
+
+    private static final Logger log = LoggerFactory.getLogger(CachingVacationPayService.class);
+
+    private final VacationPayServiceImpl vacationPayService;
+    private final HolidayService holidayService;
+    private final RegionalHolidayCalendars regionalHolidayCalendars;
+    private final TenantFormulas tenantFormulas;
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final AtomicLong calendarVersion = new AtomicLong();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    private volatile Map<CalculationKey, CachedResult> resultsByKey = new ConcurrentHashMap<>();
+    private Map<CalculationKey, CachedResult> evictionResults;
+    private Iterator<Map.Entry<CalculationKey, CachedResult>> evictionCursor;
+
+    public CachingVacationPayService(
+            VacationPayServiceImpl vacationPayService,
+            HolidayService holidayService,
+            RegionalHolidayCalendars regionalHolidayCalendars,
+            TenantFormulas tenantFormulas,
+            CalculationProperties calculationProperties
+    ) {
+        this.vacationPayService = vacationPayService;
+        this.holidayService = holidayService;
+        this.regionalHolidayCalendars = regionalHolidayCalendars;
+        this.tenantFormulas = tenantFormulas;
+        this.maximumSize = calculationProperties.getResultCacheSize();
+        this.ttlNanos = calculationProperties.getResultCacheTtl().toNanos();
+    }
+
+    @Override
+    public VacationPayRsDto calculate(VacationPayRqDto dto) {
+        final long salaryKopecks = isCacheable(dto) ? toKopecks(dto.getAverageSalary()) : -1;
+        if (salaryKopecks < 0) {
+            return vacationPayService.calculate(dto);
+        }
+
+        invalidateIfCalendarChanged();
+        final long version = holidayService.getCalendarVersion(dto.getAsOf());
+        final CalculationKey key = new CalculationKey(
+                salaryKopecks,
+                dto.getDateStart().toEpochDay(),
+                dto.getDateEnd().toEpochDay(),
+                regionalHolidayCalendars.resolve(dto.getCalendarId()),
+                tenantFormulas.resolve(dto.getTenantId()),
+                version
+        );
+
+        final long now = System.nanoTime();
+        final Map<CalculationKey, CachedResult> results = resultsByKey;
+        final CachedResult cached = results.get(key);
+        if (cached != null && now - cached.expiresAtNanos < 0) {
+            cached.lastAccessNanos = now;
+            return new VacationPayRsDto(cached.totalVacationPay);
+        }
+
+        final VacationPayRsDto response = vacationPayService.calculate(dto);
+        if (holidayService.getCalendarVersion(dto.getAsOf()) == version) {
+            results.put(key, new CachedResult(response.getTotalVacationPay(), now, now + ttlNanos));
+            if (results.size() > maximumSize) {
+                evict(results, now);
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Проверяет, что запрос содержит только корректный период отпуска и может быть взят из кэша.
+     * Запросы с разбивкой по месяцам и остальные запросы, в том числе ошибочные, передаются сервису расчета без кэширования.
+     *
+     * @param dto данные запроса
+     * @return true, если результат расчета можно кэшировать
+     */
+    private boolean isCacheable(VacationPayRqDto dto) {
+        return maximumSize > 0
+                && dto.getAverageSalary() != null
+                && !dto.isBreakdown()
+                && VacationRequestShape.of(dto) == VacationRequestShape.DATES_ONLY
+                && !dto.getDateStart().isAfter(dto.getDateEnd());
+    }
+
+    /**
+     * Заменяет таблицу кэша новой, если с момента последнего обращения опубликована новая версия календаря.
+     * Новая таблица, в отличие от очищенной, не сохраняет разросшийся массив корзин.
+     * Запись прежней версии, добавленная параллельно в прежнюю таблицу, не будет найдена.
+     */
+    private void invalidateIfCalendarChanged() {
+        final long latestVersion = holidayService.getCalendarVersion();
+        final long currentVersion = calendarVersion.get();
+        if (latestVersion != currentVersion && calendarVersion.compareAndSet(currentVersion, latestVersion)) {
+            resultsByKey = new ConcurrentHashMap<>();
+            log.debug("Vacation pay result cache cleared for holiday calendar version {}", latestVersion);
+        }
+    }
+
+    /**
+     * Приблизительно вытесняет записи, пока размер кэша превышает предельный: удаляет просроченные записи
+     * среди {@value #EVICTION_SAMPLE_SIZE} просмотренных, а если таких нет, давно не использованную из них.
+     * Если вытеснение уже выполняет другой поток, возвращается сразу.
+     *
+     * @param results таблица кэша
+     * @param now     текущее время в наносекундах
+     */
+    private void evict(Map<CalculationKey, CachedResult> results, long now) {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (evictionResults != results) {
+                evictionResults = results;
+                evictionCursor = results.entrySet().iterator();
+            }
+            while (results.size() > maximumSize) {
+                Map.Entry<CalculationKey, CachedResult> eldest = null;
+                boolean removedExpired = false;
+                for (int i = 0; i < EVICTION_SAMPLE_SIZE; i++) {
+                    if (!evictionCursor.hasNext()) {
+                        evictionCursor = results.entrySet().iterator();
+                        if (!evictionCursor.hasNext()) {
+                            return;
+                        }
+                    }
+                    final Map.Entry<CalculationKey, CachedResult> entry = evictionCursor.next();
+                    if (now - entry.getValue().expiresAtNanos >= 0) {
+                        evictionCursor.remove();
+                        removedExpired = true;
+                    } else if (eldest == null
+                            || entry.getValue().lastAccessNanos - eldest.getValue().lastAccessNanos < 0) {
+                        eldest = entry;
+                    }
+                }
+                if (!removedExpired) {
+                    results.remove(eldest.getKey(), eldest.getValue());
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /**
+     * Ключ кэша из примитивных полей нормализованного запроса.
+     * Календарь и формула хранятся ссылками на экземпляры из {@link RegionalHolidayCalendars}
+     * и {@link TenantFormulas}, общие для всех записей.
+     */
+    private static final class CalculationKey {
+
+        private final long salaryKopecks;
+        private final long startEpochDay;
+        private final long endEpochDay;
+        private final RegionalHolidayCalendar calendar;
+        private final VacationPayEvaluator evaluator;
+        private final long calendarVersion;
+
+        private CalculationKey(
+                long salaryKopecks,
+                long startEpochDay,
+                long endEpochDay,
+                RegionalHolidayCalendar calendar,
+                VacationPayEvaluator evaluator,
+                long calendarVersion
+        ) {
+            this.salaryKopecks = salaryKopecks;
+            this.startEpochDay = startEpochDay;
+            this.endEpochDay = endEpochDay;
+            this.calendar = calendar;
+            this.evaluator = evaluator;
+            this.calendarVersion = calendarVersion;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CalculationKey)) {
+                return false;
+            }
+            final CalculationKey other = (CalculationKey) o;
+            return salaryKopecks == other.salaryKopecks
+                    && startEpochDay == other.startEpochDay
+                    && endEpochDay == other.endEpochDay
+                    && calendar == other.calendar
+                    && evaluator == other.evaluator
+                    && calendarVersion == other.calendarVersion;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Long.hashCode(salaryKopecks);
+            result = 31 * result + Long.hashCode(startEpochDay);
+            result = 31 * result + Long.hashCode(endEpochDay);
+            result = 31 * result + System.identityHashCode(calendar);
+            result = 31 * result + System.identityHashCode(evaluator);
+            return 31 * result + Long.hashCode(calendarVersion);
+        }
+    }
+
+    /**
+     * Сумма отпускных вместе с моментами последнего обращения и истечения времени жизни.
+     */
+    private static final class CachedResult {
+
+        private final BigDecimal totalVacationPay;
+        private final long expiresAtNanos;
+        private volatile long lastAccessNanos;
+
+        private CachedResult(BigDecimal totalVacationPay, long lastAccessNanos, long expiresAtNanos) {
+            this.totalVacationPay = totalVacationPay;
+            this.lastAccessNanos = lastAccessNanos;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package ru.viktorgezz.vacation_pay_calculator.service.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import ru.viktorgezz.vacation_pay_calculator.calculation.cache.DailyRateCache;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationInverseRqDto;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationInverseRsDto;
+import ru.viktorgezz.vacation_pay_calculator.exception.BusinessException;
+import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
+import ru.viktorgezz.vacation_pay_calculator.holiday.HolidayService;
+import ru.viktorgezz.vacation_pay_calculator.service.intrf.VacationInverseService;
+import ru.viktorgezz.vacation_pay_calculator.validation.VacationInverseRequestValidator;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static ru.viktorgezz.vacation_pay_calculator.calculation.util.VacationPayFormula.calculateVacationPay;
+
+/**
+ * Реализация сервиса обратного расчета отпуска.
+ * Количество дней в пределах бюджета находится двоичным поиском по монотонной формуле расчета,
+ * дата окончания — двоичным поиском по календарю праздничных дней {@link HolidayService#findDateEnd}.
+ * Реализует интерфейс {@link VacationInverseService}.
+ */
+@Service
+public class VacationInverseServiceImpl implements VacationInverseService {
+
+    /**
+     * Максимальное количество оплачиваемых дней, подбираемое по бюджету.
+     */
+    static final int MAX_PAYABLE_DAYS = 3660;
+
+    private static final Logger log = LoggerFactory.getLogger(VacationInverseServiceImpl.class);
+
+    private final HolidayService holidayService;
+    private final DailyRateCache dailyRateCache;
+    private final VacationInverseRequestValidator vacationInverseRequestValidator;
+
+    public VacationInverseServiceImpl(
+            HolidayService holidayService,
+            DailyRateCache dailyRateCache,
+            VacationInverseRequestValidator vacationInverseRequestValidator
+    ) {
+        this.holidayService = holidayService;
+        this.dailyRateCache = dailyRateCache;
+        this.vacationInverseRequestValidator = vacationInverseRequestValidator;
+    }
+
+    @Override
+    public VacationInverseRsDto calculate(VacationInverseRqDto dto) {
+        vacationInverseRequestValidator.validate(dto);
+
+        final VacationInverseRsDto response = dto.getPayableDays() != null
+                ? calculateByPayableDays(dto)
+                : calculateByBudget(dto);
+
+        log.debug("Inverse calculation from {}: payable days: {}, end date: {}, vacation pay: {}",
+                response.getDateStart(), response.getPayableDays(), response.getDateEnd(),
+                response.getTotalVacationPay());
+
+        return response;
+    }
+
+    /**
+     * Находит дату окончания отпуска с указанным количеством оплачиваемых дней.
+     *
+     * @param dto данные запроса
+     * @return период отпуска и сумма отпускных
+     */
+    private VacationInverseRsDto calculateByPayableDays(VacationInverseRqDto dto) {
+        final int payableDays = dto.getPayableDays();
+        final LocalDate dateEnd = holidayService.findDateEnd(
+                dto.getCalendarId(),
+                dto.getDateStart(),
+                payableDays,
+                dto.getAsOf()
+        );
+        return new VacationInverseRsDto(
+                dto.getDateStart(),
+                dateEnd,
+                payableDays,
+                calculateVacationPay(dto.getAverageSalary(), payableDays, dailyRateCache)
+        );
+    }
+
+    /**
+     * Находит самый длинный отпуск, стоимость которого не превышает бюджет.
+     * Праздники сразу после последнего оплачиваемого дня не оплачиваются и включаются в отпуск.
+     *
+     * @param dto данные запроса
+     * @return период отпуска и сумма отпускных
+     * @throws BusinessException если отпуск в пределах бюджета невозможен
+     */
+    private VacationInverseRsDto calculateByBudget(VacationInverseRqDto dto) {
+        final int payableDays = findMaxPayableDays(dto.getAverageSalary(), dto.getBudget());
+        if (payableDays == 0) {
+            throw new BusinessException(ErrorCode.INSUFFICIENT_BUDGET);
+        }
+
+        final LocalDate dateEnd = holidayService.findDateEnd(
+                dto.getCalendarId(),
+                dto.getDateStart(),
+                payableDays + 1,
+                dto.getAsOf()
+        ).minusDays(1);
+
+        return new VacationInverseRsDto(
+                dto.getDateStart(),
+                dateEnd,
+                payableDays,
+                calculateVacationPay(dto.getAverageSalary(), payableDays, dailyRateCache)
+        );
+    }
+
+    /**
+     * Находит двоичным поиском наибольшее количество оплачиваемых дней, стоимость которых не превышает бюджет.
+     *
+     * @param averageSalary средняя зарплата
+     * @param budget        бюджет
+     * @return количество дней, не больше {@link #MAX_PAYABLE_DAYS}
+     */
+    private int findMaxPayableDays(BigDecimal averageSalary, BigDecimal budget) {
+        int low = 0;
+        int high = MAX_PAYABLE_DAYS;
+        while (low < high) {
+            final int middle = (low + high + 1) >>> 1;
+            if (calculateVacationPay(averageSalary, middle, dailyRateCache).compareTo(budget) <= 0) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,140 @@
+package ru.viktorgezz.vacation_pay_calculator.service.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import ru.viktorgezz.vacation_pay_calculator.calculation.cache.DailyRateCache;
+import ru.viktorgezz.vacation_pay_calculator.dto.OptimizationObjective;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationOptimizationRqDto;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationOptimizationRsDto;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationOptionRsDto;
+import ru.viktorgezz.vacation_pay_calculator.holiday.HolidayService;
+import ru.viktorgezz.vacation_pay_calculator.service.intrf.VacationOptimizationService;
+import ru.viktorgezz.vacation_pay_calculator.validation.VacationOptimizationRequestValidator;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import static ru.viktorgezz.vacation_pay_calculator.calculation.util.VacationPayFormula.calculateVacationPay;
+
+/**
+ * Реализация сервиса подбора даты начала отпуска.
+ * Признаки праздников для всего окна поиска загружаются один раз, количество праздников в отпуске
+ * для каждой даты начала считается скользящим окном за O(1), а лучшие k вариантов отбираются кучей ограниченного размера.
+ * Сумма отпускных рассчитывается только для отобранных вариантов.
+ * Реализует интерфейс {@link VacationOptimizationService}.
+ */
+@Service
+public class VacationOptimizationServiceImpl implements VacationOptimizationService {
+
+    private static final Logger log = LoggerFactory.getLogger(VacationOptimizationServiceImpl.class);
+
+    /**
+     * Порядок вариантов от лучшего к худшему: по оценке по убыванию, при равенстве — по более ранней дате начала.
+     */
+    private static final Comparator<Candidate> BEST_FIRST = Comparator
+            .comparingInt((Candidate candidate) -> -candidate.score)
+            .thenComparingInt(candidate -> candidate.offset);
+
+    private final HolidayService holidayService;
+    private final DailyRateCache dailyRateCache;
+    private final VacationOptimizationRequestValidator vacationOptimizationRequestValidator;
+
+    public VacationOptimizationServiceImpl(
+            HolidayService holidayService,
+            DailyRateCache dailyRateCache,
+            VacationOptimizationRequestValidator vacationOptimizationRequestValidator
+    ) {
+        this.holidayService = holidayService;
+        this.dailyRateCache = dailyRateCache;
+        this.vacationOptimizationRequestValidator = vacationOptimizationRequestValidator;
+    }
+
+    @Override
+    public VacationOptimizationRsDto optimize(VacationOptimizationRqDto dto) {
+        vacationOptimizationRequestValidator.validate(dto);
+
+        final int daysVacation = dto.getDaysVacation();
+        final int countCandidates = Math.toIntExact(
+                ChronoUnit.DAYS.between(dto.getWindowStart(), dto.getWindowEnd()) + 1
+        );
+        final boolean[] holidayFlags = holidayService.getHolidayFlags(
+                dto.getCalendarId(),
+                dto.getWindowStart(),
+                dto.getWindowEnd().plusDays(daysVacation - 1L),
+                dto.getAsOf()
+        );
+        final int sign = dto.getObjective() == OptimizationObjective.MAX_HOLIDAYS ? 1 : -1;
+        final int topK = Math.min(dto.getTopK(), countCandidates);
+
+        final PriorityQueue<Candidate> best = new PriorityQueue<>(topK, BEST_FIRST.reversed());
+        int countHolidays = 0;
+        for (int day = 0; day < daysVacation; day++) {
+            countHolidays += holidayFlags[day] ? 1 : 0;
+        }
+
+        for (int offset = 0; offset < countCandidates; offset++) {
+            if (offset > 0) {
+                countHolidays += (holidayFlags[offset + daysVacation - 1] ? 1 : 0) - (holidayFlags[offset - 1] ? 1 : 0);
+            }
+
+            final int score = sign * countHolidays;
+            if (best.size() < topK) {
+                best.add(new Candidate(offset, countHolidays, score));
+            } else if (score > best.peek().score) {
+                best.poll();
+                best.add(new Candidate(offset, countHolidays, score));
+            }
+        }
+
+        final List<Candidate> ranked = new ArrayList<>(best);
+        ranked.sort(BEST_FIRST);
+        final List<VacationOptionRsDto> options = new ArrayList<>(ranked.size());
+        for (Candidate candidate : ranked) {
+            options.add(toOption(dto, candidate));
+        }
+
+        log.debug("Scanned {} start dates from {} for {} days by {}, best options: {}",
+                countCandidates, dto.getWindowStart(), daysVacation, dto.getObjective(), options.size());
+
+        return new VacationOptimizationRsDto(options);
+    }
+
+    private VacationOptionRsDto toOption(VacationOptimizationRqDto dto, Candidate candidate) {
+        final int daysVacation = dto.getDaysVacation();
+        final LocalDate dateStart = dto.getWindowStart().plusDays(candidate.offset);
+        final int payableDays = daysVacation - candidate.holidays;
+        final BigDecimal totalVacationPay = calculateVacationPay(dto.getAverageSalary(), payableDays, dailyRateCache);
+
+        return new VacationOptionRsDto(
+                dateStart,
+                dateStart.plusDays(daysVacation - 1L),
+                candidate.holidays,
+                payableDays,
+                totalVacationPay,
+                totalVacationPay.divide(BigDecimal.valueOf(daysVacation), 2, RoundingMode.HALF_UP)
+        );
+    }
+
+    /**
+     * Дата начала отпуска, заданная смещением от начала окна поиска, с количеством праздников и оценкой.
+     */
+    private static final class Candidate {
+
+        private final int offset;
+        private final int holidays;
+        private final int score;
+
+        private Candidate(int offset, int holidays, int score) {
+            this.offset = offset;
+            this.holidays = holidays;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package ru.viktorgezz.vacation_pay_calculator.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import ru.viktorgezz.vacation_pay_calculator.calculation.CalculationProperties;
+import ru.viktorgezz.vacation_pay_calculator.calculation.batch.BatchCalculationResult;
+import ru.viktorgezz.vacation_pay_calculator.calculation.batch.PayableDaysPlan;
+import ru.viktorgezz.vacation_pay_calculator.calculation.batch.PayableDaysPlanner;
+import ru.viktorgezz.vacation_pay_calculator.calculation.strategy.VacationRequestShape;
+import ru.viktorgezz.vacation_pay_calculator.calculation.strategy.impl.CalendarBasedCalculationStrategy;
+import ru.viktorgezz.vacation_pay_calculator.dto.BulkVacationPayRsDto;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationPayRqDto;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationPayRsDto;
+import ru.viktorgezz.vacation_pay_calculator.exception.BusinessException;
+import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
+import ru.viktorgezz.vacation_pay_calculator.handler.ValidationError;
+import ru.viktorgezz.vacation_pay_calculator.service.intrf.VacationPayBulkService;
+import ru.viktorgezz.vacation_pay_calculator.service.intrf.VacationPayService;
+import ru.viktorgezz.vacation_pay_calculator.validation.VacationPayRequestValidator;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Реализация сервиса пакетного расчета отпускных.
+ * Каждая строка запроса разбирается, проверяется и рассчитывается так же, как отдельный запрос
+ * к {@link VacationPayService}, а ошибка строки записывается в ответ вместо результата и не прерывает пакет.
+ * Строки обрабатываются окнами по {@code calculation.bulk-flush-lines} строк; после каждого окна ответ
+ * отправляется клиенту, поэтому в памяти находится только текущее окно.
+ * Строки окна с датами отпуска планируются {@link PayableDaysPlanner}: праздничные дни считаются один раз
+ * на каждый различный период в пределах календаря и его версии, а к строке применяется только формула.
+ * Реализует интерфейс {@link VacationPayBulkService}.
+ */
+@Service
+public class VacationPayBulkServiceImpl implements VacationPayBulkService {
+
+    private static final Logger log = LoggerFactory.getLogger(VacationPayBulkServiceImpl.class);
+
+    private final VacationPayService vacationPayService;
+    private final VacationPayRequestValidator requestValidator;
+    private final CalendarBasedCalculationStrategy calendarBasedStrategy;
+    private final PayableDaysPlanner payableDaysPlanner;
+    private final Validator validator;
+    private final ObjectReader requestReader;
+    private final ObjectMapper objectMapper;
+    private final int flushLines;
+
+    public VacationPayBulkServiceImpl(
+            VacationPayService vacationPayService,
+            VacationPayRequestValidator requestValidator,
+            CalendarBasedCalculationStrategy calendarBasedStrategy,
+            PayableDaysPlanner payableDaysPlanner,
+            Validator validator,
+            ObjectMapper objectMapper,
+            CalculationProperties calculationProperties
+    ) {
+        if (calculationProperties.getBulkFlushLines() <= 0) {
+            throw new IllegalStateException("calculation.bulk-flush-lines must be greater than 0");
+        }
+        this.vacationPayService = vacationPayService;
+        this.requestValidator = requestValidator;
+        this.calendarBasedStrategy = calendarBasedStrategy;
+        this.payableDaysPlanner = payableDaysPlanner;
+        this.validator = validator;
+        this.requestReader = objectMapper.readerFor(VacationPayRqDto.class);
+        this.objectMapper = objectMapper;
+        this.flushLines = calculationProperties.getBulkFlushLines();
+    }
+
+    @Override
+    public void calculate(InputStream input, OutputStream output) throws IOException {
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        try (SequenceWriter results = objectMapper
+                .writerFor(BulkVacationPayRsDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n")
+                .writeValues(output)) {
+            final String[] lines = new String[flushLines];
+            final long[] lineNumbers = new long[flushLines];
+            int size = 0;
+            long lineNumber = 0;
+            long countFailed = 0;
+            long countPlanned = 0;
+            long countRanges = 0;
+            String line;
+            do {
+                line = reader.readLine();
+                if (line != null) {
+                    lineNumber++;
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    lines[size] = line;
+                    lineNumbers[size] = lineNumber;
+                    size++;
+                }
+
+                if (size == flushLines || line == null && size > 0) {
+                    final BatchCalculationResult batch = calculateLines(lineNumbers, lines, size);
+                    for (BulkVacationPayRsDto result : batch.getResults()) {
+                        results.write(result);
+                    }
+                    results.flush();
+                    countFailed += batch.getFailedLines();
+                    countPlanned += batch.getPlannedLines();
+                    countRanges += batch.getDistinctRanges();
+                    size = 0;
+                }
+            } while (line != null);
+
+            log.debug("Bulk calculation finished: lines {}, failed {}, planned by dates {}, distinct periods {}",
+                    lineNumber, countFailed, countPlanned, countRanges);
+        }
+    }
+
+    @Override
+    public BatchCalculationResult calculateLines(long[] lineNumbers, String[] lines, int size) {
+        final BulkVacationPayRsDto[] results = new BulkVacationPayRsDto[size];
+        final VacationPayRqDto[] requests = new VacationPayRqDto[size];
+        final Map<CalendarVersion, List<Integer>> plannedRowsByCalendar = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            results[i] = readRequest(lineNumbers[i], lines[i], requests, i);
+            if (results[i] != null) {
+                continue;
+            }
+
+            final VacationPayRqDto dto = requests[i];
+            if (isPlannable(dto)) {
+                plannedRowsByCalendar
+                        .computeIfAbsent(new CalendarVersion(dto.getCalendarId(), dto.getAsOf()), key -> new ArrayList<>())
+                        .add(i);
+            } else {
+                results[i] = calculate(lineNumbers[i], () -> vacationPayService.calculate(dto));
+            }
+        }
+
+        int countPlanned = 0;
+        int countRanges = 0;
+        for (Map.Entry<CalendarVersion, List<Integer>> entry : plannedRowsByCalendar.entrySet()) {
+            final List<Integer> rows = entry.getValue();
+            final long[] fromEpochDays = new long[rows.size()];
+            final long[] toEpochDays = new long[rows.size()];
+            for (int j = 0; j < rows.size(); j++) {
+                fromEpochDays[j] = requests[rows.get(j)].getDateStart().toEpochDay();
+                toEpochDays[j] = requests[rows.get(j)].getDateEnd().toEpochDay();
+            }
+
+            final PayableDaysPlan plan;
+            try {
+                plan = payableDaysPlanner.plan(entry.getKey().calendarId, entry.getKey().asOf, fromEpochDays, toEpochDays);
+            } catch (RuntimeException e) {
+                for (int row : rows) {
+                    results[row] = calculate(lineNumbers[row], () -> {
+                        throw e;
+                    });
+                }
+                continue;
+            }
+
+            countPlanned += rows.size();
+            countRanges += plan.getDistinctRanges();
+            for (int j = 0; j < rows.size(); j++) {
+                final VacationPayRqDto dto = requests[rows.get(j)];
+                final int payableDays = plan.getPayableDays(j);
+                results[rows.get(j)] = calculate(lineNumbers[rows.get(j)],
+                        () -> new VacationPayRsDto(calendarBasedStrategy.calculate(dto, payableDays)));
+            }
+        }
+
+        int countFailed = 0;
+        for (BulkVacationPayRsDto result : results) {
+            if (result.getTotalVacationPay() == null) {
+                countFailed++;
+            }
+        }
+        return new BatchCalculationResult(results, countFailed, countPlanned, countRanges);
+    }
+
+    /**
+     * Разбирает и проверяет строку запроса.
+     *
+     * @param requests массив, в который записывается разобранный запрос
+     * @param index    индекс строки в окне
+     * @return ошибка строки или null, если запрос прошел проверку аннотаций
+     */
+    private BulkVacationPayRsDto readRequest(long lineNumber, String line, VacationPayRqDto[] requests, int index) {
+        final VacationPayRqDto dto;
+        try {
+            dto = requestReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            return malformed(lineNumber, e.getOriginalMessage());
+        }
+        if (dto == null) {
+            return malformed(lineNumber, "null");
+        }
+
+        final Set<ConstraintViolation<VacationPayRqDto>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            final List<ValidationError> errors = new ArrayList<>(violations.size());
+            violations.forEach(violation -> errors.add(new ValidationError(
+                    violation.getPropertyPath().toString(),
+                    violation.getMessage()
+            )));
+            return BulkVacationPayRsDto.invalid(lineNumber, errors);
+        }
+
+        requests[index] = dto;
+        return null;
+    }
+
+    /**
+     * Проверяет, что запрос рассчитывается по датам без разбивки и его оплачиваемые дни можно взять из плана.
+     * Запросы, не прошедшие валидацию, рассчитываются обычным путем и получают ту же ошибку, что и отдельный запрос.
+     */
+    private boolean isPlannable(VacationPayRqDto dto) {
+        try {
+            return requestValidator.validate(dto) == VacationRequestShape.DATES_ONLY && !dto.isBreakdown();
+        } catch (BusinessException e) {
+            return false;
+        }
+    }
+
+    private static BulkVacationPayRsDto calculate(long lineNumber, Supplier<VacationPayRsDto> calculation) {
+        try {
+            return BulkVacationPayRsDto.calculated(lineNumber, calculation.get());
+        } catch (BusinessException e) {
+            return BulkVacationPayRsDto.failed(lineNumber, e.getErrorCode().getCode(), e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Bulk calculation failed at line {}", lineNumber, e);
+            return BulkVacationPayRsDto.failed(
+                    lineNumber,
+                    ErrorCode.INTERNAL_EXCEPTION.getCode(),
+                    ErrorCode.INTERNAL_EXCEPTION.getDefaultMessage()
+            );
+        }
+    }
+
+    private static BulkVacationPayRsDto malformed(long lineNumber, String reason) {
+        final BusinessException e = new BusinessException(ErrorCode.MALFORMED_REQUEST_LINE, reason);
+        return BulkVacationPayRsDto.failed(lineNumber, e.getErrorCode().getCode(), e.getMessage());
+    }
+
+    /**
+     * Календарь и момент его версии, общие для группы строк плана.
+     */
+    private static final class CalendarVersion {
+
+        private final String calendarId;
+        private final Instant asOf;
+
+        private CalendarVersion(String calendarId, Instant asOf) {
+            this.calendarId = calendarId;
+            this.asOf = asOf;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CalendarVersion)) {
+                return false;
+            }
+            final CalendarVersion other = (CalendarVersion) o;
+            return Objects.equals(calendarId, other.calendarId) && Objects.equals(asOf, other.asOf);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(calendarId, asOf);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package ru.viktorgezz.vacation_pay_calculator.service.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import ru.viktorgezz.vacation_pay_calculator.calculation.columnar.ColumnarVacationPayEngine;
+import ru.viktorgezz.vacation_pay_calculator.calculation.columnar.VacationPayColumns;
+import ru.viktorgezz.vacation_pay_calculator.calculation.columnar.VacationPayColumnsReader;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationPayColumnarRsDto;
+import ru.viktorgezz.vacation_pay_calculator.service.intrf.VacationPayColumnarService;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Реализация сервиса пакетного расчета отпускных в колоночном формате.
+ * Запрос читается сразу в массивы примитивов и рассчитывается {@link ColumnarVacationPayEngine}
+ * без объекта запроса на каждую строку.
+ * Реализует интерфейс {@link VacationPayColumnarService}.
+ */
+@Service
+public class VacationPayColumnarServiceImpl implements VacationPayColumnarService {
+
+    private static final Logger log = LoggerFactory.getLogger(VacationPayColumnarServiceImpl.class);
+
+    private final VacationPayColumnsReader columnsReader;
+    private final ColumnarVacationPayEngine columnarEngine;
+
+    public VacationPayColumnarServiceImpl(
+            VacationPayColumnsReader columnsReader,
+            ColumnarVacationPayEngine columnarEngine
+    ) {
+        this.columnsReader = columnsReader;
+        this.columnarEngine = columnarEngine;
+    }
+
+    @Override
+    public VacationPayColumnarRsDto calculate(InputStream input) throws IOException {
+        final VacationPayColumns columns = columnsReader.read(input);
+        final long[] vacationPayKopecks = columnarEngine.calculate(columns);
+
+        log.debug("Columnar batch calculated: {} rows, date based: {}", columns.size(), columns.isDateBased());
+
+        return new VacationPayColumnarRsDto(vacationPayKopecks);
+    }
+}
@@ -0,0 +1,212 @@
+package ru.viktorgezz.vacation_pay_calculator.service.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationPayJobRsDto;
+import ru.viktorgezz.vacation_pay_calculator.exception.BusinessException;
+import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
+import ru.viktorgezz.vacation_pay_calculator.job.JobProperties;
+import ru.viktorgezz.vacation_pay_calculator.job.VacationPayJob;
+import ru.viktorgezz.vacation_pay_calculator.job.VacationPayJobRunner;
+import ru.viktorgezz.vacation_pay_calculator.job.VacationPayJobStatus;
+import ru.viktorgezz.vacation_pay_calculator.service.intrf.VacationPayJobService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
+
+/**
+ * Реализация сервиса фоновых заданий пакетного расчета отпускных.
+ * Тело запроса сохраняется в каталог задания в {@code jobs.directory}, после чего задание выполняется
+ * {@link VacationPayJobRunner} в фоне, а клиент опрашивает его состояние и загружает файл результата.
+ * Тело запроса ограничено {@code jobs.max-input-bytes}, а очередь заданий — {@code jobs.max-queued-jobs}.
+ * Завершенные задания и их файлы удаляются по истечении {@code jobs.retention}.
+ * Задания хранятся только в памяти, поэтому каталоги заданий, оставшиеся от прежнего запуска, удаляются при старте.
+ * Реализует интерфейс {@link VacationPayJobService}.
+ */
+@Service
+public class VacationPayJobServiceImpl implements VacationPayJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(VacationPayJobServiceImpl.class);
+
+    private static final int COPY_BUFFER_SIZE = 8192;
+
+    private final VacationPayJobRunner jobRunner;
+    private final Path jobsDirectory;
+    private final Duration retention;
+    private final long maxInputBytes;
+    private final int maxQueuedJobs;
+    private final Map<String, VacationPayJob> jobsById = new ConcurrentHashMap<>();
+
+    public VacationPayJobServiceImpl(VacationPayJobRunner jobRunner, JobProperties jobProperties) {
+        if (jobProperties.getMaxInputBytes() <= 0) {
+            throw new IllegalStateException("jobs.max-input-bytes must be greater than 0");
+        }
+        this.jobRunner = jobRunner;
+        this.jobsDirectory = Path.of(jobProperties.getDirectory());
+        this.retention = jobProperties.getRetention();
+        this.maxInputBytes = jobProperties.getMaxInputBytes();
+        this.maxQueuedJobs = jobProperties.getMaxQueuedJobs();
+        try {
+            Files.createDirectories(jobsDirectory);
+        } catch (IOException e) {
+            throw new IllegalStateException("jobs.directory " + jobsDirectory + " cannot be created", e);
+        }
+        removeStaleJobDirectories();
+    }
+
+    @Override
+    public VacationPayJobRsDto submit(InputStream input) throws IOException {
+        if (jobRunner.isQueueFull()) {
+            throw new BusinessException(ErrorCode.JOB_QUEUE_FULL, String.valueOf(maxQueuedJobs));
+        }
+
+        final String jobId = UUID.randomUUID().toString();
+        final Path directory = Files.createDirectory(jobsDirectory.resolve(jobId));
+        final long totalLines;
+        try (OutputStream output = Files.newOutputStream(VacationPayJob.inputFileOf(directory))) {
+            totalLines = copyCountingLines(input, output, maxInputBytes);
+        } catch (IOException | RuntimeException e) {
+            delete(directory);
+            throw e;
+        }
+
+        final VacationPayJob job = new VacationPayJob(jobId, directory, totalLines, Instant.now());
+        jobsById.put(jobId, job);
+        try {
+            jobRunner.submit(job);
+        } catch (RejectedExecutionException e) {
+            jobsById.remove(jobId);
+            delete(directory);
+            throw new BusinessException(ErrorCode.JOB_QUEUE_FULL, String.valueOf(maxQueuedJobs));
+        }
+
+        log.info("Job {} submitted: {} lines", jobId, totalLines);
+        return VacationPayJobRsDto.of(job);
+    }
+
+    @Override
+    public VacationPayJobRsDto getJob(String jobId) {
+        return VacationPayJobRsDto.of(find(jobId));
+    }
+
+    @Override
+    public Path getResultFile(String jobId) {
+        final VacationPayJob job = find(jobId);
+        if (job.getStatus() != VacationPayJobStatus.COMPLETED) {
+            throw new BusinessException(ErrorCode.JOB_NOT_COMPLETED, jobId, job.getStatus().name());
+        }
+        return job.getResultFile();
+    }
+
+    /**
+     * Удаляет завершенные задания, время хранения которых истекло, вместе с их файлами.
+     */
+    @Scheduled(
+            initialDelayString = "${jobs.cleanup-interval:PT10M}",
+            fixedDelayString = "${jobs.cleanup-interval:PT10M}"
+    )
+    public void removeExpiredJobs() {
+        final Instant expiredBefore = Instant.now().minus(retention);
+        jobsById.values().removeIf(job -> {
+            if (!job.getStatus().isFinished() || job.getFinishedAt().isAfter(expiredBefore)) {
+                return false;
+            }
+            delete(job.getDirectory());
+            log.debug("Job {} expired and removed", job.getId());
+            return true;
+        });
+    }
+
+    private VacationPayJob find(String jobId) {
+        final VacationPayJob job = jobsById.get(jobId);
+        if (job == null) {
+            throw new BusinessException(ErrorCode.JOB_NOT_FOUND, jobId);
+        }
+        return job;
+    }
+
+    /**
+     * Удаляет каталоги заданий, оставшиеся от прежнего запуска: их состояние не сохраняется,
+     * поэтому они недоступны по идентификатору и не были бы удалены по истечении времени хранения.
+     * Удаляются только каталоги с именем-идентификатором задания, остальные файлы каталога не затрагиваются.
+     */
+    private void removeStaleJobDirectories() {
+        try (Stream<Path> paths = Files.list(jobsDirectory)) {
+            paths.filter(path -> Files.isDirectory(path) && isJobId(path.getFileName().toString()))
+                    .forEach(path -> {
+                        delete(path);
+                        log.info("Stale job directory {} removed", path);
+                    });
+        } catch (IOException e) {
+            log.warn("Job directory {} cannot be listed", jobsDirectory, e);
+        }
+    }
+
+    private static boolean isJobId(String name) {
+        try {
+            return UUID.fromString(name).toString().equals(name);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Копирует поток в файл задания и считает непустые строки для оценки прогресса.
+     *
+     * @param maxBytes максимальный размер тела запроса в байтах
+     * @return количество строк, содержащих символы кроме пробелов
+     * @throws BusinessException если тело запроса больше {@code maxBytes}
+     */
+    private static long copyCountingLines(InputStream input, OutputStream output, long maxBytes) throws IOException {
+        final byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        long countBytes = 0;
+        long countLines = 0;
+        boolean hasContent = false;
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+            countBytes += read;
+            if (countBytes > maxBytes) {
+                throw new BusinessException(ErrorCode.JOB_INPUT_TOO_LARGE, String.valueOf(maxBytes));
+            }
+            output.write(buffer, 0, read);
+            for (int i = 0; i < read; i++) {
+                final byte symbol = buffer[i];
+                if (symbol == '\n') {
+                    countLines += hasContent ? 1 : 0;
+                    hasContent = false;
+                } else if (symbol != ' ' && symbol != '\t' && symbol != '\r') {
+                    hasContent = true;
+                }
+            }
+        }
+        return countLines + (hasContent ? 1 : 0);
+    }
+
+    private static void delete(Path directory) {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Job directory {} cannot be deleted", directory, e);
+        }
+    }
+}
@@ -2,7 +2,8 @@ package ru.viktorgezz.vacation_pay_calculator.service.impl;
 
 import org.springframework.stereotype.Service;
 import ru.viktorgezz.vacation_pay_calculator.calculation.strategy.VacationCalculationStrategyResolver;
-import ru.viktorgezz.vacation_pay_calculator.calculation.strategy.intrf.VacationCalculationStrategy;
+import ru.viktorgezz.vacation_pay_calculator.calculation.strategy.VacationRequestShape;
+import ru.viktorgezz.vacation_pay_calculator.calculation.strategy.intrf.MonthlyBreakdownStrategy;
 import ru.viktorgezz.vacation_pay_calculator.dto.VacationPayRqDto;
 import ru.viktorgezz.vacation_pay_calculator.dto.VacationPayRsDto;
 import ru.viktorgezz.vacation_pay_calculator.service.intrf.VacationPayService;
@@ -10,6 +11,8 @@ import ru.viktorgezz.vacation_pay_calculator.validation.VacationPayRequestValida
 
 /**
  * Реализация сервиса расчета отпускных выплат.
+ * Разбивка по месяцам выполняется стратегией {@link MonthlyBreakdownStrategy},
+ * которую выбирает резолвер; допустимость разбивки проверяет валидатор запроса.
  * Реализует интерфейс {@link VacationPayService}.
  */
 @Service
@@ -28,8 +31,10 @@ public class VacationPayServiceImpl implements VacationPayService {
 
     @Override
     public VacationPayRsDto calculate(VacationPayRqDto dto) {
-        vacationPayRequestValidator.validate(dto);
-        final VacationCalculationStrategy strategy = calculationStrategyResolver.resolve(dto);
-        return new VacationPayRsDto(strategy.calculate(dto));
+        final VacationRequestShape shape = vacationPayRequestValidator.validate(dto);
+        if (dto.isBreakdown()) {
+            return calculationStrategyResolver.resolveBreakdown(shape).calculateWithBreakdown(dto);
+        }
+        return new VacationPayRsDto(calculationStrategyResolver.resolve(shape).calculate(dto));
     }
 }
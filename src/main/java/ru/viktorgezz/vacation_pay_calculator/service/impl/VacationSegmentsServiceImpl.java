@@ -0,0 +1,83 @@
+package ru.viktorgezz.vacation_pay_calculator.service.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import ru.viktorgezz.vacation_pay_calculator.calculation.cache.DailyRateCache;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationSegmentDto;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationSegmentRsDto;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationSegmentsRqDto;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationSegmentsRsDto;
+import ru.viktorgezz.vacation_pay_calculator.holiday.HolidayService;
+import ru.viktorgezz.vacation_pay_calculator.service.intrf.VacationSegmentsService;
+import ru.viktorgezz.vacation_pay_calculator.validation.VacationSegmentsRequestValidator;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static ru.viktorgezz.vacation_pay_calculator.calculation.util.VacationPayFormula.calculateVacationPay;
+
+/**
+ * Реализация сервиса расчета отпускных за отпуск, разделенный на части.
+ * Праздники всех частей считаются по одной версии календаря без перебора дней,
+ * каждая часть оплачивается отдельно, итог равен сумме отпускных по частям.
+ * Реализует интерфейс {@link VacationSegmentsService}.
+ */
+@Service
+public class VacationSegmentsServiceImpl implements VacationSegmentsService {
+
+    private static final Logger log = LoggerFactory.getLogger(VacationSegmentsServiceImpl.class);
+
+    private final HolidayService holidayService;
+    private final DailyRateCache dailyRateCache;
+    private final VacationSegmentsRequestValidator vacationSegmentsRequestValidator;
+
+    public VacationSegmentsServiceImpl(
+            HolidayService holidayService,
+            DailyRateCache dailyRateCache,
+            VacationSegmentsRequestValidator vacationSegmentsRequestValidator
+    ) {
+        this.holidayService = holidayService;
+        this.dailyRateCache = dailyRateCache;
+        this.vacationSegmentsRequestValidator = vacationSegmentsRequestValidator;
+    }
+
+    @Override
+    public VacationSegmentsRsDto calculate(VacationSegmentsRqDto dto) {
+        vacationSegmentsRequestValidator.validate(dto);
+
+        final List<VacationSegmentDto> segments = dto.getSegments();
+        final LocalDate[] dateStarts = new LocalDate[segments.size()];
+        final LocalDate[] dateEnds = new LocalDate[segments.size()];
+        for (int i = 0; i < segments.size(); i++) {
+            dateStarts[i] = segments.get(i).getDateStart();
+            dateEnds[i] = segments.get(i).getDateEnd();
+        }
+        final int[] countsHolidays = holidayService.countHolidaysBetween(
+                dto.getCalendarId(),
+                dateStarts,
+                dateEnds,
+                dto.getAsOf()
+        );
+
+        final List<VacationSegmentRsDto> results = new ArrayList<>(segments.size());
+        int totalPayableDays = 0;
+        BigDecimal totalVacationPay = BigDecimal.ZERO;
+        for (int i = 0; i < segments.size(); i++) {
+            final int countDays = Math.toIntExact(dateEnds[i].toEpochDay() - dateStarts[i].toEpochDay() + 1);
+            final int payableDays = countDays - countsHolidays[i];
+            final BigDecimal vacationPay = calculateVacationPay(dto.getAverageSalary(), payableDays, dailyRateCache);
+
+            results.add(new VacationSegmentRsDto(dateStarts[i], dateEnds[i], payableDays, vacationPay));
+            totalPayableDays += payableDays;
+            totalVacationPay = totalVacationPay.add(vacationPay);
+        }
+
+        log.debug("Average salary: {}, segments: {}, payable days: {}. Calculated vacation pay: {}",
+                dto.getAverageSalary(), segments.size(), totalPayableDays, totalVacationPay);
+
+        return new VacationSegmentsRsDto(results, totalPayableDays, totalVacationPay);
+    }
+}
@@ -0,0 +1,25 @@
+package ru.viktorgezz.vacation_pay_calculator.service.intrf;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.YearMonth;
+
+/**
+ * Интерфейс сервиса расчета среднего дневного заработка по потоку истории начислений.
+ * Реализуется классом {@link ru.viktorgezz.vacation_pay_calculator.service.impl.AverageEarningsServiceImpl}.
+ */
+public interface AverageEarningsService {
+
+    /**
+     * Читает записи истории начислений в формате NDJSON и пишет по одной строке результата на сотрудника.
+     * Записи читаются и результаты пишутся по мере обработки, без загрузки потока в память.
+     *
+     * @param input     поток записей {@link ru.viktorgezz.vacation_pay_calculator.dto.PayrollRecordDto},
+     *                  сгруппированных по сотрудникам
+     * @param output    поток строк {@link ru.viktorgezz.vacation_pay_calculator.dto.AverageEarningsRsDto}
+     * @param periodEnd последний месяц расчетного периода
+     * @throws IOException если произошла ошибка чтения или записи
+     */
+    void calculate(InputStream input, OutputStream output, YearMonth periodEnd) throws IOException;
+}
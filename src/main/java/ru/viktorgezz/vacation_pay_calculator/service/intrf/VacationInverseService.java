@@ -0,0 +1,20 @@
+package ru.viktorgezz.vacation_pay_calculator.service.intrf;
+
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationInverseRqDto;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationInverseRsDto;
+
+/**
+ * Интерфейс сервиса обратного расчета отпуска.
+ * Реализуется классом {@link ru.viktorgezz.vacation_pay_calculator.service.impl.VacationInverseServiceImpl}.
+ */
+public interface VacationInverseService {
+
+    /**
+     * Находит дату окончания отпуска по количеству оплачиваемых дней
+     * или самый длинный отпуск, стоимость которого не превышает бюджет.
+     *
+     * @param dto данные запроса
+     * @return период отпуска и сумма отпускных
+     */
+    VacationInverseRsDto calculate(VacationInverseRqDto dto);
+}
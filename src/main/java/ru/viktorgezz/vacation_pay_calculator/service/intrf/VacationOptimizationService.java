@@ -0,0 +1,19 @@
+package ru.viktorgezz.vacation_pay_calculator.service.intrf;
+
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationOptimizationRqDto;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationOptimizationRsDto;
+
+/**
+ * Интерфейс сервиса подбора даты начала отпуска.
+ * Реализуется классом {@link ru.viktorgezz.vacation_pay_calculator.service.impl.VacationOptimizationServiceImpl}.
+ */
+public interface VacationOptimizationService {
+
+    /**
+     * Подбирает лучшие даты начала отпуска фиксированной длины в окне поиска.
+     *
+     * @param dto данные запроса
+     * @return лучшие варианты, от лучшего к худшему
+     */
+    VacationOptimizationRsDto optimize(VacationOptimizationRqDto dto);
+}
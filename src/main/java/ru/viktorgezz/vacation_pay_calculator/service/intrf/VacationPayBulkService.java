@@ -0,0 +1,37 @@
+package ru.viktorgezz.vacation_pay_calculator.service.intrf;
+
+import ru.viktorgezz.vacation_pay_calculator.calculation.batch.BatchCalculationResult;
+import ru.viktorgezz.vacation_pay_calculator.dto.BulkVacationPayRsDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Интерфейс сервиса пакетного расчета отпускных.
+ * Реализуется классом {@link ru.viktorgezz.vacation_pay_calculator.service.impl.VacationPayBulkServiceImpl}.
+ */
+public interface VacationPayBulkService {
+
+    /**
+     * Читает запросы {@link ru.viktorgezz.vacation_pay_calculator.dto.VacationPayRqDto} в формате NDJSON
+     * и пишет по одной строке результата или ошибки на каждую строку запроса в том же порядке.
+     * Запросы читаются и результаты пишутся по мере обработки, без загрузки потока в память.
+     *
+     * @param input  поток запросов, по одному JSON-объекту на строку
+     * @param output поток строк {@link BulkVacationPayRsDto}
+     * @throws IOException если произошла ошибка чтения или записи
+     */
+    void calculate(InputStream input, OutputStream output) throws IOException;
+
+    /**
+     * Разбирает, проверяет и рассчитывает часть пакета.
+     * Ошибки строк возвращаются в результатах и не выбрасываются.
+     *
+     * @param lineNumbers номера строк в пакете
+     * @param lines       строки с JSON-объектами запросов
+     * @param size        количество строк части
+     * @return результаты строк в том же порядке и метрики планирования
+     */
+    BatchCalculationResult calculateLines(long[] lineNumbers, String[] lines, int size);
+}
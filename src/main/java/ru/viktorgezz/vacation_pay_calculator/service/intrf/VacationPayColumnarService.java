@@ -0,0 +1,22 @@
+package ru.viktorgezz.vacation_pay_calculator.service.intrf;
+
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationPayColumnarRsDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Интерфейс сервиса пакетного расчета отпускных в колоночном формате.
+ */
+public interface VacationPayColumnarService {
+
+    /**
+     * Рассчитывает отпускные по колоночному запросу, в котором параметры строк заданы параллельными массивами.
+     *
+     * @param input тело запроса в формате JSON
+     * @return суммы отпускных в порядке строк запроса
+     * @throws ru.viktorgezz.vacation_pay_calculator.exception.BusinessException если запрос некорректен
+     * @throws IOException                                                       если произошла ошибка чтения
+     */
+    VacationPayColumnarRsDto calculate(InputStream input) throws IOException;
+}
@@ -0,0 +1,41 @@
+package ru.viktorgezz.vacation_pay_calculator.service.intrf;
+
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationPayJobRsDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * Интерфейс сервиса фоновых заданий пакетного расчета отпускных.
+ */
+public interface VacationPayJobService {
+
+    /**
+     * Сохраняет пакет запросов в формате NDJSON в файл задания и ставит задание в очередь выполнения.
+     *
+     * @param input поток запросов, по одному JSON-объекту на строку
+     * @return состояние принятого задания
+     * @throws IOException если произошла ошибка чтения запроса или записи файла
+     */
+    VacationPayJobRsDto submit(InputStream input) throws IOException;
+
+    /**
+     * Возвращает состояние и прогресс задания.
+     *
+     * @param jobId идентификатор задания
+     * @return состояние задания
+     * @throws ru.viktorgezz.vacation_pay_calculator.exception.BusinessException если задание не найдено
+     */
+    VacationPayJobRsDto getJob(String jobId);
+
+    /**
+     * Возвращает файл результата завершенного задания.
+     *
+     * @param jobId идентификатор задания
+     * @return путь к файлу строк результата в формате NDJSON
+     * @throws ru.viktorgezz.vacation_pay_calculator.exception.BusinessException если задание не найдено
+     *                                                                           или еще не завершено
+     */
+    Path getResultFile(String jobId);
+}
@@ -0,0 +1,19 @@
+package ru.viktorgezz.vacation_pay_calculator.service.intrf;
+
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationSegmentsRqDto;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationSegmentsRsDto;
+
+/**
+ * Интерфейс сервиса расчета отпускных за отпуск, разделенный на части.
+ * Реализуется классом {@link ru.viktorgezz.vacation_pay_calculator.service.impl.VacationSegmentsServiceImpl}.
+ */
+public interface VacationSegmentsService {
+
+    /**
+     * Рассчитывает отпускные за каждую часть отпуска и итоговую сумму.
+     *
+     * @param dto данные запроса
+     * @return отпускные по частям в порядке запроса и итоговая сумма
+     */
+    VacationSegmentsRsDto calculate(VacationSegmentsRqDto dto);
+}
@@ -0,0 +1,30 @@
+package ru.viktorgezz.vacation_pay_calculator.validation;
+
+import org.springframework.stereotype.Component;
+
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationInverseRqDto;
+import ru.viktorgezz.vacation_pay_calculator.exception.BusinessException;
+import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
+
+/**
+ * Валидатор запроса обратного расчета отпуска.
+ */
+@Component
+public class VacationInverseRequestValidator {
+
+    /**
+     * Проверяет, что в запросе указано ровно одно из: количество оплачиваемых дней или бюджет.
+     *
+     * @param dto данные запроса
+     * @throws BusinessException если данные не прошли валидацию
+     */
+    public void validate(VacationInverseRqDto dto) {
+        if (dto.getPayableDays() == null && dto.getBudget() == null) {
+            throw new BusinessException(ErrorCode.INVERSE_TARGET_MISSING);
+        }
+
+        if (dto.getPayableDays() != null && dto.getBudget() != null) {
+            throw new BusinessException(ErrorCode.INVERSE_TARGET_ALL_SPECIFIED);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package ru.viktorgezz.vacation_pay_calculator.validation;
+
+import org.springframework.stereotype.Component;
+
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationOptimizationRqDto;
+import ru.viktorgezz.vacation_pay_calculator.exception.BusinessException;
+import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
+
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Валидатор запроса подбора даты начала отпуска.
+ */
+@Component
+public class VacationOptimizationRequestValidator {
+
+    /**
+     * Максимальная длина окна поиска в днях.
+     */
+    public static final int MAX_WINDOW_DAYS = 3660;
+
+    /**
+     * Проверяет, что окно поиска не пустое и не длиннее {@link #MAX_WINDOW_DAYS} дней.
+     *
+     * @param dto данные запроса
+     * @throws BusinessException если данные не прошли валидацию
+     */
+    public void validate(VacationOptimizationRqDto dto) {
+        if (dto.getWindowStart().isAfter(dto.getWindowEnd())
+                || ChronoUnit.DAYS.between(dto.getWindowStart(), dto.getWindowEnd()) >= MAX_WINDOW_DAYS) {
+            throw new BusinessException(ErrorCode.INVALID_SEARCH_WINDOW, String.valueOf(MAX_WINDOW_DAYS));
+        }
+    }
+}
@@ -2,6 +2,7 @@ package ru.viktorgezz.vacation_pay_calculator.validation;
 
 import org.springframework.stereotype.Component;
 
+import ru.viktorgezz.vacation_pay_calculator.calculation.strategy.VacationRequestShape;
 import ru.viktorgezz.vacation_pay_calculator.dto.VacationPayRqDto;
 import ru.viktorgezz.vacation_pay_calculator.exception.BusinessException;
 import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
@@ -13,73 +14,27 @@ import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
 public class VacationPayRequestValidator {
 
     /**
-     * Валидирует данные запроса на расчет отпускных.
+     * Валидирует данные запроса на расчет отпускных и определяет его форму.
+     * Параметры отпуска проверяются на null один раз при определении формы.
      *
      * @param dto данные запроса
+     * @return допустимая форма запроса
      * @throws BusinessException если данные не прошли валидацию
      */
-    public void validate(VacationPayRqDto dto) {
-        if (areVacationParametersMissing(dto)) {
-            throw new BusinessException(ErrorCode.VACATION_PARAMETERS_MISSING);
+    public VacationRequestShape validate(VacationPayRqDto dto) {
+        final VacationRequestShape shape = VacationRequestShape.of(dto);
+        if (!shape.isValid()) {
+            throw new BusinessException(shape.getErrorCode());
         }
 
-        if (areAllVacationParametersProvided(dto)) {
-            throw new BusinessException(ErrorCode.VACATION_PARAMETERS_ALL_SPECIFIED);
+        if (dto.isBreakdown() && shape != VacationRequestShape.DATES_ONLY) {
+            throw new BusinessException(ErrorCode.BREAKDOWN_REQUIRES_DATES);
         }
 
-        if (areVacationDatesIncomplete(dto)) {
-            throw new BusinessException(ErrorCode.VACATION_DATES_INCOMPLETE);
-        }
-
-        if (isStartDateAfterEndDate(dto)) {
+        if (shape == VacationRequestShape.DATES_ONLY && dto.getDateStart().isAfter(dto.getDateEnd())) {
             throw new BusinessException(ErrorCode.INVALID_VACATION_PERIOD);
         }
-    }
-
-    /**
-     * Проверяет, что все параметры отпуска отсутствуют.
-     *
-     * @param dto данные запроса
-     * @return true, если все параметры отсутствуют
-     */
-    private boolean areVacationParametersMissing(VacationPayRqDto dto) {
-        return dto.getDaysVacation() == null
-                && dto.getDateStart() == null
-                && dto.getDateEnd() == null;
-    }
-
-    /**
-     * Проверяет, что указаны все параметры отпуска одновременно.
-     *
-     * @param dto данные запроса
-     * @return true, если указаны все параметры
-     */
-    private boolean areAllVacationParametersProvided(VacationPayRqDto dto) {
-        return dto.getDaysVacation() != null
-                && dto.getDateStart() != null
-                && dto.getDateEnd() != null;
-    }
-
-    /**
-     * Проверяет, что указана только одна из дат (начала или окончания).
-     *
-     * @param dto данные запроса
-     * @return true, если указана только одна дата
-     */
-    private boolean areVacationDatesIncomplete(VacationPayRqDto dto) {
-        return (dto.getDateStart() == null) ^ (dto.getDateEnd() == null);
-    }
-
-    /**
-     * Проверяет, что дата начала отпуска позже даты окончания.
-     *
-     * @param dto данные запроса
-     * @return true, если дата начала позже даты окончания
-     */
-    private boolean isStartDateAfterEndDate(VacationPayRqDto dto) {
-        return dto.getDateStart() != null
-                && dto.getDateEnd() != null
-                && dto.getDateStart().isAfter(dto.getDateEnd());
+        return shape;
     }
 
 }
@@ -0,0 +1,56 @@
+package ru.viktorgezz.vacation_pay_calculator.validation;
+
+import org.springframework.stereotype.Component;
+
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationSegmentDto;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationSegmentsRqDto;
+import ru.viktorgezz.vacation_pay_calculator.exception.BusinessException;
+import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Валидатор запроса расчета отпускных за отпуск, разделенный на части.
+ */
+@Component
+public class VacationSegmentsRequestValidator {
+
+    /**
+     * Проверяет, что дата начала каждой части не позже даты окончания и что части не пересекаются.
+     * Пересечения ищутся одним проходом по частям, отсортированным по дате начала.
+     *
+     * @param dto данные запроса
+     * @throws BusinessException если данные не прошли валидацию
+     */
+    public void validate(VacationSegmentsRqDto dto) {
+        final List<VacationSegmentDto> segments = dto.getSegments();
+        for (VacationSegmentDto segment : segments) {
+            if (segment.getDateStart().isAfter(segment.getDateEnd())) {
+                throw new BusinessException(ErrorCode.INVALID_VACATION_PERIOD);
+            }
+        }
+
+        final List<Integer> order = IntStream.range(0, segments.size())
+                .boxed()
+                .sorted(Comparator.comparing(index -> segments.get(index).getDateStart()))
+                .collect(Collectors.toList());
+        for (int i = 1; i < order.size(); i++) {
+            final VacationSegmentDto previous = segments.get(order.get(i - 1));
+            final VacationSegmentDto current = segments.get(order.get(i));
+            if (!current.getDateStart().isAfter(previous.getDateEnd())) {
+                throw new BusinessException(
+                        ErrorCode.OVERLAPPING_VACATION_SEGMENTS,
+                        describe(previous),
+                        describe(current)
+                );
+            }
+        }
+    }
+
+    private static String describe(VacationSegmentDto segment) {
+        return segment.getDateStart() + ".." + segment.getDateEnd();
+    }
+}
@@ -0,0 +1,92 @@
+package ru.viktorgezz.vacation_pay_calculator.calculation.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.viktorgezz.vacation_pay_calculator.exception.BusinessException;
+import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
+import ru.viktorgezz.vacation_pay_calculator.holiday.HolidayService;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PayableDaysPlannerTest {
+
+    private static final long JANUARY_1 = LocalDate.of(2026, 1, 1).toEpochDay();
+    private static final long JANUARY_10 = LocalDate.of(2026, 1, 10).toEpochDay();
+    private static final long JUNE_1 = LocalDate.of(2026, 6, 1).toEpochDay();
+    private static final long JUNE_14 = LocalDate.of(2026, 6, 14).toEpochDay();
+
+    @Mock
+    private HolidayService holidayServiceMock;
+
+    @InjectMocks
+    private PayableDaysPlanner payableDaysPlanner;
+
+    @Test
+    @DisplayName("Должен посчитать праздничные дни один раз на каждый различный период")
+    void plan_ShouldCountHolidaysOncePerRange_WhenRangesRepeat() {
+        Instant asOf = Instant.parse("2026-01-01T00:00:00Z");
+        long[] fromEpochDays = {JUNE_1, JANUARY_1, JUNE_1, JUNE_1, JANUARY_1, JANUARY_1};
+        long[] toEpochDays = {JUNE_14, JANUARY_10, JUNE_14, JUNE_14, JANUARY_10, JUNE_14};
+
+        when(holidayServiceMock.countHolidaysBetween(
+                "RU-TA",
+                new long[]{JUNE_1, JANUARY_1, JANUARY_1},
+                new long[]{JUNE_14, JANUARY_10, JUNE_14},
+                asOf
+        )).thenReturn(new int[]{1, 8, 14});
+
+        PayableDaysPlan planActual = payableDaysPlanner.plan("RU-TA", asOf, fromEpochDays, toEpochDays);
+
+        assertEquals(6, planActual.size());
+        assertEquals(3, planActual.getDistinctRanges());
+        int[] payableDaysExpected = {13, 2, 13, 13, 2, 151};
+        for (int row = 0; row < payableDaysExpected.length; row++) {
+            assertEquals(payableDaysExpected[row], planActual.getPayableDays(row));
+        }
+    }
+
+    @Test
+    @DisplayName("Должен различать периоды с одной датой начала и разными датами окончания на большом пакете")
+    void plan_ShouldKeepRangesApart_WhenManyRowsShareDateStart() {
+        int size = 10_000;
+        long[] fromEpochDays = new long[size];
+        long[] toEpochDays = new long[size];
+        for (int row = 0; row < size; row++) {
+            fromEpochDays[row] = JUNE_1;
+            toEpochDays[row] = JUNE_1 + row % 100;
+        }
+
+        when(holidayServiceMock.countHolidaysBetween(eq(null), any(long[].class), any(long[].class), eq(null)))
+                .thenAnswer(invocation -> new int[((long[]) invocation.getArgument(1)).length]);
+
+        PayableDaysPlan planActual = payableDaysPlanner.plan(null, null, fromEpochDays, toEpochDays);
+
+        assertEquals(100, planActual.getDistinctRanges());
+        for (int row = 0; row < size; row++) {
+            assertEquals(row % 100 + 1, planActual.getPayableDays(row));
+        }
+    }
+
+    @Test
+    @DisplayName("Должен пробросить исключение когда календарь не найден")
+    void plan_ShouldThrowException_WhenCalendarUnknown() {
+        when(holidayServiceMock.countHolidaysBetween(eq("XX"), any(long[].class), any(long[].class), eq(null)))
+                .thenThrow(new BusinessException(ErrorCode.UNKNOWN_HOLIDAY_CALENDAR, "XX"));
+
+        BusinessException exceptionActual = assertThrows(BusinessException.class,
+                () -> payableDaysPlanner.plan("XX", null, new long[]{JUNE_1}, new long[]{JUNE_14}));
+
+        assertEquals(ErrorCode.UNKNOWN_HOLIDAY_CALENDAR, exceptionActual.getErrorCode());
+    }
+}
@@ -0,0 +1,99 @@
+package ru.viktorgezz.vacation_pay_calculator.calculation.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.viktorgezz.vacation_pay_calculator.calculation.CalculationProperties;
+import ru.viktorgezz.vacation_pay_calculator.calculation.util.VacationPayFormula;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DailyRateCacheTest {
+
+    @Test
+    @DisplayName("Должен рассчитать дневной заработок один раз для повторяющейся зарплаты")
+    void getDailyEarnings_ShouldCountHit_WhenSalaryRepeated() {
+        DailyRateCache dailyRateCache = createCache(16);
+
+        long firstActual = dailyRateCache.getDailyEarnings(5_000_000);
+        long secondActual = dailyRateCache.getDailyEarnings(5_000_000);
+
+        assertEquals(VacationPayFormula.calculateDailyEarnings(5_000_000), firstActual);
+        assertEquals(firstActual, secondActual);
+        assertEquals(1, dailyRateCache.getHitCount());
+        assertEquals(1, dailyRateCache.getMissCount());
+    }
+
+    @Test
+    @DisplayName("Должен использовать один ключ для одной зарплаты с разной записью")
+    void calculateVacationPay_ShouldShareEntry_WhenSalaryScaleDiffers() {
+        DailyRateCache dailyRateCache = createCache(16);
+
+        BigDecimal firstActual = VacationPayFormula.calculateVacationPay(new BigDecimal("50000"), 14, dailyRateCache);
+        BigDecimal secondActual = VacationPayFormula.calculateVacationPay(new BigDecimal("50000.00"), 14, dailyRateCache);
+        BigDecimal thirdActual = VacationPayFormula.calculateVacationPay(new BigDecimal("5E+4"), 14, dailyRateCache);
+
+        assertEquals(new BigDecimal("23890.78"), firstActual);
+        assertEquals(firstActual, secondActual);
+        assertEquals(firstActual, thirdActual);
+        assertEquals(2, dailyRateCache.getHitCount());
+        assertEquals(1, dailyRateCache.getMissCount());
+    }
+
+    @Test
+    @DisplayName("Должен вытеснять записи и оставаться в пределах размера")
+    void getDailyEarnings_ShouldEvict_WhenMoreSalariesThanCapacity() {
+        DailyRateCache dailyRateCache = createCache(4);
+
+        for (long kopecks = 1_000_000; kopecks < 1_001_000; kopecks++) {
+            assertEquals(
+                    VacationPayFormula.calculateDailyEarnings(kopecks),
+                    dailyRateCache.getDailyEarnings(kopecks)
+            );
+        }
+        dailyRateCache.getDailyEarnings(1_000_000);
+
+        assertEquals(4, dailyRateCache.getCapacity());
+        assertEquals(1001, dailyRateCache.getMissCount() + dailyRateCache.getHitCount());
+        assertTrue(dailyRateCache.getMissCount() > 1000 - 4);
+    }
+
+    @Test
+    @DisplayName("Должен публиковать попадания и промахи метрикой")
+    void bindTo_ShouldPublishHitAndMissCounters() {
+        DailyRateCache dailyRateCache = createCache(16);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        dailyRateCache.bindTo(registry);
+
+        dailyRateCache.getDailyEarnings(5_000_000);
+        dailyRateCache.getDailyEarnings(5_000_000);
+        dailyRateCache.getDailyEarnings(5_000_000);
+
+        double hitsActual = registry.get(DailyRateCache.METRIC_NAME).tag("result", "hit").functionCounter().count();
+        double missesActual = registry.get(DailyRateCache.METRIC_NAME).tag("result", "miss").functionCounter().count();
+        assertEquals(2, hitsActual);
+        assertEquals(1, missesActual);
+    }
+
+    @Test
+    @DisplayName("Должен округлить размер вверх до степени двойки")
+    void constructor_ShouldRoundCapacityUpToPowerOfTwo() {
+        assertEquals(1, createCache(1).getCapacity());
+        assertEquals(1024, createCache(1000).getCapacity());
+        assertEquals(4096, createCache(4096).getCapacity());
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение при неположительном размере")
+    void constructor_ShouldThrow_WhenSizeNotPositive() {
+        assertThrows(IllegalStateException.class, () -> createCache(0));
+    }
+
+    private static DailyRateCache createCache(int size) {
+        CalculationProperties calculationProperties = new CalculationProperties();
+        calculationProperties.setDailyRateCacheSize(size);
+        return new DailyRateCache(calculationProperties);
+    }
+}
@@ -0,0 +1,75 @@
+package ru.viktorgezz.vacation_pay_calculator.calculation.columnar;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.viktorgezz.vacation_pay_calculator.calculation.CalculationProperties;
+import ru.viktorgezz.vacation_pay_calculator.calculation.batch.PayableDaysPlanner;
+import ru.viktorgezz.vacation_pay_calculator.calculation.cache.DailyRateCache;
+import ru.viktorgezz.vacation_pay_calculator.calculation.formula.TenantFormulas;
+import ru.viktorgezz.vacation_pay_calculator.calculation.util.VacationPayFormula;
+import ru.viktorgezz.vacation_pay_calculator.holiday.HolidayService;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ColumnarVacationPayEngineTest {
+
+    @Mock
+    private HolidayService holidayServiceMock;
+
+    @Test
+    @DisplayName("Должен рассчитать каждую строку пакета дней так же как отдельный расчет")
+    void calculate_ShouldMatchRowCalculation_WhenDaysColumnProvided() {
+        long[] averageSalaryKopecks = {5_000_000, 7_500_050, 2_930_000};
+        int[] daysVacation = {14, 21, 3};
+        VacationPayColumns columns = new VacationPayColumns(
+                averageSalaryKopecks, daysVacation, null, null, null, null, null);
+
+        long[] resultActual = createEngine().calculate(columns);
+
+        for (int i = 0; i < averageSalaryKopecks.length; i++) {
+            BigDecimal amountExpected = VacationPayFormula.calculateVacationPay(
+                    BigDecimal.valueOf(averageSalaryKopecks[i], 2), daysVacation[i]);
+            assertEquals(amountExpected, BigDecimal.valueOf(resultActual[i], 2));
+        }
+        verify(holidayServiceMock, never()).countHolidaysBetween(any(), any(long[].class), any(), any());
+    }
+
+    @Test
+    @DisplayName("Должен вычесть праздничные дни из периода каждой строки одним запросом к календарю")
+    void calculate_ShouldSubtractHolidays_WhenDateColumnsProvided() {
+        long[] dateStarts = {LocalDate.of(2026, 1, 1).toEpochDay(), LocalDate.of(2026, 6, 1).toEpochDay()};
+        long[] dateEnds = {LocalDate.of(2026, 1, 10).toEpochDay(), LocalDate.of(2026, 6, 14).toEpochDay()};
+        Instant asOf = Instant.parse("2026-01-01T00:00:00Z");
+        VacationPayColumns columns = new VacationPayColumns(
+                new long[]{10_000_000, 5_000_000}, null, dateStarts, dateEnds, "RU-TA", asOf, null);
+
+        when(holidayServiceMock.countHolidaysBetween("RU-TA", dateStarts, dateEnds, asOf)).thenReturn(new int[]{8, 1});
+
+        long[] resultActual = createEngine().calculate(columns);
+
+        assertArrayEquals(new long[]{
+                VacationPayFormula.calculateVacationPayKopecks(10_000_000, 2),
+                VacationPayFormula.calculateVacationPayKopecks(5_000_000, 13)
+        }, resultActual);
+    }
+
+    private ColumnarVacationPayEngine createEngine() {
+        CalculationProperties calculationProperties = new CalculationProperties();
+        return new ColumnarVacationPayEngine(
+                new PayableDaysPlanner(holidayServiceMock),
+                new TenantFormulas(calculationProperties, new DailyRateCache(calculationProperties))
+        );
+    }
+}
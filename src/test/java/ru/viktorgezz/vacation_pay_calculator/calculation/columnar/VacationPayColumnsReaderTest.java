@@ -0,0 +1,146 @@
+package ru.viktorgezz.vacation_pay_calculator.calculation.columnar;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.viktorgezz.vacation_pay_calculator.calculation.CalculationProperties;
+import ru.viktorgezz.vacation_pay_calculator.exception.BusinessException;
+import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VacationPayColumnsReaderTest {
+
+    private final VacationPayColumnsReader columnsReader = readerOf(1000);
+
+    @Test
+    @DisplayName("Должен прочитать колонки зарплат и дней в массивы копеек и дней")
+    void read_ShouldDecodeSalariesAndDays_WhenDaysColumnProvided() throws IOException {
+        VacationPayColumns columnsActual = read("{\"averageSalaries\":[50000,75000.5,1E+5,0.07,12.340],"
+                + "\"daysVacation\":[14,21,1,3,28],\"tenantId\":\"north\",\"comment\":{\"ignored\":[1]}}");
+
+        assertFalse(columnsActual.isDateBased());
+        assertArrayEquals(new long[]{5_000_000, 7_500_050, 10_000_000, 7, 1234}, columnsActual.getAverageSalaryKopecks());
+        assertArrayEquals(new int[]{14, 21, 1, 3, 28}, columnsActual.getDaysVacation());
+        assertNull(columnsActual.getDateStartEpochDays());
+        assertEquals("north", columnsActual.getTenantId());
+    }
+
+    @Test
+    @DisplayName("Должен прочитать колонки дат в дни эпохи вместе с календарем и моментом версии")
+    void read_ShouldDecodeDates_WhenDateColumnsProvided() throws IOException {
+        VacationPayColumns columnsActual = read("{\"averageSalaries\":[50000,60000],"
+                + "\"dateStarts\":[\"2026-01-01\",\"2026-02-28\"],\"dateEnds\":[\"2026-01-10\",\"2026-03-01\"],"
+                + "\"calendarId\":\"RU-TA\",\"asOf\":\"2026-01-01T00:00:00Z\"}");
+
+        assertTrue(columnsActual.isDateBased());
+        assertArrayEquals(new long[]{
+                LocalDate.of(2026, 1, 1).toEpochDay(), LocalDate.of(2026, 2, 28).toEpochDay()
+        }, columnsActual.getDateStartEpochDays());
+        assertArrayEquals(new long[]{
+                LocalDate.of(2026, 1, 10).toEpochDay(), LocalDate.of(2026, 3, 1).toEpochDay()
+        }, columnsActual.getDateEndEpochDays());
+        assertEquals("RU-TA", columnsActual.getCalendarId());
+        assertEquals(Instant.parse("2026-01-01T00:00:00Z"), columnsActual.getAsOf());
+    }
+
+    @Test
+    @DisplayName("Должен разобрать сумму из символов так же как BigDecimal")
+    void parseKopecks_ShouldMatchBigDecimal_WhenPlainDecimal() {
+        for (String amount : new String[]{"0.5", "1.25", "50000.00", "99999.990", "1234567890123456.78"}) {
+            char[] text = amount.toCharArray();
+
+            assertEquals(
+                    new BigDecimal(amount).movePointRight(2).longValueExact(),
+                    VacationPayColumnsReader.parseKopecks(text, 0, text.length),
+                    amount
+            );
+        }
+        assertEquals(-1, VacationPayColumnsReader.parseKopecks("1.255".toCharArray(), 0, 5));
+        assertEquals(-1, VacationPayColumnsReader.parseKopecks("-1.25".toCharArray(), 0, 5));
+        assertEquals(-1, VacationPayColumnsReader.parseKopecks("1.2e3".toCharArray(), 0, 5));
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение когда длины колонок не совпадают")
+    void read_ShouldThrowBusinessException_WhenColumnLengthsDiffer() {
+        BusinessException exceptionActual = assertThrows(BusinessException.class,
+                () -> read("{\"averageSalaries\":[50000,60000],\"daysVacation\":[14]}"));
+
+        assertEquals(ErrorCode.INVALID_COLUMNAR_REQUEST, exceptionActual.getErrorCode());
+        assertEquals("Invalid columnar request: column daysVacation has 1 values, expected 2",
+                exceptionActual.getMessage());
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение с индексом строки когда значение колонки некорректно")
+    void read_ShouldThrowBusinessExceptionWithIndex_WhenValueInvalid() {
+        assertInvalid("{\"averageSalaries\":[50000,-1],\"daysVacation\":[14,14]}",
+                "averageSalaries[1] must be greater than 0");
+        assertInvalid("{\"averageSalaries\":[50000.005],\"daysVacation\":[14]}",
+                "averageSalaries[0] must not be more precise than a kopeck");
+        assertInvalid("{\"averageSalaries\":[50000],\"daysVacation\":[0]}",
+                "daysVacation[0] must be between 1 and 100000");
+        assertInvalid("{\"averageSalaries\":[50000],\"dateStarts\":[\"2026-02-30\"],\"dateEnds\":[\"2026-03-01\"]}",
+                "dateStarts[0] is not a valid date");
+        assertInvalid("{\"averageSalaries\":[50000],\"dateStarts\":[\"2026-03-02\"],\"dateEnds\":[\"2026-03-01\"]}",
+                "dateStarts[0] must not be after dateEnds[0]");
+        assertInvalid("{\"averageSalaries\":[50000,", "Unexpected end-of-input");
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение формы запроса когда колонки дней и дат не согласованы")
+    void read_ShouldThrowShapeBusinessException_WhenColumnsInconsistent() {
+        assertErrorCode("{\"averageSalaries\":[50000]}", ErrorCode.VACATION_PARAMETERS_MISSING);
+        assertErrorCode("{\"averageSalaries\":[50000],\"daysVacation\":[14],\"dateStarts\":[\"2026-01-01\"]}",
+                ErrorCode.VACATION_PARAMETERS_ALL_SPECIFIED);
+        assertErrorCode("{\"averageSalaries\":[50000],\"dateStarts\":[\"2026-01-01\"]}",
+                ErrorCode.VACATION_DATES_INCOMPLETE);
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение когда строк больше допустимого")
+    void read_ShouldThrowBusinessException_WhenRowsExceedLimit() {
+        VacationPayColumnsReader columnsReaderSmall = readerOf(2);
+
+        BusinessException exceptionActual = assertThrows(BusinessException.class, () -> columnsReaderSmall.read(
+                inputOf("{\"averageSalaries\":[1,2,3],\"daysVacation\":[1,2,3]}")));
+
+        assertEquals("Invalid columnar request: column averageSalaries exceeds 2 rows", exceptionActual.getMessage());
+    }
+
+    private void assertInvalid(String body, String reasonExpected) {
+        BusinessException exceptionActual = assertThrows(BusinessException.class, () -> read(body), body);
+
+        assertEquals(ErrorCode.INVALID_COLUMNAR_REQUEST, exceptionActual.getErrorCode());
+        assertTrue(exceptionActual.getMessage().startsWith("Invalid columnar request: " + reasonExpected),
+                exceptionActual.getMessage());
+    }
+
+    private void assertErrorCode(String body, ErrorCode errorCodeExpected) {
+        BusinessException exceptionActual = assertThrows(BusinessException.class, () -> read(body), body);
+
+        assertEquals(errorCodeExpected, exceptionActual.getErrorCode());
+    }
+
+    private VacationPayColumns read(String body) throws IOException {
+        return columnsReader.read(inputOf(body));
+    }
+
+    private static ByteArrayInputStream inputOf(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static VacationPayColumnsReader readerOf(int maxRows) {
+        CalculationProperties calculationProperties = new CalculationProperties();
+        calculationProperties.setColumnarMaxRows(maxRows);
+        return new VacationPayColumnsReader(new ObjectMapper(), calculationProperties);
+    }
+}
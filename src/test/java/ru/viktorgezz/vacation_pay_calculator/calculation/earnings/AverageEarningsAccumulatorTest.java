@@ -0,0 +1,107 @@
+package ru.viktorgezz.vacation_pay_calculator.calculation.earnings;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.viktorgezz.vacation_pay_calculator.calculation.util.VacationPayFormula;
+import ru.viktorgezz.vacation_pay_calculator.exception.BusinessException;
+import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AverageEarningsAccumulatorTest {
+
+    private static final YearMonth PERIOD_END = YearMonth.of(2026, 3);
+
+    @Test
+    @DisplayName("Должен совпасть с расчетом от средней зарплаты когда все 12 месяцев отработаны полностью")
+    void calculate_ShouldMatchAverageSalaryFormula_WhenAllMonthsFull() {
+        AverageEarningsAccumulator accumulator = new AverageEarningsAccumulator(PERIOD_END);
+        accumulator.reset("E1");
+        for (int i = 0; i < 12; i++) {
+            accumulator.addAccrual(PERIOD_END.minusMonths(i), 5_000_000);
+        }
+
+        AverageEarnings resultActual = accumulator.calculate();
+
+        assertEquals("E1", resultActual.getEmployeeId());
+        assertEquals(new BigDecimal("600000.00"), resultActual.getAccrued());
+        assertEquals(new BigDecimal("351.60"), resultActual.getCalculatedDays());
+        assertEquals(new BigDecimal("1706.4846416382"), resultActual.getAverageDailyEarnings());
+        assertEquals(
+                VacationPayFormula.calculateVacationPay(new BigDecimal("50000"), 14),
+                resultActual.calculateVacationPay(14)
+        );
+    }
+
+    @Test
+    @DisplayName("Должен учесть частично отработанные месяцы пропорционально дням без исключаемых периодов")
+    void calculate_ShouldProrateMonths_WhenPeriodsExcluded() {
+        AverageEarningsAccumulator accumulator = new AverageEarningsAccumulator(PERIOD_END);
+        accumulator.reset("E1");
+        for (int i = 0; i < 12; i++) {
+            YearMonth month = PERIOD_END.minusMonths(i);
+            accumulator.addAccrual(month, month.equals(YearMonth.of(2025, 6)) ? 3_000_000 : 5_000_000);
+        }
+        accumulator.addExcludedPeriod(LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 10));
+        accumulator.addExcludedPeriod(LocalDate.of(2025, 6, 5), LocalDate.of(2025, 6, 12));
+        accumulator.addExcludedPeriod(LocalDate.of(2025, 12, 25), LocalDate.of(2026, 1, 5));
+
+        AverageEarnings resultActual = accumulator.calculate();
+
+        assertEquals(new BigDecimal("580000.00"), resultActual.getAccrued());
+        assertEquals(new BigDecimal("328.54"), resultActual.getCalculatedDays());
+        assertEquals(new BigDecimal("1765.3966545832"), resultActual.getAverageDailyEarnings());
+        assertEquals(new BigDecimal("24715.55"), resultActual.calculateVacationPay(14));
+    }
+
+    @Test
+    @DisplayName("Должен игнорировать начисления и исключаемые периоды вне расчетного периода")
+    void calculate_ShouldIgnoreRecords_WhenOutsidePeriod() {
+        AverageEarningsAccumulator accumulator = new AverageEarningsAccumulator(PERIOD_END);
+        accumulator.reset("E1");
+        accumulator.addAccrual(YearMonth.of(2025, 3), 9_900_000);
+        accumulator.addAccrual(YearMonth.of(2026, 4), 9_900_000);
+        accumulator.addAccrual(YearMonth.of(2026, 3), 2_930_000);
+        accumulator.addExcludedPeriod(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 31));
+        accumulator.addExcludedPeriod(LocalDate.of(2026, 4, 1), LocalDate.of(2026, 4, 30));
+
+        AverageEarnings resultActual = accumulator.calculate();
+
+        assertEquals(new BigDecimal("29300.00"), resultActual.getAccrued());
+        assertEquals(new BigDecimal("29.30"), resultActual.getCalculatedDays());
+        assertEquals(new BigDecimal("1000.0000000000"), resultActual.getAverageDailyEarnings());
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение когда в расчетном периоде нет учитываемых дней")
+    void calculate_ShouldThrowException_WhenNoDaysCounted() {
+        AverageEarningsAccumulator accumulator = new AverageEarningsAccumulator(PERIOD_END);
+        accumulator.reset("E1");
+        accumulator.addAccrual(YearMonth.of(2026, 2), 1_000_000);
+        accumulator.addExcludedPeriod(LocalDate.of(2026, 2, 1), LocalDate.of(2026, 2, 28));
+
+        BusinessException exceptionActual = assertThrows(BusinessException.class, accumulator::calculate);
+
+        assertEquals(ErrorCode.AVERAGE_EARNINGS_UNDEFINED, exceptionActual.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("Должен сбросить данные предыдущего сотрудника при переходе к следующему")
+    void reset_ShouldClearState_WhenNextEmployeeStarts() {
+        AverageEarningsAccumulator accumulator = new AverageEarningsAccumulator(PERIOD_END);
+        accumulator.reset("E1");
+        accumulator.addAccrual(PERIOD_END, 9_900_000);
+        accumulator.addExcludedPeriod(PERIOD_END.atDay(1), PERIOD_END.atDay(15));
+
+        accumulator.reset("E2");
+        accumulator.addAccrual(PERIOD_END, 2_930_000);
+        AverageEarnings resultActual = accumulator.calculate();
+
+        assertEquals("E2", resultActual.getEmployeeId());
+        assertEquals(new BigDecimal("1000.0000000000"), resultActual.getAverageDailyEarnings());
+    }
+}
@@ -0,0 +1,112 @@
+package ru.viktorgezz.vacation_pay_calculator.calculation.earnings;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.viktorgezz.vacation_pay_calculator.dto.PayrollRecordDto;
+import ru.viktorgezz.vacation_pay_calculator.exception.BusinessException;
+import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AverageEarningsEngineTest {
+
+    private static final YearMonth PERIOD_END = YearMonth.of(2026, 3);
+
+    private final AverageEarningsEngine averageEarningsEngine = new AverageEarningsEngine();
+
+    @Test
+    @DisplayName("Должен вернуть результат по каждому сотруднику в порядке записей")
+    void process_ShouldReturnResultPerEmployee_WhenRecordsGroupedByEmployee() {
+        List<PayrollRecordDto> records = List.of(
+                new PayrollRecordDto("E1", PERIOD_END, new BigDecimal("29300")),
+                new PayrollRecordDto("E2", PERIOD_END, new BigDecimal("58600")),
+                new PayrollRecordDto("E2", PERIOD_END.atDay(1), PERIOD_END.atDay(31)),
+                new PayrollRecordDto("E3", PERIOD_END.minusMonths(1), new BigDecimal("29300")),
+                new PayrollRecordDto("E3", PERIOD_END, new BigDecimal("29300"))
+        );
+        RecordingListener listener = new RecordingListener();
+
+        averageEarningsEngine.process(records.iterator(), PERIOD_END, listener);
+
+        assertEquals(List.of("E1", "E3"), listener.calculatedEmployeeIds);
+        assertEquals(List.of("E2"), listener.rejectedEmployeeIds);
+        assertEquals(ErrorCode.AVERAGE_EARNINGS_UNDEFINED, listener.rejectedErrorCodes.get(0));
+        assertEquals(new BigDecimal("1000.0000000000"), listener.calculated.get(1).getAverageDailyEarnings());
+    }
+
+    @Test
+    @DisplayName("Должен отклонить только сотрудника с ошибочной записью и продолжить обработку")
+    void process_ShouldRejectOnlyEmployee_WhenRecordInvalid() {
+        List<PayrollRecordDto> records = List.of(
+                new PayrollRecordDto("E1", PERIOD_END, new BigDecimal("100.005")),
+                new PayrollRecordDto("E1", PERIOD_END.minusMonths(1), new BigDecimal("29300")),
+                new PayrollRecordDto("E2", LocalDate.of(2026, 3, 10), LocalDate.of(2026, 3, 1)),
+                new PayrollRecordDto("E3", PERIOD_END, new BigDecimal("29300"))
+        );
+        RecordingListener listener = new RecordingListener();
+
+        averageEarningsEngine.process(records.iterator(), PERIOD_END, listener);
+
+        assertEquals(List.of("E3"), listener.calculatedEmployeeIds);
+        assertEquals(List.of("E1", "E2"), listener.rejectedEmployeeIds);
+        assertEquals(
+                List.of(ErrorCode.INVALID_PAYROLL_RECORD, ErrorCode.INVALID_PAYROLL_RECORD),
+                listener.rejectedErrorCodes
+        );
+    }
+
+    @Test
+    @DisplayName("Должен отклонить повторную группу сотрудника когда его записи идут не подряд")
+    void process_ShouldRejectRepeatedEmployee_WhenRecordsNotContiguous() {
+        List<PayrollRecordDto> records = List.of(
+                new PayrollRecordDto("E1", PERIOD_END, new BigDecimal("29300")),
+                new PayrollRecordDto("E2", PERIOD_END, new BigDecimal("29300")),
+                new PayrollRecordDto("E1", PERIOD_END.minusMonths(1), new BigDecimal("29300")),
+                new PayrollRecordDto("E1", PERIOD_END.minusMonths(2), new BigDecimal("29300"))
+        );
+        RecordingListener listener = new RecordingListener();
+
+        averageEarningsEngine.process(records.iterator(), PERIOD_END, listener);
+
+        assertEquals(List.of("E1", "E2"), listener.calculatedEmployeeIds);
+        assertEquals(List.of("E1"), listener.rejectedEmployeeIds);
+        assertEquals(ErrorCode.INVALID_PAYROLL_RECORD, listener.rejectedErrorCodes.get(0));
+    }
+
+    @Test
+    @DisplayName("Должен не вызывать получателя когда поток записей пуст")
+    void process_ShouldNotNotifyListener_WhenNoRecords() {
+        RecordingListener listener = new RecordingListener();
+
+        averageEarningsEngine.process(List.<PayrollRecordDto>of().iterator(), PERIOD_END, listener);
+
+        assertTrue(listener.calculated.isEmpty());
+        assertTrue(listener.rejectedEmployeeIds.isEmpty());
+    }
+
+    private static class RecordingListener implements AverageEarningsListener {
+
+        private final List<AverageEarnings> calculated = new ArrayList<>();
+        private final List<String> calculatedEmployeeIds = new ArrayList<>();
+        private final List<String> rejectedEmployeeIds = new ArrayList<>();
+        private final List<ErrorCode> rejectedErrorCodes = new ArrayList<>();
+
+        @Override
+        public void onCalculated(AverageEarnings averageEarnings) {
+            calculated.add(averageEarnings);
+            calculatedEmployeeIds.add(averageEarnings.getEmployeeId());
+        }
+
+        @Override
+        public void onRejected(String employeeId, BusinessException e) {
+            rejectedEmployeeIds.add(employeeId);
+            rejectedErrorCodes.add(e.getErrorCode());
+        }
+    }
+}
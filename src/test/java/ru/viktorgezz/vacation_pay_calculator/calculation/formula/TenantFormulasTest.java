@@ -0,0 +1,192 @@
+package ru.viktorgezz.vacation_pay_calculator.calculation.formula;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.viktorgezz.vacation_pay_calculator.calculation.CalculationProperties;
+import ru.viktorgezz.vacation_pay_calculator.calculation.cache.DailyRateCache;
+import ru.viktorgezz.vacation_pay_calculator.calculation.util.VacationPayFormula;
+import ru.viktorgezz.vacation_pay_calculator.exception.BusinessException;
+import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TenantFormulasTest {
+
+    private static final BigDecimal AVERAGE_SALARY = new BigDecimal("50000");
+
+    @Test
+    @DisplayName("Должен совпасть с формулой по умолчанию когда описание формулы не меняет параметры")
+    void resolve_ShouldMatchDefaultFormula_WhenDefinitionHasDefaults() {
+        VacationPayEvaluator evaluatorActual = tenantFormulasOf(Map.of("plain", new CalculationProperties.Tenant()))
+                .resolve("plain");
+
+        for (long averageSalaryKopecks = 1; averageSalaryKopecks < 1_000_000_000L; averageSalaryKopecks += 999_983) {
+            BigDecimal averageSalary = BigDecimal.valueOf(averageSalaryKopecks, 2);
+            for (int vacationDays = 1; vacationDays <= 28; vacationDays += 9) {
+                assertEquals(
+                        VacationPayFormula.calculateVacationPay(averageSalary, vacationDays),
+                        evaluatorActual.calculateVacationPay(averageSalary, vacationDays, null)
+                );
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Должен рассчитать в копейках ту же сумму что и в BigDecimal для каждой формулы")
+    void calculateVacationPayKopecks_ShouldMatchBigDecimalResult_WhenFormulaCompiled() {
+        CalculationProperties.Tenant north = new CalculationProperties.Tenant();
+        north.setCoefficient(new BigDecimal("1.5"));
+        north.setRoundingMode(RoundingMode.DOWN);
+        CalculationProperties.Tenant scheduled = new CalculationProperties.Tenant();
+        scheduled.setDivisor(new BigDecimal("29.4"));
+        scheduled.setDivisors(List.of(divisorFrom(LocalDate.of(2026, 1, 1), "29.3")));
+        TenantFormulas tenantFormulas = tenantFormulasOf(Map.of("north", north, "scheduled", scheduled));
+        LocalDate dateStart = LocalDate.of(2025, 6, 1);
+
+        for (VacationPayEvaluator evaluator : List.of(
+                tenantFormulas.resolve(null), tenantFormulas.resolve("north"), tenantFormulas.resolve("scheduled"))) {
+            for (long averageSalaryKopecks = 1; averageSalaryKopecks < 1_000_000_000L; averageSalaryKopecks += 999_983) {
+                BigDecimal averageSalary = BigDecimal.valueOf(averageSalaryKopecks, 2);
+                assertEquals(
+                        evaluator.calculateVacationPay(averageSalary, 14, dateStart).unscaledValue().longValueExact(),
+                        evaluator.calculateVacationPayKopecks(averageSalaryKopecks, 14, dateStart.toEpochDay())
+                );
+                assertEquals(
+                        evaluator.calculateVacationPay(averageSalary, 14, null).unscaledValue().longValueExact(),
+                        evaluator.calculateVacationPayKopecks(averageSalaryKopecks, 14, VacationPayEvaluator.NO_DATE)
+                );
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Должен применить районный коэффициент и правило округления юридического лица")
+    void resolve_ShouldApplyCoefficientAndRounding_WhenConfigured() {
+        CalculationProperties.Tenant definition = new CalculationProperties.Tenant();
+        definition.setCoefficient(new BigDecimal("1.5"));
+        definition.setRoundingMode(RoundingMode.DOWN);
+
+        VacationPayEvaluator evaluatorActual = tenantFormulasOf(Map.of("north", definition)).resolve("NORTH");
+
+        assertEquals(
+                reference(AVERAGE_SALARY, "1.5", "29.3", 14, RoundingMode.DOWN),
+                evaluatorActual.calculateVacationPay(AVERAGE_SALARY, 14, null)
+        );
+        assertEquals(new BigDecimal("35836.17"), evaluatorActual.calculateVacationPay(AVERAGE_SALARY, 14, null));
+    }
+
+    @Test
+    @DisplayName("Должен выбрать делитель периода по дате начала отпуска")
+    void resolve_ShouldSelectDivisorByDateStart_WhenDivisorsScheduled() {
+        CalculationProperties.Tenant definition = new CalculationProperties.Tenant();
+        definition.setDivisor(new BigDecimal("29.4"));
+        definition.setDivisors(List.of(
+                divisorFrom(LocalDate.of(2014, 4, 2), "29.3"),
+                divisorFrom(LocalDate.of(2030, 1, 1), "29.6")
+        ));
+
+        VacationPayEvaluator evaluatorActual = tenantFormulasOf(Map.of("legacy", definition)).resolve("legacy");
+
+        assertEquals(reference(AVERAGE_SALARY, "1", "29.4", 14, RoundingMode.HALF_UP),
+                evaluatorActual.calculateVacationPay(AVERAGE_SALARY, 14, LocalDate.of(2014, 4, 1)));
+        assertEquals(reference(AVERAGE_SALARY, "1", "29.3", 14, RoundingMode.HALF_UP),
+                evaluatorActual.calculateVacationPay(AVERAGE_SALARY, 14, LocalDate.of(2014, 4, 2)));
+        assertEquals(reference(AVERAGE_SALARY, "1", "29.3", 14, RoundingMode.HALF_UP),
+                evaluatorActual.calculateVacationPay(AVERAGE_SALARY, 14, LocalDate.of(2026, 7, 1)));
+        assertEquals(reference(AVERAGE_SALARY, "1", "29.6", 14, RoundingMode.HALF_UP),
+                evaluatorActual.calculateVacationPay(AVERAGE_SALARY, 14, null));
+    }
+
+    @Test
+    @DisplayName("Должен рассчитать в BigDecimal с тем же результатом когда зарплата вне безопасного диапазона")
+    void resolve_ShouldMatchReference_WhenSalaryOutOfExactRange() {
+        CalculationProperties.Tenant definition = new CalculationProperties.Tenant();
+        definition.setCoefficient(new BigDecimal("2.35"));
+        definition.setRoundingMode(RoundingMode.HALF_EVEN);
+        BigDecimal averageSalaryHuge = new BigDecimal("98765432109876.55");
+        BigDecimal averageSalaryFractional = new BigDecimal("50000.005");
+
+        VacationPayEvaluator evaluatorActual = tenantFormulasOf(Map.of("north", definition)).resolve("north");
+
+        assertEquals(reference(averageSalaryHuge, "2.35", "29.3", 28, RoundingMode.HALF_EVEN),
+                evaluatorActual.calculateVacationPay(averageSalaryHuge, 28, null));
+        assertEquals(reference(averageSalaryFractional, "2.35", "29.3", 28, RoundingMode.HALF_EVEN),
+                evaluatorActual.calculateVacationPay(averageSalaryFractional, 28, null));
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение когда формула юридического лица не настроена")
+    void resolve_ShouldThrowException_WhenTenantUnknown() {
+        TenantFormulas tenantFormulas = tenantFormulasOf(Map.of());
+
+        BusinessException exceptionActual = assertThrows(BusinessException.class,
+                () -> tenantFormulas.resolve("unknown"));
+
+        assertEquals(ErrorCode.UNKNOWN_TENANT, exceptionActual.getErrorCode());
+        assertNotNull(tenantFormulas.resolve(null));
+        assertSame(tenantFormulas.resolve(null), tenantFormulas.resolve(" "));
+    }
+
+    @Test
+    @DisplayName("Должен не запуститься когда даты делителей не возрастают")
+    void constructor_ShouldThrowException_WhenDivisorDatesNotIncreasing() {
+        CalculationProperties.Tenant definition = new CalculationProperties.Tenant();
+        definition.setDivisors(List.of(
+                divisorFrom(LocalDate.of(2030, 1, 1), "29.6"),
+                divisorFrom(LocalDate.of(2014, 4, 2), "29.3")
+        ));
+
+        assertThrows(IllegalStateException.class, () -> tenantFormulasOf(Map.of("legacy", definition)));
+    }
+
+    @Test
+    @DisplayName("Должен округлять частное по каждому правилу как BigDecimal")
+    void divide_ShouldMatchBigDecimal_WhenAnyRoundingMode() {
+        RoundingMode[] roundingModes = {
+                RoundingMode.UP, RoundingMode.DOWN, RoundingMode.CEILING, RoundingMode.FLOOR,
+                RoundingMode.HALF_UP, RoundingMode.HALF_DOWN, RoundingMode.HALF_EVEN
+        };
+        for (RoundingMode roundingMode : roundingModes) {
+            for (long dividend = 0; dividend <= 40; dividend++) {
+                long quotientExpected = BigDecimal.valueOf(dividend)
+                        .divide(BigDecimal.valueOf(8), 0, roundingMode)
+                        .longValueExact();
+
+                assertEquals(quotientExpected, CompiledVacationPayRate.divide(dividend, 8, roundingMode),
+                        roundingMode + ": " + dividend + " / 8");
+            }
+        }
+    }
+
+    private static TenantFormulas tenantFormulasOf(Map<String, CalculationProperties.Tenant> tenants) {
+        CalculationProperties calculationProperties = new CalculationProperties();
+        calculationProperties.setTenants(tenants);
+        return new TenantFormulas(calculationProperties, new DailyRateCache(calculationProperties));
+    }
+
+    private static CalculationProperties.DivisorPeriod divisorFrom(LocalDate from, String divisor) {
+        CalculationProperties.DivisorPeriod period = new CalculationProperties.DivisorPeriod();
+        period.setFrom(from);
+        period.setDivisor(new BigDecimal(divisor));
+        return period;
+    }
+
+    private static BigDecimal reference(
+            BigDecimal averageSalary,
+            String coefficient,
+            String divisor,
+            int vacationDays,
+            RoundingMode roundingMode
+    ) {
+        return averageSalary.multiply(new BigDecimal(coefficient))
+                .divide(new BigDecimal(divisor), 10, roundingMode)
+                .multiply(BigDecimal.valueOf(vacationDays))
+                .setScale(2, roundingMode);
+    }
+}
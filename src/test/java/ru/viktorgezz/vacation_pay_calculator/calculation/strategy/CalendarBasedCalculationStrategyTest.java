@@ -5,16 +5,24 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import ru.viktorgezz.vacation_pay_calculator.calculation.CalculationProperties;
+import ru.viktorgezz.vacation_pay_calculator.calculation.cache.DailyRateCache;
+import ru.viktorgezz.vacation_pay_calculator.calculation.formula.TenantFormulas;
 import ru.viktorgezz.vacation_pay_calculator.calculation.strategy.impl.CalendarBasedCalculationStrategy;
+import ru.viktorgezz.vacation_pay_calculator.dto.MonthlyVacationPayRsDto;
 import ru.viktorgezz.vacation_pay_calculator.dto.VacationPayRqDto;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationPayRsDto;
 import ru.viktorgezz.vacation_pay_calculator.holiday.HolidayService;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,6 +31,12 @@ class CalendarBasedCalculationStrategyTest {
     @Mock
     private HolidayService holidayServiceMock;
 
+    @Spy
+    private TenantFormulas tenantFormulas = new TenantFormulas(
+            new CalculationProperties(),
+            new DailyRateCache(new CalculationProperties())
+    );
+
     @InjectMocks
     private CalendarBasedCalculationStrategy calendarBasedCalculationStrategy;
 
@@ -84,7 +98,7 @@ class CalendarBasedCalculationStrategyTest {
                 dateEndActual
         );
 
-        when(holidayServiceMock.countHolidaysIn(anyList())).thenReturn(countHolidaysExpected);
+        when(holidayServiceMock.countHolidaysBetween(any(), any(LocalDate.class), any(LocalDate.class), any())).thenReturn(countHolidaysExpected);
 
         BigDecimal resultActual = calendarBasedCalculationStrategy.calculate(requestDto);
 
@@ -112,7 +126,7 @@ class CalendarBasedCalculationStrategyTest {
                 dateEndActual
         );
 
-        when(holidayServiceMock.countHolidaysIn(anyList())).thenReturn(countHolidaysExpected);
+        when(holidayServiceMock.countHolidaysBetween(any(), any(LocalDate.class), any(LocalDate.class), any())).thenReturn(countHolidaysExpected);
 
         BigDecimal resultActual = calendarBasedCalculationStrategy.calculate(requestDto);
 
@@ -138,7 +152,7 @@ class CalendarBasedCalculationStrategyTest {
         requestDto.setDateStart(dateActual);
         requestDto.setDateEnd(dateActual);
 
-        when(holidayServiceMock.countHolidaysIn(anyList())).thenReturn(countHolidaysExpected);
+        when(holidayServiceMock.countHolidaysBetween(any(), any(LocalDate.class), any(LocalDate.class), any())).thenReturn(countHolidaysExpected);
 
         BigDecimal resultActual = calendarBasedCalculationStrategy.calculate(requestDto);
 
@@ -149,4 +163,57 @@ class CalendarBasedCalculationStrategyTest {
 
         assertEquals(payVacationExpected, resultActual);
     }
+
+    @Test
+    @DisplayName("Должен разбить отпускные по месяцам так, чтобы суммы месяцев сложились в итог за период")
+    void calculateWithBreakdown_ShouldSplitByMonths_WhenPeriodSpansSeveralMonths() {
+        VacationPayRqDto requestDto = new VacationPayRqDto(
+                new BigDecimal("50000"),
+                LocalDate.of(2026, 4, 27),
+                LocalDate.of(2026, 6, 2)
+        );
+        LocalDate[] dateStartsExpected = {
+                LocalDate.of(2026, 4, 27), LocalDate.of(2026, 5, 1), LocalDate.of(2026, 6, 1)
+        };
+        LocalDate[] dateEndsExpected = {
+                LocalDate.of(2026, 4, 30), LocalDate.of(2026, 5, 31), LocalDate.of(2026, 6, 2)
+        };
+
+        when(holidayServiceMock.countHolidaysBetween(null, dateStartsExpected, dateEndsExpected, null))
+                .thenReturn(new int[]{0, 2, 0});
+
+        VacationPayRsDto resultActual = calendarBasedCalculationStrategy.calculateWithBreakdown(requestDto);
+
+        List<MonthlyVacationPayRsDto> monthsActual = resultActual.getMonths();
+        assertEquals(3, monthsActual.size());
+        assertEquals(YearMonth.of(2026, 4), monthsActual.get(0).getMonth());
+        assertEquals(4, monthsActual.get(0).getPayableDays());
+        assertEquals(new BigDecimal("6825.94"), monthsActual.get(0).getVacationPay());
+        assertEquals(YearMonth.of(2026, 5), monthsActual.get(1).getMonth());
+        assertEquals(29, monthsActual.get(1).getPayableDays());
+        assertEquals(new BigDecimal("49488.05"), monthsActual.get(1).getVacationPay());
+        assertEquals(YearMonth.of(2026, 6), monthsActual.get(2).getMonth());
+        assertEquals(2, monthsActual.get(2).getPayableDays());
+        assertEquals(new BigDecimal("3412.97"), monthsActual.get(2).getVacationPay());
+        assertEquals(new BigDecimal("59726.96"), resultActual.getTotalVacationPay());
+    }
+
+    @Test
+    @DisplayName("Должен вернуть один месяц когда отпуск не выходит за границы месяца")
+    void calculateWithBreakdown_ShouldReturnSingleMonth_WhenPeriodWithinMonth() {
+        LocalDate dateStart = LocalDate.of(2026, 7, 6);
+        LocalDate dateEnd = LocalDate.of(2026, 7, 8);
+        VacationPayRqDto requestDto = new VacationPayRqDto(new BigDecimal("29300"), dateStart, dateEnd);
+
+        when(holidayServiceMock.countHolidaysBetween(
+                null, new LocalDate[]{dateStart}, new LocalDate[]{dateEnd}, null
+        )).thenReturn(new int[]{0});
+
+        VacationPayRsDto resultActual = calendarBasedCalculationStrategy.calculateWithBreakdown(requestDto);
+
+        assertEquals(1, resultActual.getMonths().size());
+        assertEquals(3, resultActual.getMonths().get(0).getPayableDays());
+        assertEquals(new BigDecimal("3000.00"), resultActual.getMonths().get(0).getVacationPay());
+        assertEquals(new BigDecimal("3000.00"), resultActual.getTotalVacationPay());
+    }
 }
@@ -4,7 +4,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import ru.viktorgezz.vacation_pay_calculator.calculation.CalculationProperties;
+import ru.viktorgezz.vacation_pay_calculator.calculation.cache.DailyRateCache;
+import ru.viktorgezz.vacation_pay_calculator.calculation.formula.TenantFormulas;
 import ru.viktorgezz.vacation_pay_calculator.calculation.strategy.impl.FixedDaysCalculationStrategy;
 import ru.viktorgezz.vacation_pay_calculator.dto.VacationPayRqDto;
 
@@ -16,6 +20,12 @@ import static org.junit.jupiter.api.Assertions.*;
 @ExtendWith(MockitoExtension.class)
 class FixedDaysCalculationStrategyTest {
 
+    @Spy
+    private TenantFormulas tenantFormulas = new TenantFormulas(
+            new CalculationProperties(),
+            new DailyRateCache(new CalculationProperties())
+    );
+
     @InjectMocks
     private FixedDaysCalculationStrategy fixedDaysCalculationStrategy;
 
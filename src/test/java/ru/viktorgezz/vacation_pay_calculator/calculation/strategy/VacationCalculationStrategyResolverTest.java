@@ -0,0 +1,108 @@
+package ru.viktorgezz.vacation_pay_calculator.calculation.strategy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.viktorgezz.vacation_pay_calculator.calculation.CalculationProperties;
+import ru.viktorgezz.vacation_pay_calculator.calculation.cache.DailyRateCache;
+import ru.viktorgezz.vacation_pay_calculator.calculation.formula.TenantFormulas;
+import ru.viktorgezz.vacation_pay_calculator.calculation.strategy.impl.CalendarBasedCalculationStrategy;
+import ru.viktorgezz.vacation_pay_calculator.calculation.strategy.impl.FixedDaysCalculationStrategy;
+import ru.viktorgezz.vacation_pay_calculator.calculation.strategy.intrf.VacationCalculationStrategy;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationPayRqDto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VacationCalculationStrategyResolverTest {
+
+    private final TenantFormulas tenantFormulas = new TenantFormulas(
+            new CalculationProperties(),
+            new DailyRateCache(new CalculationProperties())
+    );
+    private final FixedDaysCalculationStrategy fixedDaysStrategy = new FixedDaysCalculationStrategy(tenantFormulas);
+    private final CalendarBasedCalculationStrategy calendarBasedStrategy =
+            new CalendarBasedCalculationStrategy(null, tenantFormulas);
+
+    @Test
+    @DisplayName("Должен выбрать стратегию по форме запроса")
+    void resolve_ShouldReturnStrategyForShape_WhenShapeValid() {
+        VacationCalculationStrategyResolver resolver = new VacationCalculationStrategyResolver(
+                List.of(fixedDaysStrategy, calendarBasedStrategy)
+        );
+
+        assertSame(fixedDaysStrategy, resolver.resolve(VacationRequestShape.DAYS_ONLY));
+        assertSame(calendarBasedStrategy, resolver.resolve(VacationRequestShape.DATES_ONLY));
+        assertSame(calendarBasedStrategy, resolver.resolve(new VacationPayRqDto(
+                new BigDecimal("50000"), LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 10)
+        )));
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение для недопустимой формы запроса")
+    void resolve_ShouldThrowIllegalStateException_WhenShapeInvalid() {
+        VacationCalculationStrategyResolver resolver = new VacationCalculationStrategyResolver(
+                List.of(fixedDaysStrategy, calendarBasedStrategy)
+        );
+
+        assertThrows(IllegalStateException.class, () -> resolver.resolve(VacationRequestShape.ALL_SPECIFIED));
+    }
+
+    @Test
+    @DisplayName("Должен выбрать стратегию разбивки по месяцам для формы с датами отпуска")
+    void resolveBreakdown_ShouldReturnBreakdownStrategy_WhenShapeSupportsBreakdown() {
+        VacationCalculationStrategyResolver resolver = new VacationCalculationStrategyResolver(
+                List.of(fixedDaysStrategy, calendarBasedStrategy)
+        );
+
+        assertSame(calendarBasedStrategy, resolver.resolveBreakdown(VacationRequestShape.DATES_ONLY));
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение когда форма запроса не поддерживает разбивку по месяцам")
+    void resolveBreakdown_ShouldThrowIllegalStateException_WhenShapeDoesNotSupportBreakdown() {
+        VacationCalculationStrategyResolver resolver = new VacationCalculationStrategyResolver(
+                List.of(fixedDaysStrategy, calendarBasedStrategy)
+        );
+
+        assertThrows(IllegalStateException.class, () -> resolver.resolveBreakdown(VacationRequestShape.DAYS_ONLY));
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение при старте когда форма обслуживается несколькими стратегиями")
+    void constructor_ShouldThrowIllegalStateException_WhenStrategiesAmbiguous() {
+        List<VacationCalculationStrategy> strategies = List.of(
+                fixedDaysStrategy,
+                calendarBasedStrategy,
+                new FixedDaysCalculationStrategy(tenantFormulas)
+        );
+
+        assertThrows(IllegalStateException.class, () -> new VacationCalculationStrategyResolver(strategies));
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение при старте когда для допустимой формы нет стратегии")
+    void constructor_ShouldThrowIllegalStateException_WhenStrategyMissing() {
+        List<VacationCalculationStrategy> strategies = List.of(fixedDaysStrategy);
+
+        assertThrows(IllegalStateException.class, () -> new VacationCalculationStrategyResolver(strategies));
+    }
+
+    @Test
+    @DisplayName("Должен определить форму запроса по указанным параметрам отпуска")
+    void of_ShouldClassifyRequest_WhenParametersProvided() {
+        VacationPayRqDto requestDto = new VacationPayRqDto();
+
+        assertEquals(VacationRequestShape.PARAMETERS_MISSING, VacationRequestShape.of(requestDto));
+        requestDto.setDaysVacation(14);
+        assertEquals(VacationRequestShape.DAYS_ONLY, VacationRequestShape.of(requestDto));
+        requestDto.setDateEnd(LocalDate.of(2026, 1, 10));
+        assertEquals(VacationRequestShape.DATES_INCOMPLETE, VacationRequestShape.of(requestDto));
+        requestDto.setDateStart(LocalDate.of(2026, 1, 1));
+        assertEquals(VacationRequestShape.ALL_SPECIFIED, VacationRequestShape.of(requestDto));
+        requestDto.setDaysVacation(null);
+        assertEquals(VacationRequestShape.DATES_ONLY, VacationRequestShape.of(requestDto));
+    }
+}
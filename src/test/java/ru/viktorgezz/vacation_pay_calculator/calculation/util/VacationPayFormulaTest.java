@@ -0,0 +1,132 @@
+package ru.viktorgezz.vacation_pay_calculator.calculation.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VacationPayFormulaTest {
+
+    private static final BigDecimal AVERAGE_DAYS_IN_MONTH = new BigDecimal("29.3");
+    private static final int[] VACATION_DAYS = {0, 1, 7, 14, 28, 31, 365, 366};
+
+    @Test
+    @DisplayName("Должен совпадать с расчетом в BigDecimal для каждой копейки до 3000 рублей")
+    void calculateVacationPayKopecks_ShouldMatchBigDecimal_ForEveryKopeckUpTo3000Rubles() {
+        for (long kopecks = 0; kopecks <= 300_000; kopecks++) {
+            for (int vacationDays : VACATION_DAYS) {
+                assertIdenticalKopecks(kopecks, vacationDays);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Должен совпадать с расчетом в BigDecimal для случайных сумм и дней во всем безопасном диапазоне")
+    void calculateVacationPayKopecks_ShouldMatchBigDecimal_ForRandomValuesInExactRange() {
+        final SplittableRandom random = new SplittableRandom(20261017L);
+        for (int i = 0; i < 500_000; i++) {
+            final long kopecks = random.nextLong(VacationPayFormula.MAX_EXACT_SALARY_KOPECKS + 1);
+            final int vacationDays = i % 2 == 0
+                    ? random.nextInt(367)
+                    : random.nextInt(VacationPayFormula.MAX_EXACT_VACATION_DAYS + 1);
+
+            assertIdenticalKopecks(kopecks, vacationDays);
+        }
+    }
+
+    @Test
+    @DisplayName("Должен совпадать с расчетом в BigDecimal на границах безопасного диапазона")
+    void calculateVacationPay_ShouldMatchBigDecimal_AtExactRangeBounds() {
+        final long maxKopecks = VacationPayFormula.MAX_EXACT_SALARY_KOPECKS;
+        final int maxDays = VacationPayFormula.MAX_EXACT_VACATION_DAYS;
+        for (long kopecks : new long[]{maxKopecks - 293, maxKopecks - 1, maxKopecks, maxKopecks + 1}) {
+            for (int vacationDays : new int[]{0, 1, maxDays - 1, maxDays, maxDays + 1}) {
+                assertIdentical(BigDecimal.valueOf(kopecks, 2), vacationDays);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Должен совпадать с расчетом в BigDecimal для сумм без копеек и с одним знаком после запятой")
+    void calculateVacationPay_ShouldMatchBigDecimal_ForScaleZeroAndOne() {
+        for (String averageSalary : new String[]{"29300", "50000", "100000.5", "0", "0.0", "1E+3", "123456789012"}) {
+            assertIdentical(new BigDecimal(averageSalary), 14);
+        }
+    }
+
+    @Test
+    @DisplayName("Должен рассчитывать в BigDecimal суммы точнее копейки, отрицательные и вне безопасного диапазона")
+    void calculateVacationPay_ShouldFallBackToBigDecimal_WhenOutsideExactRange() {
+        for (String averageSalary : new String[]{"50000.555", "0.001", "-50000", "12345678901234567890.12"}) {
+            for (int vacationDays : new int[]{-1, 14, Integer.MAX_VALUE}) {
+                assertIdentical(new BigDecimal(averageSalary), vacationDays);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Должен рассчитать отпускные в копейках")
+    void calculateVacationPayKopecks_ShouldReturnKopecks() {
+        final long vacationPayActual = VacationPayFormula.calculateVacationPayKopecks(5_000_000, 14);
+
+        assertEquals(2_389_078, vacationPayActual);
+    }
+
+    @Test
+    @DisplayName("Должен совпасть с расчетом от средней зарплаты когда передан тот же дневной заработок")
+    void calculateVacationPayByDailyEarnings_ShouldMatchSalaryFormula_WhenSameDailyEarnings() {
+        for (long averageSalaryKopecks = 1; averageSalaryKopecks < 10_000_000; averageSalaryKopecks += 9_973) {
+            BigDecimal averageSalary = BigDecimal.valueOf(averageSalaryKopecks, 2);
+            BigDecimal dailyEarnings = averageSalary.divide(AVERAGE_DAYS_IN_MONTH, 10, RoundingMode.HALF_UP);
+
+            assertEquals(
+                    reference(averageSalary, 28),
+                    VacationPayFormula.calculateVacationPayByDailyEarnings(dailyEarnings, 28)
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("Должен рассчитать отпускные в BigDecimal когда дневной заработок вне безопасного диапазона")
+    void calculateVacationPayByDailyEarnings_ShouldFallBackToBigDecimal_WhenOutOfRange() {
+        BigDecimal dailyEarningsHuge = new BigDecimal("1234567890123.4567890123");
+        BigDecimal dailyEarningsNegative = new BigDecimal("-100.005");
+
+        assertEquals(new BigDecimal("17283950461728.40"),
+                VacationPayFormula.calculateVacationPayByDailyEarnings(dailyEarningsHuge, 14));
+        assertEquals(new BigDecimal("-200.01"),
+                VacationPayFormula.calculateVacationPayByDailyEarnings(dailyEarningsNegative, 2));
+    }
+
+    private static void assertIdentical(BigDecimal averageSalary, int vacationDays) {
+        final BigDecimal vacationPayExpected = reference(averageSalary, vacationDays);
+
+        final BigDecimal vacationPayActual = VacationPayFormula.calculateVacationPay(averageSalary, vacationDays);
+
+        assertEquals(vacationPayExpected, vacationPayActual,
+                () -> "averageSalary=" + averageSalary + ", vacationDays=" + vacationDays);
+    }
+
+    private static void assertIdenticalKopecks(long averageSalaryKopecks, int vacationDays) {
+        final long vacationPayExpected = reference(BigDecimal.valueOf(averageSalaryKopecks, 2), vacationDays)
+                .unscaledValue()
+                .longValueExact();
+
+        final long vacationPayActual = VacationPayFormula.calculateVacationPayKopecks(averageSalaryKopecks, vacationDays);
+
+        if (vacationPayExpected != vacationPayActual) {
+            fail("averageSalaryKopecks=" + averageSalaryKopecks + ", vacationDays=" + vacationDays
+                    + ": expected " + vacationPayExpected + " but was " + vacationPayActual);
+        }
+    }
+
+    private static BigDecimal reference(BigDecimal averageSalary, int vacationDays) {
+        return averageSalary.divide(AVERAGE_DAYS_IN_MONTH, 10, RoundingMode.HALF_UP)
+                .multiply(BigDecimal.valueOf(vacationDays))
+                .setScale(2, RoundingMode.HALF_UP);
+    }
+}
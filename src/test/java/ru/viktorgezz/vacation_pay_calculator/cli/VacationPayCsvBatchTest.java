@@ -0,0 +1,128 @@
+package ru.viktorgezz.vacation_pay_calculator.cli;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.viktorgezz.vacation_pay_calculator.calculation.CalculationProperties;
+import ru.viktorgezz.vacation_pay_calculator.calculation.batch.PayableDaysPlanner;
+import ru.viktorgezz.vacation_pay_calculator.calculation.cache.DailyRateCache;
+import ru.viktorgezz.vacation_pay_calculator.calculation.columnar.ColumnarVacationPayEngine;
+import ru.viktorgezz.vacation_pay_calculator.calculation.formula.TenantFormulas;
+import ru.viktorgezz.vacation_pay_calculator.calculation.util.VacationPayFormula;
+import ru.viktorgezz.vacation_pay_calculator.exception.BusinessException;
+import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
+import ru.viktorgezz.vacation_pay_calculator.holiday.HolidayService;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VacationPayCsvBatchTest {
+
+    @Mock
+    private HolidayService holidayServiceMock;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Должен записать строку результата или ошибки на каждую строку файла в том же порядке")
+    void process_ShouldWriteLinePerRow_WhenRowsMixed() throws IOException {
+        Path input = Files.writeString(directory.resolve("input.csv"), String.join("\n",
+                "averageSalary,dateStart,dateEnd",
+                "100000,2026-01-01,2026-01-10",
+                "50000,14",
+                "50000,2026-06-14,2026-06-01",
+                "50000,2026-01-01,2026-01-10",
+                "oops"
+        ), StandardCharsets.UTF_8);
+        Path output = directory.resolve("output.csv");
+        Instant asOf = Instant.parse("2026-01-01T00:00:00Z");
+        long january1 = LocalDate.of(2026, 1, 1).toEpochDay();
+        long january10 = LocalDate.of(2026, 1, 10).toEpochDay();
+
+        when(holidayServiceMock.countHolidaysBetween("RU-TA", new long[]{january1}, new long[]{january10}, asOf))
+                .thenReturn(new int[]{8});
+
+        createBatch("RU-TA", asOf).process(input, output);
+
+        List<String> linesActual = Files.readAllLines(output, StandardCharsets.UTF_8);
+        assertEquals(List.of(
+                "line,totalVacationPay,error",
+                "2," + VacationPayFormula.calculateVacationPay(new BigDecimal("100000"), 2) + ",",
+                "3," + VacationPayFormula.calculateVacationPay(new BigDecimal("50000"), 14) + ",",
+                "4,,INVALID_VACATION_PERIOD",
+                "5," + VacationPayFormula.calculateVacationPay(new BigDecimal("50000"), 2) + ",",
+                "6,,INVALID_CSV_ROW"
+        ), linesActual);
+    }
+
+    @Test
+    @DisplayName("Должен записать ошибку только в строку с годом, для которого нет календаря")
+    void process_ShouldWriteErrorForRow_WhenHolidayCalendarUnavailable() throws IOException {
+        Path input = Files.writeString(directory.resolve("input.csv"), String.join("\n",
+                "100000,2026-01-01,2026-01-10",
+                "50000,2500-01-01,2500-01-10"
+        ), StandardCharsets.UTF_8);
+        Path output = directory.resolve("output.csv");
+        long january1 = LocalDate.of(2026, 1, 1).toEpochDay();
+        long january10 = LocalDate.of(2026, 1, 10).toEpochDay();
+        long unavailableStart = LocalDate.of(2500, 1, 1).toEpochDay();
+        long unavailableEnd = LocalDate.of(2500, 1, 10).toEpochDay();
+        BusinessException unavailable = new BusinessException(ErrorCode.HOLIDAY_CALENDAR_UNAVAILABLE,
+                "2500", "1900", "2199");
+
+        when(holidayServiceMock.countHolidaysBetween(null, new long[]{january1, unavailableStart},
+                new long[]{january10, unavailableEnd}, null)).thenThrow(unavailable);
+        when(holidayServiceMock.countHolidaysBetween(null, new long[]{january1}, new long[]{january10}, null))
+                .thenReturn(new int[]{8});
+        when(holidayServiceMock.countHolidaysBetween(null, new long[]{unavailableStart}, new long[]{unavailableEnd},
+                null)).thenThrow(unavailable);
+
+        createBatch(null, null).process(input, output);
+
+        List<String> linesActual = Files.readAllLines(output, StandardCharsets.UTF_8);
+        assertEquals(List.of(
+                "line,totalVacationPay,error",
+                "1," + VacationPayFormula.calculateVacationPay(new BigDecimal("100000"), 2) + ",",
+                "2,,HOLIDAY_CALENDAR_UNAVAILABLE"
+        ), linesActual);
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение при старте когда размер части не положителен")
+    void constructor_ShouldThrowIllegalStateException_WhenChunkRowsNotPositive() {
+        CliProperties cliProperties = new CliProperties();
+        cliProperties.setChunkRows(0);
+
+        assertThrows(IllegalStateException.class, () -> new VacationPayCsvBatch(createEngine(), cliProperties));
+    }
+
+    private VacationPayCsvBatch createBatch(String calendarId, Instant asOf) {
+        CliProperties cliProperties = new CliProperties();
+        cliProperties.setChunkRows(2);
+        cliProperties.setCalendarId(calendarId);
+        cliProperties.setAsOf(asOf);
+        return new VacationPayCsvBatch(createEngine(), cliProperties);
+    }
+
+    private ColumnarVacationPayEngine createEngine() {
+        CalculationProperties calculationProperties = new CalculationProperties();
+        return new ColumnarVacationPayEngine(
+                new PayableDaysPlanner(holidayServiceMock),
+                new TenantFormulas(calculationProperties, new DailyRateCache(calculationProperties))
+        );
+    }
+}
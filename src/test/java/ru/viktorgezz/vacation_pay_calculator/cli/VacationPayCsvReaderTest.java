@@ -0,0 +1,119 @@
+package ru.viktorgezz.vacation_pay_calculator.cli;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VacationPayCsvReaderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Должен разобрать строки по дням и по датам и пропустить заголовок и пустые строки")
+    void read_ShouldParseRows_WhenDaysAndDatesMixed() throws IOException {
+        Path input = write("averageSalary,days\r\n"
+                + "50000,14\r\n"
+                + "\r\n"
+                + "75000.5,2024-02-28,2024-03-01\r\n"
+                + "12345.670,2026-12-31,2027-01-09");
+        VacationPayCsvChunk chunk = new VacationPayCsvChunk(10);
+
+        try (VacationPayCsvReader reader = new VacationPayCsvReader(input, VacationPayCsvReader.DEFAULT_REGION_SIZE)) {
+            assertEquals(3, reader.read(chunk));
+
+            assertEquals(2, chunk.getLineNumber(0));
+            assertEquals(5_000_000, chunk.getAverageSalaryKopecks(0));
+            assertEquals(14, chunk.getDaysVacation(0));
+            assertFalse(chunk.isDateBased(0));
+
+            assertEquals(4, chunk.getLineNumber(1));
+            assertEquals(7_500_050, chunk.getAverageSalaryKopecks(1));
+            assertTrue(chunk.isDateBased(1));
+            assertEquals(LocalDate.of(2024, 2, 28).toEpochDay(), chunk.getDateStartEpochDay(1));
+            assertEquals(LocalDate.of(2024, 3, 1).toEpochDay(), chunk.getDateEndEpochDay(1));
+
+            assertEquals(1_234_567, chunk.getAverageSalaryKopecks(2));
+            assertEquals(LocalDate.of(2026, 12, 31).toEpochDay(), chunk.getDateStartEpochDay(2));
+            assertEquals(LocalDate.of(2027, 1, 9).toEpochDay(), chunk.getDateEndEpochDay(2));
+
+            assertEquals(0, reader.read(chunk));
+        }
+    }
+
+    @Test
+    @DisplayName("Должен записать код ошибки вместо строки когда строка некорректна")
+    void read_ShouldMarkRowInvalid_WhenRowMalformed() throws IOException {
+        Path input = write(String.join("\n",
+                "50000,14",
+                "oops,14",
+                "0,14",
+                "50000.123,14",
+                "50000,0",
+                "50000,2026-02-29,2026-03-01",
+                "50000,2026-06-14,2026-06-01",
+                "50000,2026-06-01,2026-06-14,1",
+                "50000"
+        ));
+        VacationPayCsvChunk chunk = new VacationPayCsvChunk(10);
+
+        try (VacationPayCsvReader reader = new VacationPayCsvReader(input, VacationPayCsvReader.DEFAULT_REGION_SIZE)) {
+            assertEquals(9, reader.read(chunk));
+        }
+
+        assertNull(chunk.getError(0));
+        for (int row = 1; row < 9; row++) {
+            ErrorCode errorExpected = row == 6 ? ErrorCode.INVALID_VACATION_PERIOD : ErrorCode.INVALID_CSV_ROW;
+            assertEquals(errorExpected, chunk.getError(row), "line " + chunk.getLineNumber(row));
+            assertFalse(chunk.isDateBased(row));
+        }
+    }
+
+    @Test
+    @DisplayName("Должен прочитать все строки по частям когда строки пересекают границы областей отображения")
+    void read_ShouldReadAllRows_WhenRowsCrossRegionBoundaries() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int row = 1; row <= 1000; row++) {
+            content.append(row).append(",2026-06-01,2026-06-14\n");
+        }
+        Path input = write(content.toString());
+        VacationPayCsvChunk chunk = new VacationPayCsvChunk(7);
+
+        long countRowsActual = 0;
+        try (VacationPayCsvReader reader = new VacationPayCsvReader(input, 64)) {
+            while (reader.read(chunk) > 0) {
+                for (int row = 0; row < chunk.size(); row++) {
+                    countRowsActual++;
+                    assertEquals(countRowsActual, chunk.getLineNumber(row));
+                    assertEquals(countRowsActual * 100, chunk.getAverageSalaryKopecks(row));
+                    assertTrue(chunk.isDateBased(row));
+                }
+            }
+            assertEquals(Files.size(input), reader.getBytesRead());
+        }
+        assertEquals(1000, countRowsActual);
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение когда строка длиннее области отображения")
+    void read_ShouldThrowException_WhenLineLongerThanRegion() throws IOException {
+        Path input = write("50000,2026-06-01,2026-06-14\n50000,14\n");
+
+        try (VacationPayCsvReader reader = new VacationPayCsvReader(input, 16)) {
+            assertThrows(IOException.class, () -> reader.read(new VacationPayCsvChunk(10)));
+        }
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(directory.resolve("input.csv"), content, StandardCharsets.UTF_8);
+    }
+}
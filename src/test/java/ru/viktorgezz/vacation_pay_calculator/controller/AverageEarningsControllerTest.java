@@ -0,0 +1,62 @@
+package ru.viktorgezz.vacation_pay_calculator.controller;
+
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class AverageEarningsControllerTest {
+
+    @LocalServerPort
+    private int portServer;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.baseURI = "http://localhost";
+        RestAssured.port = portServer;
+    }
+
+    @Test
+    @DisplayName("Должен вернуть строку со средним дневным заработком на каждого сотрудника")
+    void calculateAverageEarnings_ShouldReturnLinePerEmployee_WhenPayrollStreamed() {
+        String bodyRequest = String.join("\n",
+                "{\"employeeId\":\"E1\",\"month\":\"2026-02\",\"accrued\":14650}",
+                "{\"employeeId\":\"E1\",\"excludedFrom\":\"2026-02-15\",\"excludedTo\":\"2026-02-28\"}",
+                "{\"employeeId\":\"E1\",\"month\":\"2026-03\",\"accrued\":29300}",
+                "{\"employeeId\":\"E2\",\"month\":\"2026-03\",\"accrued\":1000}",
+                "{\"employeeId\":\"E2\",\"excludedFrom\":\"2026-03-01\",\"excludedTo\":\"2026-03-31\"}"
+        );
+
+        String responseActual = given()
+                .contentType("application/x-ndjson")
+                .queryParam("periodEnd", "2026-03")
+                .body(bodyRequest.getBytes(StandardCharsets.UTF_8))
+                .when()
+                .post("/average-earnings")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(startsWith("application/x-ndjson"))
+                .extract()
+                .asString();
+
+        String[] linesActual = responseActual.split("\n");
+        assertEquals(2, linesActual.length);
+        assertThat(linesActual[0], containsString("\"employeeId\":\"E1\""));
+        assertThat(linesActual[0], containsString("\"averageDailyEarnings\":1000.0000000000"));
+        assertThat(linesActual[0], containsString("\"calculatedDays\":43.95"));
+        assertThat(linesActual[1], containsString("\"employeeId\":\"E2\""));
+        assertThat(linesActual[1], containsString("\"code\":\"AVERAGE_EARNINGS_UNDEFINED\""));
+        assertThat(linesActual[1], not(containsString("averageDailyEarnings")));
+    }
+}
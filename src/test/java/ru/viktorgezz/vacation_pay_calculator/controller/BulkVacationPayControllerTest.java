@@ -0,0 +1,95 @@
+package ru.viktorgezz.vacation_pay_calculator.controller;
+
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class BulkVacationPayControllerTest {
+
+    @LocalServerPort
+    private int portServer;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.baseURI = "http://localhost";
+        RestAssured.port = portServer;
+    }
+
+    @Test
+    @DisplayName("Должен вернуть строку результата или ошибки на каждую строку пакетного запроса")
+    void calculateVacationPayBulk_ShouldReturnLinePerRequest_WhenRequestsStreamed() {
+        String bodyRequest = String.join("\n",
+                "{\"averageSalary\":100000,\"daysVacation\":14}",
+                "{\"averageSalary\":50000,\"dateStart\":\"2026-01-01\",\"dateEnd\":\"2026-01-10\"}",
+                "{\"averageSalary\":50000,\"dateStart\":\"2026-01-10\",\"dateEnd\":\"2026-01-01\"}",
+                "{\"daysVacation\":14}"
+        );
+
+        String responseActual = given()
+                .contentType("application/x-ndjson")
+                .body(bodyRequest.getBytes(StandardCharsets.UTF_8))
+                .when()
+                .post("/calculacte/bulk")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(startsWith("application/x-ndjson"))
+                .extract()
+                .asString();
+
+        String[] linesActual = responseActual.split("\n");
+        assertEquals(4, linesActual.length);
+        assertEquals("{\"line\":1,\"totalVacationPay\":47781.57}", linesActual[0]);
+        assertEquals("{\"line\":2,\"totalVacationPay\":3412.97}", linesActual[1]);
+        assertThat(linesActual[2], containsString("\"code\":\"INVALID_VACATION_PERIOD\""));
+        assertThat(linesActual[3], containsString("\"field\":\"averageSalary\""));
+    }
+
+    @Test
+    @DisplayName("Должен вернуть параллельный массив сумм отпускных для колоночного запроса")
+    void calculateVacationPayColumnar_ShouldReturnParallelAmounts_WhenColumnsProvided() {
+        String bodyRequest = "{\"averageSalaries\":[100000,50000],"
+                + "\"dateStarts\":[\"2026-01-01\",\"2026-01-01\"],"
+                + "\"dateEnds\":[\"2026-01-14\",\"2026-01-10\"]}";
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(bodyRequest)
+                .when()
+                .post("/calculacte/columnar")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("totalVacationPay", contains(20477.82f, 3412.97f));
+    }
+
+    @Test
+    @DisplayName("Должен вернуть ошибку с индексом строки когда колоночный запрос некорректен")
+    void calculateVacationPayColumnar_ShouldReturnBadRequest_WhenColumnsInvalid() {
+        String bodyRequest = "{\"averageSalaries\":[100000,0],\"daysVacation\":[14,14]}";
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(bodyRequest)
+                .when()
+                .post("/calculacte/columnar")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("code", equalTo("INVALID_COLUMNAR_REQUEST"))
+                .body("message", equalTo("Invalid columnar request: averageSalaries[1] must be greater than 0"));
+    }
+}
@@ -12,6 +12,7 @@ import org.springframework.http.HttpStatus;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static io.restassured.RestAssured.given;
@@ -277,4 +278,330 @@ class VacationPayControllerTest {
                 .statusCode(HttpStatus.BAD_REQUEST.value())
                 .body("code", is("INVALID_VACATION_PERIOD"));
     }
+
+    @Test
+    @DisplayName("Должен учесть региональные праздники когда указан региональный календарь")
+    void calculateVacationPay_ShouldExcludeRegionalHolidays_WhenRegionalCalendarProvided() {
+        Map<String, Object> bodyRequest = new HashMap<>();
+        bodyRequest.put("averageSalary", new BigDecimal("29300"));
+        bodyRequest.put("dateStart", LocalDate.of(2026, 8, 30).toString());
+        bodyRequest.put("dateEnd", LocalDate.of(2026, 8, 31).toString());
+        bodyRequest.put("calendarId", "RU-TA");
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(bodyRequest)
+                .when()
+                .get("/calculacte")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("totalVacationPay", equalTo(1000.0f));
+    }
+
+    @Test
+    @DisplayName("Должен вернуть ошибку бизнес-логики когда календарь праздников не найден")
+    void calculateVacationPay_ShouldReturnBadRequest_WhenCalendarUnknown() {
+        Map<String, Object> bodyRequest = new HashMap<>();
+        bodyRequest.put("averageSalary", new BigDecimal("50000"));
+        bodyRequest.put("dateStart", LocalDate.of(2026, 8, 30).toString());
+        bodyRequest.put("dateEnd", LocalDate.of(2026, 8, 31).toString());
+        bodyRequest.put("calendarId", "RU-XX");
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(bodyRequest)
+                .when()
+                .get("/calculacte")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("code", is("UNKNOWN_HOLIDAY_CALENDAR"));
+    }
+
+    @Test
+    @DisplayName("Должен вернуть дату окончания отпуска по количеству оплачиваемых дней с учетом праздников")
+    void calculateInverse_ShouldReturnDateEnd_WhenPayableDaysProvided() {
+        Map<String, Object> bodyRequest = new HashMap<>();
+        bodyRequest.put("averageSalary", new BigDecimal("29300"));
+        bodyRequest.put("dateStart", LocalDate.of(2026, 1, 1).toString());
+        bodyRequest.put("payableDays", 3);
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(bodyRequest)
+                .when()
+                .get("/inverse")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("dateEnd", is("2026-01-11"))
+                .body("payableDays", is(3))
+                .body("totalVacationPay", equalTo(3000.0f));
+    }
+
+    @Test
+    @DisplayName("Должен вернуть самый длинный отпуск в пределах бюджета")
+    void calculateInverse_ShouldReturnLongestVacation_WhenBudgetProvided() {
+        Map<String, Object> bodyRequest = new HashMap<>();
+        bodyRequest.put("averageSalary", new BigDecimal("29300"));
+        bodyRequest.put("dateStart", LocalDate.of(2026, 4, 28).toString());
+        bodyRequest.put("budget", new BigDecimal("3500"));
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(bodyRequest)
+                .when()
+                .get("/inverse")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("dateEnd", is("2026-05-01"))
+                .body("payableDays", is(3))
+                .body("totalVacationPay", equalTo(3000.0f));
+    }
+
+    @Test
+    @DisplayName("Должен вернуть ошибку бизнес-логики когда бюджета не хватает на один день и отпуск начинается с праздника")
+    void calculateInverse_ShouldReturnBadRequest_WhenBudgetInsufficientAndDateStartIsHoliday() {
+        Map<String, Object> bodyRequest = new HashMap<>();
+        bodyRequest.put("averageSalary", new BigDecimal("29300"));
+        bodyRequest.put("dateStart", LocalDate.of(2026, 1, 1).toString());
+        bodyRequest.put("budget", new BigDecimal("999.99"));
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(bodyRequest)
+                .when()
+                .get("/inverse")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("code", is("INSUFFICIENT_BUDGET"));
+    }
+
+    @Test
+    @DisplayName("Должен вернуть ошибку бизнес-логики когда указаны и количество дней, и бюджет")
+    void calculateInverse_ShouldReturnBadRequest_WhenPayableDaysAndBudgetProvided() {
+        Map<String, Object> bodyRequest = new HashMap<>();
+        bodyRequest.put("averageSalary", new BigDecimal("29300"));
+        bodyRequest.put("dateStart", LocalDate.of(2026, 4, 28).toString());
+        bodyRequest.put("payableDays", 3);
+        bodyRequest.put("budget", new BigDecimal("3500"));
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(bodyRequest)
+                .when()
+                .get("/inverse")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("code", is("INVERSE_TARGET_ALL_SPECIFIED"));
+    }
+
+    @Test
+    @DisplayName("Должен вернуть ошибку валидации когда количество оплачиваемых дней больше 3660")
+    void calculateInverse_ShouldReturnBadRequest_WhenPayableDaysTooLarge() {
+        Map<String, Object> bodyRequest = new HashMap<>();
+        bodyRequest.put("averageSalary", new BigDecimal("29300"));
+        bodyRequest.put("dateStart", LocalDate.of(2026, 4, 28).toString());
+        bodyRequest.put("payableDays", 2_000_000_000);
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(bodyRequest)
+                .when()
+                .get("/inverse")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("validationErrors[0].field", is("payableDays"))
+                .body("validationErrors[0].message", is("Payable days must not exceed 3660"));
+    }
+
+    @Test
+    @DisplayName("Должен вернуть ошибку валидации когда дата начала отпуска не указана")
+    void calculateInverse_ShouldReturnBadRequest_WhenDateStartMissing() {
+        Map<String, Object> bodyRequest = new HashMap<>();
+        bodyRequest.put("averageSalary", new BigDecimal("29300"));
+        bodyRequest.put("payableDays", 3);
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(bodyRequest)
+                .when()
+                .get("/inverse")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @Test
+    @DisplayName("Должен вернуть дату начала отпуска с наибольшим количеством праздников в окне поиска")
+    void optimizeVacationStart_ShouldReturnBestOption_WhenMaxHolidaysRequested() {
+        Map<String, Object> bodyRequest = new HashMap<>();
+        bodyRequest.put("averageSalary", new BigDecimal("29300"));
+        bodyRequest.put("daysVacation", 7);
+        bodyRequest.put("windowStart", LocalDate.of(2026, 4, 20).toString());
+        bodyRequest.put("windowEnd", LocalDate.of(2026, 5, 10).toString());
+        bodyRequest.put("objective", "MAX_HOLIDAYS");
+        bodyRequest.put("topK", 1);
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(bodyRequest)
+                .when()
+                .get("/optimize")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("options", hasSize(1))
+                .body("options[0].dateStart", is("2026-04-25"))
+                .body("options[0].dateEnd", is("2026-05-01"))
+                .body("options[0].holidays", is(1))
+                .body("options[0].totalVacationPay", equalTo(6000.0f))
+                .body("options[0].payPerCalendarDay", equalTo(857.14f));
+    }
+
+    @Test
+    @DisplayName("Должен вернуть варианты по умолчанию когда количество вариантов явно равно null")
+    void optimizeVacationStart_ShouldReturnDefaultTopK_WhenTopKNull() {
+        Map<String, Object> bodyRequest = new HashMap<>();
+        bodyRequest.put("averageSalary", new BigDecimal("29300"));
+        bodyRequest.put("daysVacation", 7);
+        bodyRequest.put("windowStart", LocalDate.of(2026, 4, 20).toString());
+        bodyRequest.put("windowEnd", LocalDate.of(2026, 5, 10).toString());
+        bodyRequest.put("objective", "MAX_HOLIDAYS");
+        bodyRequest.put("topK", null);
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(bodyRequest)
+                .when()
+                .get("/optimize")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("options", hasSize(5));
+    }
+
+    @Test
+    @DisplayName("Должен вернуть ошибку бизнес-логики когда окно поиска некорректно")
+    void optimizeVacationStart_ShouldReturnBadRequest_WhenWindowInvalid() {
+        Map<String, Object> bodyRequest = new HashMap<>();
+        bodyRequest.put("averageSalary", new BigDecimal("29300"));
+        bodyRequest.put("daysVacation", 7);
+        bodyRequest.put("windowStart", LocalDate.of(2026, 5, 10).toString());
+        bodyRequest.put("windowEnd", LocalDate.of(2026, 4, 20).toString());
+        bodyRequest.put("objective", "MAX_PAY_PER_DAY");
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(bodyRequest)
+                .when()
+                .get("/optimize")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("code", is("INVALID_SEARCH_WINDOW"));
+    }
+
+    @Test
+    @DisplayName("Должен вернуть ошибку бизнес-логики когда формула юридического лица не настроена")
+    void calculateVacationPay_ShouldReturnBadRequest_WhenTenantUnknown() {
+        Map<String, Object> bodyRequest = new HashMap<>();
+        bodyRequest.put("averageSalary", new BigDecimal("50000"));
+        bodyRequest.put("daysVacation", 14);
+        bodyRequest.put("tenantId", "unknown");
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(bodyRequest)
+                .when()
+                .get("/calculacte")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("code", is("UNKNOWN_TENANT"));
+    }
+
+    @Test
+    @DisplayName("Должен вернуть разбивку отпускных по месяцам когда разбивка запрошена")
+    void calculateVacationPay_ShouldReturnMonthlyBreakdown_WhenBreakdownRequested() {
+        Map<String, Object> bodyRequest = new HashMap<>();
+        bodyRequest.put("averageSalary", new BigDecimal("50000"));
+        bodyRequest.put("dateStart", "2026-04-27");
+        bodyRequest.put("dateEnd", "2026-05-11");
+        bodyRequest.put("breakdown", true);
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(bodyRequest)
+                .when()
+                .get("/calculacte")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("totalVacationPay", equalTo(22184.30f))
+                .body("months", hasSize(2))
+                .body("months[0].month", is("2026-04"))
+                .body("months[0].payableDays", is(4))
+                .body("months[0].vacationPay", equalTo(6825.94f))
+                .body("months[1].month", is("2026-05"))
+                .body("months[1].payableDays", is(9))
+                .body("months[1].vacationPay", equalTo(15358.36f));
+    }
+
+    @Test
+    @DisplayName("Должен вернуть ошибку бизнес-логики когда разбивка по месяцам запрошена без дат")
+    void calculateVacationPay_ShouldReturnBadRequest_WhenBreakdownRequestedWithoutDates() {
+        Map<String, Object> bodyRequest = new HashMap<>();
+        bodyRequest.put("averageSalary", new BigDecimal("50000"));
+        bodyRequest.put("daysVacation", 14);
+        bodyRequest.put("breakdown", true);
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(bodyRequest)
+                .when()
+                .get("/calculacte")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("code", is("BREAKDOWN_REQUIRES_DATES"));
+    }
+
+    @Test
+    @DisplayName("Должен вернуть отпускные по каждой части и итоговую сумму когда отпуск разделен на части")
+    void calculateVacationPayBySegments_ShouldReturnSegmentsAndTotal_WhenSegmentsProvided() {
+        Map<String, Object> bodyRequest = new HashMap<>();
+        bodyRequest.put("averageSalary", new BigDecimal("29300"));
+        bodyRequest.put("segments", List.of(
+                Map.of("dateStart", "2026-06-08", "dateEnd", "2026-06-14"),
+                Map.of("dateStart", "2026-05-04", "dateEnd", "2026-05-10")
+        ));
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(bodyRequest)
+                .when()
+                .get("/segments")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("segments", hasSize(2))
+                .body("segments[0].dateStart", is("2026-06-08"))
+                .body("segments[0].payableDays", is(6))
+                .body("segments[0].vacationPay", equalTo(6000.0f))
+                .body("segments[1].dateStart", is("2026-05-04"))
+                .body("segments[1].payableDays", is(6))
+                .body("payableDays", is(12))
+                .body("totalVacationPay", equalTo(12000.0f));
+    }
+
+    @Test
+    @DisplayName("Должен вернуть ошибку бизнес-логики когда части отпуска пересекаются")
+    void calculateVacationPayBySegments_ShouldReturnBadRequest_WhenSegmentsOverlap() {
+        Map<String, Object> bodyRequest = new HashMap<>();
+        bodyRequest.put("averageSalary", new BigDecimal("29300"));
+        bodyRequest.put("segments", List.of(
+                Map.of("dateStart", "2026-05-10", "dateEnd", "2026-05-15"),
+                Map.of("dateStart", "2026-05-01", "dateEnd", "2026-05-10")
+        ));
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(bodyRequest)
+                .when()
+                .get("/segments")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("code", is("OVERLAPPING_VACATION_SEGMENTS"));
+    }
 }
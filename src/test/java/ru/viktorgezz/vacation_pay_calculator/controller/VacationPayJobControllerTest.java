@@ -0,0 +1,98 @@
+package ru.viktorgezz.vacation_pay_calculator.controller;
+
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class VacationPayJobControllerTest {
+
+    private static final long POLL_TIMEOUT_MILLIS = 10_000;
+    private static final long POLL_INTERVAL_MILLIS = 50;
+
+    @LocalServerPort
+    private int portServer;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.baseURI = "http://localhost";
+        RestAssured.port = portServer;
+    }
+
+    @Test
+    @DisplayName("Должен принять задание, рассчитать его в фоне и отдать файл результата")
+    void submitJob_ShouldCalculateInBackground_WhenBatchSubmitted() throws InterruptedException {
+        String bodyRequest = String.join("\n",
+                "{\"averageSalary\":100000,\"daysVacation\":14}",
+                "{\"averageSalary\":50000,\"dateStart\":\"2026-01-01\",\"dateEnd\":\"2026-01-10\"}",
+                "{\"daysVacation\":14}"
+        );
+
+        String jobId = given()
+                .contentType("application/x-ndjson")
+                .body(bodyRequest.getBytes(StandardCharsets.UTF_8))
+                .when()
+                .post("/jobs")
+                .then()
+                .statusCode(HttpStatus.ACCEPTED.value())
+                .header("Location", startsWith("/jobs/"))
+                .body("totalLines", equalTo(3))
+                .extract()
+                .path("jobId");
+
+        String statusActual = awaitFinished(jobId);
+
+        assertEquals("COMPLETED", statusActual);
+        given()
+                .when()
+                .get("/jobs/" + jobId)
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("processedLines", equalTo(3))
+                .body("failedLines", equalTo(1));
+        String resultActual = given()
+                .when()
+                .get("/jobs/" + jobId + "/result")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(startsWith("application/x-ndjson"))
+                .extract()
+                .asString();
+        String[] linesActual = resultActual.split("\n");
+        assertEquals(3, linesActual.length);
+        assertEquals("{\"line\":1,\"totalVacationPay\":47781.57}", linesActual[0]);
+        assertEquals("{\"line\":2,\"totalVacationPay\":3412.97}", linesActual[1]);
+    }
+
+    @Test
+    @DisplayName("Должен вернуть 404 когда задание не найдено")
+    void getJob_ShouldReturnNotFound_WhenJobUnknown() {
+        given()
+                .when()
+                .get("/jobs/unknown")
+                .then()
+                .statusCode(HttpStatus.NOT_FOUND.value())
+                .body("code", equalTo("JOB_NOT_FOUND"));
+    }
+
+    private String awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + POLL_TIMEOUT_MILLIS;
+        String status;
+        do {
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+            status = given().when().get("/jobs/" + jobId).then().extract().path("status");
+        } while (!"COMPLETED".equals(status) && !"FAILED".equals(status) && System.currentTimeMillis() < deadline);
+        return status;
+    }
+}
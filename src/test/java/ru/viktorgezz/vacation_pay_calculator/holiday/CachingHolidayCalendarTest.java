@@ -0,0 +1,127 @@
+package ru.viktorgezz.vacation_pay_calculator.holiday;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingHolidayCalendarTest {
+
+    private final AtomicReference<Map<Integer, List<LocalDate>>> holidaysSource = new AtomicReference<>();
+
+    private CachingHolidayCalendar cachingHolidayCalendar;
+
+    @AfterEach
+    void stopCalendar() {
+        cachingHolidayCalendar.stop();
+    }
+
+    @Test
+    @DisplayName("Должен опубликовать календарь, загруженный из источника при старте")
+    void start_ShouldPublishSnapshot_WhenSourceAvailable() {
+        holidaysSource.set(Map.of(2026, List.of(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 11, 4))));
+        cachingHolidayCalendar = createCalendar(new HolidayProperties());
+        int countHolidaysExpected = 2;
+
+        HolidayIndex indexActual = cachingHolidayCalendar.getSnapshot().getHolidayIndex(2026);
+
+        assertEquals(countHolidaysExpected, indexActual.count());
+        assertNotNull(cachingHolidayCalendar.getRefreshedAt());
+    }
+
+    @Test
+    @DisplayName("Должен продолжать обслуживать последний снимок когда источник недоступен")
+    void refresh_ShouldKeepLastSnapshot_WhenSourceFails() {
+        holidaysSource.set(Map.of(2026, List.of(LocalDate.of(2026, 1, 1))));
+        cachingHolidayCalendar = createCalendar(new HolidayProperties());
+        HolidayCalendarSnapshot snapshotExpected = cachingHolidayCalendar.getSnapshot();
+
+        holidaysSource.set(null);
+        cachingHolidayCalendar.refresh();
+
+        assertSame(snapshotExpected, cachingHolidayCalendar.getSnapshot());
+    }
+
+    @Test
+    @DisplayName("Должен строить календарь по правилам когда источник недоступен при старте")
+    void start_ShouldFallBackToRules_WhenSourceUnavailable() {
+        HolidayProperties holidayProperties = new HolidayProperties();
+        holidayProperties.setRules(List.of("01-01..01-08"));
+        cachingHolidayCalendar = createCalendar(holidayProperties);
+        int countHolidaysExpected = 8;
+
+        HolidayIndex indexActual = cachingHolidayCalendar.getSnapshot().getHolidayIndex(2026);
+
+        assertEquals(countHolidaysExpected, indexActual.count());
+        assertNull(cachingHolidayCalendar.getRefreshedAt());
+    }
+
+    @Test
+    @DisplayName("Должен сообщать о неготовности пока календарь не загружен из источника и о готовности после загрузки")
+    void health_ShouldBeDownUntilFirstLoad_WhenSourceFailsOnFirstLoad() {
+        cachingHolidayCalendar = createCalendar(new HolidayProperties());
+        HolidayCalendarHealthIndicator healthIndicator = new HolidayCalendarHealthIndicator(cachingHolidayCalendar);
+
+        assertEquals(Status.DOWN, healthIndicator.health().getStatus());
+
+        holidaysSource.set(Map.of(2026, List.of(LocalDate.of(2026, 1, 1))));
+        cachingHolidayCalendar.refresh();
+
+        assertEquals(Status.UP, healthIndicator.health().getStatus());
+        assertEquals(1, cachingHolidayCalendar.getSnapshot().getHolidayIndex(2026).count());
+
+        holidaysSource.set(null);
+        cachingHolidayCalendar.refresh();
+
+        assertEquals(Status.UP, healthIndicator.health().getStatus());
+    }
+
+    @Test
+    @DisplayName("Должен опубликовать новую версию только когда календарь в источнике изменился")
+    void refresh_ShouldPublishNewVersion_WhenSourceChanged() {
+        List<LocalDate> listHolidaysUnchanged = List.of(LocalDate.of(2025, 1, 1));
+        holidaysSource.set(Map.of(2025, listHolidaysUnchanged, 2026, List.of(LocalDate.of(2026, 1, 1))));
+        cachingHolidayCalendar = createCalendar(new HolidayProperties());
+        HolidayCalendarSnapshot snapshotInitial = cachingHolidayCalendar.getSnapshot();
+
+        cachingHolidayCalendar.refresh();
+
+        assertSame(snapshotInitial, cachingHolidayCalendar.getSnapshot());
+
+        holidaysSource.set(Map.of(
+                2025, listHolidaysUnchanged,
+                2026, List.of(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 9))
+        ));
+        cachingHolidayCalendar.refresh();
+        HolidayCalendarSnapshot snapshotActual = cachingHolidayCalendar.getSnapshot();
+
+        assertEquals(snapshotInitial.getVersion() + 1, snapshotActual.getVersion());
+        assertTrue(snapshotActual.getHolidayIndex(2026).isHoliday(LocalDate.of(2026, 1, 9).toEpochDay()));
+        assertSame(snapshotInitial.getHolidayIndex(2025), snapshotActual.getHolidayIndex(2025));
+    }
+
+    private CachingHolidayCalendar createCalendar(HolidayProperties holidayProperties) {
+        HolidayCalendarSource holidayCalendarSource = () -> {
+            Map<Integer, List<LocalDate>> holidaysByYear = holidaysSource.get();
+            if (holidaysByYear == null) {
+                throw new IOException("Source is unavailable");
+            }
+            return holidaysByYear;
+        };
+        CachingHolidayCalendar calendar = new CachingHolidayCalendar(
+                holidayCalendarSource,
+                holidayProperties,
+                new HolidayRuleGenerator(holidayProperties)
+        );
+        calendar.start();
+        return calendar;
+    }
+}
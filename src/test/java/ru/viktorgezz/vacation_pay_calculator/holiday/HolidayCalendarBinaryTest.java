@@ -0,0 +1,115 @@
+package ru.viktorgezz.vacation_pay_calculator.holiday;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HolidayCalendarBinaryTest {
+
+    @Test
+    @DisplayName("Должен восстановить индексы лет из скомпилированного календаря")
+    void readYear_ShouldRestoreIndex_WhenCalendarEncoded() {
+        List<LocalDate> listHolidays2024 = List.of(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+        List<LocalDate> listHolidays2026 = List.of(LocalDate.of(2026, 3, 8), LocalDate.of(2026, 11, 4));
+        Map<Integer, List<LocalDate>> mapHolidaysByYear = new TreeMap<>(Map.of(
+                2024, listHolidays2024,
+                2026, listHolidays2026
+        ));
+        long checksumExpected = 42L;
+
+        HolidayCalendarBinary binaryActual = HolidayCalendarBinary.wrap(
+                ByteBuffer.wrap(HolidayCalendarBinary.encode(checksumExpected, mapHolidaysByYear))
+        );
+
+        assertEquals(checksumExpected, binaryActual.getChecksum());
+        assertEquals(Set.of(2024, 2026), binaryActual.getYears());
+        assertEquals(yearIndex(2024, listHolidays2024), binaryActual.readYear(2024));
+        assertEquals(yearIndex(2026, listHolidays2026), binaryActual.readYear(2026));
+        assertEquals(2, binaryActual.readYear(2024).countBetween(
+                LocalDate.of(2024, 1, 1).toEpochDay(),
+                LocalDate.of(2024, 12, 31).toEpochDay()
+        ));
+    }
+
+    @Test
+    @DisplayName("Должен считать праздники по буферу так же, как индекс в куче")
+    void viewYear_ShouldMatchHeapIndex_WhenReadingBufferDirectly() {
+        List<LocalDate> listHolidays = List.of(
+                LocalDate.of(2028, 1, 1),
+                LocalDate.of(2028, 2, 29),
+                LocalDate.of(2028, 3, 5),
+                LocalDate.of(2028, 12, 31)
+        );
+        HolidayCalendarBinary binaryActual = HolidayCalendarBinary.wrap(
+                ByteBuffer.wrap(HolidayCalendarBinary.encode(0, Map.of(2028, listHolidays)))
+        );
+        HolidayIndex indexExpected = binaryActual.readYear(2028);
+        HolidayIndex indexActual = binaryActual.viewYear(2028);
+        long epochDayFirst = LocalDate.of(2027, 12, 30).toEpochDay();
+        long epochDayLast = LocalDate.of(2029, 1, 2).toEpochDay();
+
+        assertEquals(indexExpected.count(), indexActual.count());
+        for (long from = epochDayFirst; from <= epochDayLast; from += 7) {
+            assertEquals(indexExpected.isHoliday(from), indexActual.isHoliday(from));
+            for (long to = from; to <= epochDayLast; to += 5) {
+                assertEquals(indexExpected.countBetween(from, to), indexActual.countBetween(from, to));
+            }
+        }
+        assertSame(indexActual, indexActual.plus(List.of(LocalDate.of(2028, 3, 5))));
+        assertEquals(
+                yearIndex(2028, listHolidays).plus(List.of(LocalDate.of(2028, 6, 12))),
+                indexActual.plus(List.of(LocalDate.of(2028, 6, 12)))
+        );
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение когда сохраненное количество праздников не совпадает с битовой картой")
+    void wrap_ShouldThrowException_WhenStoredCountCorrupt() {
+        byte[] bytesCorrupt = HolidayCalendarBinary.encode(0, Map.of(2026, List.of(LocalDate.of(2026, 1, 1))));
+        ByteBuffer.wrap(bytesCorrupt).putInt(
+                HolidayCalendarBinary.HEADER_SIZE + HolidayCalendarBinary.OFFSET_COUNT, 7);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> HolidayCalendarBinary.wrap(ByteBuffer.wrap(bytesCorrupt)));
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение когда сохраненная накопленная сумма не совпадает с битовой картой")
+    void wrap_ShouldThrowException_WhenStoredRankCorrupt() {
+        byte[] bytesCorrupt = HolidayCalendarBinary.encode(0, Map.of(2026, List.of(LocalDate.of(2026, 1, 1))));
+        ByteBuffer.wrap(bytesCorrupt).putInt(
+                HolidayCalendarBinary.HEADER_SIZE + HolidayCalendarBinary.OFFSET_RANKS + Integer.BYTES, 5);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> HolidayCalendarBinary.wrap(ByteBuffer.wrap(bytesCorrupt)));
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение когда формат файла не поддерживается")
+    void wrap_ShouldThrowException_WhenMagicMismatch() {
+        ByteBuffer bufferActual = ByteBuffer.allocate(HolidayCalendarBinary.HEADER_SIZE);
+
+        assertThrows(IllegalArgumentException.class, () -> HolidayCalendarBinary.wrap(bufferActual));
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение при кодировании когда дата относится к другому году")
+    void encode_ShouldThrowException_WhenDateOfAnotherYear() {
+        Map<Integer, List<LocalDate>> mapHolidaysByYear = Map.of(2026, List.of(LocalDate.of(2027, 1, 1)));
+
+        assertThrows(IllegalArgumentException.class, () -> HolidayCalendarBinary.encode(0, mapHolidaysByYear));
+    }
+
+    private static HolidayIndex yearIndex(int year, List<LocalDate> holidays) {
+        return HolidayIndex.of(LocalDate.of(year, 1, 1).toEpochDay(), Year.of(year).length(), holidays);
+    }
+}
@@ -0,0 +1,49 @@
+package ru.viktorgezz.vacation_pay_calculator.holiday;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HolidayCalendarCompilerTest {
+
+    @TempDir
+    Path directoryCalendar;
+
+    @Test
+    @DisplayName("Должен скомпилировать календарь из файлов каталога")
+    void compile_ShouldWriteCompiledCalendar_WhenFilesValid() throws IOException {
+        Files.writeString(directoryCalendar.resolve("holidays_2026.json"), "[\"2026-01-01\", \"2026-11-04\"]");
+
+        Path fileCompiled = HolidayCalendarCompiler.compile(directoryCalendar);
+        HolidayIndex indexActual = HolidayCalendarBinary.wrap(ByteBuffer.wrap(Files.readAllBytes(fileCompiled)))
+                .readYear(2026);
+
+        assertEquals(2, indexActual.count());
+        assertTrue(indexActual.isHoliday(LocalDate.of(2026, 11, 4).toEpochDay()));
+    }
+
+    @Test
+    @DisplayName("Должен прервать компиляцию когда файл содержит дату другого года")
+    void compile_ShouldThrowException_WhenDateOfAnotherYear() throws IOException {
+        Files.writeString(directoryCalendar.resolve("holidays_2026.json"), "[\"2026-01-01\", \"2027-11-04\"]");
+
+        assertThrows(IllegalArgumentException.class, () -> HolidayCalendarCompiler.compile(directoryCalendar));
+        assertFalse(Files.exists(directoryCalendar.resolve(JsonHolidayCalendar.COMPILED_FILE_NAME)));
+    }
+
+    @Test
+    @DisplayName("Должен прервать компиляцию когда файл содержит несуществующую дату")
+    void compile_ShouldThrowException_WhenDateInvalid() throws IOException {
+        Files.writeString(directoryCalendar.resolve("holidays_2026.json"), "[\"2026-02-30\"]");
+
+        assertThrows(IllegalArgumentException.class, () -> HolidayCalendarCompiler.compile(directoryCalendar));
+    }
+}
@@ -0,0 +1,95 @@
+package ru.viktorgezz.vacation_pay_calculator.holiday;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.viktorgezz.vacation_pay_calculator.exception.BusinessException;
+import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
+
+import java.time.Instant;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HolidayCalendarHistoryTest {
+
+    private static final Instant PUBLISHED_AT = Instant.parse("2026-01-15T12:00:00Z");
+
+    @Test
+    @DisplayName("Должен вернуть версию, действовавшую в указанный момент")
+    void asOf_ShouldReturnVersionPublishedBefore_WhenInstantBetweenVersions() {
+        HolidayCalendarSnapshot snapshotFirst = snapshotOf(1);
+        Instant instantBetween = PUBLISHED_AT.plusSeconds(1);
+        HolidayCalendarSnapshot snapshotSecond = snapshotOf(2);
+
+        HolidayCalendarHistory historyActual = HolidayCalendarHistory.empty(10)
+                .append(snapshotFirst)
+                .append(snapshotSecond);
+
+        assertSame(snapshotFirst, historyActual.asOf(instantBetween));
+        assertSame(snapshotSecond, historyActual.asOf(PUBLISHED_AT.plusSeconds(2)));
+        assertSame(snapshotSecond, historyActual.asOf(null));
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение когда момент раньше самой ранней сохраненной версии")
+    void asOf_ShouldThrowBusinessException_WhenInstantBeforeEarliestVersion() {
+        HolidayCalendarHistory historyActual = HolidayCalendarHistory.empty(10).append(snapshotOf(1));
+
+        BusinessException exceptionActual = assertThrows(BusinessException.class,
+                () -> historyActual.asOf(Instant.EPOCH));
+
+        assertEquals(ErrorCode.HOLIDAY_CALENDAR_VERSION_UNAVAILABLE, exceptionActual.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("Должен вытеснить самые ранние версии когда история заполнена")
+    void append_ShouldEvictEarliestVersions_WhenHistoryFull() {
+        HolidayCalendarSnapshot snapshotFourth = snapshotOf(4);
+        HolidayCalendarHistory historyActual = HolidayCalendarHistory.empty(2)
+                .append(snapshotOf(1))
+                .append(snapshotOf(2))
+                .append(snapshotOf(3))
+                .append(snapshotFourth)
+                .append(snapshotOf(5));
+
+        assertEquals(2, historyActual.size());
+        assertEquals(5, historyActual.latest().getVersion());
+        assertEquals(4, historyActual.asOf(snapshotFourth.getPublishedAt()).getVersion());
+    }
+
+    @Test
+    @DisplayName("Не должен изменять прежнюю историю при добавлении версии")
+    void append_ShouldKeepPreviousHistory_WhenVersionAdded() {
+        HolidayCalendarHistory historyExpected = HolidayCalendarHistory.empty(10).append(snapshotOf(1));
+
+        HolidayCalendarHistory historyActual = historyExpected.append(snapshotOf(2));
+
+        assertEquals(1, historyExpected.size());
+        assertEquals(1, historyExpected.latest().getVersion());
+        assertEquals(2, historyActual.size());
+        assertEquals(2, historyActual.latest().getVersion());
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение когда версия опубликована раньше последней")
+    void append_ShouldThrowException_WhenVersionPublishedBeforeLatest() {
+        HolidayCalendarHistory historyActual = HolidayCalendarHistory.empty(10).append(snapshotOf(2));
+
+        assertThrows(IllegalArgumentException.class, () -> historyActual.append(snapshotOf(1)));
+    }
+
+    @Test
+    @DisplayName("Должен сдвинуть время публикации к последней версии когда время источника отстает")
+    void nextPublishedAt_ShouldReturnLatestPublishedAt_WhenSourceTimeEarlier() {
+        HolidayCalendarHistory historyActual = HolidayCalendarHistory.empty(10).append(snapshotOf(2));
+        Instant publishedAtLatest = PUBLISHED_AT.plusSeconds(2);
+
+        assertEquals(publishedAtLatest, historyActual.nextPublishedAt(PUBLISHED_AT));
+        assertEquals(PUBLISHED_AT.plusSeconds(3), historyActual.nextPublishedAt(PUBLISHED_AT.plusSeconds(3)));
+    }
+
+    private static HolidayCalendarSnapshot snapshotOf(long version) {
+        return new HolidayCalendarSnapshot(version, version, PUBLISHED_AT.plusSeconds(version), Set.of(),
+                year -> HolidayIndex.empty());
+    }
+}
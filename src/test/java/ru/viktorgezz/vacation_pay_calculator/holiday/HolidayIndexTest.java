@@ -0,0 +1,91 @@
+package ru.viktorgezz.vacation_pay_calculator.holiday;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HolidayIndexTest {
+
+    @Test
+    @DisplayName("Должен определить праздничные и рабочие дни")
+    void isHoliday_ShouldReturnTrueOnlyForHolidays_WhenIndexBuilt() {
+        LocalDate dateHoliday = LocalDate.of(2026, 1, 7);
+        LocalDate dateRegular = LocalDate.of(2026, 1, 9);
+
+        HolidayIndex indexActual = HolidayIndex.of(Arrays.asList(
+                LocalDate.of(2026, 1, 1),
+                dateHoliday,
+                LocalDate.of(2026, 11, 4)
+        ));
+
+        assertTrue(indexActual.isHoliday(dateHoliday.toEpochDay()));
+        assertFalse(indexActual.isHoliday(dateRegular.toEpochDay()));
+        assertFalse(indexActual.isHoliday(LocalDate.of(2025, 12, 31).toEpochDay()));
+        assertFalse(indexActual.isHoliday(LocalDate.of(2027, 1, 1).toEpochDay()));
+    }
+
+    @Test
+    @DisplayName("Должен подсчитать праздники в диапазоне, выходящем за границы индекса")
+    void countBetween_ShouldCountHolidays_WhenRangeExceedsIndexBounds() {
+        HolidayIndex indexActual = HolidayIndex.of(Arrays.asList(
+                LocalDate.of(2026, 1, 1),
+                LocalDate.of(2026, 1, 2),
+                LocalDate.of(2026, 11, 4)
+        ));
+        int countExpected = 3;
+
+        int resultActual = indexActual.countBetween(
+                LocalDate.of(2020, 1, 1).toEpochDay(),
+                LocalDate.of(2030, 1, 1).toEpochDay()
+        );
+
+        assertEquals(countExpected, resultActual);
+        assertEquals(countExpected, indexActual.count());
+    }
+
+    @Test
+    @DisplayName("Должен вернуть ноль когда диапазон пуст или индекс пуст")
+    void countBetween_ShouldReturnZero_WhenRangeOrIndexEmpty() {
+        HolidayIndex indexActual = HolidayIndex.of(List.of(LocalDate.of(2026, 1, 1)));
+        long epochDay = LocalDate.of(2026, 1, 1).toEpochDay();
+
+        assertEquals(0, indexActual.countBetween(epochDay + 1, epochDay));
+        assertEquals(0, HolidayIndex.empty().countBetween(epochDay, epochDay + 365));
+        assertFalse(HolidayIndex.empty().isHoliday(epochDay));
+    }
+
+    @Test
+    @DisplayName("Должен совпадать с подсчетом по множеству дат для произвольных диапазонов")
+    void countBetween_ShouldMatchSetBasedCount_WhenRandomRangesQueried() {
+        Random random = new Random(42);
+        long firstEpochDay = LocalDate.of(2026, 1, 1).toEpochDay();
+        int length = 365;
+        Set<LocalDate> setHolidays = new HashSet<>();
+        for (int i = 0; i < 60; i++) {
+            setHolidays.add(LocalDate.ofEpochDay(firstEpochDay + random.nextInt(length)));
+        }
+        HolidayIndex indexActual = HolidayIndex.of(firstEpochDay, length, setHolidays);
+
+        for (int i = 0; i < 1_000; i++) {
+            long fromEpochDay = firstEpochDay - 10 + random.nextInt(length + 20);
+            long toEpochDay = fromEpochDay + random.nextInt(200);
+
+            int countExpected = 0;
+            for (long day = fromEpochDay; day <= toEpochDay; day++) {
+                if (setHolidays.contains(LocalDate.ofEpochDay(day))) {
+                    countExpected++;
+                }
+            }
+
+            assertEquals(countExpected, indexActual.countBetween(fromEpochDay, toEpochDay));
+        }
+    }
+}
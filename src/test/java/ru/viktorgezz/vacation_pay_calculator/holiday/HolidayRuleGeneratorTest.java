@@ -0,0 +1,87 @@
+package ru.viktorgezz.vacation_pay_calculator.holiday;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.viktorgezz.vacation_pay_calculator.exception.BusinessException;
+import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HolidayRuleGeneratorTest {
+
+    @Test
+    @DisplayName("Должен построить праздники года по датам и диапазонам")
+    void generate_ShouldBuildYearFromRules_WhenDatesAndRangesConfigured() {
+        HolidayRuleGenerator holidayRuleGenerator = createGenerator(
+                List.of("01-01..01-08", "02-23", "03-08", "05-01", "05-09", "06-12", "11-04"));
+        int countHolidaysExpected = 14;
+
+        HolidayIndex indexActual = holidayRuleGenerator.generate(2030);
+
+        assertEquals(countHolidaysExpected, indexActual.count());
+        assertTrue(indexActual.isHoliday(LocalDate.of(2030, 1, 8).toEpochDay()));
+        assertTrue(indexActual.isHoliday(LocalDate.of(2030, 11, 4).toEpochDay()));
+        assertFalse(indexActual.isHoliday(LocalDate.of(2030, 1, 9).toEpochDay()));
+    }
+
+    @Test
+    @DisplayName("Должен пропустить 29 февраля в невисокосном году")
+    void generate_ShouldSkipLeapDay_WhenYearIsNotLeap() {
+        HolidayRuleGenerator holidayRuleGenerator = createGenerator(List.of("02-28..03-01"));
+
+        assertEquals(3, holidayRuleGenerator.generate(2028).count());
+        assertEquals(2, holidayRuleGenerator.generate(2029).count());
+    }
+
+    @Test
+    @DisplayName("Должен вернуть закэшированный индекс при повторном обращении к году")
+    void generate_ShouldReturnCachedIndex_WhenYearRequestedAgain() {
+        HolidayRuleGenerator holidayRuleGenerator = createGenerator(List.of("01-01"));
+
+        HolidayIndex indexFirst = holidayRuleGenerator.generate(2030);
+        HolidayIndex indexSecond = holidayRuleGenerator.generate(2030);
+
+        assertSame(indexFirst, indexSecond);
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение для года вне окна генерации")
+    void generate_ShouldThrowException_WhenYearOutsideWindow() {
+        HolidayRuleGenerator holidayRuleGenerator = createGenerator(List.of("01-01"), 2030, 2031);
+
+        BusinessException exceptionActual = assertThrows(BusinessException.class,
+                () -> holidayRuleGenerator.generate(2032));
+
+        assertEquals(ErrorCode.HOLIDAY_CALENDAR_UNAVAILABLE, exceptionActual.getErrorCode());
+        assertThrows(BusinessException.class, () -> holidayRuleGenerator.generate(2029));
+        assertEquals(1, holidayRuleGenerator.generate(2031).count());
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение когда окно генерации перевернуто")
+    void constructor_ShouldThrowException_WhenWindowReversed() {
+        assertThrows(IllegalStateException.class, () -> createGenerator(List.of("01-01"), 2031, 2030));
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение когда диапазон правила перевернут")
+    void constructor_ShouldThrowException_WhenRuleRangeReversed() {
+        assertThrows(IllegalArgumentException.class,
+                () -> createGenerator(List.of("01-08..01-01")));
+    }
+
+    private static HolidayRuleGenerator createGenerator(List<String> rules) {
+        return createGenerator(rules, 1900, 2199);
+    }
+
+    private static HolidayRuleGenerator createGenerator(List<String> rules, int firstYear, int lastYear) {
+        HolidayProperties holidayProperties = new HolidayProperties();
+        holidayProperties.setRules(rules);
+        holidayProperties.setGeneratedFirstYear(firstYear);
+        holidayProperties.setGeneratedLastYear(lastYear);
+        return new HolidayRuleGenerator(holidayProperties);
+    }
+}
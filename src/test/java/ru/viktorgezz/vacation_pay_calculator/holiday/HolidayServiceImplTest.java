@@ -5,19 +5,31 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import ru.viktorgezz.vacation_pay_calculator.exception.BusinessException;
+import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.Year;
 import java.util.*;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class HolidayServiceImplTest {
 
     @Mock
-    private JsonHolidayCalendar holidayCalendarMock;
+    private HolidayCalendarProvider holidayCalendarMock;
+
+    @Spy
+    private RegionalHolidayCalendars regionalHolidayCalendars = new RegionalHolidayCalendars(regionalProperties());
 
     @InjectMocks
     private HolidayServiceImpl holidayService;
@@ -39,7 +51,7 @@ class HolidayServiceImplTest {
         );
         int countExpected = 2;
 
-        when(holidayCalendarMock.getHolidays()).thenReturn(setHolidaysExpected);
+        when(holidayCalendarMock.getSnapshot()).thenReturn(snapshotOf(HolidayIndex.of(setHolidaysExpected)));
 
         int resultActual = holidayService.countHolidaysIn(collectionDatesActual);
 
@@ -64,7 +76,7 @@ class HolidayServiceImplTest {
         );
         int countExpected = 0;
 
-        when(holidayCalendarMock.getHolidays()).thenReturn(setHolidaysExpected);
+        when(holidayCalendarMock.getSnapshot()).thenReturn(snapshotOf(HolidayIndex.of(setHolidaysExpected)));
 
         int resultActual = holidayService.countHolidaysIn(collectionDatesActual);
 
@@ -111,7 +123,7 @@ class HolidayServiceImplTest {
         );
         int countExpected = 3;
 
-        when(holidayCalendarMock.getHolidays()).thenReturn(setHolidaysExpected);
+        when(holidayCalendarMock.getSnapshot()).thenReturn(snapshotOf(HolidayIndex.of(setHolidaysExpected)));
 
         int resultActual = holidayService.countHolidaysIn(collectionDatesActual);
 
@@ -131,10 +143,298 @@ class HolidayServiceImplTest {
         );
         int countExpected = 0;
 
-        when(holidayCalendarMock.getHolidays()).thenReturn(setHolidaysExpected);
+        when(holidayCalendarMock.getSnapshot()).thenReturn(snapshotOf(HolidayIndex.of(setHolidaysExpected)));
 
         int resultActual = holidayService.countHolidaysIn(collectionDatesActual);
 
         assertEquals(countExpected, resultActual);
     }
+
+    @Test
+    @DisplayName("Должен вернуть количество праздничных дней в периоде без перебора дат")
+    void countHolidaysBetween_ShouldReturnHolidaysCount_WhenPeriodContainsHolidays() {
+        Set<LocalDate> setHolidaysExpected = new HashSet<>(Arrays.asList(
+                LocalDate.of(2026, 1, 1),
+                LocalDate.of(2026, 1, 7),
+                LocalDate.of(2026, 2, 23)
+        ));
+        LocalDate dateStartActual = LocalDate.of(2026, 1, 5);
+        LocalDate dateEndActual = LocalDate.of(2026, 2, 23);
+        int countExpected = 2;
+
+        when(holidayCalendarMock.getSnapshot(null)).thenReturn(snapshotOf(HolidayIndex.of(setHolidaysExpected)));
+
+        int resultActual = holidayService.countHolidaysBetween(dateStartActual, dateEndActual);
+
+        assertEquals(countExpected, resultActual);
+    }
+
+    @Test
+    @DisplayName("Должен вернуть ноль когда период не пересекается с календарем праздников")
+    void countHolidaysBetween_ShouldReturnZero_WhenPeriodOutsideCalendar() {
+        Set<LocalDate> setHolidaysExpected = new HashSet<>(Arrays.asList(
+                LocalDate.of(2026, 1, 1),
+                LocalDate.of(2026, 1, 7)
+        ));
+        int countExpected = 0;
+
+        when(holidayCalendarMock.getSnapshot(null)).thenReturn(snapshotOf(HolidayIndex.of(setHolidaysExpected)));
+
+        int resultActual = holidayService.countHolidaysBetween(
+                LocalDate.of(2027, 3, 1),
+                LocalDate.of(2027, 3, 31)
+        );
+
+        assertEquals(countExpected, resultActual);
+    }
+
+    @Test
+    @DisplayName("Должен сложить праздничные дни всех лет, которые затрагивает период")
+    void countHolidaysBetween_ShouldStitchYears_WhenPeriodSpansSeveralYears() {
+        HolidayIndex indexFirstYear = HolidayIndex.of(List.of(LocalDate.of(2026, 12, 31)));
+        HolidayIndex indexSecondYear = HolidayIndex.of(Arrays.asList(
+                LocalDate.of(2027, 1, 1),
+                LocalDate.of(2027, 1, 2)
+        ));
+        int countExpected = 3;
+
+        when(holidayCalendarMock.getSnapshot(null)).thenReturn(snapshotOf(Map.of(
+                2026, indexFirstYear,
+                2027, indexSecondYear
+        )));
+
+        int resultActual = holidayService.countHolidaysBetween(
+                LocalDate.of(2026, 12, 20),
+                LocalDate.of(2027, 1, 10)
+        );
+
+        assertEquals(countExpected, resultActual);
+    }
+
+    @Test
+    @DisplayName("Должен подсчитать праздничные дни каждого периода по одному снимку календаря")
+    void countHolidaysBetween_ShouldCountEachPeriod_WhenSeveralPeriodsProvided() {
+        HolidayIndex indexFirstYear = HolidayIndex.of(List.of(LocalDate.of(2026, 12, 31), LocalDate.of(2026, 5, 9)));
+        HolidayIndex indexSecondYear = HolidayIndex.of(List.of(LocalDate.of(2027, 1, 1)));
+        LocalDate[] dateStarts = {LocalDate.of(2026, 12, 20), LocalDate.of(2026, 5, 1), LocalDate.of(2026, 6, 1)};
+        LocalDate[] dateEnds = {LocalDate.of(2027, 1, 10), LocalDate.of(2026, 5, 10), LocalDate.of(2026, 6, 30)};
+        int[] countsExpected = {2, 1, 0};
+
+        when(holidayCalendarMock.getSnapshot(null)).thenReturn(snapshotOf(Map.of(
+                2026, indexFirstYear,
+                2027, indexSecondYear
+        )));
+
+        int[] resultActual = holidayService.countHolidaysBetween(null, dateStarts, dateEnds, null);
+
+        assertArrayEquals(countsExpected, resultActual);
+        verify(holidayCalendarMock, times(1)).getSnapshot(null);
+    }
+
+    @Test
+    @DisplayName("Должен подсчитать праздничные дни периодов, заданных днями эпохи, так же как периодов из дат")
+    void countHolidaysBetween_ShouldMatchDatePeriods_WhenPeriodsGivenInEpochDays() {
+        HolidayIndex indexFirstYear = HolidayIndex.of(List.of(LocalDate.of(2026, 12, 31), LocalDate.of(2026, 5, 9)));
+        HolidayIndex indexSecondYear = HolidayIndex.of(List.of(LocalDate.of(2027, 1, 1)));
+        LocalDate[] dateStarts = {
+                LocalDate.of(2026, 12, 20), LocalDate.of(2027, 1, 1), LocalDate.of(2026, 5, 1), LocalDate.of(2026, 6, 1)
+        };
+        LocalDate[] dateEnds = {
+                LocalDate.of(2027, 1, 10), LocalDate.of(2027, 1, 1), LocalDate.of(2026, 5, 10), LocalDate.of(2026, 6, 30)
+        };
+        long[] fromEpochDays = Arrays.stream(dateStarts).mapToLong(LocalDate::toEpochDay).toArray();
+        long[] toEpochDays = Arrays.stream(dateEnds).mapToLong(LocalDate::toEpochDay).toArray();
+        int[] countsExpected = {2, 1, 1, 0};
+
+        when(holidayCalendarMock.getSnapshot(null)).thenReturn(snapshotOf(Map.of(
+                2026, indexFirstYear,
+                2027, indexSecondYear
+        )));
+
+        int[] resultActual = holidayService.countHolidaysBetween(null, fromEpochDays, toEpochDays, null);
+
+        assertArrayEquals(countsExpected, resultActual);
+        assertArrayEquals(resultActual, holidayService.countHolidaysBetween(null, dateStarts, dateEnds, null));
+    }
+
+    @Test
+    @DisplayName("Должен вернуть версию опубликованного снимка календаря")
+    void getCalendarVersion_ShouldReturnSnapshotVersion_WhenSnapshotPublished() {
+        long versionExpected = 7;
+
+        when(holidayCalendarMock.getSnapshot()).thenReturn(
+                new HolidayCalendarSnapshot(versionExpected, 0, Instant.EPOCH, Set.of(), year -> HolidayIndex.empty())
+        );
+
+        long resultActual = holidayService.getCalendarVersion();
+
+        assertEquals(versionExpected, resultActual);
+    }
+
+    @Test
+    @DisplayName("Должен вернуть версию снимка календаря, действовавшего в указанный момент")
+    void getCalendarVersion_ShouldReturnSnapshotVersionAsOf_WhenInstantProvided() {
+        long versionExpected = 3;
+        Instant asOf = Instant.parse("2026-01-01T00:00:00Z");
+
+        when(holidayCalendarMock.getSnapshot(asOf)).thenReturn(
+                new HolidayCalendarSnapshot(versionExpected, 0, Instant.EPOCH, Set.of(), year -> HolidayIndex.empty())
+        );
+
+        long resultActual = holidayService.getCalendarVersion(asOf);
+
+        assertEquals(versionExpected, resultActual);
+    }
+
+    @Test
+    @DisplayName("Должен добавить региональные праздники к федеральным когда указан региональный календарь")
+    void countHolidaysBetween_ShouldAddRegionalHolidays_WhenRegionalCalendarSpecified() {
+        Set<LocalDate> setHolidaysExpected = new HashSet<>(Arrays.asList(
+                LocalDate.of(2026, 1, 1),
+                LocalDate.of(2026, 11, 4)
+        ));
+        LocalDate dateStartActual = LocalDate.of(2026, 8, 1);
+        LocalDate dateEndActual = LocalDate.of(2026, 11, 30);
+        int countFederalExpected = 1;
+        int countRegionalExpected = 3;
+
+        when(holidayCalendarMock.getSnapshot(null)).thenReturn(snapshotOf(HolidayIndex.of(
+                LocalDate.of(2026, 1, 1).toEpochDay(),
+                Year.of(2026).length(),
+                setHolidaysExpected
+        )));
+
+        assertEquals(countFederalExpected, holidayService.countHolidaysBetween(dateStartActual, dateEndActual));
+        assertEquals(countRegionalExpected,
+                holidayService.countHolidaysBetween("ru-ta", dateStartActual, dateEndActual));
+    }
+
+    @Test
+    @DisplayName("Должен считать праздники по версии календаря, действовавшей в указанный момент")
+    void countHolidaysBetween_ShouldUseHistoricalVersion_WhenAsOfSpecified() {
+        Instant asOfActual = Instant.parse("2026-03-01T00:00:00Z");
+        LocalDate dateStartActual = LocalDate.of(2026, 1, 1);
+        LocalDate dateEndActual = LocalDate.of(2026, 1, 31);
+        int countExpected = 1;
+
+        when(holidayCalendarMock.getSnapshot(asOfActual)).thenReturn(snapshotOf(HolidayIndex.of(
+                Set.of(LocalDate.of(2026, 1, 1))
+        )));
+
+        int resultActual = holidayService.countHolidaysBetween(null, dateStartActual, dateEndActual, asOfActual);
+
+        assertEquals(countExpected, resultActual);
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение когда календарь не настроен")
+    void countHolidaysBetween_ShouldThrowBusinessException_WhenCalendarUnknown() {
+        BusinessException exceptionActual = assertThrows(BusinessException.class,
+                () -> holidayService.countHolidaysBetween(
+                        "RU-XX",
+                        LocalDate.of(2026, 1, 1),
+                        LocalDate.of(2026, 1, 10)
+                ));
+
+        assertEquals(ErrorCode.UNKNOWN_HOLIDAY_CALENDAR, exceptionActual.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("Должен найти дату окончания так же, как подневный перебор, для периодов на стыке лет")
+    void findDateEnd_ShouldMatchDayByDayWalk_WhenPeriodSpansYears() {
+        Map<Integer, HolidayIndex> indexesByYear = new HashMap<>();
+        for (int year = 2026; year <= 2032; year++) {
+            indexesByYear.put(year, yearIndexOf(year, "01-01..01-08", "02-23", "03-08", "05-01", "05-09", "12-31"));
+        }
+
+        when(holidayCalendarMock.getSnapshot(null)).thenReturn(snapshotOf(indexesByYear));
+
+        for (LocalDate dateStart = LocalDate.of(2026, 12, 20);
+             dateStart.isBefore(LocalDate.of(2027, 1, 10));
+             dateStart = dateStart.plusDays(1)) {
+            for (int payableDays : new int[]{1, 2, 7, 14, 28, 60, 400, 2000}) {
+                LocalDate dateEndExpected = walkDateEnd(indexesByYear, dateStart, payableDays);
+
+                LocalDate dateEndActual = holidayService.findDateEnd(null, dateStart, payableDays, null);
+
+                assertEquals(dateEndExpected, dateEndActual, dateStart + " + " + payableDays);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Должен учесть региональные праздники при поиске даты окончания")
+    void findDateEnd_ShouldSkipRegionalHolidays_WhenRegionalCalendarSpecified() {
+        LocalDate dateStartActual = LocalDate.of(2026, 8, 29);
+        LocalDate dateEndFederalExpected = LocalDate.of(2026, 8, 30);
+        LocalDate dateEndRegionalExpected = LocalDate.of(2026, 8, 31);
+
+        when(holidayCalendarMock.getSnapshot(null)).thenReturn(snapshotOf(yearIndexOf(2026, "01-01")));
+
+        assertEquals(dateEndFederalExpected, holidayService.findDateEnd(null, dateStartActual, 2, null));
+        assertEquals(dateEndRegionalExpected, holidayService.findDateEnd("RU-TA", dateStartActual, 2, null));
+    }
+
+    @Test
+    @DisplayName("Должен вернуть признаки праздников по дням периода на стыке лет с учетом региона")
+    void getHolidayFlags_ShouldMarkHolidays_WhenPeriodSpansYears() {
+        LocalDate dateStartActual = LocalDate.of(2026, 8, 29);
+        LocalDate dateEndActual = LocalDate.of(2027, 1, 2);
+        Map<Integer, HolidayIndex> indexesByYear = Map.of(
+                2026, yearIndexOf(2026, "11-04"),
+                2027, yearIndexOf(2027, "01-01")
+        );
+
+        when(holidayCalendarMock.getSnapshot(null)).thenReturn(snapshotOf(indexesByYear));
+
+        boolean[] resultActual = holidayService.getHolidayFlags("RU-TA", dateStartActual, dateEndActual, null);
+
+        assertEquals(dateEndActual.toEpochDay() - dateStartActual.toEpochDay() + 1, resultActual.length);
+        for (int offset = 0; offset < resultActual.length; offset++) {
+            LocalDate date = dateStartActual.plusDays(offset);
+            boolean isHolidayExpected = date.equals(LocalDate.of(2026, 8, 30))
+                    || date.equals(LocalDate.of(2026, 11, 4))
+                    || date.equals(LocalDate.of(2026, 11, 6))
+                    || date.equals(LocalDate.of(2027, 1, 1));
+            assertEquals(isHolidayExpected, resultActual[offset], date.toString());
+        }
+    }
+
+    private static HolidayProperties regionalProperties() {
+        HolidayProperties holidayProperties = new HolidayProperties();
+        holidayProperties.setRegions(Map.of("RU-TA", List.of("08-30", "11-06")));
+        return holidayProperties;
+    }
+
+    private static HolidayIndex yearIndexOf(int year, String... rules) {
+        return HolidayIndex.of(
+                LocalDate.of(year, 1, 1).toEpochDay(),
+                Year.of(year).length(),
+                HolidayRules.parse(Arrays.asList(rules)).datesIn(year)
+        );
+    }
+
+    private static LocalDate walkDateEnd(Map<Integer, HolidayIndex> indexesByYear, LocalDate dateStart, int payableDays) {
+        LocalDate date = dateStart.minusDays(1);
+        int countPayable = 0;
+        while (countPayable < payableDays) {
+            date = date.plusDays(1);
+            HolidayIndex holidayIndex = indexesByYear.getOrDefault(date.getYear(), HolidayIndex.empty());
+            if (!holidayIndex.isHoliday(date.toEpochDay())) {
+                countPayable++;
+            }
+        }
+        return date;
+    }
+
+    private static HolidayCalendarSnapshot snapshotOf(HolidayIndex holidayIndex) {
+        return snapshotOf(Map.of(
+                2026, holidayIndex,
+                2027, holidayIndex
+        ));
+    }
+
+    private static HolidayCalendarSnapshot snapshotOf(Map<Integer, HolidayIndex> indexesByYear) {
+        return new HolidayCalendarSnapshot(1, 0, Instant.EPOCH, indexesByYear.keySet(), indexesByYear::get);
+    }
 }
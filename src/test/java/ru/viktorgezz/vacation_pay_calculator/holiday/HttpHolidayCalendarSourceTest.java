@@ -0,0 +1,71 @@
+package ru.viktorgezz.vacation_pay_calculator.holiday;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpHolidayCalendarSourceTest {
+
+    private HttpServer httpServer;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        httpServer.createContext("/holidays", exchange -> {
+            byte[] body = "[\"2025-01-01\", \"2026-01-01\", \"2026-11-04\"]".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        httpServer.createContext("/broken", exchange -> {
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+        });
+        httpServer.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        httpServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("Должен загрузить праздничные дни по HTTP по годам")
+    void load_ShouldGroupHolidaysByYear_WhenServerResponds() throws IOException {
+        Map<Integer, List<LocalDate>> mapHolidaysActual = createSource("/holidays").load();
+
+        assertEquals(List.of(LocalDate.of(2025, 1, 1)), mapHolidaysActual.get(2025));
+        assertEquals(List.of(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 11, 4)), mapHolidaysActual.get(2026));
+    }
+
+    @Test
+    @DisplayName("Должен выбросить IOException когда сервер отвечает ошибкой")
+    void load_ShouldThrowIOException_WhenServerFails() {
+        HttpHolidayCalendarSource sourceActual = createSource("/broken");
+
+        assertThrows(IOException.class, sourceActual::load);
+    }
+
+    private HttpHolidayCalendarSource createSource(String path) {
+        HolidayProperties holidayProperties = new HolidayProperties();
+        holidayProperties.getSource().getHttp().setUri(
+                URI.create("http://localhost:" + httpServer.getAddress().getPort() + path)
+        );
+        return new HttpHolidayCalendarSource(new ObjectMapper(), holidayProperties);
+    }
+}
@@ -0,0 +1,52 @@
+package ru.viktorgezz.vacation_pay_calculator.holiday;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JdbcHolidayCalendarSourceTest {
+
+    private static final String URL = "jdbc:h2:mem:holidays;DB_CLOSE_DELAY=-1";
+
+    @Test
+    @DisplayName("Должен загрузить праздничные дни из базы данных по годам")
+    void load_ShouldGroupHolidaysByYear_WhenTableContainsHolidays() throws IOException, SQLException {
+        try (Connection connection = DriverManager.getConnection(URL);
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE holidays (holiday_date DATE NOT NULL)");
+            statement.execute("INSERT INTO holidays VALUES ('2025-01-01'), ('2026-11-04'), ('2026-01-01')");
+
+            Map<Integer, List<LocalDate>> mapHolidaysActual = createSource(URL).load();
+
+            assertEquals(List.of(LocalDate.of(2025, 1, 1)), mapHolidaysActual.get(2025));
+            assertEquals(2, mapHolidaysActual.get(2026).size());
+            assertTrue(mapHolidaysActual.get(2026).contains(LocalDate.of(2026, 11, 4)));
+
+            statement.execute("DROP TABLE holidays");
+        }
+    }
+
+    @Test
+    @DisplayName("Должен выбросить IOException когда база данных недоступна")
+    void load_ShouldThrowIOException_WhenDatabaseUnavailable() {
+        JdbcHolidayCalendarSource sourceActual = createSource("jdbc:h2:mem:missing;IFEXISTS=TRUE");
+
+        assertThrows(IOException.class, sourceActual::load);
+    }
+
+    private static JdbcHolidayCalendarSource createSource(String url) {
+        HolidayProperties holidayProperties = new HolidayProperties();
+        holidayProperties.getSource().getJdbc().setUrl(url);
+        return new JdbcHolidayCalendarSource(holidayProperties);
+    }
+}
@@ -0,0 +1,320 @@
+package ru.viktorgezz.vacation_pay_calculator.holiday;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.io.DefaultResourceLoader;
+import ru.viktorgezz.vacation_pay_calculator.exception.BusinessException;
+import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonHolidayCalendarTest {
+
+    private static final Instant PUBLISHED_AT = Instant.parse("2026-01-15T12:00:00Z");
+
+    @TempDir
+    Path directoryCalendar;
+
+    @Test
+    @DisplayName("Должен загрузить календарь года из найденного файла")
+    void getSnapshot_ShouldLoadYear_WhenCalendarFileExists() throws IOException {
+        JsonHolidayCalendar jsonHolidayCalendar = createCalendar(new HolidayProperties());
+        int countHolidaysExpected = 14;
+
+        HolidayIndex indexActual = jsonHolidayCalendar.getSnapshot().getHolidayIndex(2026);
+
+        assertEquals(countHolidaysExpected, indexActual.count());
+        assertTrue(indexActual.isHoliday(LocalDate.of(2026, 11, 4).toEpochDay()));
+    }
+
+    @Test
+    @DisplayName("Должен загружать календари разных лет независимо")
+    void getSnapshot_ShouldLoadEachYearSeparately_WhenSeveralFilesExist() throws IOException {
+        JsonHolidayCalendar jsonHolidayCalendar = createCalendar(new HolidayProperties());
+
+        HolidayIndex indexFirstYear = jsonHolidayCalendar.getSnapshot().getHolidayIndex(2015);
+        HolidayIndex indexSecondYear = jsonHolidayCalendar.getSnapshot().getHolidayIndex(2027);
+
+        assertTrue(indexFirstYear.isHoliday(LocalDate.of(2015, 5, 9).toEpochDay()));
+        assertFalse(indexFirstYear.isHoliday(LocalDate.of(2027, 5, 9).toEpochDay()));
+        assertTrue(indexSecondYear.isHoliday(LocalDate.of(2027, 5, 9).toEpochDay()));
+    }
+
+    @Test
+    @DisplayName("Должен вернуть пустой индекс когда файла календаря для года нет и правила не заданы")
+    void getSnapshot_ShouldReturnEmptyIndex_WhenCalendarFileMissing() throws IOException {
+        JsonHolidayCalendar jsonHolidayCalendar = createCalendar(new HolidayProperties());
+
+        HolidayIndex indexActual = jsonHolidayCalendar.getSnapshot().getHolidayIndex(1999);
+
+        assertEquals(0, indexActual.count());
+    }
+
+    @Test
+    @DisplayName("Должен построить календарь по правилам когда файла для года нет")
+    void getSnapshot_ShouldGenerateYearFromRules_WhenCalendarFileMissing() throws IOException {
+        HolidayProperties holidayProperties = new HolidayProperties();
+        holidayProperties.setRules(List.of("01-01..01-08", "05-09"));
+        JsonHolidayCalendar jsonHolidayCalendar = createCalendar(holidayProperties);
+        int countHolidaysExpected = 9;
+
+        HolidayIndex indexActual = jsonHolidayCalendar.getSnapshot().getHolidayIndex(2031);
+
+        assertEquals(countHolidaysExpected, indexActual.count());
+        assertTrue(indexActual.isHoliday(LocalDate.of(2031, 5, 9).toEpochDay()));
+    }
+
+    @Test
+    @DisplayName("Должен использовать файл календаря вместо правил когда файл для года есть")
+    void getSnapshot_ShouldPreferCalendarFile_WhenFileAndRulesExist() throws IOException {
+        Files.writeString(directoryCalendar.resolve("holidays_2026.json"), "[\"2026-01-01\"]");
+        HolidayProperties holidayProperties = propertiesFor(directoryCalendar);
+        holidayProperties.setRules(List.of("01-01..01-08"));
+        JsonHolidayCalendar jsonHolidayCalendar = createCalendar(holidayProperties);
+        int countHolidaysExpected = 1;
+
+        HolidayIndex indexActual = jsonHolidayCalendar.getSnapshot().getHolidayIndex(2026);
+
+        assertEquals(countHolidaysExpected, indexActual.count());
+    }
+
+    @Test
+    @DisplayName("Должен опубликовать новый снимок когда файл календаря изменился")
+    void reloadIfChanged_ShouldPublishNewSnapshot_WhenCalendarFileChanged() throws IOException {
+        Path fileCalendar = directoryCalendar.resolve("holidays_2026.json");
+        Files.writeString(fileCalendar, "[\"2026-01-01\"]");
+        JsonHolidayCalendar jsonHolidayCalendar = createCalendar(propertiesFor(directoryCalendar));
+        HolidayCalendarSnapshot snapshotInitial = jsonHolidayCalendar.getSnapshot();
+        long epochDayAmended = LocalDate.of(2026, 1, 9).toEpochDay();
+
+        assertFalse(snapshotInitial.getHolidayIndex(2026).isHoliday(epochDayAmended));
+
+        Files.writeString(fileCalendar, "[\"2026-01-01\", \"2026-01-09\"]");
+        jsonHolidayCalendar.reloadIfChanged();
+        HolidayCalendarSnapshot snapshotActual = jsonHolidayCalendar.getSnapshot();
+
+        assertEquals(snapshotInitial.getVersion() + 1, snapshotActual.getVersion());
+        assertTrue(snapshotActual.getLoadedYears().contains(2026));
+        assertTrue(snapshotActual.getHolidayIndex(2026).isHoliday(epochDayAmended));
+        assertFalse(snapshotInitial.getHolidayIndex(2026).isHoliday(epochDayAmended));
+    }
+
+    @Test
+    @DisplayName("Должен разделять индексы неизмененных лет между версиями и хранить прежние версии")
+    void reloadIfChanged_ShouldShareUnchangedYears_WhenOtherYearChanged() throws IOException {
+        writeCalendar(directoryCalendar.resolve("holidays_2025.json"), "[\"2025-01-01\"]", PUBLISHED_AT);
+        Path fileCalendar = directoryCalendar.resolve("holidays_2026.json");
+        writeCalendar(fileCalendar, "[\"2026-01-01\"]", PUBLISHED_AT);
+        JsonHolidayCalendar jsonHolidayCalendar = createCalendar(propertiesFor(directoryCalendar));
+        HolidayCalendarSnapshot snapshotInitial = jsonHolidayCalendar.getSnapshot();
+        HolidayIndex indexUnchanged = snapshotInitial.getHolidayIndex(2025);
+
+        writeCalendar(fileCalendar, "[\"2026-01-01\", \"2026-01-09\"]", PUBLISHED_AT.plusSeconds(60));
+        jsonHolidayCalendar.reloadIfChanged();
+        HolidayCalendarSnapshot snapshotActual = jsonHolidayCalendar.getSnapshot();
+
+        assertSame(indexUnchanged, snapshotActual.getHolidayIndex(2025));
+        assertNotSame(snapshotInitial.getHolidayIndex(2026), snapshotActual.getHolidayIndex(2026));
+        assertEquals(PUBLISHED_AT, snapshotInitial.getPublishedAt());
+        assertSame(snapshotInitial, jsonHolidayCalendar.getSnapshot(PUBLISHED_AT.plusSeconds(30)));
+        assertSame(snapshotActual, jsonHolidayCalendar.getSnapshot(PUBLISHED_AT.plusSeconds(60)));
+    }
+
+    @Test
+    @DisplayName("Должен сохранить прежний снимок когда измененный файл календаря некорректен")
+    void reloadIfChanged_ShouldKeepSnapshot_WhenChangedFileMalformed() throws IOException {
+        Path fileCalendar = directoryCalendar.resolve("holidays_2026.json");
+        Files.writeString(fileCalendar, "[\"2026-01-01\"]");
+        JsonHolidayCalendar jsonHolidayCalendar = createCalendar(propertiesFor(directoryCalendar));
+        HolidayCalendarSnapshot snapshotExpected = jsonHolidayCalendar.getSnapshot();
+
+        Files.writeString(fileCalendar, "[\"2026-01-01\", \"2026-02-30\"]");
+        jsonHolidayCalendar.reloadIfChanged();
+        Files.writeString(fileCalendar, "[\"2026-01-01\", \"2027-01-09\"]");
+        jsonHolidayCalendar.reloadIfChanged();
+        Files.writeString(fileCalendar, "{\"2026-01-01\"");
+        jsonHolidayCalendar.reloadIfChanged();
+
+        assertSame(snapshotExpected, jsonHolidayCalendar.getSnapshot());
+        assertEquals(1, jsonHolidayCalendar.getSnapshot().getHolidayIndex(2026).count());
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение при старте когда файл календаря некорректен")
+    void loadHolidays_ShouldThrowException_WhenCalendarFileMalformed() throws IOException {
+        Files.writeString(directoryCalendar.resolve("holidays_2026.json"), "[\"2026-13-01\"]");
+
+        assertThrows(IllegalArgumentException.class, () -> createCalendar(propertiesFor(directoryCalendar)));
+    }
+
+    @Test
+    @DisplayName("Не должен публиковать новый снимок когда файлы календаря не изменились")
+    void reloadIfChanged_ShouldKeepSnapshot_WhenCalendarFilesUnchanged() throws IOException {
+        Files.writeString(directoryCalendar.resolve("holidays_2026.json"), "[\"2026-01-01\"]");
+        JsonHolidayCalendar jsonHolidayCalendar = createCalendar(propertiesFor(directoryCalendar));
+        HolidayCalendarSnapshot snapshotExpected = jsonHolidayCalendar.getSnapshot();
+
+        jsonHolidayCalendar.reloadIfChanged();
+
+        assertSame(snapshotExpected, jsonHolidayCalendar.getSnapshot());
+    }
+
+    @Test
+    @DisplayName("Должен прочитать скомпилированный календарь без ObjectMapper и строить годы лениво когда он есть")
+    void loadHolidays_ShouldReadCompiledCalendar_WhenCompiledFileExists() throws IOException {
+        Files.writeString(directoryCalendar.resolve("holidays_2026.json"), "[\"2026-01-01\", \"2026-11-04\"]");
+        HolidayCalendarCompiler.compile(directoryCalendar);
+        HolidayProperties holidayProperties = propertiesFor(directoryCalendar);
+        JsonHolidayCalendar jsonHolidayCalendar = createCalendar(
+                holidayProperties,
+                new DefaultListableBeanFactory().getBeanProvider(ObjectMapper.class)
+        );
+        int countHolidaysExpected = 2;
+
+        assertTrue(jsonHolidayCalendar.getSnapshot().getLoadedYears().isEmpty());
+
+        HolidayIndex indexActual = jsonHolidayCalendar.getSnapshot().getHolidayIndex(2026);
+
+        assertEquals(countHolidaysExpected, indexActual.count());
+        assertTrue(indexActual.isHoliday(LocalDate.of(2026, 11, 4).toEpochDay()));
+    }
+
+    @Test
+    @DisplayName("Не должен публиковать новый снимок когда скомпилированный календарь соответствует файлам")
+    void reloadIfChanged_ShouldKeepSnapshot_WhenCompiledCalendarUpToDate() throws IOException {
+        Files.writeString(directoryCalendar.resolve("holidays_2026.json"), "[\"2026-01-01\"]");
+        HolidayCalendarCompiler.compile(directoryCalendar);
+        JsonHolidayCalendar jsonHolidayCalendar = createCalendar(propertiesFor(directoryCalendar));
+        HolidayCalendarSnapshot snapshotExpected = jsonHolidayCalendar.getSnapshot();
+
+        jsonHolidayCalendar.reloadIfChanged();
+
+        assertSame(snapshotExpected, jsonHolidayCalendar.getSnapshot());
+    }
+
+    @Test
+    @DisplayName("Должен перечитать файлы календаря когда они изменились после компиляции")
+    void reloadIfChanged_ShouldPublishNewSnapshot_WhenCompiledCalendarStale() throws IOException {
+        Path fileCalendar = directoryCalendar.resolve("holidays_2026.json");
+        Files.writeString(fileCalendar, "[\"2026-01-01\"]");
+        HolidayCalendarCompiler.compile(directoryCalendar);
+        JsonHolidayCalendar jsonHolidayCalendar = createCalendar(propertiesFor(directoryCalendar));
+        long epochDayAmended = LocalDate.of(2026, 1, 9).toEpochDay();
+
+        Files.writeString(fileCalendar, "[\"2026-01-01\", \"2026-01-09\"]");
+        jsonHolidayCalendar.reloadIfChanged();
+
+        assertTrue(jsonHolidayCalendar.getSnapshot().getHolidayIndex(2026).isHoliday(epochDayAmended));
+    }
+
+    @Test
+    @DisplayName("Должен заполнить историю сохраненными версиями с временем публикации из имени каталога")
+    void loadHolidays_ShouldLoadRetainedVersions_WhenVersionDirectoriesExist() throws IOException {
+        Path directoryVersion = Files.createDirectories(directoryCalendar.resolve("versions/20251201T000000Z"));
+        Files.writeString(directoryVersion.resolve("holidays_2026.json"), "[\"2026-01-01\"]");
+        writeCalendar(directoryCalendar.resolve("holidays_2026.json"), "[\"2026-01-01\", \"2026-01-09\"]",
+                PUBLISHED_AT);
+        long epochDayAmended = LocalDate.of(2026, 1, 9).toEpochDay();
+
+        JsonHolidayCalendar jsonHolidayCalendar = createCalendar(propertiesFor(directoryCalendar));
+        HolidayCalendarSnapshot snapshotRetained = jsonHolidayCalendar.getSnapshot(
+                Instant.parse("2025-12-15T00:00:00Z"));
+        HolidayCalendarSnapshot snapshotCurrent = jsonHolidayCalendar.getSnapshot();
+
+        assertEquals(1, snapshotRetained.getVersion());
+        assertEquals(Instant.parse("2025-12-01T00:00:00Z"), snapshotRetained.getPublishedAt());
+        assertFalse(snapshotRetained.getHolidayIndex(2026).isHoliday(epochDayAmended));
+        assertEquals(2, snapshotCurrent.getVersion());
+        assertEquals(PUBLISHED_AT, snapshotCurrent.getPublishedAt());
+        assertTrue(snapshotCurrent.getHolidayIndex(2026).isHoliday(epochDayAmended));
+        BusinessException exceptionActual = assertThrows(BusinessException.class,
+                () -> jsonHolidayCalendar.getSnapshot(Instant.parse("2025-11-30T00:00:00Z")));
+        assertEquals(ErrorCode.HOLIDAY_CALENDAR_VERSION_UNAVAILABLE, exceptionActual.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("Не должен публиковать текущие файлы повторно когда они совпадают с последней сохраненной версией")
+    void loadHolidays_ShouldKeepRetainedPublishedAt_WhenCurrentFilesMatchLatestVersion() throws IOException {
+        Path directoryVersion = Files.createDirectories(directoryCalendar.resolve("versions/20251201T000000Z"));
+        Files.writeString(directoryVersion.resolve("holidays_2026.json"), "[\"2026-01-01\"]");
+        writeCalendar(directoryCalendar.resolve("holidays_2026.json"), "[\"2026-01-01\"]", PUBLISHED_AT);
+
+        JsonHolidayCalendar jsonHolidayCalendar = createCalendar(propertiesFor(directoryCalendar));
+
+        assertEquals(1, jsonHolidayCalendar.getSnapshot().getVersion());
+        assertEquals(Instant.parse("2025-12-01T00:00:00Z"), jsonHolidayCalendar.getSnapshot().getPublishedAt());
+    }
+
+    @Test
+    @DisplayName("Должен загрузить только последние сохраненные версии в пределах размера истории")
+    void loadHolidays_ShouldLoadLatestRetainedVersions_WhenHistorySizeExceeded() throws IOException {
+        List<String> versions = List.of("20251101T000000Z", "20251201T000000Z", "20260101T000000Z");
+        for (int i = 0; i < versions.size(); i++) {
+            Path directoryVersion = Files.createDirectories(directoryCalendar.resolve("versions/" + versions.get(i)));
+            Files.writeString(directoryVersion.resolve("holidays_2026.json"), "[\"2026-01-0" + (i + 1) + "\"]");
+        }
+        Files.writeString(directoryCalendar.resolve("holidays_2026.json"), "[\"2026-01-03\"]");
+        HolidayProperties holidayProperties = propertiesFor(directoryCalendar);
+        holidayProperties.setHistorySize(2);
+
+        JsonHolidayCalendar jsonHolidayCalendar = createCalendar(holidayProperties);
+
+        assertEquals(Instant.parse("2026-01-01T00:00:00Z"), jsonHolidayCalendar.getSnapshot().getPublishedAt());
+        assertEquals(Instant.parse("2025-12-01T00:00:00Z"),
+                jsonHolidayCalendar.getSnapshot(Instant.parse("2025-12-15T00:00:00Z")).getPublishedAt());
+        assertThrows(BusinessException.class,
+                () -> jsonHolidayCalendar.getSnapshot(Instant.parse("2025-11-15T00:00:00Z")));
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение при старте когда имя каталога версии не является временем публикации")
+    void loadHolidays_ShouldThrowException_WhenVersionDirectoryNameMalformed() throws IOException {
+        Path directoryVersion = Files.createDirectories(directoryCalendar.resolve("versions/latest"));
+        Files.writeString(directoryVersion.resolve("holidays_2026.json"), "[\"2026-01-01\"]");
+
+        assertThrows(IllegalArgumentException.class, () -> createCalendar(propertiesFor(directoryCalendar)));
+    }
+
+    private static void writeCalendar(Path file, String content, Instant modifiedAt) throws IOException {
+        Files.writeString(file, content);
+        Files.setLastModifiedTime(file, FileTime.from(modifiedAt));
+    }
+
+    private static JsonHolidayCalendar createCalendar(HolidayProperties holidayProperties) throws IOException {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("objectMapper", new ObjectMapper());
+        return createCalendar(holidayProperties, beanFactory.getBeanProvider(ObjectMapper.class));
+    }
+
+    private static JsonHolidayCalendar createCalendar(
+            HolidayProperties holidayProperties,
+            ObjectProvider<ObjectMapper> objectMapperProvider
+    ) throws IOException {
+        JsonHolidayCalendar jsonHolidayCalendar = new JsonHolidayCalendar(
+                objectMapperProvider,
+                new DefaultResourceLoader(),
+                holidayProperties,
+                new HolidayRuleGenerator(holidayProperties)
+        );
+        jsonHolidayCalendar.loadHolidays();
+        return jsonHolidayCalendar;
+    }
+
+    private static HolidayProperties propertiesFor(Path directory) {
+        HolidayProperties holidayProperties = new HolidayProperties();
+        holidayProperties.setLocation(directory.toUri().toString());
+        return holidayProperties;
+    }
+}
@@ -0,0 +1,81 @@
+package ru.viktorgezz.vacation_pay_calculator.holiday;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedHolidayCalendarTest {
+
+    @TempDir
+    Path directoryCalendar;
+
+    @Test
+    @DisplayName("Должен искать праздники напрямую в отображенном файле календаря")
+    void getSnapshot_ShouldReadMappedFile_WhenCalendarCompiled() throws IOException {
+        MappedHolidayCalendar mappedHolidayCalendar = createCalendar(compile("[\"2026-01-01\", \"2026-11-04\"]"));
+        int countHolidaysExpected = 2;
+
+        HolidayIndex indexActual = mappedHolidayCalendar.getSnapshot().getHolidayIndex(2026);
+
+        assertInstanceOf(MappedHolidayIndex.class, indexActual);
+        assertEquals(countHolidaysExpected, indexActual.count());
+        assertTrue(indexActual.isHoliday(LocalDate.of(2026, 11, 4).toEpochDay()));
+    }
+
+    @Test
+    @DisplayName("Должен опубликовать новый снимок когда файл календаря заменен")
+    void remapIfChanged_ShouldPublishNewSnapshot_WhenFileReplaced() throws IOException {
+        Path fileMapped = compile("[\"2026-01-01\"]");
+        MappedHolidayCalendar mappedHolidayCalendar = createCalendar(fileMapped);
+        HolidayCalendarSnapshot snapshotInitial = mappedHolidayCalendar.getSnapshot();
+        long epochDayAmended = LocalDate.of(2026, 1, 9).toEpochDay();
+
+        Path fileReplacement = compile("[\"2026-01-01\", \"2026-01-09\"]");
+        Files.setLastModifiedTime(fileReplacement, FileTime.from(Instant.now().plusSeconds(60)));
+        Files.move(fileReplacement, fileMapped, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        mappedHolidayCalendar.remapIfChanged();
+        HolidayCalendarSnapshot snapshotActual = mappedHolidayCalendar.getSnapshot();
+
+        assertEquals(snapshotInitial.getVersion() + 1, snapshotActual.getVersion());
+        assertTrue(snapshotActual.getHolidayIndex(2026).isHoliday(epochDayAmended));
+        assertFalse(snapshotInitial.getHolidayIndex(2026).isHoliday(epochDayAmended));
+    }
+
+    @Test
+    @DisplayName("Не должен публиковать новый снимок когда файл календаря не изменился")
+    void remapIfChanged_ShouldKeepSnapshot_WhenFileUnchanged() throws IOException {
+        MappedHolidayCalendar mappedHolidayCalendar = createCalendar(compile("[\"2026-01-01\"]"));
+        HolidayCalendarSnapshot snapshotExpected = mappedHolidayCalendar.getSnapshot();
+
+        mappedHolidayCalendar.remapIfChanged();
+
+        assertSame(snapshotExpected, mappedHolidayCalendar.getSnapshot());
+    }
+
+    private Path compile(String holidays) throws IOException {
+        Path directorySources = Files.createTempDirectory(directoryCalendar, "sources");
+        Files.writeString(directorySources.resolve("holidays_2026.json"), holidays);
+        return HolidayCalendarCompiler.compile(directorySources);
+    }
+
+    private static MappedHolidayCalendar createCalendar(Path fileMapped) throws IOException {
+        HolidayProperties holidayProperties = new HolidayProperties();
+        holidayProperties.setMappedFile(fileMapped.toString());
+        MappedHolidayCalendar mappedHolidayCalendar = new MappedHolidayCalendar(
+                holidayProperties,
+                new HolidayRuleGenerator(holidayProperties)
+        );
+        mappedHolidayCalendar.mapHolidays();
+        return mappedHolidayCalendar;
+    }
+}
@@ -0,0 +1,119 @@
+package ru.viktorgezz.vacation_pay_calculator.holiday;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.viktorgezz.vacation_pay_calculator.exception.BusinessException;
+import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RegionalHolidayCalendarsTest {
+
+    private final RegionalHolidayCalendars regionalHolidayCalendars = new RegionalHolidayCalendars(propertiesOf(Map.of(
+            "RU-TA", List.of("08-30", "11-06"),
+            "RU-XA", List.of("08-30", "11-06"),
+            "RU-MO", List.of()
+    )));
+
+    private final HolidayIndex federalIndex = HolidayIndex.of(
+            LocalDate.of(2026, 1, 1).toEpochDay(),
+            Year.of(2026).length(),
+            List.of(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 11, 4))
+    );
+
+    @Test
+    @DisplayName("Должен вернуть федеральный календарь когда идентификатор не указан")
+    void resolve_ShouldReturnFederalCalendar_WhenIdMissingOrFederal() {
+        assertSame(RegionalHolidayCalendar.FEDERAL, regionalHolidayCalendars.resolve(null));
+        assertSame(RegionalHolidayCalendar.FEDERAL, regionalHolidayCalendars.resolve(" "));
+        assertSame(RegionalHolidayCalendar.FEDERAL, regionalHolidayCalendars.resolve("ru"));
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение когда календарь не настроен")
+    void resolve_ShouldThrowBusinessException_WhenCalendarUnknown() {
+        BusinessException exceptionActual = assertThrows(BusinessException.class,
+                () -> regionalHolidayCalendars.resolve("RU-XX"));
+
+        assertEquals(ErrorCode.UNKNOWN_HOLIDAY_CALENDAR, exceptionActual.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("Должен добавить региональные праздники к федеральному индексу года")
+    void apply_ShouldMergeRegionalHolidays_WhenDeltaConfigured() {
+        int countExpected = 4;
+
+        HolidayIndex indexActual = regionalHolidayCalendars.resolve("RU-TA").apply(2026, federalIndex);
+
+        assertEquals(countExpected, indexActual.count());
+        assertTrue(indexActual.isHoliday(LocalDate.of(2026, 8, 30).toEpochDay()));
+        assertFalse(federalIndex.isHoliday(LocalDate.of(2026, 8, 30).toEpochDay()));
+    }
+
+    @Test
+    @DisplayName("Должен использовать общий индекс для регионов с одинаковыми праздниками")
+    void apply_ShouldShareIndex_WhenRegionsHaveSameHolidays() {
+        HolidayIndex indexFirst = regionalHolidayCalendars.resolve("RU-TA").apply(2026, federalIndex);
+        HolidayIndex indexSecond = regionalHolidayCalendars.resolve("RU-XA").apply(2026, federalIndex);
+
+        assertSame(indexFirst, indexSecond);
+        assertSame(indexFirst, regionalHolidayCalendars.resolve("RU-TA").apply(2026, federalIndex));
+    }
+
+    @Test
+    @DisplayName("Должен сохранить региональные индексы для чередующихся версий федерального календаря")
+    void apply_ShouldReuseOverlay_WhenFederalVersionsAlternate() {
+        HolidayIndex federalNext = federalIndex.plus(List.of(LocalDate.of(2026, 5, 1)));
+        RegionalHolidayCalendar calendar = regionalHolidayCalendars.resolve("RU-TA");
+
+        HolidayIndex indexFirst = calendar.apply(2026, federalIndex);
+        HolidayIndex indexNext = calendar.apply(2026, federalNext);
+
+        assertSame(indexFirst, calendar.apply(2026, federalIndex));
+        assertSame(indexNext, calendar.apply(2026, federalNext));
+        assertEquals(5, indexNext.count());
+    }
+
+    @Test
+    @DisplayName("Должен построить региональный индекс года вне окна без кэширования")
+    void apply_ShouldMergeRegionalHolidays_WhenYearOutsideWindow() {
+        HolidayIndex federalFar = HolidayIndex.of(
+                LocalDate.of(2500, 1, 1).toEpochDay(),
+                Year.of(2500).length(),
+                List.of(LocalDate.of(2500, 1, 1))
+        );
+
+        HolidayIndex indexActual = regionalHolidayCalendars.resolve("RU-TA").apply(2500, federalFar);
+
+        assertEquals(3, indexActual.count());
+        assertTrue(indexActual.isHoliday(LocalDate.of(2500, 8, 30).toEpochDay()));
+    }
+
+    @Test
+    @DisplayName("Должен вернуть федеральный индекс когда у региона нет своих праздников")
+    void apply_ShouldReturnFederalIndex_WhenDeltaEmpty() {
+        HolidayIndex indexActual = regionalHolidayCalendars.resolve("RU-MO").apply(2026, federalIndex);
+
+        assertSame(federalIndex, indexActual);
+    }
+
+    @Test
+    @DisplayName("Должен построить региональный индекс когда федеральный календарь года пуст")
+    void apply_ShouldBuildYearIndex_WhenFederalIndexEmpty() {
+        HolidayIndex indexActual = regionalHolidayCalendars.resolve("RU-TA").apply(2090, HolidayIndex.empty());
+
+        assertEquals(2, indexActual.count());
+        assertTrue(indexActual.isHoliday(LocalDate.of(2090, 11, 6).toEpochDay()));
+    }
+
+    private static HolidayProperties propertiesOf(Map<String, List<String>> regions) {
+        HolidayProperties holidayProperties = new HolidayProperties();
+        holidayProperties.setRegions(regions);
+        return holidayProperties;
+    }
+}
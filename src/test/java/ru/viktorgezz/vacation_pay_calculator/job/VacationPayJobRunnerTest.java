@@ -0,0 +1,158 @@
+package ru.viktorgezz.vacation_pay_calculator.job;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.viktorgezz.vacation_pay_calculator.calculation.batch.BatchCalculationResult;
+import ru.viktorgezz.vacation_pay_calculator.dto.BulkVacationPayRsDto;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationPayRsDto;
+import ru.viktorgezz.vacation_pay_calculator.service.intrf.VacationPayBulkService;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VacationPayJobRunnerTest {
+
+    @Mock
+    private VacationPayBulkService vacationPayBulkServiceMock;
+
+    @TempDir
+    Path directory;
+
+    private VacationPayJobRunner jobRunner;
+
+    @AfterEach
+    void tearDown() {
+        if (jobRunner != null) {
+            jobRunner.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Должен записать результаты всех частей в порядке строк запроса и посчитать прогресс")
+    void run_ShouldWriteChunksInLineOrder_WhenChunksCalculatedInParallel() throws IOException {
+        StringBuilder input = new StringBuilder();
+        for (int line = 1; line <= 50; line++) {
+            input.append(line == 20 ? "   " : "line-" + line).append('\n');
+        }
+        VacationPayJob job = createJob(input.toString());
+        jobRunner = createRunner(4, 3);
+
+        when(vacationPayBulkServiceMock.calculateLines(any(long[].class), any(String[].class), anyInt()))
+                .thenAnswer(invocation -> {
+                    long[] lineNumbers = invocation.getArgument(0);
+                    int size = invocation.getArgument(2);
+                    BulkVacationPayRsDto[] results = new BulkVacationPayRsDto[size];
+                    int failedLines = 0;
+                    for (int i = 0; i < size; i++) {
+                        long lineNumber = lineNumbers[i];
+                        if (lineNumber % 7 == 0) {
+                            results[i] = BulkVacationPayRsDto.failed(lineNumber, "CODE", "message");
+                            failedLines++;
+                        } else {
+                            results[i] = BulkVacationPayRsDto.calculated(
+                                    lineNumber, new VacationPayRsDto(BigDecimal.valueOf(lineNumber)));
+                        }
+                    }
+                    return new BatchCalculationResult(results, failedLines, size - failedLines, 1);
+                });
+
+        jobRunner.run(job);
+
+        List<String> resultLinesActual = Files.readAllLines(job.getResultFile(), StandardCharsets.UTF_8);
+        assertEquals(VacationPayJobStatus.COMPLETED, job.getStatus());
+        assertEquals(49, resultLinesActual.size());
+        assertEquals("{\"line\":1,\"totalVacationPay\":1}", resultLinesActual.get(0));
+        assertEquals("{\"line\":21,\"code\":\"CODE\",\"message\":\"message\"}", resultLinesActual.get(19));
+        assertEquals("{\"line\":50,\"totalVacationPay\":50}", resultLinesActual.get(48));
+        assertEquals(49, job.getProcessedLines());
+        assertEquals(7, job.getFailedLines());
+        assertEquals(42, job.getPlannedLines());
+        assertEquals(17, job.getDistinctRanges());
+        assertNotNull(job.getFinishedAt());
+    }
+
+    @Test
+    @DisplayName("Должен перевести задание в состояние ошибки когда файл запроса не читается")
+    void run_ShouldFailJob_WhenInputFileMissing() {
+        VacationPayJob job = new VacationPayJob("missing", directory.resolve("missing"), 1, Instant.now());
+        jobRunner = createRunner(1, 10);
+
+        jobRunner.run(job);
+
+        assertEquals(VacationPayJobStatus.FAILED, job.getStatus());
+        assertNotNull(job.getErrorMessage());
+        assertEquals(0, job.getProcessedLines());
+    }
+
+    @Test
+    @DisplayName("Должен отклонить задание когда очередь заданий заполнена")
+    void submit_ShouldRejectJob_WhenQueueFull() throws IOException, InterruptedException {
+        VacationPayJob job = createJob("line-1\n");
+        CountDownLatch calculationStarted = new CountDownLatch(1);
+        CountDownLatch calculationReleased = new CountDownLatch(1);
+        JobProperties jobProperties = new JobProperties();
+        jobProperties.setParallelism(1);
+        jobProperties.setMaxRunningJobs(1);
+        jobProperties.setMaxQueuedJobs(1);
+        jobRunner = new VacationPayJobRunner(vacationPayBulkServiceMock, new ObjectMapper(), jobProperties);
+
+        when(vacationPayBulkServiceMock.calculateLines(any(long[].class), any(String[].class), anyInt()))
+                .thenAnswer(invocation -> {
+                    calculationStarted.countDown();
+                    calculationReleased.await();
+                    return new BatchCalculationResult(new BulkVacationPayRsDto[]{BulkVacationPayRsDto.calculated(
+                            1, new VacationPayRsDto(BigDecimal.ONE))}, 0, 0, 0);
+                });
+
+        jobRunner.submit(job);
+        assertTrue(calculationStarted.await(10, TimeUnit.SECONDS));
+        assertFalse(jobRunner.isQueueFull());
+        jobRunner.submit(job);
+
+        assertTrue(jobRunner.isQueueFull());
+        assertThrows(RejectedExecutionException.class, () -> jobRunner.submit(job));
+        calculationReleased.countDown();
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение при старте когда размер части не положителен")
+    void constructor_ShouldThrowIllegalStateException_WhenChunkLinesNotPositive() {
+        JobProperties jobProperties = new JobProperties();
+        jobProperties.setChunkLines(0);
+
+        assertThrows(IllegalStateException.class,
+                () -> new VacationPayJobRunner(vacationPayBulkServiceMock, new ObjectMapper(), jobProperties));
+    }
+
+    private VacationPayJob createJob(String input) throws IOException {
+        Files.writeString(VacationPayJob.inputFileOf(directory), input, StandardCharsets.UTF_8);
+        return new VacationPayJob("job", directory, 49, Instant.now());
+    }
+
+    private VacationPayJobRunner createRunner(int parallelism, int chunkLines) {
+        JobProperties jobProperties = new JobProperties();
+        jobProperties.setParallelism(parallelism);
+        jobProperties.setChunkLines(chunkLines);
+        return new VacationPayJobRunner(vacationPayBulkServiceMock, new ObjectMapper(), jobProperties);
+    }
+}
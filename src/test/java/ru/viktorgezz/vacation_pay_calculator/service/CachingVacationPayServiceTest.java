@@ -0,0 +1,211 @@
+package ru.viktorgezz.vacation_pay_calculator.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.viktorgezz.vacation_pay_calculator.calculation.CalculationProperties;
+import ru.viktorgezz.vacation_pay_calculator.calculation.cache.DailyRateCache;
+import ru.viktorgezz.vacation_pay_calculator.calculation.formula.TenantFormulas;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationPayRqDto;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationPayRsDto;
+import ru.viktorgezz.vacation_pay_calculator.holiday.HolidayProperties;
+import ru.viktorgezz.vacation_pay_calculator.holiday.HolidayService;
+import ru.viktorgezz.vacation_pay_calculator.holiday.RegionalHolidayCalendars;
+import ru.viktorgezz.vacation_pay_calculator.service.impl.CachingVacationPayService;
+import ru.viktorgezz.vacation_pay_calculator.service.impl.VacationPayServiceImpl;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingVacationPayServiceTest {
+
+    private static final VacationPayRsDto RESPONSE = new VacationPayRsDto(new BigDecimal("23890.78"));
+
+    @Mock
+    private VacationPayServiceImpl vacationPayServiceMock;
+
+    @Mock
+    private HolidayService holidayServiceMock;
+
+    private RegionalHolidayCalendars regionalHolidayCalendars;
+
+    @BeforeEach
+    void setUp() {
+        HolidayProperties holidayProperties = new HolidayProperties();
+        holidayProperties.setRegions(Map.of("RU-TA", List.of("08-30")));
+        regionalHolidayCalendars = new RegionalHolidayCalendars(holidayProperties);
+
+        when(vacationPayServiceMock.calculate(any(VacationPayRqDto.class))).thenReturn(RESPONSE);
+    }
+
+    @Test
+    @DisplayName("Должен вернуть результат из кэша для повторного запроса с той же зарплатой и периодом")
+    void calculate_ShouldReturnCachedResult_WhenSameRequestRepeated() {
+        CachingVacationPayService cachingVacationPayService = createService(100, Duration.ofMinutes(10));
+        stubCalendarVersion(1L);
+
+        VacationPayRsDto firstActual = cachingVacationPayService.calculate(datesRequest("50000", null));
+        VacationPayRsDto secondActual = cachingVacationPayService.calculate(datesRequest("50000.00", null));
+
+        assertEquals(RESPONSE.getTotalVacationPay(), firstActual.getTotalVacationPay());
+        assertEquals(RESPONSE.getTotalVacationPay(), secondActual.getTotalVacationPay());
+        verify(vacationPayServiceMock, times(1)).calculate(any(VacationPayRqDto.class));
+    }
+
+    @Test
+    @DisplayName("Должен различать календари в ключе кэша")
+    void calculate_ShouldCalculateAgain_WhenCalendarDiffers() {
+        CachingVacationPayService cachingVacationPayService = createService(100, Duration.ofMinutes(10));
+        stubCalendarVersion(1L);
+
+        cachingVacationPayService.calculate(datesRequest("50000", null));
+        cachingVacationPayService.calculate(datesRequest("50000", "RU-TA"));
+        cachingVacationPayService.calculate(datesRequest("50000", "ru-ta"));
+
+        verify(vacationPayServiceMock, times(2)).calculate(any(VacationPayRqDto.class));
+    }
+
+    @Test
+    @DisplayName("Должен различать формулы юридических лиц в ключе кэша")
+    void calculate_ShouldCalculateAgain_WhenTenantDiffers() {
+        CachingVacationPayService cachingVacationPayService = createService(100, Duration.ofMinutes(10));
+        stubCalendarVersion(1L);
+        VacationPayRqDto tenantRequestDto = datesRequest("50000", null);
+        tenantRequestDto.setTenantId("north");
+
+        cachingVacationPayService.calculate(datesRequest("50000", null));
+        cachingVacationPayService.calculate(tenantRequestDto);
+        cachingVacationPayService.calculate(tenantRequestDto);
+
+        verify(vacationPayServiceMock, times(2)).calculate(any(VacationPayRqDto.class));
+    }
+
+    @Test
+    @DisplayName("Должен рассчитать заново после публикации новой версии календаря")
+    void calculate_ShouldCalculateAgain_WhenCalendarVersionChanged() {
+        CachingVacationPayService cachingVacationPayService = createService(100, Duration.ofMinutes(10));
+        stubCalendarVersion(1L);
+
+        cachingVacationPayService.calculate(datesRequest("50000", null));
+        stubCalendarVersion(2L);
+        cachingVacationPayService.calculate(datesRequest("50000", null));
+
+        verify(vacationPayServiceMock, times(2)).calculate(any(VacationPayRqDto.class));
+    }
+
+    @Test
+    @DisplayName("Должен рассчитать заново после истечения времени жизни записи")
+    void calculate_ShouldCalculateAgain_WhenEntryExpired() {
+        CachingVacationPayService cachingVacationPayService = createService(100, Duration.ZERO);
+        stubCalendarVersion(1L);
+
+        cachingVacationPayService.calculate(datesRequest("50000", null));
+        cachingVacationPayService.calculate(datesRequest("50000", null));
+
+        verify(vacationPayServiceMock, times(2)).calculate(any(VacationPayRqDto.class));
+    }
+
+    @Test
+    @DisplayName("Должен вытеснять давно не использованные записи при превышении размера")
+    void calculate_ShouldEvictEldestEntry_WhenSizeExceeded() {
+        CachingVacationPayService cachingVacationPayService = createService(1, Duration.ofMinutes(10));
+        stubCalendarVersion(1L);
+
+        cachingVacationPayService.calculate(datesRequest("50000", null));
+        cachingVacationPayService.calculate(datesRequest("60000", null));
+        cachingVacationPayService.calculate(datesRequest("50000", null));
+
+        verify(vacationPayServiceMock, times(3)).calculate(any(VacationPayRqDto.class));
+    }
+
+    @Test
+    @DisplayName("Должен сохранить недавно использованную запись при превышении размера")
+    void calculate_ShouldKeepRecentlyUsedEntry_WhenSizeExceeded() {
+        CachingVacationPayService cachingVacationPayService = createService(2, Duration.ofMinutes(10));
+        stubCalendarVersion(1L);
+
+        cachingVacationPayService.calculate(datesRequest("50000", null));
+        cachingVacationPayService.calculate(datesRequest("60000", null));
+        cachingVacationPayService.calculate(datesRequest("50000", null));
+        cachingVacationPayService.calculate(datesRequest("70000", null));
+        cachingVacationPayService.calculate(datesRequest("50000", null));
+
+        verify(vacationPayServiceMock, times(3)).calculate(any(VacationPayRqDto.class));
+    }
+
+    @Test
+    @DisplayName("Должен со временем вытеснить все давно не использованные записи, а не только из первых корзин")
+    void calculate_ShouldEvictColdEntriesAcrossTable_WhenNewEntriesKeepArriving() {
+        int sizeCache = 64;
+        int countNewRequests = 1000;
+        CachingVacationPayService cachingVacationPayService = createService(sizeCache, Duration.ofMinutes(10));
+        stubCalendarVersion(1L);
+
+        for (int i = 0; i < sizeCache; i++) {
+            cachingVacationPayService.calculate(datesRequest(String.valueOf(10_000 + i), null));
+        }
+        for (int i = 0; i < countNewRequests; i++) {
+            cachingVacationPayService.calculate(datesRequest(String.valueOf(50_000 + i), null));
+            cachingVacationPayService.calculate(datesRequest(String.valueOf(50_000 + i), null));
+        }
+        for (int i = 0; i < sizeCache; i++) {
+            cachingVacationPayService.calculate(datesRequest(String.valueOf(10_000 + i), null));
+        }
+
+        verify(vacationPayServiceMock, times(sizeCache + countNewRequests + sizeCache))
+                .calculate(any(VacationPayRqDto.class));
+    }
+
+    @Test
+    @DisplayName("Должен не кэшировать расчет по количеству дней")
+    void calculate_ShouldNotCache_WhenVacationDaysProvided() {
+        CachingVacationPayService cachingVacationPayService = createService(100, Duration.ofMinutes(10));
+        VacationPayRqDto requestDto = new VacationPayRqDto(new BigDecimal("50000"), 14);
+
+        cachingVacationPayService.calculate(requestDto);
+        cachingVacationPayService.calculate(requestDto);
+
+        verify(vacationPayServiceMock, times(2)).calculate(requestDto);
+        verify(holidayServiceMock, never()).getCalendarVersion();
+    }
+
+    private void stubCalendarVersion(long version) {
+        when(holidayServiceMock.getCalendarVersion()).thenReturn(version);
+        when(holidayServiceMock.getCalendarVersion(any())).thenReturn(version);
+    }
+
+    private CachingVacationPayService createService(int size, Duration ttl) {
+        CalculationProperties calculationProperties = new CalculationProperties();
+        calculationProperties.setResultCacheSize(size);
+        calculationProperties.setResultCacheTtl(ttl);
+        calculationProperties.setTenants(Map.of("north", new CalculationProperties.Tenant()));
+        return new CachingVacationPayService(
+                vacationPayServiceMock,
+                holidayServiceMock,
+                regionalHolidayCalendars,
+                new TenantFormulas(calculationProperties, new DailyRateCache(calculationProperties)),
+                calculationProperties
+        );
+    }
+
+    private static VacationPayRqDto datesRequest(String averageSalary, String calendarId) {
+        VacationPayRqDto requestDto = new VacationPayRqDto(
+                new BigDecimal(averageSalary),
+                LocalDate.of(2026, 8, 24),
+                LocalDate.of(2026, 9, 6)
+        );
+        requestDto.setCalendarId(calendarId);
+        return requestDto;
+    }
+}
@@ -0,0 +1,129 @@
+package ru.viktorgezz.vacation_pay_calculator.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.viktorgezz.vacation_pay_calculator.calculation.CalculationProperties;
+import ru.viktorgezz.vacation_pay_calculator.calculation.cache.DailyRateCache;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationInverseRqDto;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationInverseRsDto;
+import ru.viktorgezz.vacation_pay_calculator.exception.BusinessException;
+import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
+import ru.viktorgezz.vacation_pay_calculator.holiday.HolidayService;
+import ru.viktorgezz.vacation_pay_calculator.service.impl.VacationInverseServiceImpl;
+import ru.viktorgezz.vacation_pay_calculator.validation.VacationInverseRequestValidator;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VacationInverseServiceImplTest {
+
+    private static final LocalDate DATE_START = LocalDate.of(2026, 4, 27);
+
+    @Mock
+    private HolidayService holidayServiceMock;
+
+    @Spy
+    private DailyRateCache dailyRateCache = new DailyRateCache(new CalculationProperties());
+
+    @Spy
+    private VacationInverseRequestValidator vacationInverseRequestValidator;
+
+    @InjectMocks
+    private VacationInverseServiceImpl vacationInverseService;
+
+    @Test
+    @DisplayName("Должен найти дату окончания и сумму отпускных по количеству оплачиваемых дней")
+    void calculate_ShouldReturnDateEnd_WhenPayableDaysProvided() {
+        LocalDate dateEndExpected = LocalDate.of(2026, 5, 11);
+        VacationInverseRqDto requestDto = new VacationInverseRqDto(new BigDecimal("50000"), DATE_START, 14, null);
+
+        when(holidayServiceMock.findDateEnd(null, DATE_START, 14, null)).thenReturn(dateEndExpected);
+
+        VacationInverseRsDto resultActual = vacationInverseService.calculate(requestDto);
+
+        assertEquals(DATE_START, resultActual.getDateStart());
+        assertEquals(dateEndExpected, resultActual.getDateEnd());
+        assertEquals(14, resultActual.getPayableDays());
+        assertEquals(new BigDecimal("23890.78"), resultActual.getTotalVacationPay());
+    }
+
+    @Test
+    @DisplayName("Должен найти самый длинный отпуск в пределах бюджета, включая следующие за ним праздники")
+    void calculate_ShouldReturnLongestVacation_WhenBudgetProvided() {
+        LocalDate dateNextPayableDay = LocalDate.of(2026, 5, 12);
+        VacationInverseRqDto requestDto = new VacationInverseRqDto(
+                new BigDecimal("29300"), DATE_START, null, new BigDecimal("14999.99"));
+
+        when(holidayServiceMock.findDateEnd(null, DATE_START, 15, null)).thenReturn(dateNextPayableDay);
+
+        VacationInverseRsDto resultActual = vacationInverseService.calculate(requestDto);
+
+        assertEquals(LocalDate.of(2026, 5, 11), resultActual.getDateEnd());
+        assertEquals(14, resultActual.getPayableDays());
+        assertEquals(new BigDecimal("14000.00"), resultActual.getTotalVacationPay());
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение когда бюджета не хватает на один оплачиваемый день")
+    void calculate_ShouldThrowBusinessException_WhenBudgetInsufficient() {
+        VacationInverseRqDto requestDto = new VacationInverseRqDto(
+                new BigDecimal("29300"), DATE_START, null, new BigDecimal("999.99"));
+
+        BusinessException exceptionActual = assertThrows(BusinessException.class,
+                () -> vacationInverseService.calculate(requestDto));
+
+        assertEquals(ErrorCode.INSUFFICIENT_BUDGET, exceptionActual.getErrorCode());
+        verify(holidayServiceMock, never()).findDateEnd(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение когда бюджета не хватает на один оплачиваемый день и отпуск начинается с праздника")
+    void calculate_ShouldThrowBusinessException_WhenBudgetInsufficientAndDateStartIsHoliday() {
+        LocalDate dateStart = LocalDate.of(2026, 1, 1);
+        VacationInverseRqDto requestDto = new VacationInverseRqDto(
+                new BigDecimal("29300"), dateStart, null, new BigDecimal("999.99"));
+
+        BusinessException exceptionActual = assertThrows(BusinessException.class,
+                () -> vacationInverseService.calculate(requestDto));
+
+        assertEquals(ErrorCode.INSUFFICIENT_BUDGET, exceptionActual.getErrorCode());
+        verify(holidayServiceMock, never()).findDateEnd(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение когда указаны и количество дней, и бюджет")
+    void calculate_ShouldThrowBusinessException_WhenPayableDaysAndBudgetProvided() {
+        VacationInverseRqDto requestDto = new VacationInverseRqDto(
+                new BigDecimal("29300"), DATE_START, 14, new BigDecimal("14000"));
+
+        BusinessException exceptionActual = assertThrows(BusinessException.class,
+                () -> vacationInverseService.calculate(requestDto));
+
+        assertEquals(ErrorCode.INVERSE_TARGET_ALL_SPECIFIED, exceptionActual.getErrorCode());
+        verify(holidayServiceMock, never()).findDateEnd(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение когда не указаны ни количество дней, ни бюджет")
+    void calculate_ShouldThrowBusinessException_WhenTargetMissing() {
+        VacationInverseRqDto requestDto = new VacationInverseRqDto(new BigDecimal("29300"), DATE_START, null, null);
+
+        BusinessException exceptionActual = assertThrows(BusinessException.class,
+                () -> vacationInverseService.calculate(requestDto));
+
+        assertEquals(ErrorCode.INVERSE_TARGET_MISSING, exceptionActual.getErrorCode());
+    }
+}
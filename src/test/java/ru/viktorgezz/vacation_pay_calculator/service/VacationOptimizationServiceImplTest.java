@@ -0,0 +1,140 @@
+package ru.viktorgezz.vacation_pay_calculator.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.viktorgezz.vacation_pay_calculator.calculation.CalculationProperties;
+import ru.viktorgezz.vacation_pay_calculator.calculation.cache.DailyRateCache;
+import ru.viktorgezz.vacation_pay_calculator.dto.OptimizationObjective;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationOptimizationRqDto;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationOptimizationRsDto;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationOptionRsDto;
+import ru.viktorgezz.vacation_pay_calculator.exception.BusinessException;
+import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
+import ru.viktorgezz.vacation_pay_calculator.holiday.HolidayService;
+import ru.viktorgezz.vacation_pay_calculator.service.impl.VacationOptimizationServiceImpl;
+import ru.viktorgezz.vacation_pay_calculator.validation.VacationOptimizationRequestValidator;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VacationOptimizationServiceImplTest {
+
+    private static final LocalDate WINDOW_START = LocalDate.of(2026, 4, 1);
+    private static final LocalDate WINDOW_END = LocalDate.of(2026, 9, 30);
+    private static final int DAYS_VACATION = 14;
+
+    @Mock
+    private HolidayService holidayServiceMock;
+
+    @Spy
+    private DailyRateCache dailyRateCache = new DailyRateCache(new CalculationProperties());
+
+    @Spy
+    private VacationOptimizationRequestValidator vacationOptimizationRequestValidator;
+
+    @InjectMocks
+    private VacationOptimizationServiceImpl vacationOptimizationService;
+
+    @Test
+    @DisplayName("Должен вернуть те же лучшие варианты, что и полный перебор, для обоих критериев")
+    void optimize_ShouldMatchBruteForce_WhenHolidaysRandom() {
+        boolean[] holidayFlags = randomHolidayFlags();
+
+        when(holidayServiceMock.getHolidayFlags(isNull(), eq(WINDOW_START), eq(WINDOW_END.plusDays(DAYS_VACATION - 1)), isNull()))
+                .thenReturn(holidayFlags);
+
+        for (OptimizationObjective objective : OptimizationObjective.values()) {
+            VacationOptimizationRqDto requestDto = new VacationOptimizationRqDto(
+                    new BigDecimal("29300"), DAYS_VACATION, WINDOW_START, WINDOW_END, objective);
+            requestDto.setTopK(7);
+            List<LocalDate> dateStartsExpected = bruteForce(holidayFlags, objective, 7);
+
+            VacationOptimizationRsDto resultActual = vacationOptimizationService.optimize(requestDto);
+
+            assertEquals(dateStartsExpected, resultActual.getOptions()
+                    .stream()
+                    .map(VacationOptionRsDto::getDateStart)
+                    .collect(Collectors.toList()), objective.name());
+        }
+    }
+
+    @Test
+    @DisplayName("Должен рассчитать сумму отпускных и сумму на календарный день для варианта")
+    void optimize_ShouldCalculatePay_WhenOptionFound() {
+        boolean[] holidayFlags = new boolean[DAYS_VACATION];
+        holidayFlags[3] = true;
+        VacationOptimizationRqDto requestDto = new VacationOptimizationRqDto(
+                new BigDecimal("29300"), DAYS_VACATION, WINDOW_START, WINDOW_START, OptimizationObjective.MAX_HOLIDAYS);
+
+        when(holidayServiceMock.getHolidayFlags(any(), any(), any(), any())).thenReturn(holidayFlags);
+
+        VacationOptionRsDto optionActual = vacationOptimizationService.optimize(requestDto).getOptions().get(0);
+
+        assertEquals(WINDOW_START, optionActual.getDateStart());
+        assertEquals(WINDOW_START.plusDays(DAYS_VACATION - 1), optionActual.getDateEnd());
+        assertEquals(1, optionActual.getHolidays());
+        assertEquals(13, optionActual.getPayableDays());
+        assertEquals(new BigDecimal("13000.00"), optionActual.getTotalVacationPay());
+        assertEquals(new BigDecimal("928.57"), optionActual.getPayPerCalendarDay());
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение когда начало окна поиска позже его окончания")
+    void optimize_ShouldThrowBusinessException_WhenWindowInvalid() {
+        VacationOptimizationRqDto requestDto = new VacationOptimizationRqDto(
+                new BigDecimal("29300"), DAYS_VACATION, WINDOW_END, WINDOW_START, OptimizationObjective.MAX_HOLIDAYS);
+
+        BusinessException exceptionActual = assertThrows(BusinessException.class,
+                () -> vacationOptimizationService.optimize(requestDto));
+
+        assertEquals(ErrorCode.INVALID_SEARCH_WINDOW, exceptionActual.getErrorCode());
+    }
+
+    private static boolean[] randomHolidayFlags() {
+        Random random = new Random(16);
+        int length = (int) (WINDOW_END.toEpochDay() - WINDOW_START.toEpochDay()) + DAYS_VACATION;
+        boolean[] holidayFlags = new boolean[length];
+        for (int day = 0; day < length; day++) {
+            holidayFlags[day] = random.nextInt(6) == 0;
+        }
+        return holidayFlags;
+    }
+
+    private static List<LocalDate> bruteForce(boolean[] holidayFlags, OptimizationObjective objective, int topK) {
+        int countCandidates = holidayFlags.length - DAYS_VACATION + 1;
+        int[] holidaysByOffset = new int[countCandidates];
+        for (int offset = 0; offset < countCandidates; offset++) {
+            for (int day = offset; day < offset + DAYS_VACATION; day++) {
+                holidaysByOffset[offset] += holidayFlags[day] ? 1 : 0;
+            }
+        }
+
+        Comparator<Integer> byHolidays = Comparator.comparingInt(offset -> holidaysByOffset[offset]);
+        Comparator<Integer> ranking = objective == OptimizationObjective.MAX_HOLIDAYS ? byHolidays.reversed() : byHolidays;
+        List<Integer> offsets = IntStream.range(0, countCandidates).boxed().collect(Collectors.toCollection(ArrayList::new));
+        offsets.sort(ranking.thenComparing(Comparator.naturalOrder()));
+
+        return offsets.stream()
+                .limit(topK)
+                .map(WINDOW_START::plusDays)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,219 @@
+package ru.viktorgezz.vacation_pay_calculator.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.viktorgezz.vacation_pay_calculator.calculation.CalculationProperties;
+import ru.viktorgezz.vacation_pay_calculator.calculation.batch.BatchCalculationResult;
+import ru.viktorgezz.vacation_pay_calculator.calculation.batch.PayableDaysPlan;
+import ru.viktorgezz.vacation_pay_calculator.calculation.batch.PayableDaysPlanner;
+import ru.viktorgezz.vacation_pay_calculator.calculation.strategy.impl.CalendarBasedCalculationStrategy;
+import ru.viktorgezz.vacation_pay_calculator.dto.BulkVacationPayRsDto;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationPayRqDto;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationPayRsDto;
+import ru.viktorgezz.vacation_pay_calculator.exception.BusinessException;
+import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
+import ru.viktorgezz.vacation_pay_calculator.holiday.HolidayService;
+import ru.viktorgezz.vacation_pay_calculator.service.impl.VacationPayBulkServiceImpl;
+import ru.viktorgezz.vacation_pay_calculator.service.intrf.VacationPayService;
+import ru.viktorgezz.vacation_pay_calculator.validation.VacationPayRequestValidator;
+
+import javax.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VacationPayBulkServiceImplTest {
+
+    @Mock
+    private VacationPayService vacationPayServiceMock;
+
+    @Mock
+    private CalendarBasedCalculationStrategy calendarBasedStrategyMock;
+
+    @Mock
+    private PayableDaysPlanner payableDaysPlannerMock;
+
+    private VacationPayBulkServiceImpl vacationPayBulkService;
+
+    @BeforeEach
+    void setUp() {
+        CalculationProperties calculationProperties = new CalculationProperties();
+        calculationProperties.setBulkFlushLines(2);
+        vacationPayBulkService = new VacationPayBulkServiceImpl(
+                vacationPayServiceMock,
+                new VacationPayRequestValidator(),
+                calendarBasedStrategyMock,
+                payableDaysPlannerMock,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper().findAndRegisterModules(),
+                calculationProperties
+        );
+    }
+
+    @Test
+    @DisplayName("Должен вернуть строку результата или ошибки на каждую строку запроса в том же порядке")
+    void calculate_ShouldReturnLinePerRequest_WhenLinesMixed() throws IOException {
+        String input = String.join("\n",
+                "{\"averageSalary\":50000,\"daysVacation\":14}",
+                "{\"averageSalary\":50000}",
+                "{\"averageSalary\":-1,\"daysVacation\":14}",
+                "not json",
+                "",
+                "{\"averageSalary\":29300,\"daysVacation\":3}"
+        );
+
+        when(vacationPayServiceMock.calculate(argThat(dto -> dto != null && dto.getDaysVacation() == null)))
+                .thenThrow(new BusinessException(ErrorCode.VACATION_PARAMETERS_MISSING));
+        when(vacationPayServiceMock.calculate(argThat(dto -> dto != null && dto.getDaysVacation() != null)))
+                .thenAnswer(invocation -> {
+                    VacationPayRqDto dto = invocation.getArgument(0);
+                    return new VacationPayRsDto(dto.getAverageSalary().multiply(BigDecimal.valueOf(dto.getDaysVacation())));
+                });
+
+        String[] linesActual = calculate(input, new ByteArrayOutputStream()).split("\n");
+
+        assertEquals(5, linesActual.length);
+        assertEquals("{\"line\":1,\"totalVacationPay\":700000}", linesActual[0]);
+        assertEquals("{\"line\":2,\"code\":\"VACATION_PARAMETERS_MISSING\","
+                + "\"message\":\"Either vacation days or vacation period dates must be specified\"}", linesActual[1]);
+        assertEquals("{\"line\":3,\"validationErrors\":[{\"field\":\"averageSalary\","
+                + "\"message\":\"Average salary must be greater than 0\"}]}", linesActual[2]);
+        assertTrue(linesActual[3].startsWith("{\"line\":4,\"code\":\"MALFORMED_REQUEST_LINE\""));
+        assertEquals("{\"line\":6,\"totalVacationPay\":87900}", linesActual[4]);
+        verify(vacationPayServiceMock, times(3)).calculate(any(VacationPayRqDto.class));
+    }
+
+    @Test
+    @DisplayName("Должен отправлять ответ клиенту порциями по заданному количеству строк")
+    void calculate_ShouldFlushInChunks_WhenFlushLinesConfigured() throws IOException {
+        String input = "{\"averageSalary\":50000,\"daysVacation\":14}\n".repeat(5);
+        CountingOutputStream output = new CountingOutputStream();
+
+        when(vacationPayServiceMock.calculate(any(VacationPayRqDto.class)))
+                .thenReturn(new VacationPayRsDto(new BigDecimal("23890.78")));
+
+        calculate(input, output);
+
+        assertEquals(3, output.countFlushesBeforeClose);
+    }
+
+    @Test
+    @DisplayName("Должен посчитать оплачиваемые дни один раз на период и календарь когда строки заданы датами")
+    void calculateLines_ShouldPlanPayableDaysPerCalendar_WhenDatesShared() {
+        String[] lines = {
+                "{\"averageSalary\":50000,\"dateStart\":\"2026-06-01\",\"dateEnd\":\"2026-06-14\"}",
+                "{\"averageSalary\":60000,\"dateStart\":\"2026-06-01\",\"dateEnd\":\"2026-06-14\"}",
+                "{\"averageSalary\":50000,\"dateStart\":\"2026-06-01\",\"dateEnd\":\"2026-06-14\","
+                        + "\"calendarId\":\"RU-TA\"}",
+                "{\"averageSalary\":50000,\"dateStart\":\"2026-06-14\",\"dateEnd\":\"2026-06-01\"}",
+                "{\"averageSalary\":50000,\"dateStart\":\"2026-06-01\",\"dateEnd\":\"2026-06-14\","
+                        + "\"breakdown\":true}"
+        };
+        long june1 = LocalDate.of(2026, 6, 1).toEpochDay();
+        long june14 = LocalDate.of(2026, 6, 14).toEpochDay();
+        PayableDaysPlan federalPlanExpected = planOf(new long[]{june1, june1}, new long[]{june14, june14}, 1);
+        PayableDaysPlan tatarstanPlanExpected = planOf(new long[]{june1}, new long[]{june14}, 0);
+
+        when(payableDaysPlannerMock.plan(null, null, new long[]{june1, june1}, new long[]{june14, june14}))
+                .thenReturn(federalPlanExpected);
+        when(payableDaysPlannerMock.plan("RU-TA", null, new long[]{june1}, new long[]{june14}))
+                .thenReturn(tatarstanPlanExpected);
+        when(calendarBasedStrategyMock.calculate(any(VacationPayRqDto.class), anyInt())).thenAnswer(invocation -> {
+            VacationPayRqDto dto = invocation.getArgument(0);
+            int payableDays = invocation.getArgument(1);
+            return dto.getAverageSalary().multiply(BigDecimal.valueOf(payableDays));
+        });
+        when(vacationPayServiceMock.calculate(argThat(dto -> dto != null && dto.getDateStart().isAfter(dto.getDateEnd()))))
+                .thenThrow(new BusinessException(ErrorCode.INVALID_VACATION_PERIOD));
+        when(vacationPayServiceMock.calculate(argThat(dto -> dto != null && dto.isBreakdown())))
+                .thenReturn(new VacationPayRsDto(new BigDecimal("1.00")));
+
+        BatchCalculationResult batchActual = vacationPayBulkService.calculateLines(
+                new long[]{1, 2, 3, 4, 5}, lines, lines.length);
+
+        BulkVacationPayRsDto[] resultsActual = batchActual.getResults();
+        assertEquals(new BigDecimal("650000"), resultsActual[0].getTotalVacationPay());
+        assertEquals(new BigDecimal("780000"), resultsActual[1].getTotalVacationPay());
+        assertEquals(new BigDecimal("700000"), resultsActual[2].getTotalVacationPay());
+        assertEquals(ErrorCode.INVALID_VACATION_PERIOD.getCode(), resultsActual[3].getCode());
+        assertEquals(new BigDecimal("1.00"), resultsActual[4].getTotalVacationPay());
+        assertEquals(1, batchActual.getFailedLines());
+        assertEquals(3, batchActual.getPlannedLines());
+        assertEquals(2, batchActual.getDistinctRanges());
+    }
+
+    @Test
+    @DisplayName("Должен вернуть ошибку каждой строки группы когда календарь группы не найден")
+    void calculateLines_ShouldFailGroupRows_WhenCalendarUnknown() {
+        String[] lines = {
+                "{\"averageSalary\":50000,\"dateStart\":\"2026-06-01\",\"dateEnd\":\"2026-06-14\","
+                        + "\"calendarId\":\"XX\"}",
+                "{\"averageSalary\":50000,\"daysVacation\":14}"
+        };
+
+        when(payableDaysPlannerMock.plan(eq("XX"), isNull(), any(long[].class), any(long[].class)))
+                .thenThrow(new BusinessException(ErrorCode.UNKNOWN_HOLIDAY_CALENDAR, "XX"));
+        when(vacationPayServiceMock.calculate(any(VacationPayRqDto.class)))
+                .thenReturn(new VacationPayRsDto(new BigDecimal("23890.78")));
+
+        BatchCalculationResult batchActual = vacationPayBulkService.calculateLines(new long[]{1, 2}, lines, 2);
+
+        assertEquals(ErrorCode.UNKNOWN_HOLIDAY_CALENDAR.getCode(), batchActual.getResults()[0].getCode());
+        assertEquals(new BigDecimal("23890.78"), batchActual.getResults()[1].getTotalVacationPay());
+        assertEquals(1, batchActual.getFailedLines());
+        assertEquals(0, batchActual.getPlannedLines());
+    }
+
+    private static PayableDaysPlan planOf(long[] fromEpochDays, long[] toEpochDays, int countHolidays) {
+        HolidayService holidayService = mock(HolidayService.class);
+        int[] countsHolidays = new int[fromEpochDays.length];
+        Arrays.fill(countsHolidays, countHolidays);
+        when(holidayService.countHolidaysBetween(any(), any(long[].class), any(), any())).thenReturn(countsHolidays);
+        return new PayableDaysPlanner(holidayService).plan(null, null, fromEpochDays, toEpochDays);
+    }
+
+    private String calculate(String input, OutputStream output) throws IOException {
+        vacationPayBulkService.calculate(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output);
+        return output.toString();
+    }
+
+    private static class CountingOutputStream extends ByteArrayOutputStream {
+
+        private int countFlushesBeforeClose;
+        private boolean closed;
+
+        @Override
+        public void flush() {
+            if (!closed) {
+                countFlushesBeforeClose++;
+            }
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package ru.viktorgezz.vacation_pay_calculator.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationPayJobRsDto;
+import ru.viktorgezz.vacation_pay_calculator.exception.BusinessException;
+import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
+import ru.viktorgezz.vacation_pay_calculator.job.JobProperties;
+import ru.viktorgezz.vacation_pay_calculator.job.VacationPayJob;
+import ru.viktorgezz.vacation_pay_calculator.job.VacationPayJobRunner;
+import ru.viktorgezz.vacation_pay_calculator.job.VacationPayJobStatus;
+import ru.viktorgezz.vacation_pay_calculator.service.impl.VacationPayJobServiceImpl;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VacationPayJobServiceImplTest {
+
+    @Mock
+    private VacationPayJobRunner jobRunnerMock;
+
+    @TempDir
+    Path directory;
+
+    private VacationPayJobServiceImpl vacationPayJobService;
+
+    @BeforeEach
+    void setUp() {
+        vacationPayJobService = new VacationPayJobServiceImpl(jobRunnerMock, createProperties(1024));
+    }
+
+    @Test
+    @DisplayName("Должен сохранить запрос в файл задания, посчитать непустые строки и поставить задание в очередь")
+    void submit_ShouldSpoolInputAndQueueJob_WhenBatchSubmitted() throws IOException {
+        String input = "{\"averageSalary\":50000,\"daysVacation\":14}\n \r\n{\"averageSalary\":60000,\"daysVacation\":7}";
+        ArgumentCaptor<VacationPayJob> jobCaptor = ArgumentCaptor.forClass(VacationPayJob.class);
+
+        VacationPayJobRsDto jobActual = vacationPayJobService.submit(
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+
+        verify(jobRunnerMock).submit(jobCaptor.capture());
+        assertEquals(VacationPayJobStatus.QUEUED, jobActual.getStatus());
+        assertEquals(2, jobActual.getTotalLines());
+        assertEquals(jobActual.getJobId(), jobCaptor.getValue().getId());
+        assertEquals(input, Files.readString(jobCaptor.getValue().getInputFile(), StandardCharsets.UTF_8));
+        assertEquals(jobActual.getJobId(), vacationPayJobService.getJob(jobActual.getJobId()).getJobId());
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение когда результат запрошен до завершения задания")
+    void getResultFile_ShouldThrowBusinessExceptionWithNotCompleted_WhenJobQueued() throws IOException {
+        VacationPayJobRsDto job = vacationPayJobService.submit(new ByteArrayInputStream(new byte[0]));
+
+        BusinessException exceptionActual = assertThrows(BusinessException.class,
+                () -> vacationPayJobService.getResultFile(job.getJobId()));
+
+        assertEquals(ErrorCode.JOB_NOT_COMPLETED, exceptionActual.getErrorCode());
+        assertEquals("Job " + job.getJobId() + " is QUEUED", exceptionActual.getMessage());
+    }
+
+    @Test
+    @DisplayName("Должен отклонить задание и удалить его каталог когда тело запроса больше предела")
+    void submit_ShouldThrowBusinessExceptionWithInputTooLarge_WhenInputExceedsLimit() throws IOException {
+        byte[] input = new byte[1025];
+
+        BusinessException exceptionActual = assertThrows(BusinessException.class,
+                () -> vacationPayJobService.submit(new ByteArrayInputStream(input)));
+
+        assertEquals(ErrorCode.JOB_INPUT_TOO_LARGE, exceptionActual.getErrorCode());
+        verify(jobRunnerMock, never()).submit(any());
+        assertEquals(0, countJobDirectories());
+    }
+
+    @Test
+    @DisplayName("Должен отклонить задание до сохранения запроса когда очередь заданий заполнена")
+    void submit_ShouldThrowBusinessExceptionWithQueueFull_WhenQueueFull() throws IOException {
+        when(jobRunnerMock.isQueueFull()).thenReturn(true);
+
+        BusinessException exceptionActual = assertThrows(BusinessException.class,
+                () -> vacationPayJobService.submit(new ByteArrayInputStream(new byte[0])));
+
+        assertEquals(ErrorCode.JOB_QUEUE_FULL, exceptionActual.getErrorCode());
+        assertEquals(0, countJobDirectories());
+    }
+
+    @Test
+    @DisplayName("Должен удалить задание и его каталог когда исполнитель отклонил задание")
+    void submit_ShouldThrowBusinessExceptionWithQueueFull_WhenRunnerRejectsJob() throws IOException {
+        doThrow(new RejectedExecutionException()).when(jobRunnerMock).submit(any());
+
+        BusinessException exceptionActual = assertThrows(BusinessException.class,
+                () -> vacationPayJobService.submit(new ByteArrayInputStream(new byte[0])));
+
+        assertEquals(ErrorCode.JOB_QUEUE_FULL, exceptionActual.getErrorCode());
+        assertEquals(0, countJobDirectories());
+    }
+
+    @Test
+    @DisplayName("Должен удалить при старте каталоги заданий прежнего запуска и оставить остальные файлы")
+    void constructor_ShouldRemoveStaleJobDirectories_WhenRestarted() throws IOException {
+        Path jobsDirectory = directory.resolve("jobs");
+        Path staleJob = Files.createDirectory(jobsDirectory.resolve(UUID.randomUUID().toString()));
+        Files.writeString(VacationPayJob.inputFileOf(staleJob), "{}");
+        Path foreign = Files.createDirectory(jobsDirectory.resolve("foreign"));
+
+        new VacationPayJobServiceImpl(jobRunnerMock, createProperties(1024));
+
+        assertFalse(Files.exists(staleJob));
+        assertTrue(Files.exists(foreign));
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение когда задание не найдено")
+    void getJob_ShouldThrowBusinessExceptionWithNotFound_WhenJobUnknown() {
+        BusinessException exceptionActual = assertThrows(BusinessException.class,
+                () -> vacationPayJobService.getJob("unknown"));
+
+        assertEquals(ErrorCode.JOB_NOT_FOUND, exceptionActual.getErrorCode());
+    }
+
+    private JobProperties createProperties(long maxInputBytes) {
+        JobProperties jobProperties = new JobProperties();
+        jobProperties.setDirectory(directory.resolve("jobs").toString());
+        jobProperties.setMaxInputBytes(maxInputBytes);
+        return jobProperties;
+    }
+
+    private long countJobDirectories() throws IOException {
+        try (Stream<Path> paths = Files.list(directory.resolve("jobs"))) {
+            return paths.count();
+        }
+    }
+}
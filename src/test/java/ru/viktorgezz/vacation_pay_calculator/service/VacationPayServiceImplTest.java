@@ -7,6 +7,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import ru.viktorgezz.vacation_pay_calculator.calculation.strategy.VacationCalculationStrategyResolver;
+import ru.viktorgezz.vacation_pay_calculator.calculation.strategy.VacationRequestShape;
+import ru.viktorgezz.vacation_pay_calculator.calculation.strategy.intrf.MonthlyBreakdownStrategy;
 import ru.viktorgezz.vacation_pay_calculator.calculation.strategy.intrf.VacationCalculationStrategy;
 import ru.viktorgezz.vacation_pay_calculator.dto.VacationPayRqDto;
 import ru.viktorgezz.vacation_pay_calculator.dto.VacationPayRsDto;
@@ -17,6 +19,7 @@ import ru.viktorgezz.vacation_pay_calculator.validation.VacationPayRequestValida
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -49,8 +52,8 @@ class VacationPayServiceImplTest {
                 daysVacationExpected
         );
 
-        doNothing().when(requestValidatorMock).validate(any(VacationPayRqDto.class));
-        when(strategyResolverMock.resolve(any(VacationPayRqDto.class))).thenReturn(calculationStrategyMock);
+        when(requestValidatorMock.validate(any(VacationPayRqDto.class))).thenReturn(VacationRequestShape.DAYS_ONLY);
+        when(strategyResolverMock.resolve(VacationRequestShape.DAYS_ONLY)).thenReturn(calculationStrategyMock);
         when(calculationStrategyMock.calculate(any(VacationPayRqDto.class))).thenReturn(amountCalculatedExpected);
 
         VacationPayRsDto resultActual = vacationPayService.calculate(requestDto);
@@ -58,7 +61,7 @@ class VacationPayServiceImplTest {
         assertNotNull(resultActual);
         assertEquals(amountCalculatedExpected, resultActual.getTotalVacationPay());
         verify(requestValidatorMock, times(1)).validate(requestDto);
-        verify(strategyResolverMock, times(1)).resolve(requestDto);
+        verify(strategyResolverMock, times(1)).resolve(VacationRequestShape.DAYS_ONLY);
         verify(calculationStrategyMock, times(1)).calculate(requestDto);
     }
 
@@ -76,8 +79,8 @@ class VacationPayServiceImplTest {
                 dateEndActual
         );
 
-        doNothing().when(requestValidatorMock).validate(any(VacationPayRqDto.class));
-        when(strategyResolverMock.resolve(any(VacationPayRqDto.class))).thenReturn(calculationStrategyMock);
+        when(requestValidatorMock.validate(any(VacationPayRqDto.class))).thenReturn(VacationRequestShape.DATES_ONLY);
+        when(strategyResolverMock.resolve(VacationRequestShape.DATES_ONLY)).thenReturn(calculationStrategyMock);
         when(calculationStrategyMock.calculate(any(VacationPayRqDto.class))).thenReturn(amountCalculatedExpected);
 
         vacationPayService.calculate(requestDto);
@@ -97,14 +100,14 @@ class VacationPayServiceImplTest {
                 daysVacationExpected
         );
 
-        doNothing().when(requestValidatorMock).validate(any(VacationPayRqDto.class));
-        when(strategyResolverMock.resolve(any(VacationPayRqDto.class))).thenReturn(calculationStrategyMock);
+        when(requestValidatorMock.validate(any(VacationPayRqDto.class))).thenReturn(VacationRequestShape.DAYS_ONLY);
+        when(strategyResolverMock.resolve(VacationRequestShape.DAYS_ONLY)).thenReturn(calculationStrategyMock);
         when(calculationStrategyMock.calculate(any(VacationPayRqDto.class))).thenReturn(amountCalculatedExpected);
 
         VacationPayRsDto resultActual = vacationPayService.calculate(requestDto);
 
         assertEquals(amountCalculatedExpected, resultActual.getTotalVacationPay());
-        verify(strategyResolverMock, times(1)).resolve(requestDto);
+        verify(strategyResolverMock, times(1)).resolve(VacationRequestShape.DAYS_ONLY);
         verify(calculationStrategyMock, times(1)).calculate(requestDto);
     }
 
@@ -123,7 +126,29 @@ class VacationPayServiceImplTest {
                 () -> vacationPayService.calculate(requestDto));
 
         verify(requestValidatorMock, times(1)).validate(requestDto);
-        verify(strategyResolverMock, never()).resolve(any());
+        verify(strategyResolverMock, never()).resolve(any(VacationRequestShape.class));
         verify(calculationStrategyMock, never()).calculate(any());
     }
+
+    @Test
+    @DisplayName("Должен вернуть разбивку по месяцам от стратегии когда разбивка запрошена")
+    void calculate_ShouldReturnBreakdownFromStrategy_WhenBreakdownRequested() {
+        VacationPayRqDto requestDto = new VacationPayRqDto(
+                new BigDecimal("50000"),
+                LocalDate.of(2026, 4, 27),
+                LocalDate.of(2026, 5, 11)
+        );
+        requestDto.setBreakdown(true);
+        VacationPayRsDto responseExpected = new VacationPayRsDto(new BigDecimal("22184.30"), List.of());
+        MonthlyBreakdownStrategy breakdownStrategyMock = mock(MonthlyBreakdownStrategy.class);
+
+        when(requestValidatorMock.validate(requestDto)).thenReturn(VacationRequestShape.DATES_ONLY);
+        when(strategyResolverMock.resolveBreakdown(VacationRequestShape.DATES_ONLY)).thenReturn(breakdownStrategyMock);
+        when(breakdownStrategyMock.calculateWithBreakdown(requestDto)).thenReturn(responseExpected);
+
+        VacationPayRsDto resultActual = vacationPayService.calculate(requestDto);
+
+        assertSame(responseExpected, resultActual);
+        verify(strategyResolverMock, never()).resolve(any(VacationRequestShape.class));
+    }
 }
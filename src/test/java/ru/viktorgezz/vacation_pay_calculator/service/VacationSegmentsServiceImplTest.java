@@ -0,0 +1,104 @@
+package ru.viktorgezz.vacation_pay_calculator.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.viktorgezz.vacation_pay_calculator.calculation.CalculationProperties;
+import ru.viktorgezz.vacation_pay_calculator.calculation.cache.DailyRateCache;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationSegmentDto;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationSegmentsRqDto;
+import ru.viktorgezz.vacation_pay_calculator.dto.VacationSegmentsRsDto;
+import ru.viktorgezz.vacation_pay_calculator.exception.BusinessException;
+import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
+import ru.viktorgezz.vacation_pay_calculator.holiday.HolidayService;
+import ru.viktorgezz.vacation_pay_calculator.service.impl.VacationSegmentsServiceImpl;
+import ru.viktorgezz.vacation_pay_calculator.validation.VacationSegmentsRequestValidator;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VacationSegmentsServiceImplTest {
+
+    @Mock
+    private HolidayService holidayServiceMock;
+
+    @Spy
+    private DailyRateCache dailyRateCache = new DailyRateCache(new CalculationProperties());
+
+    @Spy
+    private VacationSegmentsRequestValidator vacationSegmentsRequestValidator;
+
+    @InjectMocks
+    private VacationSegmentsServiceImpl vacationSegmentsService;
+
+    @Test
+    @DisplayName("Должен рассчитать отпускные по частям в порядке запроса и сложить итог")
+    void calculate_ShouldReturnSegmentsInRequestOrder_WhenSegmentsProvided() {
+        LocalDate[] dateStartsExpected = {LocalDate.of(2026, 6, 8), LocalDate.of(2026, 5, 4)};
+        LocalDate[] dateEndsExpected = {LocalDate.of(2026, 6, 14), LocalDate.of(2026, 5, 10)};
+        VacationSegmentsRqDto requestDto = new VacationSegmentsRqDto(new BigDecimal("29300"), List.of(
+                new VacationSegmentDto(dateStartsExpected[0], dateEndsExpected[0]),
+                new VacationSegmentDto(dateStartsExpected[1], dateEndsExpected[1])
+        ));
+
+        when(holidayServiceMock.countHolidaysBetween(null, dateStartsExpected, dateEndsExpected, null))
+                .thenReturn(new int[]{1, 2});
+
+        VacationSegmentsRsDto resultActual = vacationSegmentsService.calculate(requestDto);
+
+        assertEquals(2, resultActual.getSegments().size());
+        assertEquals(dateStartsExpected[0], resultActual.getSegments().get(0).getDateStart());
+        assertEquals(6, resultActual.getSegments().get(0).getPayableDays());
+        assertEquals(new BigDecimal("6000.00"), resultActual.getSegments().get(0).getVacationPay());
+        assertEquals(dateStartsExpected[1], resultActual.getSegments().get(1).getDateStart());
+        assertEquals(5, resultActual.getSegments().get(1).getPayableDays());
+        assertEquals(new BigDecimal("5000.00"), resultActual.getSegments().get(1).getVacationPay());
+        assertEquals(11, resultActual.getPayableDays());
+        assertEquals(new BigDecimal("11000.00"), resultActual.getTotalVacationPay());
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение когда части отпуска пересекаются")
+    void calculate_ShouldThrowException_WhenSegmentsOverlap() {
+        VacationSegmentsRqDto requestDto = new VacationSegmentsRqDto(new BigDecimal("29300"), List.of(
+                new VacationSegmentDto(LocalDate.of(2026, 7, 1), LocalDate.of(2026, 7, 14)),
+                new VacationSegmentDto(LocalDate.of(2026, 5, 4), LocalDate.of(2026, 5, 10)),
+                new VacationSegmentDto(LocalDate.of(2026, 7, 14), LocalDate.of(2026, 7, 20))
+        ));
+
+        BusinessException exceptionActual = assertThrows(
+                BusinessException.class,
+                () -> vacationSegmentsService.calculate(requestDto)
+        );
+
+        assertEquals(ErrorCode.OVERLAPPING_VACATION_SEGMENTS, exceptionActual.getErrorCode());
+        verify(holidayServiceMock, never()).countHolidaysBetween(any(), any(LocalDate[].class), any(), any());
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение когда дата начала части позже даты окончания")
+    void calculate_ShouldThrowException_WhenSegmentStartAfterEnd() {
+        VacationSegmentsRqDto requestDto = new VacationSegmentsRqDto(new BigDecimal("29300"), List.of(
+                new VacationSegmentDto(LocalDate.of(2026, 5, 10), LocalDate.of(2026, 5, 4))
+        ));
+
+        BusinessException exceptionActual = assertThrows(
+                BusinessException.class,
+                () -> vacationSegmentsService.calculate(requestDto)
+        );
+
+        assertEquals(ErrorCode.INVALID_VACATION_PERIOD, exceptionActual.getErrorCode());
+    }
+}
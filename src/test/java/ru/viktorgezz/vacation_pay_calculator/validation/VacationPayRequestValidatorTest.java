@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
+import ru.viktorgezz.vacation_pay_calculator.calculation.strategy.VacationRequestShape;
 import ru.viktorgezz.vacation_pay_calculator.dto.VacationPayRqDto;
 import ru.viktorgezz.vacation_pay_calculator.exception.BusinessException;
 import ru.viktorgezz.vacation_pay_calculator.exception.ErrorCode;
@@ -128,4 +129,27 @@ class VacationPayRequestValidatorTest {
 
         assertDoesNotThrow(() -> vacationPayRequestValidator.validate(requestDto));
     }
+
+    @Test
+    @DisplayName("Должен вернуть форму запроса когда валидация прошла")
+    void validate_ShouldReturnShape_WhenRequestValid() {
+        VacationPayRqDto daysRequestDto = new VacationPayRqDto(new BigDecimal("50000"), 14);
+        VacationPayRqDto datesRequestDto = new VacationPayRqDto(
+                new BigDecimal("50000"), LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 14));
+
+        assertEquals(VacationRequestShape.DAYS_ONLY, vacationPayRequestValidator.validate(daysRequestDto));
+        assertEquals(VacationRequestShape.DATES_ONLY, vacationPayRequestValidator.validate(datesRequestDto));
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение когда разбивка по месяцам запрошена без дат отпуска")
+    void validate_ShouldThrowBusinessExceptionWithBreakdownRequiresDates_WhenBreakdownWithDays() {
+        VacationPayRqDto requestDto = new VacationPayRqDto(new BigDecimal("50000"), 14);
+        requestDto.setBreakdown(true);
+
+        BusinessException exceptionActual = assertThrows(BusinessException.class,
+                () -> vacationPayRequestValidator.validate(requestDto));
+
+        assertEquals(ErrorCode.BREAKDOWN_REQUIRES_DATES, exceptionActual.getErrorCode());
+    }
 }